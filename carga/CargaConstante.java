@@ -0,0 +1,110 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * Carga de tasa constante: sustituto de endpoints-bloqueantes.js sin k6.
+ *
+ * Mismo modelo abierto que el executor constant-arrival-rate de k6: las
+ * solicitudes salen a la tasa fijada aunque el servidor se atrase, hasta
+ * MAX_EN_VUELO simultáneas (el maxVUs de k6); las que no caben se cuentan
+ * como descartadas (dropped_iterations). Mismas rutas y mismo criterio de
+ * error (status >= 500, o sin respuesta en 10 s).
+ *
+ * La latencia se mide desde la hora programada de cada solicitud, no desde
+ * que el cliente la envía: si el generador se atrasa, el atraso cuenta
+ * (sin omisión coordinada).
+ *
+ * Uso (JDK 21, sin compilar):
+ *   java carga/CargaConstante.java http://localhost:8085/security 500 60 [maxEnVuelo] [maxId]
+ */
+public class CargaConstante {
+
+    private static final List<IntFunction<String>> RUTAS = List.of(
+            id -> "/perfil/" + id,
+            id -> "/pantalla/" + id,
+            id -> "/modulo/" + id,
+            id -> "/menu-perfil/perfil/" + id);
+
+    public static void main(String[] args) throws Exception {
+        String base = args[0];
+        int tasa = Integer.parseInt(args[1]);
+        int segundos = Integer.parseInt(args[2]);
+        int maxEnVuelo = args.length > 3 ? Integer.parseInt(args[3]) : 5000;
+        int maxId = args.length > 4 ? Integer.parseInt(args[4]) : 100;
+
+        int total = tasa * segundos;
+        long periodo = TimeUnit.SECONDS.toNanos(1) / tasa;
+        long[] latencias = new long[total];
+        AtomicInteger completadas = new AtomicInteger();
+        AtomicInteger errores = new AtomicInteger();
+        AtomicInteger enVuelo = new AtomicInteger();
+        int descartadas = 0;
+
+        HttpClient cliente = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long programada = inicio + i * periodo;
+            long espera = programada - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            if (enVuelo.get() >= maxEnVuelo) {
+                descartadas++;
+                continue;
+            }
+            int id = 1 + ThreadLocalRandom.current().nextInt(maxId);
+            String ruta = RUTAS.get(ThreadLocalRandom.current().nextInt(RUTAS.size())).apply(id);
+            HttpRequest solicitud = HttpRequest.newBuilder(URI.create(base + ruta))
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            enVuelo.incrementAndGet();
+            cliente.sendAsync(solicitud, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((respuesta, falla) -> {
+                        latencias[completadas.getAndIncrement()] = System.nanoTime() - programada;
+                        if (falla != null || respuesta.statusCode() >= 500) {
+                            errores.incrementAndGet();
+                        }
+                        enVuelo.decrementAndGet();
+                    });
+        }
+        long finEnvio = System.nanoTime();
+        while (enVuelo.get() > 0 && System.nanoTime() - finEnvio < TimeUnit.SECONDS.toNanos(15)) {
+            Thread.sleep(50);
+        }
+        double duracion = (System.nanoTime() - inicio) / 1e9;
+
+        int n = completadas.get();
+        long[] ordenadas = Arrays.copyOf(latencias, n);
+        Arrays.sort(ordenadas);
+        System.out.printf("tasa=%d duracion=%.1fs enviadas=%d completadas=%d descartadas=%d%n",
+                tasa, duracion, total - descartadas, n, descartadas);
+        System.out.printf("throughput=%.1f req/s  p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms  errores=%.2f%%%n",
+                n / duracion, ms(ordenadas, 0.50), ms(ordenadas, 0.95), ms(ordenadas, 0.99),
+                n == 0 ? 0 : ordenadas[n - 1] / 1e6, n == 0 ? 0 : 100.0 * errores.get() / n);
+        System.exit(0);
+    }
+
+    private static double ms(long[] ordenadas, double percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int posicion = (int) Math.ceil(percentil * ordenadas.length) - 1;
+        return ordenadas[Math.max(posicion, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,100 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Proxy TCP con latencia: sustituto de Toxiproxy sin Docker.
+ *
+ * Reenvía localhost:puerto → destino y retrasa cada bloque de bytes la
+ * latencia indicada (± jitter) en cada dirección, como el toxic "latency"
+ * de toxiproxy.sh. El orden de los bytes se conserva: un bloque nunca sale
+ * antes que el anterior de la misma dirección.
+ *
+ * Uso (JDK 21, sin compilar):
+ *   java carga/ProxyLatencia.java 15432 localhost 5432 20 5
+ */
+public class ProxyLatencia {
+
+    private static final byte[] FIN = new byte[0];
+
+    private record Bloque(long salidaNanos, byte[] datos) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int puerto = Integer.parseInt(args[0]);
+        String host = args[1];
+        int destino = Integer.parseInt(args[2]);
+        long latencia = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(args[3]));
+        long jitter = TimeUnit.MILLISECONDS.toNanos(args.length > 4 ? Long.parseLong(args[4]) : 0);
+        try (ServerSocket servidor = new ServerSocket()) {
+            servidor.bind(new InetSocketAddress("localhost", puerto));
+            System.out.printf("Proxy :%d -> %s:%d con %dms (+/-%dms) por dirección%n",
+                    puerto, host, destino, args.length > 3 ? Long.parseLong(args[3]) : 0,
+                    TimeUnit.NANOSECONDS.toMillis(jitter));
+            while (true) {
+                Socket cliente = servidor.accept();
+                Socket upstream = new Socket(host, destino);
+                cliente.setTcpNoDelay(true);
+                upstream.setTcpNoDelay(true);
+                sentido(cliente, upstream, latencia, jitter);
+                sentido(upstream, cliente, latencia, jitter);
+            }
+        }
+    }
+
+    /**
+     * Un sentido de la conexión: un hilo lee y encola con su hora de salida,
+     * otro escribe cada bloque al llegar esa hora.
+     */
+    private static void sentido(Socket origen, Socket destino, long latencia, long jitter) {
+        BlockingQueue<Bloque> cola = new LinkedBlockingQueue<>();
+        Thread.ofVirtual().start(() -> {
+            byte[] buffer = new byte[16 * 1024];
+            long ultima = 0;
+            try (InputStream in = origen.getInputStream()) {
+                int leidos;
+                while ((leidos = in.read(buffer)) >= 0) {
+                    long retraso = latencia + (jitter == 0 ? 0 : ThreadLocalRandom.current().nextLong(-jitter, jitter + 1));
+                    ultima = Math.max(System.nanoTime() + retraso, ultima);
+                    cola.add(new Bloque(ultima, Arrays.copyOf(buffer, leidos)));
+                }
+            } catch (IOException e) {
+                // conexión cerrada por el otro lado
+            }
+            cola.add(new Bloque(ultima, FIN));
+        });
+        Thread.ofVirtual().start(() -> {
+            try (OutputStream out = destino.getOutputStream()) {
+                while (true) {
+                    Bloque bloque = cola.take();
+                    long espera = bloque.salidaNanos() - System.nanoTime();
+                    if (espera > 0) {
+                        TimeUnit.NANOSECONDS.sleep(espera);
+                    }
+                    if (bloque.datos() == FIN) {
+                        destino.shutdownOutput();
+                        return;
+                    }
+                    out.write(bloque.datos());
+                    out.flush();
+                }
+            } catch (IOException | InterruptedException e) {
+                // conexión cerrada por el otro lado
+            } finally {
+                try {
+                    origen.close();
+                } catch (IOException e) {
+                    // ya cerrada
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,47 @@
+#!/usr/bin/env sh
+# Sin Docker ni k6: arranca la aplicación contra ProxyLatencia (15432) en un
+# modo y recorre las tasas con CargaConstante.
+#
+# Uso: ./carga/comparar.sh workers|virtuales BD "tasa1 tasa2 ..." [segundos]
+#
+# Requiere el proxy en marcha (java carga/ProxyLatencia.java 15432 localhost 5432 20 5)
+# y target/quarkus-app (./mvnw package -DskipTests).
+set -e
+
+MODO=$1
+BD=$2
+TASAS=$3
+SEGUNDOS=${4:-30}
+URL=localhost:15432/$BD
+BASE=http://localhost:8085/security
+
+case "$MODO" in
+  workers) EXTRA="-Dquarkus.virtual-threads.enabled=false" ;;
+  virtuales) EXTRA="" ;;
+  *) echo "modo: workers | virtuales"; exit 1 ;;
+esac
+
+# Primario y réplica pasan por el proxy; log en INFO en ambos modos
+java $EXTRA $JAVA_OPTS \
+     -Dquarkus.log.level=INFO \
+     -Dquarkus.datasource.jdbc.url=jdbc:postgresql://$URL \
+     -Dquarkus.datasource.reactive.url=postgresql://$URL \
+     -Dquarkus.datasource.replica.jdbc.url=jdbc:postgresql://$URL \
+     -Dquarkus.datasource.replica.reactive.url=postgresql://$URL \
+     -Dsecurity.calentamiento.enabled=false \
+     -jar target/quarkus-app/quarkus-run.jar > carga/app-$MODO.log 2>&1 &
+APP=$!
+trap 'kill $APP 2>/dev/null' EXIT
+
+until curl -sf $BASE/q/health/ready > /dev/null 2>&1; do
+  kill -0 $APP 2>/dev/null || { tail -20 carga/app-$MODO.log; exit 1; }
+  sleep 1
+done
+
+# Calentamiento del JIT y de los pools, fuera de la medición
+java carga/CargaConstante.java $BASE 50 10 > /dev/null
+
+for tasa in $TASAS; do
+  echo "== $MODO $tasa req/s"
+  java carga/CargaConstante.java $BASE $tasa $SEGUNDOS
+done
@@ -0,0 +1,45 @@
+// Carga sobre los endpoints bloqueantes (Hibernate ORM + JDBC).
+//
+// Tasa de llegada constante: si el servidor no da abasto, k6 abre más VUs
+// (hasta MAX_VUS) y la latencia refleja la cola real, en lugar de que el
+// cliente reduzca su ritmo como haría un modelo de VUs cerrados.
+//
+// Uso:
+//   k6 run -e BASE=http://localhost:8085/security -e RATE=2000 carga/endpoints-bloqueantes.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE = __ENV.BASE || 'http://localhost:8085/security';
+const RATE = parseInt(__ENV.RATE || '1000');
+const DURACION = __ENV.DURACION || '2m';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '5000');
+const MAX_ID = parseInt(__ENV.MAX_ID || '100');
+
+export const options = {
+  discardResponseBodies: true,
+  scenarios: {
+    carga: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURACION,
+      preAllocatedVUs: Math.min(MAX_VUS, RATE),
+      maxVUs: MAX_VUS,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const rutas = [
+  (id) => `/perfil/${id}`,
+  (id) => `/pantalla/${id}`,
+  (id) => `/modulo/${id}`,
+  (id) => `/menu-perfil/perfil/${id}`,
+];
+
+export default function () {
+  const id = 1 + Math.floor(Math.random() * MAX_ID);
+  const ruta = rutas[Math.floor(Math.random() * rutas.length)](id);
+  const res = http.get(BASE + ruta, { tags: { name: ruta.replace(/\d+$/, '{id}') } });
+  check(res, { 'sin error de servidor': (r) => r.status < 500 });
+}
@@ -0,0 +1,20 @@
+#!/usr/bin/env sh
+# Crea el proxy postgres (15432 -> postgres:5432) y le añade latencia.
+#
+# Uso: ./carga/toxiproxy.sh [latencia_ms] [jitter_ms]
+set -e
+
+LATENCIA=${1:-20}
+JITTER=${2:-5}
+API=http://localhost:8474
+
+curl -s -X DELETE "$API/proxies/postgres" > /dev/null || true
+curl -s -X POST "$API/proxies" \
+     -d '{"name":"postgres","listen":"0.0.0.0:15432","upstream":"postgres:5432"}' > /dev/null
+
+for sentido in upstream downstream; do
+  curl -s -X POST "$API/proxies/postgres/toxics" \
+       -d "{\"name\":\"latencia_$sentido\",\"type\":\"latency\",\"stream\":\"$sentido\",\"attributes\":{\"latency\":$LATENCIA,\"jitter\":$JITTER}}" > /dev/null
+done
+
+echo "Proxy postgres en :15432 con ${LATENCIA}ms (+/-${JITTER}ms) por dirección"
@@ -0,0 +1,147 @@
+-- Verificación: plan_consultas_calientes
+--
+-- Comprueba que las consultas calientes usan los índices creados en
+-- V2__indices_consultas_calientes sobre un volumen de datos grande.
+--
+-- ATENCIÓN: vacía las tablas del schema "kafka". Ejecutar SOLO sobre una BD
+-- desechable, después de aplicar las migraciones (arrancar la aplicación o
+-- "mvn quarkus:dev" una vez). Por eso está fuera de src/main/resources y no
+-- viaja en el jar:
+--
+--   psql -v ON_ERROR_STOP=1 -h localhost -U quarkus -d <bd_desechable> \
+--        -f scripts/verificacion/plan_consultas_calientes.sql
+--
+-- Resultado:
+-- - Imprime (NOTICE) el plan de cada consulta.
+-- - Termina con error (código de salida != 0) si alguna consulta hace
+--   Seq Scan sobre la tabla indexada o no usa ningún índice.
+-- - Los planes de la última ejecución están en plan_consultas_calientes.out
+--
+-- Volumen generado:
+-- - 200 módulos, 20.000 pantallas, 100.000 menús (árbol de aridad 10,
+--   5% inactivos), 5.000 perfiles y 1.000.000 asignaciones (200 por perfil).
+--
+-- Los literales llevan el mismo tipo con el que Hibernate enlaza los
+-- parámetros (NUMERIC para campos BigInteger, BIGINT para referencias),
+-- ya que un tipo distinto impide usar el índice.
+
+\set ON_ERROR_STOP on
+
+-- =========================
+-- Datos sintéticos
+-- =========================
+TRUNCATE kafka.menu_perfil, kafka.menus, kafka.perfiles, kafka.pantallas, kafka.modulos;
+
+INSERT INTO kafka.modulos (id, nombre)
+SELECT i, 'Modulo ' || i
+FROM generate_series(1, 200) AS i;
+
+INSERT INTO kafka.pantallas (id, codmodulo, nombre, url, userc, fechac)
+SELECT i, (i % 200) + 1, 'Pantalla ' || i, '/pantalla/' || i, 'carga', now()
+FROM generate_series(1, 20000) AS i;
+
+INSERT INTO kafka.menus (id, nombre, jerarquia, orden, codpantalla, codmodulo, codmenupadre, icono, estado)
+SELECT i,
+       'Menu ' || i,
+       floor(log(10, i)),
+       i % 10,
+       (i % 20000) + 1,
+       (i % 200) + 1,
+       NULLIF(i / 10, 0),
+       'pi pi-fw pi-desktop',
+       CASE WHEN i % 20 = 0 THEN 0 ELSE 1 END
+FROM generate_series(1, 100000) AS i;
+
+INSERT INTO kafka.perfiles (id, nombre)
+SELECT i, 'Perfil ' || i
+FROM generate_series(1, 5000) AS i;
+
+INSERT INTO kafka.menu_perfil (menu_id, perfil_id)
+SELECT ((p * 7919 + k * 499) % 100000) + 1, p
+FROM generate_series(1, 5000) AS p, generate_series(0, 199) AS k
+ON CONFLICT DO NOTHING;
+
+SELECT setval(pg_get_serial_sequence('kafka.modulos', 'id'), (SELECT max(id) FROM kafka.modulos));
+SELECT setval(pg_get_serial_sequence('kafka.pantallas', 'id'), (SELECT max(id) FROM kafka.pantallas));
+SELECT setval(pg_get_serial_sequence('kafka.menus', 'id'), (SELECT max(id) FROM kafka.menus));
+SELECT setval(pg_get_serial_sequence('kafka.perfiles', 'id'), (SELECT max(id) FROM kafka.perfiles));
+
+-- Estadísticas y mapa de visibilidad (necesario para Index Only Scan)
+VACUUM ANALYZE kafka.modulos, kafka.pantallas, kafka.menus, kafka.perfiles, kafka.menu_perfil;
+
+-- =========================
+-- Verificador de planes
+-- =========================
+CREATE OR REPLACE FUNCTION pg_temp.verificar_plan(descripcion text, consulta text, tablas text[])
+RETURNS void
+LANGUAGE plpgsql AS $$
+DECLARE
+    linea text;
+    plan  text := '';
+    tabla text;
+BEGIN
+    FOR linea IN EXECUTE 'EXPLAIN ' || consulta LOOP
+        plan := plan || linea || E'\n';
+    END LOOP;
+
+    RAISE NOTICE E'[%]\n%\n%', descripcion, consulta, plan;
+
+    FOREACH tabla IN ARRAY tablas LOOP
+        IF plan ~ ('Seq Scan on ' || tabla || '( |$)') THEN
+            RAISE EXCEPTION 'FALLO [%]: Seq Scan sobre %', descripcion, tabla;
+        END IF;
+    END LOOP;
+
+    IF plan !~ 'Index' THEN
+        RAISE EXCEPTION 'FALLO [%]: el plan no usa ningún índice', descripcion;
+    END IF;
+END;
+$$;
+
+-- =========================
+-- Consultas calientes
+-- =========================
+
+-- MenuPerfilViewJpaRepository.findByPerfilId (árbol de menús por perfil)
+SELECT pg_temp.verificar_plan(
+    'vw_menu_perfil por perfil',
+    'SELECT * FROM kafka.vw_menu_perfil WHERE id_perfil = 42::bigint',
+    ARRAY['menu_perfil', 'menus']);
+
+-- MenuPerfilJpaRepository.findByPerfilId / deleteByPerfilId
+SELECT pg_temp.verificar_plan(
+    'menu_perfil por perfil_id',
+    'SELECT * FROM kafka.menu_perfil WHERE perfil_id = 42::bigint',
+    ARRAY['menu_perfil']);
+
+-- Hijos de un menú ordenados
+SELECT pg_temp.verificar_plan(
+    'menus por codmenupadre ordenados',
+    'SELECT * FROM kafka.menus WHERE codmenupadre = 420::bigint ORDER BY orden',
+    ARRAY['menus']);
+
+-- MenuJpaRepository.buscarMenusPorFiltros (codModulo)
+SELECT pg_temp.verificar_plan(
+    'menus por codmodulo',
+    'SELECT * FROM kafka.menus WHERE codmodulo = 7::bigint',
+    ARRAY['menus']);
+
+-- MenuJpaRepository.buscarMenusPorFiltros (estado, valor minoritario)
+SELECT pg_temp.verificar_plan(
+    'menus por estado',
+    'SELECT * FROM kafka.menus WHERE estado = 0::numeric',
+    ARRAY['menus']);
+
+-- Pantalla por url
+SELECT pg_temp.verificar_plan(
+    'pantallas por url',
+    'SELECT * FROM kafka.pantallas WHERE url = ''/pantalla/123''',
+    ARRAY['pantallas']);
+
+-- Índice parcial de menús activos
+SELECT pg_temp.verificar_plan(
+    'menus activos por rango de id',
+    'SELECT id, nombre, orden FROM kafka.menus WHERE estado = 1 AND id BETWEEN 5000 AND 5100',
+    ARRAY['menus']);
+
+\echo 'OK: todas las consultas calientes usan índices'
@@ -0,0 +1,17 @@
+package security.aplication.dto;
+
+/**
+ * DTO de Aplicación: AccesoMenuPerfil
+ * 
+ * Una fila del recorrido ordenado de menu_perfil (perfil_id, menu_id)
+ * con el nombre del perfil ya resuelto.
+ * 
+ * @param perfilId ID del perfil
+ * @param nombrePerfil Nombre del perfil
+ * @param menuId ID del menú al que el perfil tiene acceso
+ */
+public record AccesoMenuPerfil(
+        Long perfilId,
+        String nombrePerfil,
+        Long menuId
+) {}
@@ -0,0 +1,99 @@
+package security.aplication.dto;
+
+import security.dominio.exceptions.SecurityValidationException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * DTO (Data Transfer Object): CampoMenu
+ * 
+ * Campos de un menú que se pueden pedir en una proyección (sparse fieldset,
+ * parámetro fields=). Es la lista blanca: un nombre que no esté aquí no
+ * llega nunca al SQL.
+ * 
+ * Cada campo lleva el nombre con el que se pide y se serializa (el de
+ * MenuResponseDTO) y si exige unir pantallas o módulos (detalle).
+ * 
+ * Flujo:
+ * Controller (fields=id,nombre) → CampoMenu.parsear() → Set&lt;CampoMenu&gt;
+ *     → MenuReactiveRepository (solo esas columnas) → Menu parcial
+ *     → MenuResponseDTO con solo esos campos
+ */
+public enum CampoMenu {
+
+    ID("id", false),
+    NOMBRE("nombre", false),
+    JERARQUIA("jerarquia", false),
+    ORDEN("orden", false),
+    COD_PANTALLA("codPantalla", false),
+    COD_MODULO("codModulo", false),
+    COD_MENU_PADRE("codMenuPadre", false),
+    ICONO("icono", false),
+    ESTADO("estado", false),
+    NOMBRE_PANTALLA("nombrePantalla", true),
+    URL_PANTALLA("urlPantalla", true),
+    NOMBRE_MODULO("nombreModulo", true);
+
+    private final String nombre;
+    private final boolean detalle;
+
+    CampoMenu(String nombre, boolean detalle) {
+        this.nombre = nombre;
+        this.detalle = detalle;
+    }
+
+    /**
+     * @return Nombre del campo en el parámetro fields y en la respuesta
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * @return true si el campo exige unir pantallas o módulos
+     */
+    public boolean isDetalle() {
+        return detalle;
+    }
+
+    /**
+     * Convierte el valor de fields= en un conjunto de campos.
+     * 
+     * @param campos Nombres separados por comas (p. ej. "id,nombre")
+     * @return Campos pedidos, en el orden de declaración
+     * @throws SecurityValidationException si está vacío o pide un campo no permitido
+     */
+    public static Set<CampoMenu> parsear(String campos) {
+        Set<CampoMenu> resultado = EnumSet.noneOf(CampoMenu.class);
+        for (String nombre : campos.split(",")) {
+            String limpio = nombre.trim();
+            if (limpio.isEmpty()) {
+                continue;
+            }
+            resultado.add(Arrays.stream(values())
+                    .filter(campo -> campo.nombre.equals(limpio))
+                    .findFirst()
+                    .orElseThrow(() -> new SecurityValidationException("fields",
+                            "Campo no soportado: " + limpio + " (" + permitidos() + ")")));
+        }
+        if (resultado.isEmpty()) {
+            throw new SecurityValidationException("fields", "Indique al menos un campo (" + permitidos() + ")");
+        }
+        return resultado;
+    }
+
+    /**
+     * @param campos Campos pedidos
+     * @return true si alguno exige unir pantallas o módulos
+     */
+    public static boolean requiereDetalle(Set<CampoMenu> campos) {
+        return campos.stream().anyMatch(CampoMenu::isDetalle);
+    }
+
+    private static String permitidos() {
+        return Arrays.stream(values()).map(CampoMenu::getNombre).collect(Collectors.joining(", "));
+    }
+}
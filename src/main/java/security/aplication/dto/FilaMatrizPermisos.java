@@ -0,0 +1,19 @@
+package security.aplication.dto;
+
+import java.util.List;
+
+/**
+ * DTO de Aplicación: FilaMatrizPermisos
+ * 
+ * Fila de la matriz de permisos: un perfil y los menús a los que accede,
+ * en orden ascendente de ID.
+ * 
+ * @param perfilId ID del perfil
+ * @param nombrePerfil Nombre del perfil
+ * @param menuIds IDs de menú con acceso (ordenados)
+ */
+public record FilaMatrizPermisos(
+        Long perfilId,
+        String nombrePerfil,
+        List<Long> menuIds
+) {}
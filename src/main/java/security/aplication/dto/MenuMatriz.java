@@ -0,0 +1,14 @@
+package security.aplication.dto;
+
+/**
+ * DTO de Aplicación: MenuMatriz
+ * 
+ * Columna de la matriz de permisos perfil × menú.
+ * 
+ * @param menuId ID del menú
+ * @param nombre Nombre del menú
+ */
+public record MenuMatriz(
+        Long menuId,
+        String nombre
+) {}
@@ -0,0 +1,95 @@
+package security.aplication.dto;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de Aplicación: RegistroCatalogo
+ * 
+ * Representa una fila del catálogo de seguridad (módulos, pantallas, menús,
+ * perfiles y asignaciones menú-perfil) en la exportación/importación masiva.
+ * 
+ * Arquitectura Hexagonal:
+ * - DTO en capa de aplicación (no framework)
+ * - Sin anotaciones JPA ni de serialización
+ * - El formato de transporte (NDJSON) lo resuelve el adaptador de entrada
+ * 
+ * Orden de exportación (dependencias):
+ * MODULO → PANTALLA → MENU → PERFIL → ASIGNACION
+ * 
+ * Cada variante es un record inmutable; {@link #tipo()} identifica la sección.
+ */
+public sealed interface RegistroCatalogo {
+
+    /** Tipo de modulo en el flujo de catálogo */
+    String MODULO = "modulo";
+    /** Tipo de pantalla en el flujo de catálogo */
+    String PANTALLA = "pantalla";
+    /** Tipo de menú en el flujo de catálogo */
+    String MENU = "menu";
+    /** Tipo de perfil en el flujo de catálogo */
+    String PERFIL = "perfil";
+    /** Tipo de asignación menú-perfil en el flujo de catálogo */
+    String ASIGNACION = "asignacion";
+
+    /**
+     * Identificador de la sección a la que pertenece el registro.
+     * @return MODULO, PANTALLA, MENU, PERFIL o ASIGNACION
+     */
+    String tipo();
+
+    /**
+     * Fila de kafka.modulos
+     */
+    record ModuloRegistro(Long id, String nombre) implements RegistroCatalogo {
+        @Override
+        public String tipo() {
+            return MODULO;
+        }
+    }
+
+    /**
+     * Fila de kafka.pantallas
+     */
+    record PantallaRegistro(Long id, BigInteger codModulo, String nombre, String url,
+                            String userC, LocalDateTime fechaC,
+                            String userMod, LocalDateTime fechaMod) implements RegistroCatalogo {
+        @Override
+        public String tipo() {
+            return PANTALLA;
+        }
+    }
+
+    /**
+     * Fila de kafka.menus
+     * codMenuPadre referencia a otro MenuRegistro (o a un menú ya existente en destino).
+     */
+    record MenuRegistro(Long id, String nombre, BigInteger jerarquia, BigInteger orden,
+                        Long codPantalla, Long codModulo, Long codMenuPadre,
+                        String icono, BigInteger estado) implements RegistroCatalogo {
+        @Override
+        public String tipo() {
+            return MENU;
+        }
+    }
+
+    /**
+     * Fila de kafka.perfiles
+     */
+    record PerfilRegistro(Long id, String nombre) implements RegistroCatalogo {
+        @Override
+        public String tipo() {
+            return PERFIL;
+        }
+    }
+
+    /**
+     * Fila de kafka.menu_perfil
+     */
+    record AsignacionRegistro(Long menuId, Long perfilId) implements RegistroCatalogo {
+        @Override
+        public String tipo() {
+            return ASIGNACION;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package security.aplication.dto;
+
+/**
+ * DTO de Aplicación: ResumenImportacion
+ * 
+ * Conteo de filas cargadas por sección en una importación de catálogo.
+ * 
+ * @param modulos Módulos insertados o actualizados
+ * @param pantallas Pantallas insertadas o actualizadas
+ * @param menus Menús insertados o actualizados
+ * @param perfiles Perfiles insertados o actualizados
+ * @param asignaciones Asignaciones menú-perfil procesadas
+ */
+public record ResumenImportacion(
+        long modulos,
+        long pantallas,
+        long menus,
+        long perfiles,
+        long asignaciones
+) {}
@@ -0,0 +1,39 @@
+package security.aplication.port.input;
+
+import security.aplication.dto.RegistroCatalogo;
+import security.aplication.dto.ResumenImportacion;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Puerto de Entrada: CatalogoInputPort
+ * 
+ * Exportación e importación masiva del catálogo de seguridad.
+ * 
+ * Patrón Hexagonal:
+ * - Implementado por CatalogoService
+ * - Invocado desde CatalogoController
+ * 
+ * Operaciones:
+ * - exportar(): Emite el catálogo fila a fila (streaming)
+ * - importar(): Carga un catálogo resolviendo menús padre en orden de dependencias
+ */
+public interface CatalogoInputPort {
+
+    /**
+     * Exporta el catálogo completo fila a fila.
+     * 
+     * @param destino Consumidor de cada registro exportado
+     */
+    void exportar(Consumer<RegistroCatalogo> destino);
+
+    /**
+     * Importa un catálogo.
+     * 
+     * @param registros Registros en el orden en que se leen de la entrada
+     * @return Conteo de filas procesadas por sección
+     * @throws SecurityValidationException si un menú referencia un padre inexistente
+     */
+    ResumenImportacion importar(Iterator<RegistroCatalogo> registros);
+}
@@ -0,0 +1,74 @@
+package security.aplication.port.input;
+
+import security.aplication.dto.CampoMenu;
+import security.aplication.dto.FiltroMenu;
+import security.aplication.dto.MenuJerarquico;
+import security.dominio.entidades.Menu;
+import security.dominio.entidades.Modulo;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Puerto de Entrada: ConsultaReactivaInputPort
+ * 
+ * Lecturas no bloqueantes de menús, jerarquías y módulos.
+ * 
+ * Patrón Hexagonal:
+ * - Implementado por ConsultaReactivaService
+ * - Invocado desde MenuController, MenuPerfilController y ModuloController
+ *   en los endpoints GET / búsqueda, que se ejecutan en el event loop
+ * 
+ * Las escrituras siguen en los puertos bloqueantes (MenuInputPort, etc.)
+ * porque necesitan la transacción JTA de Hibernate ORM.
+ * 
+ * Tipos del JDK (CompletionStage, Flow.Publisher) y no de Mutiny: la
+ * aplicación no depende del framework; los controladores los adaptan
+ * a Uni / Multi.
+ */
+public interface ConsultaReactivaInputPort {
+
+    /**
+     * Busca un menú por ID.
+     * 
+     * @param id ID del menú
+     * @param detalle true para incluir pantalla y módulo
+     * @return Etapa con el menú; falla con SecurityNotFoundException si no existe
+     */
+    CompletionStage<Menu> buscarMenuPorId(Long id, boolean detalle);
+
+    /**
+     * Busca menús aplicando filtros.
+     * 
+     * @param filtro Criterios de búsqueda
+     * @param detalle true para incluir pantalla y módulo
+     * @return Publicador de los menús encontrados
+     */
+    Flow.Publisher<Menu> buscarMenusPorFiltros(FiltroMenu filtro, boolean detalle);
+
+    /**
+     * Busca menús aplicando filtros, leyendo solo los campos pedidos.
+     * 
+     * @param filtro Criterios de búsqueda
+     * @param campos Campos a leer (lista blanca CampoMenu)
+     * @return Publicador de menús parciales: los campos no pedidos quedan en null
+     */
+    Flow.Publisher<Menu> buscarMenusPorFiltros(FiltroMenu filtro, Set<CampoMenu> campos);
+
+    /**
+     * Obtiene estructura jerárquica de menús para un perfil.
+     * 
+     * @param perfilId ID del perfil
+     * @return Etapa con la lista de menús raíz con sus hijos anidados
+     */
+    CompletionStage<List<MenuJerarquico>> obtenerMenusJerarquicos(Long perfilId);
+
+    /**
+     * Obtiene todos los módulos.
+     * 
+     * @return Publicador de todos los módulos
+     */
+    Flow.Publisher<Modulo> obtenerModulos();
+}
@@ -21,6 +21,7 @@ import java.util.List;
  * - buscarPorPerfil(): Obtener menús de un perfil
  * - remover(): Eliminar relación menú-perfil
  * - obtenerMenusJerarquicos(): Construir árbol de menús para un perfil
+ * - obtenerPerfilesConMasMenus(): Perfiles con más menús (precarga)
  */
 public interface MenuPerfilInputPort {
     
@@ -56,4 +57,12 @@ public interface MenuPerfilInputPort {
      * @return Lista de menús raíz con sus hijos anidados
      */
     List<MenuJerarquico> obtenerMenusJerarquicos(Long perfilId);
+    
+    /**
+     * Obtiene los perfiles con más menús asignados, mayor primero
+     * 
+     * @param limite Máximo de perfiles; 0 o negativo para todos
+     * @return Lista de IDs de perfil
+     */
+    List<BigInteger> obtenerPerfilesConMasMenus(int limite);
 }
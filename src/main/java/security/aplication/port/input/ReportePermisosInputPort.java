@@ -0,0 +1,33 @@
+package security.aplication.port.input;
+
+import security.aplication.dto.FilaMatrizPermisos;
+import security.aplication.dto.MenuMatriz;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Puerto de Entrada: ReportePermisosInputPort
+ * 
+ * Reportes de auditoría sobre permisos de perfiles.
+ * 
+ * Patrón Hexagonal:
+ * - Implementado por ReportePermisosService
+ * - Invocado desde ReportePermisosController
+ */
+public interface ReportePermisosInputPort {
+
+    /**
+     * Genera la matriz de acceso perfil × menú en streaming.
+     * 
+     * Primero entrega las columnas (menús) y después una fila por perfil.
+     * 
+     * @param codModulo Módulo a filtrar (null = todos)
+     * @param columnas Consumidor de la lista de menús (se invoca una vez)
+     * @param filas Consumidor de cada fila de perfil
+     */
+    void generarMatriz(BigInteger codModulo,
+                       Consumer<List<MenuMatriz>> columnas,
+                       Consumer<FilaMatrizPermisos> filas);
+}
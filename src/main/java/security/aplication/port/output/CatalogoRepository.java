@@ -0,0 +1,38 @@
+package security.aplication.port.output;
+
+import security.aplication.dto.RegistroCatalogo;
+import security.aplication.dto.ResumenImportacion;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Puerto de Salida: CatalogoRepository
+ * 
+ * Acceso masivo al catálogo completo (módulos, pantallas, menús, perfiles
+ * y asignaciones) para mover datos entre entornos.
+ * 
+ * Requisitos para la implementación:
+ * - exportar() debe recorrer los datos con cursores de servidor y un
+ *   tamaño de fetch acotado: la memoria usada no depende del volumen.
+ * - importar() debe cargar en lotes y dentro de la transacción activa,
+ *   de forma que un fallo deshaga toda la importación.
+ */
+public interface CatalogoRepository {
+
+    /**
+     * Recorre el catálogo completo en orden de dependencias
+     * (módulos, pantallas, menús, perfiles, asignaciones).
+     * 
+     * @param destino Consumidor invocado por cada fila leída
+     */
+    void exportar(Consumer<RegistroCatalogo> destino);
+
+    /**
+     * Inserta o actualiza (por ID) los registros recibidos, en el orden dado.
+     * 
+     * @param registros Registros ya ordenados por dependencias
+     * @return Conteo de filas procesadas por sección
+     */
+    ResumenImportacion importar(Iterator<RegistroCatalogo> registros);
+}
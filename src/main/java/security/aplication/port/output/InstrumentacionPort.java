@@ -0,0 +1,38 @@
+package security.aplication.port.output;
+
+import java.util.function.Supplier;
+
+/**
+ * Puerto de Salida: InstrumentacionPort
+ * 
+ * Métricas y trazas de negocio que solo la capa de aplicación conoce, sin
+ * que esta dependa de la librería de métricas ni de la de trazas.
+ * 
+ * Patrón Hexagonal:
+ * - Implementado en framework (InstrumentacionAdapter)
+ * - Invocado por ConstructorArbolMenus en cada árbol
+ * 
+ * Los tiempos y spans de puertos y casos de uso no pasan por aquí:
+ * ApplicationConfig mide y traza cada llamada a los puertos de entrada y
+ * salida desde fuera.
+ */
+public interface InstrumentacionPort {
+
+    /**
+     * Registra el tamaño de un árbol de menús recién construido.
+     * 
+     * @param nodos Número total de nodos del árbol
+     * @param profundidad Niveles del árbol (0 si está vacío, 1 si solo hay raíces)
+     */
+    void arbolMenusConstruido(int nodos, int profundidad);
+
+    /**
+     * Ejecuta un paso interno de un caso de uso como un tramo propio de la
+     * traza (hijo del tramo activo).
+     * 
+     * @param nombre Nombre del tramo (p. ej. ConstructorArbolMenus.construir)
+     * @param paso Trabajo a ejecutar
+     * @return Resultado del paso
+     */
+    <T> T tramo(String nombre, Supplier<T> paso);
+}
@@ -0,0 +1,36 @@
+package security.aplication.port.output;
+
+import security.aplication.dto.AccesoMenuPerfil;
+import security.aplication.dto.MenuMatriz;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Puerto de Salida: MatrizPermisosRepository
+ * 
+ * Lectura masiva de asignaciones menú-perfil para el reporte de auditoría.
+ * 
+ * Requisitos para la implementación:
+ * - recorrerAccesos() debe hacer un único recorrido de menu_perfil ordenado
+ *   por (perfil_id, menu_id), con cursor de servidor y memoria constante.
+ */
+public interface MatrizPermisosRepository {
+
+    /**
+     * Menús que forman las columnas de la matriz, ordenados por ID.
+     * 
+     * @param codModulo Módulo a filtrar (null = todos)
+     * @return Menús del módulo
+     */
+    List<MenuMatriz> buscarMenus(BigInteger codModulo);
+
+    /**
+     * Recorre las asignaciones ordenadas por perfil y menú.
+     * 
+     * @param codModulo Módulo a filtrar (null = todos)
+     * @param destino Consumidor invocado por cada asignación
+     */
+    void recorrerAccesos(BigInteger codModulo, Consumer<AccesoMenuPerfil> destino);
+}
@@ -41,4 +41,11 @@ public interface MenuPerfilRepository {
      * Elimina todas las relaciones de un menú
      */
     void deleteByMenuId(BigInteger menuId);
+    
+    /**
+     * Busca los IDs de perfil ordenados por cantidad de menús asignados (mayor primero)
+     * 
+     * @param limite Máximo de perfiles; 0 o negativo para todos
+     */
+    List<BigInteger> findPerfilIdsPorCantidadMenus(int limite);
 }
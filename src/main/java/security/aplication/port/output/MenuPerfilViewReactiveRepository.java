@@ -0,0 +1,25 @@
+package security.aplication.port.output;
+
+import security.aplication.dto.MenuPerfilView;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Puerto de Salida: MenuPerfilViewReactiveRepository
+ * 
+ * Variante no bloqueante de MenuPerfilViewRepository sobre vw_menu_perfil.
+ * 
+ * Las implementaciones no deben bloquear el hilo que se suscribe:
+ * se invocan desde el event loop.
+ */
+public interface MenuPerfilViewReactiveRepository {
+
+    /**
+     * Busca todos los menús de un perfil desde la vista.
+     * 
+     * @param perfilId ID del perfil
+     * @return Etapa con la lista de MenuPerfilView (DTO de aplicación)
+     */
+    CompletionStage<List<MenuPerfilView>> findByPerfilId(Long perfilId);
+}
@@ -0,0 +1,67 @@
+package security.aplication.port.output;
+
+import security.aplication.dto.CampoMenu;
+import security.aplication.dto.FiltroMenu;
+import security.dominio.entidades.Menu;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Puerto de Salida: MenuReactiveRepository
+ * 
+ * Variante no bloqueante de las lecturas de MenuRepository.
+ * Mismo contrato que findById / buscarMenuPorFiltros y sus variantes
+ * ConDetalle, devolviendo CompletionStage / Flow.Publisher.
+ * 
+ * Las implementaciones no deben bloquear el hilo que se suscribe:
+ * se invocan desde el event loop.
+ */
+public interface MenuReactiveRepository {
+
+    /**
+     * Busca un menú por ID.
+     * 
+     * @param id Identificador del menú
+     * @return Etapa con Optional del menú (referencias parciales a pantalla/módulo)
+     */
+    CompletionStage<Optional<Menu>> findById(Long id);
+
+    /**
+     * Busca un menú por ID con pantalla y módulo en la misma consulta.
+     * 
+     * @param id Identificador del menú
+     * @return Etapa con Optional del menú enriquecido
+     */
+    CompletionStage<Optional<Menu>> findByIdConDetalle(Long id);
+
+    /**
+     * Busca menús aplicando filtros dinámicos.
+     * 
+     * @param filtro Criterios de búsqueda (campos opcionales)
+     * @return Publicador de los menús encontrados
+     */
+    Flow.Publisher<Menu> buscarMenuPorFiltros(FiltroMenu filtro);
+
+    /**
+     * Busca menús aplicando filtros dinámicos, con pantalla y módulo
+     * en la misma consulta.
+     * 
+     * @param filtro Criterios de búsqueda (campos opcionales)
+     * @return Publicador de los menús enriquecidos
+     */
+    Flow.Publisher<Menu> buscarMenuPorFiltrosConDetalle(FiltroMenu filtro);
+
+    /**
+     * Busca menús aplicando filtros dinámicos y leyendo solo los campos
+     * pedidos (proyección); une pantallas y módulos solo si algún campo
+     * de detalle lo exige.
+     * 
+     * @param filtro Criterios de búsqueda (campos opcionales)
+     * @param campos Campos a leer (no vacío)
+     * @return Publicador de menús parciales: los campos no pedidos quedan en null
+     */
+    Flow.Publisher<Menu> buscarMenuPorFiltros(FiltroMenu filtro, Set<CampoMenu> campos);
+}
@@ -0,0 +1,20 @@
+package security.aplication.port.output;
+
+import security.dominio.entidades.Modulo;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Puerto de Salida: ModuloReactiveRepository
+ * 
+ * Variante no bloqueante de ModuloRepository.findAll().
+ */
+public interface ModuloReactiveRepository {
+
+    /**
+     * Obtiene todos los módulos.
+     * 
+     * @return Publicador de todos los módulos
+     */
+    Flow.Publisher<Modulo> findAll();
+}
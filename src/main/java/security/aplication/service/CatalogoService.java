@@ -0,0 +1,61 @@
+package security.aplication.service;
+
+import security.aplication.dto.RegistroCatalogo;
+import security.aplication.dto.ResumenImportacion;
+import security.aplication.port.input.CatalogoInputPort;
+import security.aplication.port.output.CatalogoRepository;
+import security.aplication.port.output.MenuRepository;
+import security.aplication.usecase.ExportarCatalogoUseCase;
+import security.aplication.usecase.ImportarCatalogoUseCase;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Servicio de Aplicación: CatalogoService
+ * 
+ * Implementa CatalogoInputPort y orquesta la exportación/importación
+ * masiva del catálogo.
+ * 
+ * Patrón: Application Service (Hexagonal Architecture)
+ * 
+ * Flujo:
+ * CatalogoController → CatalogoInputPort → CatalogoService → UseCases → CatalogoRepository
+ */
+public class CatalogoService implements CatalogoInputPort {
+
+    private final ExportarCatalogoUseCase exportarCatalogoUseCase;
+    private final ImportarCatalogoUseCase importarCatalogoUseCase;
+
+    /**
+     * Constructor que instancia los casos de uso.
+     * 
+     * @param catalogoRepository Repositorio de acceso masivo
+     * @param menuRepository Repositorio de menús (verificación de padres)
+     */
+    public CatalogoService(CatalogoRepository catalogoRepository, MenuRepository menuRepository) {
+        this.exportarCatalogoUseCase = new ExportarCatalogoUseCase(catalogoRepository);
+        this.importarCatalogoUseCase = new ImportarCatalogoUseCase(catalogoRepository, menuRepository);
+    }
+
+    /**
+     * Exporta el catálogo completo.
+     * 
+     * @param destino Consumidor de cada registro
+     */
+    @Override
+    public void exportar(Consumer<RegistroCatalogo> destino) {
+        exportarCatalogoUseCase.ejecutar(destino);
+    }
+
+    /**
+     * Importa un catálogo.
+     * 
+     * @param registros Registros en orden de lectura
+     * @return Conteo de filas por sección
+     */
+    @Override
+    public ResumenImportacion importar(Iterator<RegistroCatalogo> registros) {
+        return importarCatalogoUseCase.ejecutar(registros);
+    }
+}
@@ -0,0 +1,90 @@
+package security.aplication.service;
+
+import security.aplication.dto.CampoMenu;
+import security.aplication.dto.FiltroMenu;
+import security.aplication.dto.MenuJerarquico;
+import security.aplication.port.input.ConsultaReactivaInputPort;
+import security.aplication.port.output.InstrumentacionPort;
+import security.aplication.port.output.MenuPerfilViewReactiveRepository;
+import security.aplication.port.output.MenuReactiveRepository;
+import security.aplication.port.output.ModuloReactiveRepository;
+import security.aplication.usecase.BuscarMenuReactivoUseCase;
+import security.aplication.usecase.CoalescedorSolicitudes;
+import security.aplication.usecase.InternadorMenus;
+import security.aplication.usecase.ObtenerMenusJerarquicosReactivoUseCase;
+import security.dominio.entidades.Menu;
+import security.dominio.entidades.Modulo;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Servicio de Aplicación: ConsultaReactivaService
+ * 
+ * Implementa ConsultaReactivaInputPort y delega a casos de uso no bloqueantes.
+ * 
+ * Flujo:
+ * Controller (event loop) → ConsultaReactivaInputPort → ConsultaReactivaService
+ *     → UseCase → *ReactiveRepository (cliente reactivo PostgreSQL)
+ * 
+ * Los árboles de menús pasan por CoalescedorSolicitudes: solicitudes
+ * simultáneas del mismo perfil comparten una sola consulta y construcción.
+ */
+public class ConsultaReactivaService implements ConsultaReactivaInputPort {
+
+    private final ModuloReactiveRepository moduloReactiveRepository;
+    private final BuscarMenuReactivoUseCase buscarMenuReactivoUseCase;
+    private final ObtenerMenusJerarquicosReactivoUseCase obtenerMenusJerarquicosReactivoUseCase;
+    private final CoalescedorSolicitudes<Long, List<MenuJerarquico>> coalescedorMenusJerarquicos;
+
+    /**
+     * Constructor que instancia los casos de uso.
+     * 
+     * @param menuReactiveRepository Lecturas reactivas de menús
+     * @param menuPerfilViewReactiveRepository Lecturas reactivas de vw_menu_perfil
+     * @param moduloReactiveRepository Lecturas reactivas de módulos
+     * @param coalescedorMenusJerarquicos Coalescedor de árboles de menús por perfil
+     * @param internadorMenus Tabla de subárboles de menús compartidos (null: sin internado)
+     * @param instrumentacion Métricas del tamaño de cada árbol de menús
+     */
+    public ConsultaReactivaService(MenuReactiveRepository menuReactiveRepository,
+                                   MenuPerfilViewReactiveRepository menuPerfilViewReactiveRepository,
+                                   ModuloReactiveRepository moduloReactiveRepository,
+                                   CoalescedorSolicitudes<Long, List<MenuJerarquico>> coalescedorMenusJerarquicos,
+                                   InternadorMenus internadorMenus,
+                                   InstrumentacionPort instrumentacion) {
+        this.moduloReactiveRepository = moduloReactiveRepository;
+        this.buscarMenuReactivoUseCase = new BuscarMenuReactivoUseCase(menuReactiveRepository);
+        this.obtenerMenusJerarquicosReactivoUseCase = new ObtenerMenusJerarquicosReactivoUseCase(menuPerfilViewReactiveRepository, internadorMenus,
+                instrumentacion);
+        this.coalescedorMenusJerarquicos = coalescedorMenusJerarquicos;
+    }
+
+    @Override
+    public CompletionStage<Menu> buscarMenuPorId(Long id, boolean detalle) {
+        return buscarMenuReactivoUseCase.ejecutarPorId(id, detalle);
+    }
+
+    @Override
+    public Flow.Publisher<Menu> buscarMenusPorFiltros(FiltroMenu filtro, boolean detalle) {
+        return buscarMenuReactivoUseCase.ejecutarPorFiltros(filtro, detalle);
+    }
+
+    @Override
+    public Flow.Publisher<Menu> buscarMenusPorFiltros(FiltroMenu filtro, Set<CampoMenu> campos) {
+        return buscarMenuReactivoUseCase.ejecutarPorFiltros(filtro, campos);
+    }
+
+    @Override
+    public CompletionStage<List<MenuJerarquico>> obtenerMenusJerarquicos(Long perfilId) {
+        return coalescedorMenusJerarquicos.ejecutarAsincrono(perfilId,
+                () -> obtenerMenusJerarquicosReactivoUseCase.ejecutar(perfilId));
+    }
+
+    @Override
+    public Flow.Publisher<Modulo> obtenerModulos() {
+        return moduloReactiveRepository.findAll();
+    }
+}
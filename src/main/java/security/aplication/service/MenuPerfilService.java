@@ -1,12 +1,12 @@
 package security.aplication.service;
 
-import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.inject.Inject;
 import security.aplication.dto.MenuJerarquico;
 import security.aplication.port.input.MenuPerfilInputPort;
+import security.aplication.port.output.InstrumentacionPort;
 import security.aplication.port.output.MenuPerfilRepository;
 import security.aplication.port.output.MenuPerfilViewRepository;
 import security.aplication.usecase.AsignarMenuAPerfilUseCase;
+import security.aplication.usecase.InternadorMenus;
 import security.aplication.usecase.ObtenerMenusJerarquicosPorPerfilUseCase;
 import security.dominio.entidades.MenuPerfil;
 
@@ -24,20 +24,27 @@ import java.util.*;
  * - No importa nada del framework/infraestructura
  * - Delega toda lógica a casos de uso específicos
  * - Servicio actúa solo como orquestador
+ * - Instanciado por ApplicationConfig (@Produces), como el resto de servicios
+ * 
+ * Con security.cache.internado.enabled los árboles de menús pasan por
+ * InternadorMenus: los subárboles idénticos entre perfiles se comparten. La
+ * lectura que atienden los endpoints es la reactiva (ConsultaReactivaService),
+ * que además los coalesce por perfil.
  */
-@ApplicationScoped
 public class MenuPerfilService implements MenuPerfilInputPort {
     
     private final MenuPerfilRepository menuPerfilRepository;
     private final AsignarMenuAPerfilUseCase asignarMenuAPerfilUseCase;
     private final ObtenerMenusJerarquicosPorPerfilUseCase obtenerMenusJerarquicosUseCase;
     
-    @Inject
     public MenuPerfilService(MenuPerfilRepository menuPerfilRepository, 
-                             MenuPerfilViewRepository menuPerfilViewRepository) {
+                             MenuPerfilViewRepository menuPerfilViewRepository,
+                             InternadorMenus internadorMenus,
+                             InstrumentacionPort instrumentacion) {
         this.menuPerfilRepository = menuPerfilRepository;
         this.asignarMenuAPerfilUseCase = new AsignarMenuAPerfilUseCase(menuPerfilRepository);
-        this.obtenerMenusJerarquicosUseCase = new ObtenerMenusJerarquicosPorPerfilUseCase(menuPerfilViewRepository);
+        this.obtenerMenusJerarquicosUseCase = new ObtenerMenusJerarquicosPorPerfilUseCase(menuPerfilViewRepository, internadorMenus,
+                instrumentacion);
     }
     
     @Override
@@ -59,4 +66,9 @@ public class MenuPerfilService implements MenuPerfilInputPort {
     public List<MenuJerarquico> obtenerMenusJerarquicos(Long perfilId) {
         return obtenerMenusJerarquicosUseCase.ejecutar(perfilId);
     }
+    
+    @Override
+    public List<BigInteger> obtenerPerfilesConMasMenus(int limite) {
+        return menuPerfilRepository.findPerfilIdsPorCantidadMenus(limite);
+    }
 }
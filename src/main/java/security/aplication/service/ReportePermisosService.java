@@ -0,0 +1,48 @@
+package security.aplication.service;
+
+import security.aplication.dto.FilaMatrizPermisos;
+import security.aplication.dto.MenuMatriz;
+import security.aplication.port.input.ReportePermisosInputPort;
+import security.aplication.port.output.MatrizPermisosRepository;
+import security.aplication.usecase.GenerarMatrizPermisosUseCase;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Servicio de Aplicación: ReportePermisosService
+ * 
+ * Implementa ReportePermisosInputPort y orquesta los reportes de auditoría.
+ * 
+ * Flujo:
+ * ReportePermisosController → ReportePermisosInputPort → ReportePermisosService
+ *     → GenerarMatrizPermisosUseCase → MatrizPermisosRepository
+ */
+public class ReportePermisosService implements ReportePermisosInputPort {
+
+    private final GenerarMatrizPermisosUseCase generarMatrizPermisosUseCase;
+
+    /**
+     * Constructor que instancia los casos de uso.
+     * 
+     * @param matrizPermisosRepository Repositorio de lectura de asignaciones
+     */
+    public ReportePermisosService(MatrizPermisosRepository matrizPermisosRepository) {
+        this.generarMatrizPermisosUseCase = new GenerarMatrizPermisosUseCase(matrizPermisosRepository);
+    }
+
+    /**
+     * Genera la matriz de acceso perfil × menú.
+     * 
+     * @param codModulo Módulo a filtrar (null = todos)
+     * @param columnas Consumidor de columnas
+     * @param filas Consumidor de filas
+     */
+    @Override
+    public void generarMatriz(BigInteger codModulo,
+                              Consumer<List<MenuMatriz>> columnas,
+                              Consumer<FilaMatrizPermisos> filas) {
+        generarMatrizPermisosUseCase.ejecutar(codModulo, columnas, filas);
+    }
+}
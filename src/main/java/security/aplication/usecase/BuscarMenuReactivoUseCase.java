@@ -0,0 +1,64 @@
+package security.aplication.usecase;
+
+import security.aplication.dto.CampoMenu;
+import security.aplication.dto.FiltroMenu;
+import security.aplication.port.output.MenuReactiveRepository;
+import security.dominio.entidades.Menu;
+import security.dominio.exceptions.SecurityNotFoundException;
+
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Caso de Uso: BuscarMenuReactivoUseCase
+ * 
+ * Variante no bloqueante de BuscarMenuPorIdUseCase y BuscarMenuPorFiltros.
+ * 
+ * Regla: Si el menú no existe, la etapa falla con SecurityNotFoundException
+ * (mismo contrato que la variante bloqueante → HTTP 404).
+ */
+public class BuscarMenuReactivoUseCase {
+
+    private final MenuReactiveRepository menuReactiveRepository;
+
+    public BuscarMenuReactivoUseCase(MenuReactiveRepository menuReactiveRepository) {
+        this.menuReactiveRepository = menuReactiveRepository;
+    }
+
+    /**
+     * Busca un menú por ID.
+     * 
+     * @param id ID del menú
+     * @param detalle true para incluir pantalla y módulo
+     * @return Etapa con el menú
+     */
+    public CompletionStage<Menu> ejecutarPorId(Long id, boolean detalle) {
+        return (detalle ? menuReactiveRepository.findByIdConDetalle(id) : menuReactiveRepository.findById(id))
+                .thenApply(menu -> menu.orElseThrow(() -> new SecurityNotFoundException(id.toString())));
+    }
+
+    /**
+     * Busca menús aplicando filtros.
+     * 
+     * @param filtro Criterios de búsqueda
+     * @param detalle true para incluir pantalla y módulo
+     * @return Publicador de los menús encontrados
+     */
+    public Flow.Publisher<Menu> ejecutarPorFiltros(FiltroMenu filtro, boolean detalle) {
+        return detalle
+                ? menuReactiveRepository.buscarMenuPorFiltrosConDetalle(filtro)
+                : menuReactiveRepository.buscarMenuPorFiltros(filtro);
+    }
+
+    /**
+     * Busca menús aplicando filtros, leyendo solo los campos pedidos.
+     * 
+     * @param filtro Criterios de búsqueda
+     * @param campos Campos a leer
+     * @return Publicador de menús parciales
+     */
+    public Flow.Publisher<Menu> ejecutarPorFiltros(FiltroMenu filtro, Set<CampoMenu> campos) {
+        return menuReactiveRepository.buscarMenuPorFiltros(filtro, campos);
+    }
+}
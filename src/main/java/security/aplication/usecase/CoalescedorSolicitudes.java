@@ -0,0 +1,99 @@
+package security.aplication.usecase;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Componente de Aplicación: CoalescedorSolicitudes
+ * 
+ * Responsabilidad: Agrupar solicitudes concurrentes con la misma clave en
+ * un único cálculo en curso ("single-flight").
+ * 
+ * Algoritmo:
+ * 1. La primera solicitud de una clave registra un CompletableFuture y
+ *    ejecuta el cálculo (líder)
+ * 2. Las solicitudes que llegan mientras el cálculo está en curso esperan
+ *    ese mismo futuro (coalescidas)
+ * 3. Al terminar (con resultado o error) se quita la clave: la siguiente
+ *    solicitud vuelve a calcular, no hay caché
+ * 
+ * Resultado compartido: todas las solicitudes coalescidas reciben la misma
+ * instancia; quien lo consuma no debe modificarla.
+ * 
+ * Contadores (expuestos como métricas por ApplicationConfig):
+ * - ejecutadas: cálculos reales lanzados
+ * - coalescidas: solicitudes atendidas por un cálculo ajeno
+ * - enCurso: cálculos en curso en este momento
+ * 
+ * @param <K> Tipo de la clave
+ * @param <V> Tipo del resultado
+ */
+public class CoalescedorSolicitudes<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> enCurso = new ConcurrentHashMap<>();
+    private final LongAdder ejecutadas = new LongAdder();
+    private final LongAdder coalescidas = new LongAdder();
+
+    /**
+     * Lanza el cálculo asíncrono o se une al que ya está en curso.
+     * 
+     * El resultado del líder se recoge en el futuro compartido: si el
+     * cliente que lo lanzó se va, el resto de solicitudes coalescidas
+     * recibe igual el resultado. Cada solicitud recibe una copia del
+     * futuro compartido, para que cancelar la suya no lo cancele para
+     * las demás.
+     * 
+     * @param clave Clave de la solicitud
+     * @param calculo Cálculo a lanzar si esta solicitud es la líder
+     * @return Etapa con el resultado del cálculo
+     */
+    public CompletionStage<V> ejecutarAsincrono(K clave, Supplier<? extends CompletionStage<V>> calculo) {
+        CompletableFuture<V> nuevo = new CompletableFuture<>();
+        CompletableFuture<V> existente = enCurso.putIfAbsent(clave, nuevo);
+        if (existente != null) {
+            coalescidas.increment();
+            return existente.copy();
+        }
+        ejecutadas.increment();
+        nuevo.whenComplete((resultado, error) -> enCurso.remove(clave, nuevo));
+        try {
+            calculo.get().whenComplete((resultado, error) -> {
+                if (error != null) {
+                    nuevo.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                } else {
+                    nuevo.complete(resultado);
+                }
+            });
+        } catch (RuntimeException e) {
+            nuevo.completeExceptionally(e);
+        }
+        return nuevo.copy();
+    }
+
+    /**
+     * @return Cálculos reales lanzados
+     */
+    public long getEjecutadas() {
+        return ejecutadas.sum();
+    }
+
+    /**
+     * @return Solicitudes atendidas por un cálculo ajeno
+     */
+    public long getCoalescidas() {
+        return coalescidas.sum();
+    }
+
+    /**
+     * @return Cálculos en curso
+     */
+    public int getEnCurso() {
+        return enCurso.size();
+    }
+}
@@ -0,0 +1,166 @@
+package security.aplication.usecase;
+
+import security.aplication.dto.MenuJerarquico;
+import security.aplication.dto.MenuPerfilView;
+import security.aplication.port.output.InstrumentacionPort;
+
+import java.util.*;
+
+/**
+ * Componente de Aplicación: ConstructorArbolMenus
+ * 
+ * Responsabilidad: Convertir los registros planos de vw_menu_perfil en el
+ * árbol de MenuJerarquico. Compartido por la lectura bloqueante
+ * (ObtenerMenusJerarquicosPorPerfilUseCase) y la reactiva
+ * (ObtenerMenusJerarquicosReactivoUseCase).
+ * 
+ * Algoritmo:
+ * 1. Crear mapa de nodos (idMenu → MenuJerarquico)
+ * 2. Construir relaciones padre-hijo basándose en menuPadre
+ * 3. Ordenar recursivamente por campo 'orden'
+ * 4. Internar el árbol (InternadorMenus), si está activo
+ *    (security.cache.internado.enabled): los subárboles idénticos entre
+ *    perfiles se comparten
+ * 5. Informar nodos y profundidad del árbol (InstrumentacionPort)
+ * 
+ * Todo el proceso es un tramo propio de la traza
+ * (ConstructorArbolMenus.construir), separado de la consulta y de la
+ * serialización.
+ * 
+ * El único estado es el InternadorMenus, seguro entre hilos: una instancia
+ * puede compartirse entre hilos. Sin internador se devuelve el árbol tal
+ * como se construyó.
+ */
+public class ConstructorArbolMenus {
+
+    private final InternadorMenus internadorMenus;
+    private final InstrumentacionPort instrumentacion;
+
+    /**
+     * @param internadorMenus Tabla de subárboles compartidos (null: sin internado)
+     * @param instrumentacion Métricas y tramo de cada árbol
+     */
+    public ConstructorArbolMenus(InternadorMenus internadorMenus, InstrumentacionPort instrumentacion) {
+        this.internadorMenus = internadorMenus;
+        this.instrumentacion = instrumentacion;
+    }
+
+    /**
+     * Construye el árbol a partir de los registros de la vista.
+     * 
+     * @param registros Registros de vw_menu_perfil de un perfil
+     * @return Menús raíz con sus hijos anidados y ordenados (lista inmutable si se internó)
+     */
+    public List<MenuJerarquico> construir(List<MenuPerfilView> registros) {
+        return instrumentacion.tramo("ConstructorArbolMenus.construir", () -> construirArbol(registros));
+    }
+    
+    private List<MenuJerarquico> construirArbol(List<MenuPerfilView> registros) {
+        Map<Long, MenuJerarquico> map = new HashMap<>();
+        List<MenuJerarquico> raiz = new ArrayList<>();
+        
+        // 1️⃣ Crear nodos
+        crearNodos(registros, map);
+        
+        // 2️⃣ Construir jerarquía
+        construirJerarquia(registros, map, raiz);
+        
+        // 3️⃣ Ordenar recursivamente
+        ordenarRecursivo(raiz);
+        
+        // 4️⃣ Compartir subárboles idénticos
+        List<MenuJerarquico> arbol = internadorMenus == null ? raiz : internadorMenus.internar(raiz);
+        
+        // 5️⃣ Informar tamaño
+        instrumentacion.arbolMenusConstruido(contarNodos(arbol), profundidad(arbol));
+        return arbol;
+    }
+    
+    /**
+     * Nodos de un nivel y de todos sus descendientes.
+     */
+    private static int contarNodos(List<MenuJerarquico> lista) {
+        int nodos = 0;
+        for (MenuJerarquico m : lista) {
+            nodos += 1 + (m.getItems() == null ? 0 : contarNodos(m.getItems()));
+        }
+        return nodos;
+    }
+    
+    /**
+     * Niveles desde este nivel hacia abajo (0 si la lista está vacía).
+     */
+    private static int profundidad(List<MenuJerarquico> lista) {
+        int maxima = 0;
+        for (MenuJerarquico m : lista) {
+            maxima = Math.max(maxima, m.getItems() == null ? 0 : profundidad(m.getItems()));
+        }
+        return lista.isEmpty() ? 0 : maxima + 1;
+    }
+    
+    /**
+     * Paso 1: Crear nodos del árbol.
+     * Convierte cada registro en un MenuJerarquico y lo agrega al mapa.
+     */
+    private void crearNodos(List<MenuPerfilView> registros, Map<Long, MenuJerarquico> map) {
+        for (MenuPerfilView e : registros) {
+            MenuJerarquico dto = new MenuJerarquico();
+            dto.setCodigo(e.getIdMenu());
+            dto.setLabel(e.getIdMenu() + "-" + e.getNombre());
+            dto.setOrden(e.getOrden());
+            
+            if (e.getUrl() != null) {
+                // Nodo hoja (con pantalla)
+                dto.setRouterLink(List.of(e.getUrl()));
+                dto.setIcon("pi pi-fw pi-desktop");
+            } else {
+                // Nodo padre (contenedor)
+                dto.setIcon("pi pi-fw pi-folder");
+                dto.setItems(new ArrayList<>());
+            }
+            
+            map.put(dto.getCodigo(), dto);
+        }
+    }
+    
+    /**
+     * Paso 2: Construir relaciones padre-hijo.
+     * Agrega cada nodo a su padre correspondiente o a la raíz.
+     */
+    private void construirJerarquia(List<MenuPerfilView> registros, 
+                                     Map<Long, MenuJerarquico> map, 
+                                     List<MenuJerarquico> raiz) {
+        for (MenuPerfilView e : registros) {
+            MenuJerarquico actual = map.get(e.getIdMenu());
+            
+            if (e.getMenuPadre() == null || e.getJerarq() == 0) {
+                // Nodo raíz (sin padre)
+                raiz.add(actual);
+            } else {
+                // Nodo hijo (tiene padre)
+                MenuJerarquico padre = map.get(e.getMenuPadre());
+                if (padre != null && padre.getItems() != null) {
+                    padre.getItems().add(actual);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Paso 3: Ordenar recursivamente.
+     * Ordena cada nivel por el campo 'orden'.
+     */
+    private void ordenarRecursivo(List<MenuJerarquico> lista) {
+        if (lista == null || lista.isEmpty()) {
+            return;
+        }
+        
+        lista.sort(Comparator.comparing(MenuJerarquico::getOrden));
+        
+        for (MenuJerarquico m : lista) {
+            if (m.getItems() != null && !m.getItems().isEmpty()) {
+                ordenarRecursivo(m.getItems());
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package security.aplication.usecase;
+
+import security.aplication.dto.RegistroCatalogo;
+import security.aplication.port.output.CatalogoRepository;
+
+import java.util.function.Consumer;
+
+/**
+ * Caso de Uso: ExportarCatalogoUseCase
+ * Emite el catálogo completo en orden de dependencias sin cargarlo en memoria.
+ * Patrón: Use Case / Query Pattern
+ */
+public class ExportarCatalogoUseCase {
+
+    private final CatalogoRepository catalogoRepository;
+
+    /**
+     * Constructor con inyección de dependencia.
+     */
+    public ExportarCatalogoUseCase(CatalogoRepository catalogoRepository) {
+        this.catalogoRepository = catalogoRepository;
+    }
+
+    /**
+     * Ejecuta la exportación.
+     * @param destino Consumidor de cada registro
+     */
+    public void ejecutar(Consumer<RegistroCatalogo> destino) {
+        catalogoRepository.exportar(destino);
+    }
+}
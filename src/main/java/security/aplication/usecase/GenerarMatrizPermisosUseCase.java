@@ -0,0 +1,89 @@
+package security.aplication.usecase;
+
+import security.aplication.dto.AccesoMenuPerfil;
+import security.aplication.dto.FilaMatrizPermisos;
+import security.aplication.dto.MenuMatriz;
+import security.aplication.port.output.MatrizPermisosRepository;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Caso de Uso: GenerarMatrizPermisosUseCase
+ * 
+ * Construye la matriz de acceso perfil × menú a partir de un único recorrido
+ * de menu_perfil ordenado por (perfil_id, menu_id).
+ * 
+ * Patrón: Use Case / Query Pattern
+ * 
+ * Agrupación en streaming:
+ * Como las asignaciones llegan ordenadas por perfil, basta con acumular los
+ * menús del perfil en curso y emitir la fila cuando cambia el perfil.
+ * La memoria depende del número de menús, nunca del número de perfiles.
+ */
+public class GenerarMatrizPermisosUseCase {
+
+    private final MatrizPermisosRepository matrizPermisosRepository;
+
+    /**
+     * Constructor con inyección de dependencia.
+     */
+    public GenerarMatrizPermisosUseCase(MatrizPermisosRepository matrizPermisosRepository) {
+        this.matrizPermisosRepository = matrizPermisosRepository;
+    }
+
+    /**
+     * Ejecuta la generación de la matriz.
+     * 
+     * @param codModulo Módulo a filtrar (null = todos)
+     * @param columnas Consumidor de columnas (menús), invocado una vez al inicio
+     * @param filas Consumidor de filas (una por perfil con al menos un acceso)
+     */
+    public void ejecutar(BigInteger codModulo,
+                         Consumer<List<MenuMatriz>> columnas,
+                         Consumer<FilaMatrizPermisos> filas) {
+        columnas.accept(matrizPermisosRepository.buscarMenus(codModulo));
+
+        AgrupadorPorPerfil agrupador = new AgrupadorPorPerfil(filas);
+        matrizPermisosRepository.recorrerAccesos(codModulo, agrupador);
+        agrupador.cerrar();
+    }
+
+    /**
+     * Acumula los menús del perfil en curso y emite la fila al cambiar de perfil.
+     */
+    private static final class AgrupadorPorPerfil implements Consumer<AccesoMenuPerfil> {
+
+        private final Consumer<FilaMatrizPermisos> filas;
+        private Long perfilActual;
+        private String nombreActual;
+        private List<Long> menus = new ArrayList<>();
+
+        AgrupadorPorPerfil(Consumer<FilaMatrizPermisos> filas) {
+            this.filas = filas;
+        }
+
+        @Override
+        public void accept(AccesoMenuPerfil acceso) {
+            if (perfilActual != null && !perfilActual.equals(acceso.perfilId())) {
+                emitir();
+            }
+            perfilActual = acceso.perfilId();
+            nombreActual = acceso.nombrePerfil();
+            menus.add(acceso.menuId());
+        }
+
+        void cerrar() {
+            if (perfilActual != null) {
+                emitir();
+            }
+        }
+
+        private void emitir() {
+            filas.accept(new FilaMatrizPermisos(perfilActual, nombreActual, menus));
+            menus = new ArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package security.aplication.usecase;
+
+import security.aplication.dto.RegistroCatalogo;
+import security.aplication.dto.RegistroCatalogo.MenuRegistro;
+import security.aplication.dto.ResumenImportacion;
+import security.aplication.port.output.CatalogoRepository;
+import security.aplication.port.output.MenuRepository;
+import security.dominio.exceptions.SecurityValidationException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Caso de Uso: ImportarCatalogoUseCase
+ * 
+ * Carga un catálogo exportado garantizando que cada menú se inserta
+ * después de su menú padre.
+ * 
+ * Patrón: Use Case / Command Pattern
+ * 
+ * Resolución de dependencias (streaming):
+ * 1. Los registros que no son menús pasan tal cual.
+ * 2. Un menú cuyo padre es null o ya fue emitido se emite inmediatamente.
+ * 3. Un menú cuyo padre aún no apareció queda pendiente, indexado por padre.
+ * 4. Al emitir un menú se liberan (en cascada) sus hijos pendientes.
+ * 5. Al terminar la sección de menús, los padres que siguen pendientes deben
+ *    existir ya en BD destino; si no, se lanza SecurityValidationException
+ *    y la transacción completa se deshace.
+ * 
+ * Memoria: solo se retienen los IDs de menús emitidos y los menús que llegan
+ * antes que su padre; el resto del flujo no se acumula.
+ */
+public class ImportarCatalogoUseCase {
+
+    private final CatalogoRepository catalogoRepository;
+    private final MenuRepository menuRepository;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param catalogoRepository Repositorio de carga masiva
+     * @param menuRepository Repositorio de menús (verificación de padres existentes)
+     */
+    public ImportarCatalogoUseCase(CatalogoRepository catalogoRepository, MenuRepository menuRepository) {
+        this.catalogoRepository = catalogoRepository;
+        this.menuRepository = menuRepository;
+    }
+
+    /**
+     * Ejecuta la importación.
+     * 
+     * @param registros Registros en orden de lectura
+     * @return Conteo de filas procesadas por sección
+     * @throws SecurityValidationException si un menú referencia un padre inexistente
+     */
+    public ResumenImportacion ejecutar(Iterator<RegistroCatalogo> registros) {
+        return catalogoRepository.importar(new OrdenDependencias(registros));
+    }
+
+    /**
+     * Iterador que reordena los menús para que cada padre preceda a sus hijos.
+     */
+    private final class OrdenDependencias implements Iterator<RegistroCatalogo> {
+
+        private final Iterator<RegistroCatalogo> origen;
+        private final Set<Long> menusEmitidos = new HashSet<>();
+        private final Map<Long, List<MenuRegistro>> pendientesPorPadre = new HashMap<>();
+        private final Deque<RegistroCatalogo> listos = new ArrayDeque<>();
+
+        OrdenDependencias(Iterator<RegistroCatalogo> origen) {
+            this.origen = origen;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (listos.isEmpty()) {
+                if (origen.hasNext()) {
+                    clasificar(origen.next());
+                } else if (!pendientesPorPadre.isEmpty()) {
+                    resolverPendientesEnBD();
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public RegistroCatalogo next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return listos.poll();
+        }
+
+        private void clasificar(RegistroCatalogo registro) {
+            if (!(registro instanceof MenuRegistro menu)) {
+                // Fin de la sección de menús: los padres pendientes deben existir en BD
+                if (!pendientesPorPadre.isEmpty()) {
+                    resolverPendientesEnBD();
+                }
+                listos.add(registro);
+                return;
+            }
+
+            if (menu.id() == null) {
+                throw new SecurityValidationException("id", "el menú '" + menu.nombre() + "' no tiene ID");
+            }
+            Long padre = menu.codMenuPadre();
+            if (padre != null && padre.equals(menu.id())) {
+                throw new SecurityValidationException("codMenuPadre",
+                        "el menú " + menu.id() + " no puede ser su propio padre");
+            }
+
+            if (padre == null || menusEmitidos.contains(padre)) {
+                emitir(menu);
+            } else {
+                pendientesPorPadre.computeIfAbsent(padre, k -> new ArrayList<>()).add(menu);
+            }
+        }
+
+        /**
+         * Emite un menú y, en cascada, todos los hijos que esperaban por él.
+         */
+        private void emitir(MenuRegistro menu) {
+            Deque<MenuRegistro> porEmitir = new ArrayDeque<>();
+            porEmitir.add(menu);
+            while (!porEmitir.isEmpty()) {
+                MenuRegistro actual = porEmitir.poll();
+                listos.add(actual);
+                menusEmitidos.add(actual.id());
+                List<MenuRegistro> hijos = pendientesPorPadre.remove(actual.id());
+                if (hijos != null) {
+                    porEmitir.addAll(hijos);
+                }
+            }
+        }
+
+        /**
+         * Los padres que no vinieron en la importación deben existir en BD destino.
+         */
+        private void resolverPendientesEnBD() {
+            for (Long padre : List.copyOf(pendientesPorPadre.keySet())) {
+                if (!pendientesPorPadre.containsKey(padre)) {
+                    continue; // liberado en cascada por un padre anterior
+                }
+                if (menuRepository.findById(padre).isEmpty()) {
+                    throw new SecurityValidationException("codMenuPadre",
+                            "el menú padre " + padre + " no existe ni está incluido en la importación");
+                }
+                menusEmitidos.add(padre);
+                List<MenuRegistro> hijos = pendientesPorPadre.remove(padre);
+                hijos.forEach(this::emitir);
+            }
+        }
+    }
+}
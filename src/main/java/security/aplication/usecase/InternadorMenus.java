@@ -0,0 +1,202 @@
+package security.aplication.usecase;
+
+import security.aplication.dto.MenuJerarquico;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Componente de Aplicación: InternadorMenus
+ * 
+ * Responsabilidad: Compartir los subárboles de menús idénticos entre
+ * perfiles (hash-consing). La mayoría de perfiles repite las mismas
+ * carpetas con los mismos hijos; con el internado cada subárbol distinto
+ * existe una sola vez, con su label, icon y routerLink.
+ * 
+ * Algoritmo (de las hojas a la raíz):
+ * 1. Internar los hijos del nodo; quedan como instancias canónicas
+ * 2. Clave del nodo: codigo, label, routerLink, orden, icon y la identidad
+ *    de cada hijo canónico (dos hijos iguales ya son la misma instancia,
+ *    así que comparar por == equivale a comparar el subárbol completo)
+ * 3. Si la clave ya tiene instancia canónica viva se usa esa; si no, se
+ *    registra una copia con listas inmutables
+ * 
+ * Referencias débiles: la tabla no mantiene vivo ningún nodo; un subárbol
+ * se libera cuando ningún árbol en uso lo referencia y su entrada se purga
+ * en la siguiente llamada.
+ * 
+ * Nodos compartidos: los árboles devueltos son inmutables en la práctica
+ * (listas inmutables); quien los consuma no debe usar sus setters.
+ * 
+ * Contadores (expuestos como métricas por ApplicationConfig):
+ * - compartidos: nodos resueltos con una instancia canónica existente
+ * - creados: nodos que pasaron a ser canónicos
+ * - canonicos: entradas vivas en la tabla
+ */
+public class InternadorMenus {
+
+    private final ConcurrentMap<Clave, Referencia> canonicos = new ConcurrentHashMap<>();
+    private final ReferenceQueue<MenuJerarquico> liberados = new ReferenceQueue<>();
+    private final LongAdder compartidos = new LongAdder();
+    private final LongAdder creados = new LongAdder();
+
+    /**
+     * Interna un árbol completo.
+     * 
+     * @param raiz Menús raíz recién construidos
+     * @return Lista inmutable con los menús raíz canónicos
+     */
+    public List<MenuJerarquico> internar(List<MenuJerarquico> raiz) {
+        purgar();
+        return internarLista(raiz);
+    }
+
+    /**
+     * @return Nodos resueltos con una instancia canónica existente
+     */
+    public long getCompartidos() {
+        return compartidos.sum();
+    }
+
+    /**
+     * @return Nodos que pasaron a ser canónicos
+     */
+    public long getCreados() {
+        return creados.sum();
+    }
+
+    /**
+     * @return Entradas en la tabla (incluye las liberadas aún sin purgar)
+     */
+    public int getCanonicos() {
+        return canonicos.size();
+    }
+
+    private List<MenuJerarquico> internarLista(List<MenuJerarquico> nodos) {
+        List<MenuJerarquico> resultado = new ArrayList<>(nodos.size());
+        for (MenuJerarquico nodo : nodos) {
+            resultado.add(internarNodo(nodo));
+        }
+        return List.copyOf(resultado);
+    }
+
+    private MenuJerarquico internarNodo(MenuJerarquico nodo) {
+        List<MenuJerarquico> hijos = nodo.getItems() == null ? null : internarLista(nodo.getItems());
+        List<String> routerLink = nodo.getRouterLink() == null ? null : List.copyOf(nodo.getRouterLink());
+        Clave clave = new Clave(nodo.getCodigo(), nodo.getLabel(), routerLink, nodo.getOrden(), nodo.getIcon(), hijos);
+        while (true) {
+            Referencia existente = canonicos.get(clave);
+            MenuJerarquico canonico = existente == null ? null : existente.get();
+            if (canonico != null) {
+                compartidos.increment();
+                return canonico;
+            }
+            MenuJerarquico nuevo = new MenuJerarquico(clave.codigo, clave.label, routerLink, clave.orden, clave.icon, hijos);
+            Referencia referencia = new Referencia(nuevo, clave, liberados);
+            boolean registrado = existente == null
+                    ? canonicos.putIfAbsent(clave, referencia) == null
+                    : canonicos.replace(clave, existente, referencia);
+            if (registrado) {
+                creados.increment();
+                return nuevo;
+            }
+        }
+    }
+
+    private void purgar() {
+        Object liberado;
+        while ((liberado = liberados.poll()) != null) {
+            Referencia referencia = (Referencia) liberado;
+            canonicos.remove(referencia.clave, referencia);
+        }
+    }
+
+    /**
+     * Referencia débil a un nodo canónico que recuerda su clave para purgarla.
+     */
+    private static final class Referencia extends WeakReference<MenuJerarquico> {
+
+        private final Clave clave;
+
+        private Referencia(MenuJerarquico nodo, Clave clave, ReferenceQueue<MenuJerarquico> cola) {
+            super(nodo, cola);
+            this.clave = clave;
+        }
+    }
+
+    /**
+     * Clave de un nodo: sus campos y la identidad de sus hijos canónicos.
+     */
+    private static final class Clave {
+
+        private final Long codigo;
+        private final String label;
+        private final List<String> routerLink;
+        private final Integer orden;
+        private final String icon;
+        private final List<MenuJerarquico> hijos;
+        private final int hash;
+
+        private Clave(Long codigo, String label, List<String> routerLink, Integer orden, String icon,
+                      List<MenuJerarquico> hijos) {
+            this.codigo = codigo;
+            this.label = label;
+            this.routerLink = routerLink;
+            this.orden = orden;
+            this.icon = icon;
+            this.hijos = hijos;
+            int h = Objects.hash(codigo, label, routerLink, orden, icon);
+            if (hijos == null) {
+                h = 31 * h - 1;
+            } else {
+                for (MenuJerarquico hijo : hijos) {
+                    h = 31 * h + System.identityHashCode(hijo);
+                }
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Clave otra)) {
+                return false;
+            }
+            return hash == otra.hash
+                    && Objects.equals(codigo, otra.codigo)
+                    && Objects.equals(label, otra.label)
+                    && Objects.equals(routerLink, otra.routerLink)
+                    && Objects.equals(orden, otra.orden)
+                    && Objects.equals(icon, otra.icon)
+                    && mismosHijos(hijos, otra.hijos);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private static boolean mismosHijos(List<MenuJerarquico> a, List<MenuJerarquico> b) {
+            if (a == null || b == null) {
+                return a == b;
+            }
+            if (a.size() != b.size()) {
+                return false;
+            }
+            for (int i = 0; i < a.size(); i++) {
+                if (a.get(i) != b.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package security.aplication.usecase;
+
+import security.aplication.dto.MenuJerarquico;
+import security.aplication.port.output.InstrumentacionPort;
+import security.aplication.port.output.MenuPerfilViewReactiveRepository;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Caso de Uso: ObtenerMenusJerarquicosReactivoUseCase
+ * 
+ * Variante no bloqueante de ObtenerMenusJerarquicosPorPerfilUseCase.
+ * 
+ * Algoritmo:
+ * 1. Obtener registros de vw_menu_perfil con el cliente reactivo
+ * 2. Construir el árbol con ConstructorArbolMenus al llegar el resultado
+ * 
+ * La construcción del árbol es CPU pura y acotada al número de menús
+ * del perfil, por lo que puede ejecutarse en el event loop.
+ */
+public class ObtenerMenusJerarquicosReactivoUseCase {
+
+    private final MenuPerfilViewReactiveRepository menuPerfilViewReactiveRepository;
+    private final ConstructorArbolMenus constructorArbolMenus;
+
+    public ObtenerMenusJerarquicosReactivoUseCase(MenuPerfilViewReactiveRepository menuPerfilViewReactiveRepository,
+                                                  InternadorMenus internadorMenus,
+                                                  InstrumentacionPort instrumentacion) {
+        this.menuPerfilViewReactiveRepository = menuPerfilViewReactiveRepository;
+        this.constructorArbolMenus = new ConstructorArbolMenus(internadorMenus, instrumentacion);
+    }
+
+    /**
+     * Ejecuta el caso de uso.
+     * 
+     * @param perfilId ID del perfil
+     * @return Etapa con la lista de menús jerárquicos ordenados
+     */
+    public CompletionStage<List<MenuJerarquico>> ejecutar(Long perfilId) {
+        return menuPerfilViewReactiveRepository.findByPerfilId(perfilId)
+                .thenApply(constructorArbolMenus::construir);
+    }
+}
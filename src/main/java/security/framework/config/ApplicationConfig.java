@@ -1,29 +1,86 @@
 package security.framework.config;
 
+import security.aplication.port.input.CatalogoInputPort;
+import security.aplication.port.input.ConsultaReactivaInputPort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.opentelemetry.api.trace.Tracer;
+import security.aplication.dto.MenuJerarquico;
 import security.aplication.port.input.MenuInputPort;
+import security.aplication.port.input.MenuPerfilInputPort;
 import security.aplication.port.input.ModuloInputPort;
 import security.aplication.port.input.PantallaInputPort;
 import security.aplication.port.input.PerfilInputPort;
+import security.aplication.port.input.ReportePermisosInputPort;
+import security.aplication.port.output.CatalogoRepository;
+import security.aplication.port.output.InstrumentacionPort;
+import security.aplication.port.output.MatrizPermisosRepository;
+import security.aplication.port.output.MenuPerfilRepository;
+import security.aplication.port.output.MenuPerfilViewReactiveRepository;
+import security.aplication.port.output.MenuPerfilViewRepository;
+import security.aplication.port.output.MenuReactiveRepository;
 import security.aplication.port.output.MenuRepository;
+import security.aplication.port.output.ModuloReactiveRepository;
 import security.aplication.port.output.ModuloRepository;
 import security.aplication.port.output.PantallaRepository;
 import security.aplication.port.output.PerfilRepository;
+import security.aplication.service.CatalogoService;
+import security.aplication.service.ConsultaReactivaService;
+import security.aplication.service.MenuPerfilService;
 import security.aplication.service.MenuService;
+import io.quarkus.runtime.Startup;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import security.aplication.service.ModuloService;
 import security.aplication.service.PantallaService;
 import security.aplication.service.PerfilService;
+import security.aplication.service.ReportePermisosService;
 import security.aplication.usecase.ActualizarPerfilUseCase;
 import security.aplication.usecase.BuscarPerfilPorIdUseCase;
+import security.aplication.usecase.CoalescedorSolicitudes;
 import security.aplication.usecase.CrearPerfilUseCase;
 import security.aplication.usecase.EliminarPerfilUseCase;
+import security.aplication.usecase.InternadorMenus;
+import security.dominio.entidades.Modulo;
+import security.dominio.entidades.Pantalla;
+import security.dominio.entidades.Perfil;
+import security.framework.output.cache.CacheAcotada;
+import security.framework.output.cache.CacheMenusPerfil;
+import security.framework.output.cache.CachePorId;
+import security.framework.output.cache.CopiaDominio;
+import security.framework.output.cache.MenuPerfilViewReactiveRepositoryCache;
+import security.framework.output.cache.MenuPerfilViewRepositoryCache;
+import security.framework.output.cache.ModuloRepositoryCache;
+import security.framework.output.cache.PantallaRepositoryCache;
+import security.framework.output.cache.PerfilRepositoryCache;
+import security.framework.output.cache.RegistroCaches;
+import security.framework.output.metricas.InstrumentacionAdapter;
+import security.framework.output.persistence.EnrutamientoLectura;
+
+import java.math.BigInteger;
+import java.util.List;
 
 /**
  * Configuración de Aplicación: ApplicationConfig
  * 
  * Clase de configuración de Quarkus CDI que:
  * - Inyecta las implementaciones de repositorios
+ * - Envuelve los repositorios con sus decoradores de caché cuando
+ *   security.cache.&lt;puerto&gt;.enabled=true (CacheConfig); los dos puertos de
+ *   vw_menu_perfil comparten una CacheMenusPerfil (stale-while-revalidate)
+ * - Publica las métricas de cada caché (tamaño, peso, desalojos, aciertos)
+ * - Crea el coalescedor de árboles de menús de la lectura reactiva y
+ *   publica sus contadores en Micrometer
+ * - Crea la tabla de subárboles de menús compartidos (InternadorMenus),
+ *   común a la lectura bloqueante y la reactiva, cuando
+ *   security.cache.internado.enabled=true
+ * - Mide y traza cada llamada a los puertos de entrada (servicios) y de
+ *   salida (repositorios, ya con su caché) con PuertoMedido: security.puerto
+ *   {capa, puerto, metodo, resultado} y un span "Puerto.metodo"; y el tamaño
+ *   y el span de cada árbol de menús construido (InstrumentacionAdapter)
  * - Produce instancias de servicios singleton
  * - Gestiona las dependencias entre capas
  * 
@@ -32,7 +89,11 @@ import security.aplication.usecase.EliminarPerfilUseCase;
  * 
  * Flujo:
  * Quarkus CDI → ApplicationConfig → Produces Services → Controllers
+ * 
+ * @Startup: se instancia al arrancar, así las cachés quedan registradas en
+ * RegistroCaches antes de que SnapshotCacheMenus restaure el snapshot.
  */
+@Startup
 @ApplicationScoped
 public class ApplicationConfig {
     /** Repositorio de menús inyectado por CDI */
@@ -43,6 +104,30 @@ public class ApplicationConfig {
     private final PantallaRepository pantallaRepository;
     /** Repositorio de perfiles inyectado por CDI */
     private final PerfilRepository perfilRepository;
+    /** Repositorio de acceso masivo al catálogo inyectado por CDI */
+    private final CatalogoRepository catalogoRepository;
+    /** Repositorio de lectura de la matriz de permisos inyectado por CDI */
+    private final MatrizPermisosRepository matrizPermisosRepository;
+    /** Lecturas reactivas de menús inyectadas por CDI */
+    private final MenuReactiveRepository menuReactiveRepository;
+    /** Lecturas reactivas de vw_menu_perfil inyectadas por CDI */
+    private final MenuPerfilViewReactiveRepository menuPerfilViewReactiveRepository;
+    /** Lecturas reactivas de módulos inyectadas por CDI */
+    private final ModuloReactiveRepository moduloReactiveRepository;
+    /** Repositorio de asignaciones menú ↔ perfil inyectado por CDI */
+    private final MenuPerfilRepository menuPerfilRepository;
+    /** Repositorio de vw_menu_perfil inyectado por CDI */
+    private final MenuPerfilViewRepository menuPerfilViewRepository;
+    /** Single-flight de árboles de menús por perfil (lectura reactiva) */
+    private final CoalescedorSolicitudes<Long, List<MenuJerarquico>> coalescedorMenusJerarquicos = new CoalescedorSolicitudes<>();
+    /** Subárboles de menús compartidos entre perfiles (bloqueante y reactivo); null si no está activo */
+    private final InternadorMenus internadorMenus;
+    /** Métricas de aplicación (tamaño de los árboles de menús) */
+    private final InstrumentacionPort instrumentacion;
+    /** Registro de métricas de los puertos medidos */
+    private final MeterRegistry meterRegistry;
+    /** Tracer de OpenTelemetry de los puertos trazados */
+    private final Tracer tracer;
 
     /**
      * Constructor con inyección de repositorios.
@@ -52,12 +137,81 @@ public class ApplicationConfig {
      * @param moduloRepository Implementación del repositorio de módulos
      * @param pantallaRepository Implementación del repositorio de pantallas
      * @param perfilRepository Implementación del repositorio de perfiles
+     * @param catalogoRepository Implementación del repositorio de catálogo
+     * @param matrizPermisosRepository Implementación del repositorio de la matriz de permisos
+     * @param menuReactiveRepository Implementación reactiva de lecturas de menús
+     * @param menuPerfilViewReactiveRepository Implementación reactiva de vw_menu_perfil
+     * @param moduloReactiveRepository Implementación reactiva de lecturas de módulos
+     * @param menuPerfilRepository Implementación del repositorio de asignaciones menú ↔ perfil
+     * @param menuPerfilViewRepository Implementación del repositorio de vw_menu_perfil
+     * @param cacheConfig Configuración de cachés por puerto
+     * @param registroCaches Registro de cachés activas
+     * @param enrutamientoLectura Primario o réplica (las cachés solo guardan lecturas del primario)
+     * @param transacciones Registro JTA (invalidación al terminar la transacción)
+     * @param meterRegistry Registro de métricas Micrometer
+     * @param tracer Tracer de OpenTelemetry
      */
-    public ApplicationConfig(MenuRepository menuRepository, ModuloRepository moduloRepository, PantallaRepository pantallaRepository, PerfilRepository perfilRepository) {
-        this.menuRepository = menuRepository;
-        this.moduloRepository = moduloRepository;
-        this.pantallaRepository = pantallaRepository;
-        this.perfilRepository = perfilRepository;
+    public ApplicationConfig(MenuRepository menuRepository, ModuloRepository moduloRepository, PantallaRepository pantallaRepository, PerfilRepository perfilRepository,
+                             CatalogoRepository catalogoRepository, MatrizPermisosRepository matrizPermisosRepository,
+                             MenuReactiveRepository menuReactiveRepository,
+                             MenuPerfilViewReactiveRepository menuPerfilViewReactiveRepository,
+                             ModuloReactiveRepository moduloReactiveRepository,
+                             MenuPerfilRepository menuPerfilRepository,
+                             MenuPerfilViewRepository menuPerfilViewRepository,
+                             CacheConfig cacheConfig, RegistroCaches registroCaches,
+                             EnrutamientoLectura enrutamientoLectura,
+                             TransactionSynchronizationRegistry transacciones,
+                             MeterRegistry meterRegistry, Tracer tracer) {
+        if (cacheConfig.modulo().enabled()) {
+            CachePorId<Long, Modulo> cache = new CachePorId<>("modulo", cacheConfig.modulo(), Long::valueOf, CopiaDominio::copiar,
+                    enrutamientoLectura::usarReplica, transacciones);
+            registroCaches.registrar(cache);
+            registrarMetricas(meterRegistry, cache);
+            moduloRepository = new ModuloRepositoryCache(moduloRepository, cache);
+        }
+        if (cacheConfig.pantalla().enabled()) {
+            CachePorId<Long, Pantalla> cache = new CachePorId<>("pantalla", cacheConfig.pantalla(), Long::valueOf, CopiaDominio::copiar,
+                    enrutamientoLectura::usarReplica, transacciones);
+            registroCaches.registrar(cache);
+            registrarMetricas(meterRegistry, cache);
+            pantallaRepository = new PantallaRepositoryCache(pantallaRepository, cache);
+        }
+        if (cacheConfig.perfil().enabled()) {
+            CachePorId<BigInteger, Perfil> cache = new CachePorId<>("perfil", cacheConfig.perfil(), BigInteger::new, CopiaDominio::copiar,
+                    enrutamientoLectura::usarReplica, transacciones);
+            registroCaches.registrar(cache);
+            registrarMetricas(meterRegistry, cache);
+            perfilRepository = new PerfilRepositoryCache(perfilRepository, cache);
+        }
+        if (cacheConfig.menuPerfil().enabled()) {
+            CacheMenusPerfil cache = new CacheMenusPerfil(cacheConfig.menuPerfil(), menuPerfilViewReactiveRepository,
+                    enrutamientoLectura);
+            registroCaches.registrar(cache);
+            registrarMetricas(meterRegistry, cache);
+            menuPerfilViewRepository = new MenuPerfilViewRepositoryCache(cache);
+            menuPerfilViewReactiveRepository = new MenuPerfilViewReactiveRepositoryCache(cache);
+        }
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+        this.menuRepository = salida(MenuRepository.class, menuRepository);
+        this.moduloRepository = salida(ModuloRepository.class, moduloRepository);
+        this.pantallaRepository = salida(PantallaRepository.class, pantallaRepository);
+        this.perfilRepository = salida(PerfilRepository.class, perfilRepository);
+        this.catalogoRepository = salida(CatalogoRepository.class, catalogoRepository);
+        this.matrizPermisosRepository = salida(MatrizPermisosRepository.class, matrizPermisosRepository);
+        this.menuReactiveRepository = salida(MenuReactiveRepository.class, menuReactiveRepository);
+        this.menuPerfilViewReactiveRepository = salida(MenuPerfilViewReactiveRepository.class, menuPerfilViewReactiveRepository);
+        this.moduloReactiveRepository = salida(ModuloReactiveRepository.class, moduloReactiveRepository);
+        this.menuPerfilRepository = salida(MenuPerfilRepository.class, menuPerfilRepository);
+        this.menuPerfilViewRepository = salida(MenuPerfilViewRepository.class, menuPerfilViewRepository);
+        this.instrumentacion = new InstrumentacionAdapter(meterRegistry, tracer);
+        registrarMetricas(meterRegistry, "menus_jerarquicos", coalescedorMenusJerarquicos);
+        if (cacheConfig.internado().enabled()) {
+            this.internadorMenus = new InternadorMenus();
+            registrarMetricas(meterRegistry, internadorMenus);
+        } else {
+            this.internadorMenus = null;
+        }
     }
 
     /**
@@ -81,7 +235,7 @@ public class ApplicationConfig {
     @Produces
     @ApplicationScoped
     public MenuInputPort menuService() {
-        return new MenuService(menuRepository, moduloRepository, pantallaRepository);
+        return entrada(MenuInputPort.class, new MenuService(menuRepository, moduloRepository, pantallaRepository));
     }
 
     /**
@@ -93,7 +247,7 @@ public class ApplicationConfig {
     @Produces
     @ApplicationScoped
     public ModuloInputPort moduloService(){
-        return new ModuloService(moduloRepository);
+        return entrada(ModuloInputPort.class, new ModuloService(moduloRepository));
     }
 
     /**
@@ -110,7 +264,7 @@ public class ApplicationConfig {
     @Produces
     @ApplicationScoped
     public PantallaInputPort pantallaService() {
-        return new PantallaService(pantallaRepository);
+        return entrada(PantallaInputPort.class, new PantallaService(pantallaRepository));
     }
 
     /**
@@ -127,6 +281,188 @@ public class ApplicationConfig {
     @Produces
     @ApplicationScoped
     public PerfilInputPort perfilService() {
-        return new PerfilService(perfilRepository);
+        return entrada(PerfilInputPort.class, new PerfilService(perfilRepository));
+    }
+
+    /**
+     * Produce instancia singleton de CatalogoInputPort (CatalogoService).
+     * Anotada con @Produces para inyección en CDI.
+     * 
+     * Patrón Hexagonal:
+     * - CatalogoService implementa CatalogoInputPort (puerto de entrada)
+     * - Depende de CatalogoRepository (carga/lectura masiva) y MenuRepository
+     *   (verificación de menús padre ya existentes en destino)
+     * 
+     * @return CatalogoService configurado con sus repositorios
+     */
+    @Produces
+    @ApplicationScoped
+    public CatalogoInputPort catalogoService() {
+        return entrada(CatalogoInputPort.class, new CatalogoService(catalogoRepository, menuRepository));
+    }
+
+    /**
+     * Produce instancia singleton de ReportePermisosInputPort (ReportePermisosService).
+     * Anotada con @Produces para inyección en CDI.
+     * 
+     * @return ReportePermisosService configurado con su repositorio
+     */
+    @Produces
+    @ApplicationScoped
+    public ReportePermisosInputPort reportePermisosService() {
+        return entrada(ReportePermisosInputPort.class, new ReportePermisosService(matrizPermisosRepository));
+    }
+
+    /**
+     * Produce instancia singleton de ConsultaReactivaInputPort (ConsultaReactivaService).
+     * Anotada con @Produces para inyección en CDI.
+     * 
+     * Patrón Hexagonal:
+     * - ConsultaReactivaService implementa ConsultaReactivaInputPort (puerto de entrada)
+     * - Depende de los puertos de salida reactivos (cliente reactivo PostgreSQL)
+     * - Se inyecta en MenuController, MenuPerfilController y ModuloController
+     *   para las lecturas que se ejecutan en el event loop
+     * 
+     * @return ConsultaReactivaService configurado con sus repositorios reactivos
+     */
+    @Produces
+    @ApplicationScoped
+    public ConsultaReactivaInputPort consultaReactivaService() {
+        return entrada(ConsultaReactivaInputPort.class, new ConsultaReactivaService(menuReactiveRepository,
+                menuPerfilViewReactiveRepository, moduloReactiveRepository, coalescedorMenusJerarquicos, internadorMenus,
+                instrumentacion));
+    }
+
+    /**
+     * Produce instancia singleton de MenuPerfilInputPort (MenuPerfilService).
+     * Anotada con @Produces para inyección en CDI.
+     * 
+     * Patrón Hexagonal:
+     * - MenuPerfilService implementa MenuPerfilInputPort (puerto de entrada)
+     * - Depende de MenuPerfilRepository y MenuPerfilViewRepository (puertos de salida)
+     * - Comparte con ConsultaReactivaService el InternadorMenus (si está activo)
+     * 
+     * @return MenuPerfilService configurado con sus repositorios
+     */
+    @Produces
+    @ApplicationScoped
+    public MenuPerfilInputPort menuPerfilService() {
+        return entrada(MenuPerfilInputPort.class, new MenuPerfilService(menuPerfilRepository, menuPerfilViewRepository,
+                internadorMenus, instrumentacion));
+    }
+
+    /**
+     * Mide y traza las llamadas a un puerto de entrada (servicio).
+     * 
+     * @param puerto Interfaz del puerto
+     * @param servicio Servicio que lo implementa
+     * @return Proxy medido del puerto
+     */
+    private <T> T entrada(Class<T> puerto, T servicio) {
+        return PuertoMedido.envolver(puerto, servicio, "entrada", meterRegistry, tracer);
+    }
+
+    /**
+     * Mide y traza las llamadas a un puerto de salida (repositorio o su caché).
+     * 
+     * @param puerto Interfaz del puerto
+     * @param repositorio Implementación del puerto
+     * @return Proxy medido del puerto
+     */
+    private <T> T salida(Class<T> puerto, T repositorio) {
+        return PuertoMedido.envolver(puerto, repositorio, "salida", meterRegistry, tracer);
+    }
+
+    /**
+     * Publica los contadores de un coalescedor.
+     * 
+     * Métricas (etiqueta operacion):
+     * - security.coalescencia.solicitudes{resultado=ejecutada|coalescida}
+     * - security.coalescencia.en_curso
+     * 
+     * Proporción coalescida = coalescida / (ejecutada + coalescida).
+     * 
+     * @param meterRegistry Registro de métricas
+     * @param operacion Nombre de la operación coalescida
+     * @param coalescedor Coalescedor a observar
+     */
+    private static void registrarMetricas(MeterRegistry meterRegistry, String operacion,
+                                          CoalescedorSolicitudes<?, ?> coalescedor) {
+        FunctionCounter.builder("security.coalescencia.solicitudes", coalescedor, CoalescedorSolicitudes::getEjecutadas)
+                .description("Solicitudes que ejecutaron el cálculo")
+                .tag("operacion", operacion)
+                .tag("resultado", "ejecutada")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.coalescencia.solicitudes", coalescedor, CoalescedorSolicitudes::getCoalescidas)
+                .description("Solicitudes atendidas por un cálculo en curso")
+                .tag("operacion", operacion)
+                .tag("resultado", "coalescida")
+                .register(meterRegistry);
+        Gauge.builder("security.coalescencia.en_curso", coalescedor, CoalescedorSolicitudes::getEnCurso)
+                .description("Cálculos en curso")
+                .tag("operacion", operacion)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publica los contadores del InternadorMenus.
+     * 
+     * Métricas:
+     * - security.internado.nodos{resultado=compartido|creado}
+     * - security.internado.canonicos
+     * 
+     * Proporción compartida = compartido / (compartido + creado).
+     * 
+     * @param meterRegistry Registro de métricas
+     * @param internador Internador a observar
+     */
+    private static void registrarMetricas(MeterRegistry meterRegistry, InternadorMenus internador) {
+        FunctionCounter.builder("security.internado.nodos", internador, InternadorMenus::getCompartidos)
+                .description("Nodos de menú resueltos con un subárbol ya existente")
+                .tag("resultado", "compartido")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.internado.nodos", internador, InternadorMenus::getCreados)
+                .description("Nodos de menú que pasaron a ser canónicos")
+                .tag("resultado", "creado")
+                .register(meterRegistry);
+        Gauge.builder("security.internado.canonicos", internador, InternadorMenus::getCanonicos)
+                .description("Subárboles canónicos en la tabla")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publica las métricas de una caché acotada.
+     * 
+     * Métricas (etiqueta cache):
+     * - cache.gets{result=hit|miss}, cache.puts, cache.evictions,
+     *   cache.eviction.weight, cache.size (CaffeineCacheMetrics)
+     * - security.cache.acierto: proporción de aciertos desde el arranque
+     * - security.cache.peso, security.cache.peso_maximo: peso actual y máximo
+     *   (bytes estimados en cachés ponderadas, entradas en el resto)
+     * 
+     * @param meterRegistry Registro de métricas
+     * @param cache Caché a observar
+     */
+    private static void registrarMetricas(MeterRegistry meterRegistry, CacheAcotada cache) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.getCaffeine(), cache.getNombre());
+        String unidad = cache.isPonderada() ? "bytes" : "entries";
+        Gauge.builder("security.cache.acierto", cache, c -> c.getCaffeine().stats().hitRate())
+                .description("Proporción de lecturas servidas por la caché")
+                .tag("cache", cache.getNombre())
+                .register(meterRegistry);
+        Gauge.builder("security.cache.peso", cache, c -> c.getCaffeine().policy().eviction()
+                        .map(desalojo -> desalojo.weightedSize().orElse(c.getCaffeine().estimatedSize()))
+                        .orElse(c.getCaffeine().estimatedSize()))
+                .description("Peso actual de la caché")
+                .tag("cache", cache.getNombre())
+                .baseUnit(unidad)
+                .register(meterRegistry);
+        Gauge.builder("security.cache.peso_maximo", cache, c -> c.getCaffeine().policy().eviction()
+                        .map(desalojo -> desalojo.getMaximum())
+                        .orElse(0L))
+                .description("Máximo vigente (puede reducirlo PresionMemoria)")
+                .tag("cache", cache.getNombre())
+                .baseUnit(unidad)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,257 @@
+package security.framework.config;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Configuración: CacheConfig
+ * 
+ * Cachés de lectura de los puertos de salida, configurables por puerto.
+ * 
+ * Propiedades (prefijo security.cache.&lt;puerto&gt;):
+ * - enabled: activa el decorador de caché del puerto (por defecto false)
+ * - maximum-size: número máximo de entradas
+ * - ttl: vida de una entrada encontrada
+ * - negative-ttl: vida de una entrada "no existe" (caché negativa)
+ * 
+ * Árboles de menús por perfil (prefijo security.cache.menu-perfil), sobre
+ * los puertos de vw_menu_perfil, con stale-while-revalidate:
+ * - enabled, maximum-size: como en los puertos
+ * - maximum-weight: si se indica, acota por peso estimado en bytes (p. ej.
+ *   64M) en lugar de por número de perfiles (maximum-size se ignora)
+ * - ttl: vida "fresca" de una entrada
+ * - refresh-ahead: ventana antes del ttl en la que una lectura recarga en
+ *   segundo plano (las entradas calientes nunca llegan a caducar)
+ * - grace: tras el ttl, tiempo durante el que se sigue sirviendo la entrada
+ *   vieja mientras una única recarga en segundo plano la revalida
+ * 
+ * Snapshot local de la caché de menús por perfil (prefijo security.cache.snapshot):
+ * - enabled: escribe el snapshot al apagar y cada intervalo, y lo carga al arrancar
+ * - archivo: ruta del archivo
+ * - intervalo: cada cuánto se reescribe
+ * 
+ * JSON ya renderizado de los árboles de menús, fuera del heap
+ * (prefijo security.cache.payload):
+ * - enabled: activa AlmacenPayloadsOffHeap
+ * - presupuesto: bytes máximos de memoria directa; al superarlos se desaloja
+ *   la entrada usada hace más tiempo
+ * 
+ * Árboles de menús renderizados a archivos y servidos con sendFile
+ * (prefijo security.cache.estatico):
+ * - enabled: activa GeneradorMenusEstaticos y MenusEstaticosRoute
+ * - directorio: directorio local de los archivos .json, .json.gz y .json.br
+ * 
+ * Respuestas GET @Precomprimible guardadas en gzip y brotli, fuera del heap
+ * (prefijo security.cache.comprimido; árboles de menús y módulos):
+ * - enabled: activa PrecompresionFilter y CacheRespuestasComprimidas
+ * - maximum-weight: bytes máximos de memoria directa de las variantes
+ * - minimo: cuerpos más pequeños se envían sin comprimir
+ * 
+ * Adaptación a la presión de heap (prefijo security.cache.presion):
+ * - enabled: activa PresionMemoria
+ * - umbral: fracción de la generación vieja ocupada tras un GC que reduce
+ *   el máximo de todas las cachés acotadas
+ * - reduccion: factor aplicado al máximo en cada aviso (p. ej. 0.5)
+ * - minimo: fracción mínima del máximo configurado
+ * - umbral-restauracion: ocupación tras GC por debajo de la cual se
+ *   restaura el máximo, al doble en cada revisión
+ * - intervalo: cada cuánto se revisa si se puede restaurar
+ * 
+ * Subárboles de menús compartidos entre perfiles (prefijo security.cache.internado):
+ * - enabled: los árboles de menús pasan por InternadorMenus (por defecto
+ *   false; ver MemoriaInternadoBenchmark en las pruebas)
+ * 
+ * Canal de coherencia entre nodos (prefijo security.cache.canal):
+ * - enabled: escucha LISTEN en el canal y emite NOTIFY en las escrituras
+ * - nombre: nombre del canal PostgreSQL
+ * - reintento-maximo: espera máxima entre reintentos de reconexión
+ * 
+ * Ejemplo:
+ * security.cache.modulo.enabled=true
+ * security.cache.modulo.maximum-size=1000
+ * security.cache.modulo.ttl=30M
+ * security.cache.modulo.negative-ttl=30S
+ */
+@ConfigMapping(prefix = "security.cache")
+public interface CacheConfig {
+
+    /** Caché de ModuloRepository.findById */
+    Puerto modulo();
+
+    /** Caché de PantallaRepository.findById */
+    Puerto pantalla();
+
+    /** Caché de PerfilRepository.findById */
+    Puerto perfil();
+
+    /** Caché de los puertos de vw_menu_perfil (árboles de menús por perfil) */
+    Revalidable menuPerfil();
+
+    /** Snapshot local de CacheMenusPerfil */
+    Snapshot snapshot();
+
+    /** JSON renderizado de los árboles de menús fuera del heap */
+    Payload payload();
+
+    /** Árboles de menús renderizados a archivos estáticos */
+    Estatico estatico();
+
+    /** Respuestas precomprimidas en gzip y brotli, fuera del heap */
+    Comprimido comprimido();
+
+    /** Reducción de las cachés ante presión de heap */
+    Presion presion();
+
+    /** Canal LISTEN/NOTIFY de invalidación entre nodos */
+    Canal canal();
+
+    /** Internado de subárboles de menús (InternadorMenus) */
+    Internado internado();
+
+    /**
+     * Parámetros de la caché de un puerto.
+     */
+    interface Puerto {
+
+        @WithDefault("false")
+        boolean enabled();
+
+        @WithDefault("10000")
+        long maximumSize();
+
+        @WithDefault("5M")
+        Duration ttl();
+
+        @WithDefault("30S")
+        Duration negativeTtl();
+    }
+
+    /**
+     * Parámetros de una caché con stale-while-revalidate y refresh-ahead.
+     */
+    interface Revalidable {
+
+        @WithDefault("false")
+        boolean enabled();
+
+        @WithDefault("10000")
+        long maximumSize();
+
+        Optional<MemorySize> maximumWeight();
+
+        @WithDefault("5M")
+        Duration ttl();
+
+        @WithDefault("1M")
+        Duration refreshAhead();
+
+        @WithDefault("30M")
+        Duration grace();
+    }
+
+    /**
+     * Parámetros del snapshot local.
+     */
+    interface Snapshot {
+
+        @WithDefault("false")
+        boolean enabled();
+
+        @WithDefault("cache/menus-perfil.snap")
+        String archivo();
+
+        @WithDefault("5M")
+        Duration intervalo();
+    }
+
+    /**
+     * Parámetros del almacén de JSON renderizado fuera del heap.
+     */
+    interface Payload {
+
+        @WithDefault("false")
+        boolean enabled();
+
+        @WithDefault("256M")
+        MemorySize presupuesto();
+    }
+
+    /**
+     * Parámetros de los archivos estáticos de menús.
+     */
+    interface Estatico {
+
+        @WithDefault("false")
+        boolean enabled();
+
+        @WithDefault("cache/menus")
+        String directorio();
+    }
+
+    /**
+     * Parámetros de las respuestas precomprimidas.
+     */
+    interface Comprimido {
+
+        @WithDefault("false")
+        boolean enabled();
+
+        @WithDefault("64M")
+        MemorySize maximumWeight();
+
+        @WithDefault("1K")
+        MemorySize minimo();
+    }
+
+    /**
+     * Parámetros de la adaptación a la presión de heap.
+     */
+    interface Presion {
+
+        @WithDefault("false")
+        boolean enabled();
+
+        @WithDefault("0.85")
+        double umbral();
+
+        @WithDefault("0.5")
+        double reduccion();
+
+        @WithDefault("0.1")
+        double minimo();
+
+        @WithDefault("0.6")
+        double umbralRestauracion();
+
+        @WithDefault("30S")
+        Duration intervalo();
+    }
+
+    /**
+     * Parámetros del canal de invalidación entre nodos.
+     */
+    interface Canal {
+
+        @WithDefault("true")
+        boolean enabled();
+
+        @WithDefault("security_cache")
+        String nombre();
+
+        @WithDefault("30S")
+        Duration reintentoMaximo();
+    }
+
+    /**
+     * Parámetros del internado de subárboles de menús.
+     */
+    interface Internado {
+
+        @WithDefault("false")
+        boolean enabled();
+    }
+}
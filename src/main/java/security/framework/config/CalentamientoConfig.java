@@ -0,0 +1,43 @@
+package security.framework.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Configuración: CalentamientoConfig
+ * 
+ * Fase de calentamiento al arrancar (CalentamientoArranque).
+ * 
+ * Propiedades (prefijo security.calentamiento):
+ * - enabled: ejecuta el calentamiento (por defecto true)
+ * - top-n: perfiles a precargar, los de más menús primero; 0 = todos
+ * - hilos: trabajadores en paralelo
+ * - rondas: pasadas sobre los endpoints; la primera llena cachés y pool,
+ *   las siguientes sirven para que el JIT compile el camino caliente
+ * - plazo: tiempo máximo; vencido, el pod se declara listo igualmente
+ * 
+ * Ejemplo:
+ * security.calentamiento.top-n=500
+ * security.calentamiento.hilos=8
+ * security.calentamiento.plazo=90S
+ */
+@ConfigMapping(prefix = "security.calentamiento")
+public interface CalentamientoConfig {
+
+    @WithDefault("true")
+    boolean enabled();
+
+    @WithDefault("0")
+    int topN();
+
+    @WithDefault("8")
+    int hilos();
+
+    @WithDefault("3")
+    int rondas();
+
+    @WithDefault("60S")
+    Duration plazo();
+}
@@ -0,0 +1,62 @@
+package security.framework.config;
+
+import jakarta.enterprise.context.RequestScoped;
+import security.framework.output.sql.ConteoSql;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Contexto de Solicitud: ContadorSql
+ * 
+ * Sentencias SQL, filas y tiempo de base de datos de la solicitud HTTP en
+ * curso.
+ * 
+ * Responsabilidad:
+ * - Lo alimentan el driver JDBC medido (JdbcMedido) y las consultas
+ *   reactivas (SqlReactivoMedido), a través de RegistroSql
+ * - Lo consulta PresupuestoSqlFilter (entrada) al terminar la solicitud
+ * 
+ * Las repeticiones se cuentan por texto SQL: la misma sentencia ejecutada
+ * muchas veces en una solicitud es la firma de un N+1.
+ * 
+ * Los métodos son sincronizados: en la lectura reactiva las filas pueden
+ * llegar desde el event loop mientras la solicitud sigue en otro hilo.
+ */
+@RequestScoped
+public class ContadorSql {
+
+    private int sentencias;
+    private long filas;
+    private long nanos;
+    private final Map<String, Integer> repeticiones = new LinkedHashMap<>();
+
+    /**
+     * Registra una sentencia ejecutada (un viaje a la base de datos).
+     * 
+     * @param sql Texto SQL (null si el driver no lo conoce)
+     * @param duracion Tiempo de ejecución en nanosegundos
+     */
+    public synchronized void sentencia(String sql, long duracion) {
+        sentencias++;
+        nanos += duracion;
+        repeticiones.merge(sql == null ? "?" : sql, 1, Integer::sum);
+    }
+
+    /**
+     * Suma filas leídas o modificadas.
+     * 
+     * @param cantidad Filas
+     */
+    public synchronized void filas(long cantidad) {
+        filas += cantidad;
+    }
+
+    /**
+     * @return Copia de los contadores hasta ahora
+     */
+    public synchronized ConteoSql conteo() {
+        return new ConteoSql(sentencias, filas, nanos, Collections.unmodifiableMap(new LinkedHashMap<>(repeticiones)));
+    }
+}
@@ -0,0 +1,43 @@
+package security.framework.config;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Contexto de Solicitud: ContextoLectura
+ * 
+ * Decisión de enrutamiento de lecturas para la solicitud HTTP en curso.
+ * 
+ * Responsabilidad:
+ * - Lo marca EnrutamientoLecturaFilter (entrada) antes de ejecutar el recurso
+ * - Lo consulta EnrutamientoLectura (salida) al elegir datasource / pool
+ * 
+ * Por defecto la solicitud usa el primario; solo las lecturas marcadas
+ * explícitamente van a la réplica.
+ */
+@RequestScoped
+public class ContextoLectura {
+
+    private boolean replica;
+
+    /**
+     * Enruta las lecturas de esta solicitud a la réplica.
+     */
+    public void usarReplica() {
+        this.replica = true;
+    }
+
+    /**
+     * Devuelve las lecturas de esta solicitud al primario (p. ej. una
+     * respuesta que se guardará para todos los clientes).
+     */
+    public void usarPrimario() {
+        this.replica = false;
+    }
+
+    /**
+     * @return true si las lecturas de esta solicitud van a la réplica
+     */
+    public boolean isReplica() {
+        return replica;
+    }
+}
@@ -0,0 +1,222 @@
+package security.framework.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorador de Configuración: PuertoMedido
+ * 
+ * Envuelve un puerto (interfaz) en un proxy que mide cada llamada con un
+ * Timer de Micrometer y la traza con un span de OpenTelemetry, sin tocar
+ * servicios, casos de uso ni adaptadores.
+ * 
+ * Métrica: security.puerto (histograma de latencia; su contador da el
+ * throughput), etiquetas:
+ * - capa: entrada (servicios) | salida (repositorios, con su caché si la hay)
+ * - puerto: interfaz (p. ej. MenuInputPort)
+ * - metodo: método invocado
+ * - resultado: ok | error
+ * 
+ * Span: "Puerto.metodo" (p. ej. MenuPerfilViewReactiveRepository.findByPerfilId),
+ * hijo del span activo, con atributos:
+ * - security.capa: entrada | salida
+ * - security.&lt;parámetro&gt;: argumentos numéricos, booleanos y enums
+ *   (p. ej. security.perfilId); los textos no se copian
+ * - security.filas: elementos devueltos (colecciones, Optional, ítems de un Flow.Publisher)
+ * Los errores quedan en el span como excepción y estado ERROR.
+ * 
+ * Tiempo medido:
+ * - Métodos síncronos: la llamada completa
+ * - CompletionStage: desde la llamada hasta que la etapa se completa; el
+ *   método del destino se invoca dentro del span. Las consultas del cliente
+ *   reactivo no quedan como hijas: su span toma de padre el del contexto
+ *   Vert.x de la solicitud (el span HTTP), en la misma traza
+ * - Flow.Publisher: desde la suscripción hasta que termina (fallo,
+ *   cancelación o fin del flujo); el método del destino se invoca y su
+ *   resultado se suscribe dentro del span
+ * 
+ * Los servicios delegan cada método en un único caso de uso, así que el
+ * Timer y el span de capa=entrada son los de ejecutar() de ese caso de uso.
+ */
+final class PuertoMedido implements InvocationHandler {
+
+    private static final String METRICA = "security.puerto";
+    private static final String ATRIBUTO = "security.";
+
+    private final Object destino;
+    private final String capa;
+    private final String puerto;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+    private final Map<Method, Timer> correctos = new ConcurrentHashMap<>();
+    private final Map<Method, Timer> fallidos = new ConcurrentHashMap<>();
+
+    private PuertoMedido(Object destino, String capa, String puerto, MeterRegistry meterRegistry, Tracer tracer) {
+        this.destino = destino;
+        this.capa = capa;
+        this.puerto = puerto;
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+    }
+
+    /**
+     * Envuelve un puerto.
+     * 
+     * @param interfaz Interfaz del puerto
+     * @param destino Implementación a medir
+     * @param capa entrada o salida
+     * @param meterRegistry Registro de métricas
+     * @param tracer Tracer de OpenTelemetry
+     * @return Proxy de la interfaz que mide, traza y delega en destino
+     */
+    static <T> T envolver(Class<T> interfaz, T destino, String capa, MeterRegistry meterRegistry, Tracer tracer) {
+        return interfaz.cast(Proxy.newProxyInstance(interfaz.getClassLoader(), new Class<?>[]{interfaz},
+                new PuertoMedido(destino, capa, interfaz.getSimpleName(), meterRegistry, tracer)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method metodo, Object[] argumentos) throws Throwable {
+        if (metodo.getDeclaringClass() == Object.class) {
+            return metodo.invoke(destino, argumentos);
+        }
+        if (metodo.getReturnType() == CompletionStage.class) {
+            return medirEtapa(metodo, argumentos);
+        }
+        if (metodo.getReturnType() == Flow.Publisher.class) {
+            return medirPublicador(metodo, argumentos);
+        }
+        long inicio = System.nanoTime();
+        Span tramo = abrirTramo(metodo, argumentos);
+        Object resultado;
+        try (Scope alcance = tramo.makeCurrent()) {
+            resultado = invocar(metodo, argumentos);
+        } catch (Throwable falla) {
+            terminar(metodo, inicio, tramo, -1, falla);
+            throw falla;
+        }
+        terminar(metodo, inicio, tramo, filas(resultado), null);
+        return resultado;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletionStage<Object> medirEtapa(Method metodo, Object[] argumentos) throws Throwable {
+        long inicio = System.nanoTime();
+        Span tramo = abrirTramo(metodo, argumentos);
+        CompletionStage<Object> etapa;
+        try (Scope alcance = tramo.makeCurrent()) {
+            etapa = (CompletionStage<Object>) invocar(metodo, argumentos);
+        } catch (Throwable falla) {
+            terminar(metodo, inicio, tramo, -1, falla);
+            throw falla;
+        }
+        return etapa.whenComplete((item, falla) -> {
+            Throwable causa = falla instanceof CompletionException && falla.getCause() != null ? falla.getCause() : falla;
+            terminar(metodo, inicio, tramo, causa == null ? filas(item) : -1, causa);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Multi<Object> medirPublicador(Method metodo, Object[] argumentos) {
+        return Multi.createFrom().emitter(emisor -> {
+            long inicio = System.nanoTime();
+            Span tramo = abrirTramo(metodo, argumentos);
+            AtomicLong elementos = new AtomicLong();
+            try (Scope alcance = tramo.makeCurrent()) {
+                Multi<Object> multi = Multi.createFrom().publisher((Flow.Publisher<Object>) invocar(metodo, argumentos));
+                Cancellable suscripcion = multi
+                        .onItem().invoke(elementos::incrementAndGet)
+                        .onTermination().invoke((falla, cancelado) ->
+                                terminar(metodo, inicio, tramo, elementos.get(), falla))
+                        .subscribe().with(emisor::emit, emisor::fail, emisor::complete);
+                emisor.onTermination(suscripcion::cancel);
+            } catch (Throwable falla) {
+                terminar(metodo, inicio, tramo, -1, falla);
+                emisor.fail(falla);
+            }
+        });
+    }
+
+    private Object invocar(Method metodo, Object[] argumentos) throws Throwable {
+        try {
+            return metodo.invoke(destino, argumentos);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Span abrirTramo(Method metodo, Object[] argumentos) {
+        SpanBuilder tramo = tracer.spanBuilder(puerto + "." + metodo.getName())
+                .setAttribute(ATRIBUTO + "capa", capa);
+        Parameter[] parametros = metodo.getParameters();
+        for (int i = 0; argumentos != null && i < argumentos.length; i++) {
+            Object valor = argumentos[i];
+            String nombre = ATRIBUTO + parametros[i].getName();
+            if (valor instanceof Long || valor instanceof Integer || valor instanceof Short) {
+                tramo.setAttribute(nombre, ((Number) valor).longValue());
+            } else if (valor instanceof Number || valor instanceof Enum<?>) {
+                tramo.setAttribute(nombre, valor.toString());
+            } else if (valor instanceof Boolean logico) {
+                tramo.setAttribute(nombre, logico);
+            }
+        }
+        return tramo.startSpan();
+    }
+
+    private void terminar(Method metodo, long inicio, Span tramo, long filas, Throwable falla) {
+        registrar(metodo, inicio, falla != null);
+        if (filas >= 0) {
+            tramo.setAttribute(ATRIBUTO + "filas", filas);
+        }
+        if (falla != null) {
+            tramo.recordException(falla);
+            tramo.setStatus(StatusCode.ERROR);
+        }
+        tramo.end();
+    }
+
+    private static long filas(Object resultado) {
+        if (resultado instanceof Collection<?> coleccion) {
+            return coleccion.size();
+        }
+        if (resultado instanceof Optional<?> opcional) {
+            return opcional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+
+    private void registrar(Method metodo, long inicio, boolean error) {
+        long duracion = System.nanoTime() - inicio;
+        Map<Method, Timer> timers = error ? fallidos : correctos;
+        timers.computeIfAbsent(metodo, m -> Timer.builder(METRICA)
+                        .description("Latencia de las llamadas a puertos de entrada y salida")
+                        .tag("capa", capa)
+                        .tag("puerto", puerto)
+                        .tag("metodo", m.getName())
+                        .tag("resultado", error ? "error" : "ok")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(duracion, TimeUnit.NANOSECONDS);
+    }
+}
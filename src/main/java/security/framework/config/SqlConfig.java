@@ -0,0 +1,85 @@
+package security.framework.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Configuración: SqlConfig
+ * 
+ * Presupuesto de sentencias SQL por solicitud y detector de N+1
+ * (PresupuestoSqlFilter, con los conteos de ContadorSql), y perfil de
+ * sentencias por huella (PerfiladorSql).
+ * 
+ * Propiedades (prefijo security.sql):
+ * - enabled: informa y controla el presupuesto de cada endpoint (por defecto true)
+ * - modo: log (avisa en el log) | fallar (responde 500 con el detalle);
+ *   fallar es para pruebas y entornos de integración
+ * - sentencias-maximas: presupuesto de los endpoints sin @PresupuestoSql
+ *   (0 = sin límite)
+ * - repeticiones-maximas: veces que una misma sentencia puede repetirse en
+ *   una solicitud antes de avisar de un posible N+1 (0 = sin aviso)
+ * - cabeceras: añade X-Sql-Sentencias y X-Sql-Filas a cada respuesta
+ * - perfil.enabled: acumula ejecuciones, tiempo y filas por huella (por defecto true)
+ * - perfil.top: sentencias por tiempo total en GET /perfil-sql
+ * - perfil.endpoint: publica GET y DELETE /perfil-sql (por defecto false:
+ *   exponen texto SQL y permiten borrar el perfil, así que solo se abren
+ *   en entornos internos); apagado responden 404
+ * - perfil.lenta: umbral a partir del cual una ejecución se registra en el
+ *   log con sus parámetros
+ * - perfil.maximo-huellas: huellas distintas que se acumulan; las demás
+ *   se suman en "(otras)"
+ * 
+ * Ejemplo:
+ * security.sql.modo=fallar
+ * security.sql.sentencias-maximas=10
+ * security.sql.cabeceras=true
+ */
+@ConfigMapping(prefix = "security.sql")
+public interface SqlConfig {
+
+    @WithDefault("true")
+    boolean enabled();
+
+    @WithDefault("log")
+    Modo modo();
+
+    @WithDefault("0")
+    int sentenciasMaximas();
+
+    @WithDefault("5")
+    int repeticionesMaximas();
+
+    @WithDefault("false")
+    boolean cabeceras();
+
+    /** Perfil de sentencias por huella */
+    Perfil perfil();
+
+    enum Modo {
+        LOG,
+        FALLAR
+    }
+
+    /**
+     * Parámetros del perfil de sentencias.
+     */
+    interface Perfil {
+
+        @WithDefault("true")
+        boolean enabled();
+
+        @WithDefault("false")
+        boolean endpoint();
+
+        @WithDefault("20")
+        int top();
+
+        @WithDefault("500ms")
+        Duration lenta();
+
+        @WithDefault("2000")
+        int maximoHuellas();
+    }
+}
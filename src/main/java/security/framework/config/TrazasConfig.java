@@ -0,0 +1,39 @@
+package security.framework.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuración: TrazasConfig
+ * 
+ * Exportador local de trazas (TrazasLocales), adicional al OTLP de Quarkus
+ * (quarkus.otel.exporter.otlp.*), para inspeccionar spans sin colector.
+ * 
+ * Propiedades (prefijo security.trazas):
+ * - exportador: ninguno (por defecto) | archivo | memoria
+ * - archivo: JSON por línea, un span por línea (exportador=archivo)
+ * - capacidad: spans recientes que se conservan (exportador=memoria),
+ *   consultables en GET /trazas
+ * 
+ * Ejemplo:
+ * security.trazas.exportador=archivo
+ * security.trazas.archivo=trazas/spans.jsonl
+ */
+@ConfigMapping(prefix = "security.trazas")
+public interface TrazasConfig {
+
+    @WithDefault("ninguno")
+    Exportador exportador();
+
+    @WithDefault("trazas/spans.jsonl")
+    String archivo();
+
+    @WithDefault("5000")
+    int capacidad();
+
+    enum Exportador {
+        NINGUNO,
+        ARCHIVO,
+        MEMORIA
+    }
+}
@@ -0,0 +1,229 @@
+package security.framework.input.calentamiento;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import security.aplication.port.input.MenuPerfilInputPort;
+import security.framework.config.CalentamientoConfig;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Componente de Infraestructura: CalentamientoArranque
+ * 
+ * Calienta un pod recién arrancado antes de que reciba tráfico: llena las
+ * cachés de menús, abre las conexiones del pool y deja que el JIT compile
+ * el camino caliente. CalentamientoReadinessCheck reporta el pod como no
+ * listo hasta que termina o vence el plazo.
+ * 
+ * Flujo (hilo propio, no bloquea el arranque):
+ * 1. Espera a que el servidor HTTP responda en localhost
+ * 2. Obtiene los perfiles a precargar: los top-n con más menús (o todos)
+ * 3. Por cada ronda, con security.calentamiento.hilos trabajadores:
+ *    - GET /modulo (datos de referencia)
+ *    - GET /menu-perfil/jerarquico/perfil/{id} (camino reactivo del login)
+ *    - GET /menu-perfil/perfil/{id} (camino bloqueante)
+ * 4. Marca el calentamiento como terminado
+ * 
+ * Se usan peticiones HTTP reales (y no llamadas a los servicios) para que
+ * el JIT caliente también el enrutamiento REST y la serialización JSON.
+ * Los errores se cuentan pero no detienen el calentamiento.
+ */
+@ApplicationScoped
+public class CalentamientoArranque {
+
+    private static final Logger LOG = Logger.getLogger(CalentamientoArranque.class);
+
+    private static final Duration TIMEOUT_SOLICITUD = Duration.ofSeconds(10);
+    private static final long ESPERA_SERVIDOR_MS = 200;
+
+    private final MenuPerfilInputPort menuPerfilInputPort;
+    private final CalentamientoConfig config;
+    private final URI base;
+    private final HttpClient http;
+
+    private final AtomicLong solicitudes = new AtomicLong();
+    private final AtomicLong errores = new AtomicLong();
+    private volatile Instant inicio = Instant.now();
+    private volatile Instant limite = Instant.now();
+    private volatile boolean terminado;
+    private volatile int perfiles;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param menuPerfilInputPort Puerto de entrada de menús por perfil
+     * @param config Configuración del calentamiento
+     * @param puerto Puerto HTTP local
+     * @param rootPath Ruta raíz de la aplicación
+     */
+    public CalentamientoArranque(MenuPerfilInputPort menuPerfilInputPort,
+                                 CalentamientoConfig config,
+                                 @ConfigProperty(name = "quarkus.http.port") int puerto,
+                                 @ConfigProperty(name = "quarkus.http.root-path", defaultValue = "/") String rootPath) {
+        this.menuPerfilInputPort = menuPerfilInputPort;
+        this.config = config;
+        this.base = URI.create("http://localhost:" + puerto + (rootPath.endsWith("/") ? rootPath : rootPath + "/"));
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT_SOLICITUD)
+                .build();
+    }
+
+    /**
+     * Lanza el calentamiento al arrancar la aplicación.
+     * 
+     * @param evento Evento de arranque de Quarkus
+     */
+    void alIniciar(@Observes StartupEvent evento) {
+        inicio = Instant.now();
+        limite = inicio.plus(config.plazo());
+        if (!config.enabled()) {
+            terminado = true;
+            return;
+        }
+        Thread hilo = new Thread(this::calentar, "calentamiento");
+        hilo.setDaemon(true);
+        hilo.start();
+    }
+
+    /**
+     * @return true si el calentamiento terminó o venció el plazo
+     */
+    public boolean isListo() {
+        return terminado || Instant.now().isAfter(limite);
+    }
+
+    /**
+     * @return true si el calentamiento terminó (no solo por plazo)
+     */
+    public boolean isTerminado() {
+        return terminado;
+    }
+
+    /**
+     * @return Perfiles precargados
+     */
+    public int getPerfiles() {
+        return perfiles;
+    }
+
+    /**
+     * @return Solicitudes realizadas
+     */
+    public long getSolicitudes() {
+        return solicitudes.get();
+    }
+
+    /**
+     * @return Solicitudes fallidas
+     */
+    public long getErrores() {
+        return errores.get();
+    }
+
+    private void calentar() {
+        ExecutorService trabajadores = Executors.newFixedThreadPool(Math.max(1, config.hilos()));
+        try {
+            esperarServidor();
+            List<BigInteger> ids = perfilesAPrecargar();
+            perfiles = ids.size();
+            for (int ronda = 0; ronda < config.rondas() && !vencido(); ronda++) {
+                List<Callable<Void>> tareas = new ArrayList<>();
+                tareas.add(solicitud("modulo"));
+                for (BigInteger id : ids) {
+                    tareas.add(solicitud("menu-perfil/jerarquico/perfil/" + id));
+                    tareas.add(solicitud("menu-perfil/perfil/" + id));
+                }
+                trabajadores.invokeAll(tareas, restanteMs(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOG.errorf(e, "Calentamiento interrumpido");
+        } finally {
+            trabajadores.shutdownNow();
+            terminado = true;
+            LOG.infof("Calentamiento %s en %d ms: %d perfiles, %d solicitudes, %d errores",
+                    vencido() ? "cortado por plazo" : "terminado",
+                    Duration.between(inicio, Instant.now()).toMillis(),
+                    perfiles, solicitudes.get(), errores.get());
+        }
+    }
+
+    /**
+     * Espera a que el servidor HTTP acepte conexiones (o a que venza el plazo).
+     */
+    private void esperarServidor() throws InterruptedException {
+        while (!vencido()) {
+            try {
+                http.send(peticion("modulo"), HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException e) {
+                Thread.sleep(ESPERA_SERVIDOR_MS);
+            }
+        }
+    }
+
+    /**
+     * Consulta los perfiles a precargar con un contexto de solicitud propio
+     * (la sesión de Hibernate es de ámbito de solicitud).
+     */
+    private List<BigInteger> perfilesAPrecargar() {
+        ManagedContext contexto = Arc.container().requestContext();
+        contexto.activate();
+        try {
+            return menuPerfilInputPort.obtenerPerfilesConMasMenus(config.topN());
+        } finally {
+            contexto.terminate();
+        }
+    }
+
+    private Callable<Void> solicitud(String ruta) {
+        return () -> {
+            solicitudes.incrementAndGet();
+            try {
+                HttpResponse<Void> respuesta = http.send(peticion(ruta), HttpResponse.BodyHandlers.discarding());
+                if (respuesta.statusCode() >= 500) {
+                    errores.incrementAndGet();
+                }
+            } catch (IOException e) {
+                errores.incrementAndGet();
+            }
+            return null;
+        };
+    }
+
+    private HttpRequest peticion(String ruta) {
+        return HttpRequest.newBuilder(base.resolve(ruta))
+                .timeout(TIMEOUT_SOLICITUD)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private boolean vencido() {
+        return Instant.now().isAfter(limite);
+    }
+
+    private long restanteMs() {
+        return Math.max(1, Duration.between(Instant.now(), limite).toMillis());
+    }
+}
@@ -0,0 +1,36 @@
+package security.framework.input.calentamiento;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Health Check: CalentamientoReadinessCheck
+ * 
+ * Readiness (GET /q/health/ready): DOWN mientras CalentamientoArranque
+ * está calentando el pod; UP cuando termina o vence
+ * security.calentamiento.plazo, para que un calentamiento lento no deje
+ * el pod fuera de servicio indefinidamente.
+ */
+@Readiness
+@ApplicationScoped
+public class CalentamientoReadinessCheck implements HealthCheck {
+
+    private final CalentamientoArranque calentamiento;
+
+    public CalentamientoReadinessCheck(CalentamientoArranque calentamiento) {
+        this.calentamiento = calentamiento;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        return HealthCheckResponse.named("calentamiento")
+                .status(calentamiento.isListo())
+                .withData("terminado", calentamiento.isTerminado())
+                .withData("perfiles", calentamiento.getPerfiles())
+                .withData("solicitudes", calentamiento.getSolicitudes())
+                .withData("errores", calentamiento.getErrores())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package security.framework.input.cbor;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.yasson.YassonJsonb;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Proveedor JAX-RS: CborMessageBodyWriter
+ * 
+ * Serializa las respuestas como CBOR (RFC 8949) cuando el cliente envía
+ * Accept: application/cbor, para consumidores internos (Java, Go) que
+ * prefieren una codificación binaria compacta.
+ * 
+ * Flujo:
+ * Controller → DTO → JSON-B (Yasson, mismos nombres de campo y reglas que
+ * en JSON) → GeneradorCbor → EscritorCbor → stream de la respuesta
+ * 
+ * El documento CBOR tiene la misma forma que el JSON: un cliente puede
+ * decodificarlo con los mismos modelos. Los controladores declaran
+ * application/json primero, así Accept: *&#47;* sigue respondiendo JSON.
+ */
+@Provider
+@Produces(CborMessageBodyWriter.APPLICATION_CBOR)
+public class CborMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    /** Tipo de contenido CBOR (RFC 8949) */
+    public static final String APPLICATION_CBOR = "application/cbor";
+
+    private static final MediaType APPLICATION_CBOR_TYPE = MediaType.valueOf(APPLICATION_CBOR);
+
+    private final YassonJsonb jsonb;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param jsonb Serializador JSON-B de la aplicación (Yasson)
+     */
+    public CborMessageBodyWriter(Jsonb jsonb) {
+        this.jsonb = (YassonJsonb) jsonb;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return APPLICATION_CBOR_TYPE.isCompatible(mediaType);
+    }
+
+    @Override
+    public void writeTo(Object entidad, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        GeneradorCbor generador = new GeneradorCbor(new EscritorCbor(new BufferedOutputStream(entityStream)));
+        jsonb.toJson(entidad, genericType, generador);
+        generador.flush();
+    }
+}
@@ -0,0 +1,204 @@
+package security.framework.input.cbor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codificador de Bajo Nivel: EscritorCbor
+ * 
+ * Escribe elementos CBOR (RFC 8949) en un OutputStream, sin reflexión ni
+ * dependencias: el recorrido de los objetos lo hace quien lo usa
+ * (GeneradorCbor con JSON-B).
+ * 
+ * Correspondencia con JSON:
+ * - objeto → mapa (tipo mayor 5), arreglo → arreglo (tipo mayor 4), de
+ *   longitud definida o indefinida (terminada con BREAK)
+ * - texto → texto UTF-8 (tipo mayor 3)
+ * - entero → tipo mayor 0/1 en 1 a 9 bytes según magnitud; fuera del rango
+ *   de long, bignum (tags 2/3)
+ * - decimal exacto (BigDecimal) → fracción decimal (tag 4: [exponente, mantisa])
+ * - double → float64; true/false/null → valores simples
+ */
+public final class EscritorCbor {
+
+    private static final int MAYOR_ENTERO = 0;
+    private static final int MAYOR_NEGATIVO = 1;
+    private static final int MAYOR_BYTES = 2;
+    private static final int MAYOR_TEXTO = 3;
+    private static final int MAYOR_ARREGLO = 4;
+    private static final int MAYOR_MAPA = 5;
+    private static final int MAYOR_TAG = 6;
+
+    private static final int TAG_BIGNUM_POSITIVO = 2;
+    private static final int TAG_BIGNUM_NEGATIVO = 3;
+    private static final int TAG_FRACCION_DECIMAL = 4;
+
+    private static final int FALSO = 0xF4;
+    private static final int VERDADERO = 0xF5;
+    private static final int NULO = 0xF6;
+    private static final int FLOAT64 = 0xFB;
+    private static final int INDEFINIDO = 31;
+    private static final int BREAK = 0xFF;
+
+    private final OutputStream out;
+    private final byte[] cabecera = new byte[9];
+
+    /**
+     * @param out Destino (conviene que tenga buffer)
+     */
+    public EscritorCbor(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Abre un mapa de longitud conocida.
+     */
+    public void inicioMapa(int entradas) throws IOException {
+        escribirCabecera(MAYOR_MAPA, entradas);
+    }
+
+    /**
+     * Abre un mapa de longitud indefinida (se cierra con fin()).
+     */
+    public void inicioMapaIndefinido() throws IOException {
+        out.write((MAYOR_MAPA << 5) | INDEFINIDO);
+    }
+
+    /**
+     * Abre un arreglo de longitud conocida.
+     */
+    public void inicioArreglo(int elementos) throws IOException {
+        escribirCabecera(MAYOR_ARREGLO, elementos);
+    }
+
+    /**
+     * Abre un arreglo de longitud indefinida (se cierra con fin()).
+     */
+    public void inicioArregloIndefinido() throws IOException {
+        out.write((MAYOR_ARREGLO << 5) | INDEFINIDO);
+    }
+
+    /**
+     * Cierra un mapa o arreglo de longitud indefinida.
+     */
+    public void fin() throws IOException {
+        out.write(BREAK);
+    }
+
+    /**
+     * Escribe un texto UTF-8.
+     */
+    public void texto(String valor) throws IOException {
+        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+        escribirCabecera(MAYOR_TEXTO, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Escribe un entero en la menor cantidad de bytes.
+     */
+    public void entero(long valor) throws IOException {
+        if (valor >= 0) {
+            escribirCabecera(MAYOR_ENTERO, valor);
+        } else {
+            escribirCabecera(MAYOR_NEGATIVO, -1 - valor);
+        }
+    }
+
+    /**
+     * Escribe un entero; fuera del rango de long, como bignum.
+     */
+    public void entero(BigInteger valor) throws IOException {
+        if (valor.bitLength() < Long.SIZE) {
+            entero(valor.longValue());
+            return;
+        }
+        boolean negativo = valor.signum() < 0;
+        BigInteger magnitud = negativo ? valor.negate().subtract(BigInteger.ONE) : valor;
+        byte[] bytes = magnitud.toByteArray();
+        int desde = bytes[0] == 0 ? 1 : 0;
+        escribirCabecera(MAYOR_TAG, negativo ? TAG_BIGNUM_NEGATIVO : TAG_BIGNUM_POSITIVO);
+        escribirCabecera(MAYOR_BYTES, bytes.length - desde);
+        out.write(bytes, desde, bytes.length - desde);
+    }
+
+    /**
+     * Escribe un decimal exacto (entero si no tiene decimales).
+     */
+    public void decimal(BigDecimal valor) throws IOException {
+        if (valor.scale() <= 0) {
+            entero(valor.toBigIntegerExact());
+            return;
+        }
+        escribirCabecera(MAYOR_TAG, TAG_FRACCION_DECIMAL);
+        inicioArreglo(2);
+        entero(-valor.scale());
+        entero(valor.unscaledValue());
+    }
+
+    /**
+     * Escribe un double como float64.
+     */
+    public void decimal(double valor) throws IOException {
+        long bits = Double.doubleToLongBits(valor);
+        cabecera[0] = (byte) FLOAT64;
+        for (int i = 0; i < 8; i++) {
+            cabecera[1 + i] = (byte) (bits >>> (56 - 8 * i));
+        }
+        out.write(cabecera, 0, 9);
+    }
+
+    /**
+     * Escribe true o false.
+     */
+    public void booleano(boolean valor) throws IOException {
+        out.write(valor ? VERDADERO : FALSO);
+    }
+
+    /**
+     * Escribe null.
+     */
+    public void nulo() throws IOException {
+        out.write(NULO);
+    }
+
+    /**
+     * Vacía el destino.
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Cabecera de un elemento: tipo mayor en los 3 bits altos y el argumento
+     * en los 5 bajos (menor que 24) o en los 1, 2, 4 u 8 bytes siguientes.
+     */
+    private void escribirCabecera(int mayor, long argumento) throws IOException {
+        int tipo = mayor << 5;
+        if (argumento >= 0 && argumento < 24) {
+            out.write(tipo | (int) argumento);
+            return;
+        }
+        int bytes;
+        if (argumento >= 0 && argumento < 0x100L) {
+            cabecera[0] = (byte) (tipo | 24);
+            bytes = 1;
+        } else if (argumento >= 0 && argumento < 0x10000L) {
+            cabecera[0] = (byte) (tipo | 25);
+            bytes = 2;
+        } else if (argumento >= 0 && argumento < 0x100000000L) {
+            cabecera[0] = (byte) (tipo | 26);
+            bytes = 4;
+        } else {
+            cabecera[0] = (byte) (tipo | 27);
+            bytes = 8;
+        }
+        for (int i = 0; i < bytes; i++) {
+            cabecera[1 + i] = (byte) (argumento >>> (8 * (bytes - 1 - i)));
+        }
+        out.write(cabecera, 0, 1 + bytes);
+    }
+}
@@ -0,0 +1,210 @@
+package security.framework.input.cbor;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * Adaptador: GeneradorCbor
+ * 
+ * JsonGenerator que escribe CBOR en lugar de texto JSON. JSON-B (Yasson)
+ * recorre los DTO de respuesta con los serializadores que ya usa para JSON
+ * y este generador los codifica con EscritorCbor, sin texto intermedio.
+ * 
+ * Objetos y arreglos se abren con longitud indefinida (el generador no
+ * conoce de antemano cuántos campos o elementos vendrán) y writeEnd()
+ * escribe el BREAK que los cierra.
+ * 
+ * close() no cierra el stream de destino: solo lo vacía (el stream de la
+ * respuesta lo gestiona el contenedor).
+ */
+public class GeneradorCbor implements JsonGenerator {
+
+    private final EscritorCbor cbor;
+
+    /**
+     * @param cbor Escritor sobre el stream de destino
+     */
+    public GeneradorCbor(EscritorCbor cbor) {
+        this.cbor = cbor;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject() {
+        return escribir(cbor::inicioMapaIndefinido);
+    }
+
+    @Override
+    public JsonGenerator writeStartObject(String name) {
+        return writeKey(name).writeStartObject();
+    }
+
+    @Override
+    public JsonGenerator writeKey(String name) {
+        return escribir(() -> cbor.texto(name));
+    }
+
+    @Override
+    public JsonGenerator writeStartArray() {
+        return escribir(cbor::inicioArregloIndefinido);
+    }
+
+    @Override
+    public JsonGenerator writeStartArray(String name) {
+        return writeKey(name).writeStartArray();
+    }
+
+    @Override
+    public JsonGenerator write(String name, JsonValue value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, String value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigInteger value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigDecimal value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, int value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, long value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, double value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, boolean value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator writeNull(String name) {
+        return writeKey(name).writeNull();
+    }
+
+    @Override
+    public JsonGenerator writeEnd() {
+        return escribir(cbor::fin);
+    }
+
+    @Override
+    public JsonGenerator write(JsonValue value) {
+        switch (value.getValueType()) {
+            case OBJECT -> {
+                JsonObject objeto = value.asJsonObject();
+                escribir(() -> cbor.inicioMapa(objeto.size()));
+                for (Map.Entry<String, JsonValue> campo : objeto.entrySet()) {
+                    writeKey(campo.getKey()).write(campo.getValue());
+                }
+            }
+            case ARRAY -> {
+                JsonArray arreglo = value.asJsonArray();
+                escribir(() -> cbor.inicioArreglo(arreglo.size()));
+                arreglo.forEach(this::write);
+            }
+            case STRING -> write(((JsonString) value).getString());
+            case NUMBER -> {
+                JsonNumber numero = (JsonNumber) value;
+                if (numero.isIntegral()) {
+                    write(numero.bigIntegerValue());
+                } else {
+                    write(numero.bigDecimalValue());
+                }
+            }
+            case TRUE -> write(true);
+            case FALSE -> write(false);
+            default -> writeNull();
+        }
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String value) {
+        return escribir(() -> cbor.texto(value));
+    }
+
+    @Override
+    public JsonGenerator write(BigDecimal value) {
+        return escribir(() -> cbor.decimal(value));
+    }
+
+    @Override
+    public JsonGenerator write(BigInteger value) {
+        return escribir(() -> cbor.entero(value));
+    }
+
+    @Override
+    public JsonGenerator write(int value) {
+        return escribir(() -> cbor.entero(value));
+    }
+
+    @Override
+    public JsonGenerator write(long value) {
+        return escribir(() -> cbor.entero(value));
+    }
+
+    @Override
+    public JsonGenerator write(double value) {
+        return escribir(() -> cbor.decimal(value));
+    }
+
+    @Override
+    public JsonGenerator write(boolean value) {
+        return escribir(() -> cbor.booleano(value));
+    }
+
+    @Override
+    public JsonGenerator writeNull() {
+        return escribir(cbor::nulo);
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    @Override
+    public void flush() {
+        escribir(cbor::flush);
+    }
+
+    private JsonGenerator escribir(Escritura escritura) {
+        try {
+            escritura.ejecutar();
+        } catch (IOException e) {
+            throw new JsonException("No se pudo escribir CBOR", e);
+        }
+        return this;
+    }
+
+    @FunctionalInterface
+    private interface Escritura {
+        void ejecutar() throws IOException;
+    }
+}
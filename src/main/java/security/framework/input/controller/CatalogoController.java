@@ -0,0 +1,121 @@
+package security.framework.input.controller;
+
+import jakarta.transaction.Transactional;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import security.aplication.dto.ResumenImportacion;
+import security.aplication.port.input.CatalogoInputPort;
+import security.framework.input.dto.ResumenImportacionResponseDTO;
+import security.framework.input.mapper.CatalogoInputMapper;
+import security.framework.input.mapper.CatalogoNdjsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Controlador REST: CatalogoController
+ * 
+ * Expone la exportación e importación masiva del catálogo de seguridad
+ * (módulos, pantallas, menús, perfiles y asignaciones) en formato NDJSON.
+ * 
+ * Responsabilidad:
+ * - Traducir NDJSON ↔ RegistroCatalogo (CatalogoNdjsonMapper)
+ * - Delegar al puerto de entrada CatalogoInputPort
+ * 
+ * Endpoints:
+ * - GET /catalogo/exportar: Descarga el catálogo (200 OK, application/x-ndjson, streaming)
+ * - POST /catalogo/importar: Carga un catálogo (200 OK con resumen)
+ * 
+ * Uso típico entre entornos:
+ * curl -s http://origen:8085/security/catalogo/exportar > catalogo.ndjson
+ * curl -s -X POST -H 'Content-Type: application/x-ndjson' \
+ *      --data-binary @catalogo.ndjson http://destino:8085/security/catalogo/importar
+ */
+@Path("/catalogo")
+public class CatalogoController {
+
+    /** Media type de JSON delimitado por líneas */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final CatalogoInputPort catalogoInputPort;
+    private final CatalogoNdjsonMapper catalogoNdjsonMapper;
+    private final CatalogoInputMapper catalogoInputMapper;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param catalogoInputPort Puerto de entrada de catálogo
+     * @param catalogoNdjsonMapper Conversión NDJSON ↔ RegistroCatalogo
+     * @param catalogoInputMapper Conversión del resumen a DTO
+     */
+    public CatalogoController(CatalogoInputPort catalogoInputPort,
+                              CatalogoNdjsonMapper catalogoNdjsonMapper,
+                              CatalogoInputMapper catalogoInputMapper) {
+        this.catalogoInputPort = catalogoInputPort;
+        this.catalogoNdjsonMapper = catalogoNdjsonMapper;
+        this.catalogoInputMapper = catalogoInputMapper;
+    }
+
+    /**
+     * Exporta el catálogo completo como NDJSON.
+     * 
+     * Flujo:
+     * 1. Devuelve un StreamingOutput: nada se lee de BD hasta que empieza la escritura
+     * 2. Cada fila leída por el cursor se escribe como una línea NDJSON
+     * 3. El buffer del Writer se vuelca por bloques (respuesta chunked)
+     * 
+     * La memoria usada es constante: no se materializa el catálogo.
+     * 
+     * @return Response HTTP 200 OK con cuerpo NDJSON en streaming
+     */
+    @GET
+    @Path("/exportar")
+    @Produces(APPLICATION_NDJSON)
+    public Response exportar() {
+        StreamingOutput cuerpo = salida -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+            catalogoInputPort.exportar(registro -> {
+                try {
+                    catalogoNdjsonMapper.escribir(registro, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+        return Response.ok(cuerpo)
+                .header("Content-Disposition", "attachment; filename=\"catalogo.ndjson\"")
+                .build();
+    }
+
+    /**
+     * Importa un catálogo NDJSON.
+     * 
+     * Flujo:
+     * 1. Lee el cuerpo línea a línea (sin cargarlo completo en memoria)
+     * 2. ImportarCatalogoUseCase ordena los menús padre antes que los hijos
+     * 3. CatalogoRepository inserta/actualiza por lotes JDBC
+     * 
+     * Transacción: @Transactional engloba la importación completa;
+     * cualquier error (línea inválida, padre inexistente, error SQL) la deshace.
+     * 
+     * @param cuerpo Cuerpo NDJSON
+     * @return Resumen con filas procesadas por sección
+     */
+    @POST
+    @Path("/importar")
+    @Consumes(APPLICATION_NDJSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Transactional
+    public ResumenImportacionResponseDTO importar(InputStream cuerpo) {
+        ResumenImportacion resumen = catalogoInputPort.importar(catalogoNdjsonMapper.leer(cuerpo));
+        return catalogoInputMapper.toResponseDto(resumen);
+    }
+}
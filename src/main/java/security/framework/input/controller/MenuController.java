@@ -1,10 +1,16 @@
 package security.framework.input.controller;
 
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.core.MediaType;
+import security.aplication.dto.CampoMenu;
 import security.aplication.dto.FiltroMenu;
+import security.aplication.port.input.ConsultaReactivaInputPort;
 import security.aplication.port.input.MenuInputPort;
 import security.dominio.entidades.Menu;
+import security.framework.input.cbor.CborMessageBodyWriter;
 import security.framework.input.dto.MenuRequestDTO;
 import security.framework.input.dto.MenuResponseDTO;
 import security.framework.input.mapper.MenuInputMapper;
@@ -13,6 +19,7 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Response;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Controlador REST: MenuController
@@ -35,7 +42,8 @@ import java.util.List;
  * Anotaciones:
  * - @Path("/menu"): Prefijo base para todos los endpoints
  * - @Consumes(APPLICATION_JSON): Acepta JSON en entrada
- * - @Produces(APPLICATION_JSON): Responde con JSON
+ * - @Produces(APPLICATION_JSON, application/cbor): Responde con JSON o, con
+ *   Accept: application/cbor, con CBOR (CborMessageBodyWriter)
  * - @POST, @GET, @PUT: Métodos HTTP soportados
  * - @Transactional: Demarca transacciones de BD
  * - @Valid: Valida DTOs con Jakarta Validation
@@ -45,15 +53,29 @@ import java.util.List;
  * - POST /menu/buscar: Buscar menús con filtros (200 OK)
  * - GET /menu/idmenu/{id}: Obtener menú por ID (200 OK)
  * - PUT /menu/idmenu/{id}: Actualizar menú (200 OK)
+ * 
+ * Parámetro opcional ?detalle=true (buscar e idmenu):
+ * Devuelve además nombrePantalla, urlPantalla y nombreModulo resueltos
+ * en una única consulta con JOIN, evitando llamadas a /pantalla y /modulo por fila.
+ * 
+ * Lecturas no bloqueantes:
+ * POST /menu/buscar y GET /menu/idmenu/{id} devuelven Uni y se ejecutan
+ * en el event loop sobre el cliente reactivo PostgreSQL (ConsultaReactivaInputPort,
+ * cuyos Flow.Publisher / CompletionStage se adaptan aquí a Mutiny).
+ * Las escrituras siguen bloqueantes con Hibernate ORM y @Transactional, en hilos
+ * virtuales (@RunOnVirtualThread) en lugar del pool de workers.
  */
 @Path("/menu")
 @Consumes(MediaType.APPLICATION_JSON)
-@Produces(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
 public class MenuController {
 
     /** Puerto de entrada para casos de uso de menús */
     private final MenuInputPort menuInputPort;
     
+    /** Puerto de entrada para lecturas no bloqueantes */
+    private final ConsultaReactivaInputPort consultaReactivaInputPort;
+    
     /** Mapper para conversiones MenuRequestDTO ↔ MenuResponseDTO ↔ Menu */
     private final MenuInputMapper menuInputMapper;
 
@@ -62,10 +84,13 @@ public class MenuController {
      * CDI automáticamente inyecta el puerto y mapper.
      * 
      * @param personaService Puerto MenuInputPort (inyectado por CDI)
+     * @param consultaReactivaInputPort Puerto de lecturas no bloqueantes (inyectado por CDI)
      * @param menuInputMapper Mapper de entrada (inyectado por CDI)
      */
-    public MenuController(MenuInputPort personaService, MenuInputMapper menuInputMapper) {
+    public MenuController(MenuInputPort personaService, ConsultaReactivaInputPort consultaReactivaInputPort,
+                          MenuInputMapper menuInputMapper) {
         this.menuInputPort = personaService;
+        this.consultaReactivaInputPort = consultaReactivaInputPort;
         this.menuInputMapper = menuInputMapper;
     }
 
@@ -107,6 +132,7 @@ public class MenuController {
      */
     @POST
     @Transactional
+    @RunOnVirtualThread
     public Response crear(@Valid MenuRequestDTO dto) {
 
         //USUARIO A DOMINIO
@@ -128,17 +154,25 @@ public class MenuController {
      * Flujo:
      * 1. Recibe MenuRequestDTO con criterios de búsqueda
      * 2. Convierte a FiltroMenu (DTO de dominio)
-     * 3. Delega a menuInputPort.buscarPorFiltros()
-     * 4. Mapea cada Menu → MenuResponseDTO
-     * 5. Retorna HTTP 200 OK con lista de resultados
+     * 3. Delega a consultaReactivaInputPort.buscarMenusPorFiltros() (no bloqueante)
+     * 4. Mapea cada Menu → MenuResponseDTO a medida que llegan las filas y
+     *    reúne la lista (JSON o CBOR según Accept)
+     * 5. Retorna HTTP 200 OK con el array JSON de resultados
      * 
      * Filtros soportados:
      * - nombre: búsqueda parcial insensible a mayúsculas
      * - codModulo: filtro por módulo
      * - estado: filtro por estado (ACTIVO/INACTIVO)
      * 
+     * Proyección (?fields=id,nombre): solo esos campos se leen en el SELECT,
+     * se mapean y se serializan (lista blanca CampoMenu; un campo desconocido
+     * es HTTP 400). Con fields, detalle se ignora: los campos de detalle
+     * (nombrePantalla, urlPantalla, nombreModulo) se piden en la propia lista.
+     * 
      * @param dto MenuRequestDTO con criterios de búsqueda
-     * @return Response HTTP 200 OK con List<MenuResponseDTO>
+     * @param detalle true para incluir pantalla y módulo (un único JOIN)
+     * @param fields Campos a devolver separados por comas (opcional)
+     * @return Uni con la lista de MenuResponseDTO
      * 
      * Ejemplo Request:
      * POST /menu/buscar
@@ -153,16 +187,25 @@ public class MenuController {
      *   { "id": 42, "nombre": "Gestión de Usuarios", "estado": "ACTIVO" },
      *   { "id": 43, "nombre": "Reportes Usuarios", "estado": "ACTIVO" }
      * ]
+     * 
+     * Ejemplo con proyección:
+     * POST /menu/buscar?fields=id,nombre → [ { "id": 42, "nombre": "Gestión de Usuarios" } ]
      */
     @POST
     @Path("/buscar")
-    public Response buscarPorFiltros( MenuRequestDTO dto) {
+    public Uni<List<MenuResponseDTO>> buscarPorFiltros( MenuRequestDTO dto,
+                                      @QueryParam("detalle") @DefaultValue("false") boolean detalle,
+                                      @QueryParam("fields") String fields) {
         FiltroMenu filtro = menuInputMapper.toFiltro(dto);
-        List<Menu> menus = menuInputPort.buscarPorFiltros(filtro);
-        List<MenuResponseDTO> response = menus.stream()
+        if (fields != null) {
+            Set<CampoMenu> campos = CampoMenu.parsear(fields);
+            return Multi.createFrom().publisher(consultaReactivaInputPort.buscarMenusPorFiltros(filtro, campos))
+                    .map(menu -> menuInputMapper.toResponseDto(menu, campos))
+                    .collect().asList();
+        }
+        return Multi.createFrom().publisher(consultaReactivaInputPort.buscarMenusPorFiltros(filtro, detalle))
                 .map(menuInputMapper::toResponseDto)
-                .toList();
-        return Response.ok(response).build();
+                .collect().asList();
     }
 
     /**
@@ -170,17 +213,18 @@ public class MenuController {
      * 
      * Flujo:
      * 1. Extrae ID de la ruta (/menu/idmenu/{id})
-     * 2. Delega a menuInputPort.buscarPorId(id)
-     * 3. Si no existe, lanza SecurityNotFoundException → HTTP 404
+     * 2. Delega a consultaReactivaInputPort.buscarMenuPorId(id) (no bloqueante)
+     * 3. Si no existe, el Uni falla con SecurityNotFoundException → HTTP 404
      * 4. Mapea Menu → MenuResponseDTO
      * 5. Retorna HTTP 200 OK con el menú
      * 
      * @param id ID del menú a recuperar (de ruta)
-     * @return MenuResponseDTO serializable a JSON
+     * @param detalle true para incluir pantalla y módulo (un único JOIN)
+     * @return Uni<MenuResponseDTO> serializable a JSON
      * @throws SecurityNotFoundException si no existe menú con ese ID
      * 
      * Ejemplo Request:
-     * GET /menu/idmenu/42
+     * GET /menu/idmenu/42?detalle=true
      * 
      * Ejemplo Response (200):
      * {
@@ -200,9 +244,10 @@ public class MenuController {
      */
     @GET
     @Path("/idmenu/{idmenu}")
-    public MenuResponseDTO buscarPorId(@PathParam("idmenu") Long id) {
-        Menu menu = menuInputPort.buscarPorId(id);
-        return menuInputMapper.toResponseDto(menu);
+    public Uni<MenuResponseDTO> buscarPorId(@PathParam("idmenu") Long id,
+                                            @QueryParam("detalle") @DefaultValue("false") boolean detalle) {
+        return Uni.createFrom().completionStage(() -> consultaReactivaInputPort.buscarMenuPorId(id, detalle))
+                .map(menuInputMapper::toResponseDto);
     }
 
     /**
@@ -242,6 +287,7 @@ public class MenuController {
     @PUT
     @Path("/idmenu/{idmenu}")
     @Transactional
+    @RunOnVirtualThread
     public MenuResponseDTO actualizar(@PathParam("idmenu") Long id,
                                          @Valid MenuRequestDTO dto ) {
         Menu datosNuevos = menuInputMapper.toDomain(dto);
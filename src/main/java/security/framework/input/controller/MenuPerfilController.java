@@ -1,42 +1,114 @@
 package security.framework.input.controller;
 
+import io.netty.buffer.Unpooled;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.GenericEntity;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Variant;
 import security.aplication.dto.MenuJerarquico;
+import security.aplication.port.input.ConsultaReactivaInputPort;
 import security.aplication.port.input.MenuPerfilInputPort;
 import security.dominio.entidades.MenuPerfil;
+import security.framework.config.ContextoLectura;
+import security.framework.input.cbor.CborMessageBodyWriter;
 import security.framework.input.dto.MenuJerarquicoResponseDTO;
 import security.framework.input.dto.MenuPerfilRequestDTO;
 import security.framework.input.dto.MenuPerfilResponseDTO;
+import security.framework.input.dto.MenuPlanoResponseDTO;
+import security.framework.input.filter.Precomprimible;
+import security.framework.input.filter.PresupuestoSql;
 import security.framework.input.mapper.MenuJerarquicoMapper;
 import security.framework.input.mapper.MenuPerfilInputMapper;
+import security.framework.input.mapper.MenuPlanoMapper;
+import security.framework.output.cache.AlmacenPayloadsOffHeap;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Controlador REST: MenuPerfilController
  * 
  * Endpoints para gestión de relaciones menú-perfil.
+ * 
+ * GET /menu-perfil/jerarquico/perfil/{perfilId} es no bloqueante (Uni):
+ * se resuelve en el event loop con el cliente reactivo PostgreSQL.
+ * El resto de endpoints son bloqueantes y se ejecutan en hilos virtuales
+ * (@RunOnVirtualThread).
+ * 
+ * El árbol jerárquico se responde como JSON ya renderizado: con
+ * security.cache.payload.enabled=true el payload se guarda fuera del heap
+ * (AlmacenPayloadsOffHeap) y las siguientes respuestas se escriben desde
+ * esa memoria directa sin copiarla a arrays del heap ni volver a serializar.
+ * Con Accept: application/vnd.security.menu-plano+json se responde el mismo
+ * árbol como arreglos paralelos (MenuPlanoResponseDTO).
+ * 
+ * Con Accept: application/cbor todas las respuestas se codifican en CBOR
+ * (CborMessageBodyWriter), con la misma forma que el JSON.
+ * 
+ * Los GET por perfil son @Precomprimible: a los clientes que aceptan gzip
+ * se les responde desde CacheRespuestasComprimidas; el JSON sin comprimir
+ * del árbol sale de AlmacenPayloadsOffHeap.
+ * 
+ * Trazas: el span HTTP lo abre Quarkus; aquí se le añade security.perfilId
+ * (y security.origen=payload si el JSON sale de memoria directa), y la
+ * serialización JSON-B es un span propio (MenuPerfilController.serializar)
+ * con security.bytes.
  */
 @Path("/menu-perfil")
-@Produces(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
 @Consumes(MediaType.APPLICATION_JSON)
 public class MenuPerfilController {
     
+    private static final MediaType TIPO_PLANO = MediaType.valueOf(MenuPlanoResponseDTO.MEDIA_TYPE);
+    private static final MediaType TIPO_CBOR = MediaType.valueOf(CborMessageBodyWriter.APPLICATION_CBOR);
+    /** Formatos del árbol; ante igual preferencia gana el primero (JSON) */
+    private static final List<Variant> FORMATOS_ARBOL = Variant.mediaTypes(
+            MediaType.APPLICATION_JSON_TYPE, TIPO_PLANO, TIPO_CBOR).build();
+    
     private final MenuPerfilInputPort menuPerfilInputPort;
+    private final ConsultaReactivaInputPort consultaReactivaInputPort;
     private final MenuPerfilInputMapper mapper;
     private final MenuJerarquicoMapper menuJerarquicoMapper;
+    private final MenuPlanoMapper menuPlanoMapper;
+    private final AlmacenPayloadsOffHeap almacenPayloads;
+    private final ContextoLectura contextoLectura;
+    private final Jsonb jsonb;
+    private final Tracer tracer;
     
     @Inject
     public MenuPerfilController(MenuPerfilInputPort menuPerfilInputPort,
+                                ConsultaReactivaInputPort consultaReactivaInputPort,
                                 MenuPerfilInputMapper mapper,
-                                MenuJerarquicoMapper menuJerarquicoMapper) {
+                                MenuJerarquicoMapper menuJerarquicoMapper,
+                                MenuPlanoMapper menuPlanoMapper,
+                                AlmacenPayloadsOffHeap almacenPayloads,
+                                ContextoLectura contextoLectura,
+                                Jsonb jsonb,
+                                Tracer tracer) {
         this.menuPerfilInputPort = menuPerfilInputPort;
+        this.consultaReactivaInputPort = consultaReactivaInputPort;
         this.mapper = mapper;
         this.menuJerarquicoMapper = menuJerarquicoMapper;
+        this.menuPlanoMapper = menuPlanoMapper;
+        this.almacenPayloads = almacenPayloads;
+        this.contextoLectura = contextoLectura;
+        this.jsonb = jsonb;
+        this.tracer = tracer;
     }
     
     /**
@@ -44,6 +116,7 @@ public class MenuPerfilController {
      * Asigna un menú a un perfil
      */
     @POST
+    @RunOnVirtualThread
     public Response asignar(MenuPerfilRequestDTO dto) {
         // Convertir DTO a entidad de dominio (respetando arquitectura hexagonal)
         MenuPerfil menuPerfilDomain = mapper.toDomain(dto);
@@ -65,6 +138,8 @@ public class MenuPerfilController {
      */
     @GET
     @Path("/perfil/{perfilId}")
+    @Precomprimible
+    @RunOnVirtualThread
     public Response buscarPorPerfil(@PathParam("perfilId") Long perfilId) {
         List<MenuPerfil> menus = menuPerfilInputPort.buscarPorPerfil(BigInteger.valueOf(perfilId));
         List<MenuPerfilResponseDTO> response = mapper.toResponseDtoList(menus);
@@ -77,6 +152,7 @@ public class MenuPerfilController {
      */
     @DELETE
     @Path("/menu/{menuId}/perfil/{perfilId}")
+    @RunOnVirtualThread
     public Response remover(
         @PathParam("menuId") Long menuId,
         @PathParam("perfilId") Long perfilId
@@ -91,16 +167,115 @@ public class MenuPerfilController {
     /**
      * GET /menu-perfil/jerarquico/perfil/{perfilId}
      * Obtiene estructura jerárquica de menús para un perfil
+     * 
+     * Formato según Accept (un solo método: la elección no depende de cómo
+     * desempate JAX-RS entre métodos con Accept: *&#47;*):
+     * - application/cbor: árbol anidado en CBOR
+     * - application/vnd.security.menu-plano+json: arreglos paralelos
+     * - application/json: árbol anidado en JSON (por defecto)
+     * La elección es Request.selectVariant: respeta los q-values y los
+     * comodines (application/cbor;q=0.1, application/json elige JSON;
+     * q=0 excluye el tipo); sin Accept o con *&#47;* se responde JSON.
+     * 
+     * Presupuesto: una sola consulta a vw_menu_perfil (ninguna si el árbol
+     * está en caché).
      */
     @GET
     @Path("/jerarquico/perfil/{perfilId}")
-    public Response obtenerMenusJerarquicos(@PathParam("perfilId") Long perfilId) {
-        // Llamar al puerto de entrada (retorna DTO de aplicación)
-        List<MenuJerarquico> menusApp = menuPerfilInputPort.obtenerMenusJerarquicos(perfilId);
-        
-        // Convertir DTO de aplicación a DTO de framework
-        List<MenuJerarquicoResponseDTO> response = menuJerarquicoMapper.toResponseDtoList(menusApp);
-        
-        return Response.ok(response).build();
+    @Precomprimible
+    @PresupuestoSql(sentencias = 1)
+    @Produces({MediaType.APPLICATION_JSON, MenuPlanoResponseDTO.MEDIA_TYPE, CborMessageBodyWriter.APPLICATION_CBOR})
+    public Uni<Response> obtenerMenusJerarquicos(@PathParam("perfilId") Long perfilId,
+                                                 @Context Request solicitud) {
+        Span.current().setAttribute("security.perfilId", perfilId);
+        Variant formato = solicitud.selectVariant(FORMATOS_ARBOL);
+        MediaType tipo = formato == null ? MediaType.APPLICATION_JSON_TYPE : formato.getMediaType();
+        if (TIPO_CBOR.equals(tipo)) {
+            return obtenerMenusCbor(perfilId);
+        }
+        if (TIPO_PLANO.equals(tipo)) {
+            return obtenerMenusPlanos(perfilId);
+        }
+        return obtenerMenusJson(perfilId)
+                .map(json -> Response.ok(json, MediaType.APPLICATION_JSON_TYPE).build());
+    }
+    
+    /**
+     * Árbol anidado en JSON.
+     * 
+     * Flujo:
+     * 1. Si el payload del perfil está en AlmacenPayloadsOffHeap, se responde desde ahí
+     * 2. Si no, se consulta el puerto reactivo (en el primario si el payload se
+     *    va a guardar: una réplica retrasada lo dejaría obsoleto hasta la
+     *    siguiente invalidación), se convierte a DTO de framework y se
+     *    serializa con JSON-B (el mismo serializador que el resto de endpoints)
+     * 3. El JSON se copia una vez a memoria directa y se responde desde ella
+     */
+    private Uni<Buffer> obtenerMenusJson(Long perfilId) {
+        Optional<ByteBuffer> guardado = almacenPayloads.obtener(perfilId);
+        if (guardado.isPresent()) {
+            Span.current().setAttribute("security.origen", "payload");
+            return Uni.createFrom().item(envolver(guardado.get()));
+        }
+        if (almacenPayloads.isHabilitado()) {
+            contextoLectura.usarPrimario();
+        }
+        long generacion = almacenPayloads.generacion();
+        return menusJerarquicos(perfilId)
+                .map(menuJerarquicoMapper::toResponseDtoList)
+                .map(this::serializar)
+                .map(json -> envolver(almacenPayloads.guardar(perfilId, json, generacion)));
+    }
+    
+    /**
+     * Árbol como arreglos paralelos (MenuPlanoResponseDTO).
+     * 
+     * Mismo árbol que el JSON anidado, sin nombres de campo ni iconos
+     * repetidos por nodo; el cliente lo reconstruye en una pasada.
+     */
+    private Uni<Response> obtenerMenusPlanos(Long perfilId) {
+        return menusJerarquicos(perfilId)
+                .map(menuPlanoMapper::toPlano)
+                .map(plano -> Buffer.buffer(jsonb.toJson(plano).getBytes(StandardCharsets.UTF_8)))
+                .map(json -> Response.ok(json, MenuPlanoResponseDTO.MEDIA_TYPE).build());
+    }
+    
+    /**
+     * Árbol anidado en CBOR (CborMessageBodyWriter).
+     */
+    private Uni<Response> obtenerMenusCbor(Long perfilId) {
+        return menusJerarquicos(perfilId)
+                .map(menuJerarquicoMapper::toResponseDtoList)
+                .map(dtos -> Response.ok(new GenericEntity<List<MenuJerarquicoResponseDTO>>(dtos) { },
+                        CborMessageBodyWriter.APPLICATION_CBOR).build());
+    }
+    
+    /**
+     * Árbol de menús del puerto de entrada como Uni; el puerto se invoca
+     * al suscribirse.
+     */
+    private Uni<List<MenuJerarquico>> menusJerarquicos(Long perfilId) {
+        return Uni.createFrom().completionStage(() -> consultaReactivaInputPort.obtenerMenusJerarquicos(perfilId));
+    }
+    
+    /**
+     * Serializa con JSON-B dentro de su propio span.
+     */
+    private byte[] serializar(Object dtos) {
+        Span span = tracer.spanBuilder("MenuPerfilController.serializar").startSpan();
+        try (Scope alcance = span.makeCurrent()) {
+            byte[] json = jsonb.toJson(dtos).getBytes(StandardCharsets.UTF_8);
+            span.setAttribute("security.bytes", json.length);
+            return json;
+        } finally {
+            span.end();
+        }
+    }
+    
+    /**
+     * Envuelve memoria directa en un Buffer de Vert.x sin copiarla.
+     */
+    private static Buffer envolver(ByteBuffer payload) {
+        return BufferImpl.buffer(Unpooled.wrappedBuffer(payload));
     }
 }
\ No newline at end of file
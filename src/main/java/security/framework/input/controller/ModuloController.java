@@ -1,14 +1,20 @@
 package security.framework.input.controller;
 
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import security.aplication.port.input.ConsultaReactivaInputPort;
 import security.aplication.port.input.ModuloInputPort;
 import security.dominio.entidades.Modulo;
+import security.framework.input.cbor.CborMessageBodyWriter;
 import security.framework.input.dto.ModuloRequestDTO;
 import security.framework.input.dto.ModuloResponseDTO;
+import security.framework.input.filter.Precomprimible;
 import security.framework.input.mapper.ModuloInputMapper;
 
 import java.util.List;
@@ -17,19 +23,28 @@ import java.util.List;
  * Controlador REST: ModuloController
  * 
  * Expone endpoints HTTP para operaciones CRUD de módulos.
+ * 
+ * GET /modulo es no bloqueante (Uni) sobre el cliente reactivo PostgreSQL y
+ * @Precomprimible: se responde desde CacheRespuestasComprimidas hasta el
+ * próximo cambio.
+ * El resto de endpoints son bloqueantes y se ejecutan en hilos virtuales
+ * (@RunOnVirtualThread).
  */
 @Path("/modulo")
-@Produces(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
 @Consumes(MediaType.APPLICATION_JSON)
 public class ModuloController {
     
     private final ModuloInputMapper moduloInputMapper;
     private final ModuloInputPort moduloInputPort;
+    private final ConsultaReactivaInputPort consultaReactivaInputPort;
 
     @Inject
-    public ModuloController(ModuloInputMapper moduloInputMapper, ModuloInputPort moduloInputPort) {
+    public ModuloController(ModuloInputMapper moduloInputMapper, ModuloInputPort moduloInputPort,
+                            ConsultaReactivaInputPort consultaReactivaInputPort) {
         this.moduloInputMapper = moduloInputMapper;
         this.moduloInputPort = moduloInputPort;
+        this.consultaReactivaInputPort = consultaReactivaInputPort;
     }
 
     /**
@@ -61,6 +76,7 @@ public class ModuloController {
      */
     @POST
     @Transactional
+    @RunOnVirtualThread
     public Response crear(ModuloRequestDTO dto) {
         // 1. Mapear DTO request → entidad dominio
         Modulo modulo = moduloInputMapper.toDomain(dto);
@@ -84,6 +100,7 @@ public class ModuloController {
      */
     @GET
     @Path("/{id}")
+    @RunOnVirtualThread
     public Response buscarPorId(@PathParam("id") Long id) {
         Modulo modulo = moduloInputPort.buscarPorId(id);
         ModuloResponseDTO response = moduloInputMapper.toResponseDto(modulo);
@@ -95,10 +112,11 @@ public class ModuloController {
      * Obtiene todos los módulos
      */
     @GET
-    public Response obtenerTodos() {
-        List<Modulo> modulos = moduloInputPort.obtenerTodas();
-        List<ModuloResponseDTO> response = moduloInputMapper.toResponseDtoList(modulos);
-        return Response.ok(response).build();
+    @Precomprimible
+    public Uni<List<ModuloResponseDTO>> obtenerTodos() {
+        return Multi.createFrom().publisher(consultaReactivaInputPort.obtenerModulos())
+                .map(moduloInputMapper::toResponseDto)
+                .collect().asList();
     }
     
     /**
@@ -108,6 +126,7 @@ public class ModuloController {
     @PUT
     @Path("/{id}")
     @Transactional
+    @RunOnVirtualThread
     public Response actualizar(@PathParam("id") Long id, ModuloRequestDTO dto) {
         Modulo modulo = moduloInputMapper.toDomain(dto);
         Modulo moduloActualizado = moduloInputPort.acualizar(id, modulo);
@@ -122,6 +141,7 @@ public class ModuloController {
     @DELETE
     @Path("/{id}")
     @Transactional
+    @RunOnVirtualThread
     public Response eliminar(@PathParam("id") Long id) {
         moduloInputPort.eliminar(id);
         return Response.noContent().build();
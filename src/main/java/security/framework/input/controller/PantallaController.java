@@ -1,11 +1,13 @@
 package security.framework.input.controller;
 
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import security.framework.input.cbor.CborMessageBodyWriter;
 import security.framework.input.dto.PantallaRequestDTO;
 import security.framework.input.dto.PantallaResponseDTO;
 import security.aplication.port.input.PantallaInputPort;
@@ -54,12 +56,15 @@ import security.framework.input.mapper.PantallaInputMapper;
  * - 400 Bad Request: Datos inválidos
  * - 500 Internal Server Error: Error interno
  * 
+ * Endpoints bloqueantes en hilos virtuales (@RunOnVirtualThread).
+ * 
  * @author Security Team
  * @version 1.0
  */
 @Path("/pantalla")
+@RunOnVirtualThread
 @Consumes(MediaType.APPLICATION_JSON)
-@Produces(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
 public class PantallaController {
 
     private final PantallaInputPort pantallaInputPort;
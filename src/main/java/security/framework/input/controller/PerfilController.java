@@ -1,5 +1,6 @@
 package security.framework.input.controller;
 
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
@@ -8,6 +9,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import security.aplication.port.input.PerfilInputPort;
 import security.dominio.entidades.Perfil;
+import security.framework.input.cbor.CborMessageBodyWriter;
 import security.framework.input.dto.PerfilRequestDTO;
 import security.framework.input.dto.PerfilResponseDTO;
 import security.framework.input.mapper.PerfilInputMapper;
@@ -55,12 +57,15 @@ import java.math.BigInteger;
  * - 400 Bad Request: Datos inválidos
  * - 500 Internal Server Error: Error interno
  * 
+ * Se ejecuta en hilos virtuales (@RunOnVirtualThread).
+ * 
  * @author Security Team
  * @version 1.0
  */
 @Path("/perfil")
+@RunOnVirtualThread
 @Consumes(MediaType.APPLICATION_JSON)
-@Produces(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, CborMessageBodyWriter.APPLICATION_CBOR})
 public class PerfilController {
 
     private final PerfilInputPort perfilInputPort;
@@ -0,0 +1,89 @@
+package security.framework.input.controller;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import security.framework.config.SqlConfig;
+import security.framework.output.sql.EstadisticaSql;
+import security.framework.output.sql.PerfiladorSql;
+
+/**
+ * Controlador REST: PerfilSqlController
+ * 
+ * Administración del perfil de sentencias SQL (PerfiladorSql).
+ * 
+ * Endpoints:
+ * - GET /perfil-sql?top= (200 OK): huellas con más tiempo total, de mayor a
+ *   menor; top por defecto security.sql.perfil.top
+ * - DELETE /perfil-sql (204 No Content): descarta lo acumulado
+ * 
+ * Acceso: solo con security.sql.perfil.endpoint=true; si no, ambos
+ * responden 404 como si la ruta no existiera (el perfil se sigue
+ * acumulando y el log de sentencias lentas no cambia).
+ * 
+ * Respuesta:
+ * {"huellas":57,"top":[{"huella":"select ... where m.id=?","ejecuciones":1200,
+ *  "totalMs":840.5,"maximoMs":12.1,"medioMs":0.7,"filas":1200},..]}
+ */
+@Path("/perfil-sql")
+public class PerfilSqlController {
+
+    private final PerfiladorSql perfiladorSql;
+    private final SqlConfig config;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param perfiladorSql Perfil de sentencias por huella
+     * @param config Configuración (top por defecto)
+     */
+    public PerfilSqlController(PerfiladorSql perfiladorSql, SqlConfig config) {
+        this.perfiladorSql = perfiladorSql;
+        this.config = config;
+    }
+
+    /**
+     * @param top Huellas a devolver (opcional)
+     * @return 200 OK con el top por tiempo total, o 404 si está deshabilitado
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response top(@QueryParam("top") Integer top) {
+        if (!config.perfil().endpoint()) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        JsonArrayBuilder sentencias = Json.createArrayBuilder();
+        for (EstadisticaSql.Resumen resumen : perfiladorSql.top(top == null ? config.perfil().top() : Math.max(top, 0))) {
+            sentencias.add(Json.createObjectBuilder()
+                    .add("huella", resumen.huella())
+                    .add("ejecuciones", resumen.ejecuciones())
+                    .add("totalMs", resumen.totalMs())
+                    .add("maximoMs", resumen.maximoMs())
+                    .add("medioMs", resumen.medioMs())
+                    .add("filas", resumen.filas()));
+        }
+        return Response.ok(Json.createObjectBuilder()
+                .add("huellas", perfiladorSql.huellas())
+                .add("top", sentencias)
+                .build()
+                .toString()).build();
+    }
+
+    /**
+     * @return 204 No Content, o 404 si está deshabilitado
+     */
+    @DELETE
+    public Response reiniciar() {
+        if (!config.perfil().endpoint()) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        perfiladorSql.reiniciar();
+        return Response.noContent().build();
+    }
+}
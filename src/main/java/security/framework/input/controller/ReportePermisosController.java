@@ -0,0 +1,192 @@
+package security.framework.input.controller;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import security.aplication.dto.FilaMatrizPermisos;
+import security.aplication.dto.MenuMatriz;
+import security.aplication.port.input.ReportePermisosInputPort;
+import security.dominio.exceptions.SecurityValidationException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controlador REST: ReportePermisosController
+ * 
+ * Reportes de auditoría sobre permisos de perfiles.
+ * 
+ * Responsabilidad:
+ * - Serializar la matriz perfil × menú en CSV o NDJSON
+ * - Delegar al puerto de entrada ReportePermisosInputPort
+ * 
+ * Endpoints:
+ * - GET /reporte/matriz-permisos?modulo=&formato=csv|ndjson (200 OK, streaming)
+ * 
+ * Formatos:
+ * - csv: una columna por menú ("id - nombre") y una fila por perfil, "X" donde hay acceso
+ * - ndjson: una línea por perfil {"perfilId":..,"perfil":"..","menus":[..]}
+ * 
+ * Solo aparecen los perfiles con al menos un acceso dentro del filtro.
+ * La memoria es proporcional al número de menús, no al de perfiles:
+ * cada fila se escribe y se descarta en cuanto se completa.
+ */
+@Path("/reporte")
+public class ReportePermisosController {
+
+    private static final String FORMATO_CSV = "csv";
+    private static final String FORMATO_NDJSON = "ndjson";
+    private static final String TEXT_CSV = "text/csv; charset=UTF-8";
+
+    private final ReportePermisosInputPort reportePermisosInputPort;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param reportePermisosInputPort Puerto de entrada de reportes
+     */
+    public ReportePermisosController(ReportePermisosInputPort reportePermisosInputPort) {
+        this.reportePermisosInputPort = reportePermisosInputPort;
+    }
+
+    /**
+     * Descarga la matriz de acceso perfil × menú.
+     * 
+     * Flujo:
+     * 1. Valida el formato solicitado
+     * 2. Devuelve un StreamingOutput: la consulta se ejecuta al escribir la respuesta
+     * 3. Cada fila de perfil se escribe en cuanto el recorrido cambia de perfil
+     * 
+     * @param modulo Módulo a filtrar (opcional)
+     * @param formato csv (por defecto) o ndjson
+     * @return Response HTTP 200 OK con cuerpo en streaming (chunked)
+     */
+    @GET
+    @Path("/matriz-permisos")
+    public Response matrizPermisos(@QueryParam("modulo") BigInteger modulo,
+                                   @QueryParam("formato") @DefaultValue(FORMATO_CSV) String formato) {
+        boolean csv = FORMATO_CSV.equalsIgnoreCase(formato);
+        if (!csv && !FORMATO_NDJSON.equalsIgnoreCase(formato)) {
+            throw new SecurityValidationException("formato", "Formato no soportado: " + formato + " (csv | ndjson)");
+        }
+
+        StreamingOutput cuerpo = salida -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+            if (csv) {
+                escribirCsv(modulo, writer);
+            } else {
+                escribirNdjson(modulo, writer);
+            }
+            writer.flush();
+        };
+        String nombreArchivo = "matriz-permisos" + (modulo != null ? "-" + modulo : "") + "." + (csv ? "csv" : "ndjson");
+        return Response.ok(cuerpo, csv ? TEXT_CSV : CatalogoController.APPLICATION_NDJSON)
+                .header("Content-Disposition", "attachment; filename=\"" + nombreArchivo + "\"")
+                .build();
+    }
+
+    /**
+     * Escribe la matriz en CSV ancho.
+     */
+    private void escribirCsv(BigInteger modulo, Writer writer) {
+        EscritorCsv escritor = new EscritorCsv(writer);
+        reportePermisosInputPort.generarMatriz(modulo, escritor::cabecera, escritor::fila);
+    }
+
+    /**
+     * Escribe la matriz como NDJSON, una línea por perfil.
+     */
+    private void escribirNdjson(BigInteger modulo, Writer writer) {
+        reportePermisosInputPort.generarMatriz(modulo, menus -> { }, fila -> {
+            JsonArrayBuilder menus = Json.createArrayBuilder();
+            fila.menuIds().forEach(menus::add);
+            String linea = Json.createObjectBuilder()
+                    .add("perfilId", fila.perfilId())
+                    .add("perfil", fila.nombrePerfil() != null ? fila.nombrePerfil() : "")
+                    .add("menus", menus)
+                    .build()
+                    .toString();
+            escribir(writer, linea + "\n");
+        });
+    }
+
+    private static void escribir(Writer writer, CharSequence texto) {
+        try {
+            writer.append(texto);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Escritor CSV de la matriz.
+     * 
+     * La cabecera fija el orden de columnas y construye el índice menuId → columna;
+     * cada fila marca sus menús en un arreglo reutilizado del tamaño de la cabecera.
+     */
+    private static final class EscritorCsv {
+
+        private final Writer writer;
+        private final Map<Long, Integer> columnas = new HashMap<>();
+        private boolean[] marcas = new boolean[0];
+
+        EscritorCsv(Writer writer) {
+            this.writer = writer;
+        }
+
+        void cabecera(List<MenuMatriz> menus) {
+            StringBuilder linea = new StringBuilder("perfil_id,perfil");
+            for (int i = 0; i < menus.size(); i++) {
+                MenuMatriz menu = menus.get(i);
+                columnas.put(menu.menuId(), i);
+                linea.append(',').append(celda(menu.menuId() + " - " + menu.nombre()));
+            }
+            marcas = new boolean[menus.size()];
+            escribir(writer, linea.append("\r\n"));
+        }
+
+        void fila(FilaMatrizPermisos fila) {
+            Arrays.fill(marcas, false);
+            for (Long menuId : fila.menuIds()) {
+                Integer posicion = columnas.get(menuId);
+                if (posicion != null) {
+                    marcas[posicion] = true;
+                }
+            }
+            StringBuilder linea = new StringBuilder(32 + marcas.length * 2)
+                    .append(fila.perfilId()).append(',').append(celda(fila.nombrePerfil()));
+            for (boolean marca : marcas) {
+                linea.append(marca ? ",X" : ",");
+            }
+            escribir(writer, linea.append("\r\n"));
+        }
+
+        /**
+         * Escapa una celda según RFC 4180.
+         */
+        private static String celda(String valor) {
+            if (valor == null) {
+                return "";
+            }
+            if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0
+                    && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+                return valor;
+            }
+            return '"' + valor.replace("\"", "\"\"") + '"';
+        }
+    }
+}
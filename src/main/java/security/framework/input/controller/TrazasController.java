@@ -0,0 +1,50 @@
+package security.framework.input.controller;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import security.framework.output.trazas.ExportadorTrazasMemoria;
+import security.framework.output.trazas.SpanJson;
+
+/**
+ * Controlador REST: TrazasController
+ * 
+ * Consulta de los spans recientes del exportador en memoria
+ * (security.trazas.exportador=memoria), sin colector externo.
+ * 
+ * Endpoints:
+ * - GET /trazas?traceId= (200 OK): spans del más antiguo al más reciente,
+ *   en el formato de SpanJson; sin traceId, todos los conservados
+ * 
+ * Con otro exportador la lista está vacía.
+ */
+@Path("/trazas")
+public class TrazasController {
+
+    private final ExportadorTrazasMemoria exportador;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param exportador Búfer de spans recientes
+     */
+    public TrazasController(ExportadorTrazasMemoria exportador) {
+        this.exportador = exportador;
+    }
+
+    /**
+     * @param traceId Traza a consultar (opcional)
+     * @return Arreglo JSON de spans
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public String recientes(@QueryParam("traceId") String traceId) {
+        JsonArrayBuilder spans = Json.createArrayBuilder();
+        exportador.recientes(traceId).forEach(span -> spans.add(SpanJson.aJson(span)));
+        return spans.build().toString();
+    }
+}
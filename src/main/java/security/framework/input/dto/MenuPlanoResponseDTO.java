@@ -0,0 +1,64 @@
+package security.framework.input.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO de Salida: MenuPlanoResponseDTO
+ * 
+ * Árbol de menús de un perfil como arreglos paralelos (formato plano), para
+ * clientes que lo piden con Accept: application/vnd.security.menu-plano+json.
+ * 
+ * Frente a MenuJerarquicoResponseDTO no repite nombres de campo ni el icono
+ * en cada nodo: el icono se deduce de url (con url → "pi pi-fw pi-desktop",
+ * sin url → "pi pi-fw pi-folder") y routerLink es [url].
+ * 
+ * Orden de los nodos: preorden (cada padre antes que sus hijos, hermanos
+ * ordenados por orden), así el cliente reconstruye el árbol en una sola
+ * pasada: nodo[i] se agrega a nodo[padre[i]].items, o a la raíz si padre[i] = -1.
+ * 
+ * Ejemplo JSON:
+ * {
+ *   "codigo": [7, 1, 2],
+ *   "padre": [-1, 0, 0],
+ *   "orden": [1, 10, 20],
+ *   "label": ["7-Administración", "1-Usuarios", "2-Perfiles"],
+ *   "url": [null, "/admin/usuarios", "/admin/perfiles"]
+ * }
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuPlanoResponseDTO {
+    
+    /** Tipo de contenido que selecciona este formato */
+    public static final String MEDIA_TYPE = "application/vnd.security.menu-plano+json";
+    
+    /**
+     * Código de cada menú
+     */
+    private long[] codigo;
+    
+    /**
+     * Índice del padre de cada menú en estos arreglos (-1 si es raíz)
+     */
+    private int[] padre;
+    
+    /**
+     * Orden de visualización de cada menú
+     */
+    private Integer[] orden;
+    
+    /**
+     * Etiqueta visible de cada menú
+     */
+    private String[] label;
+    
+    /**
+     * Ruta de navegación de cada menú (null en carpetas)
+     */
+    private String[] url;
+}
@@ -35,6 +35,12 @@ import java.math.BigInteger;
  *   "icono": "users-icon",
  *   "estado": "ACTIVO"
  * }
+ * 
+ * Con ?detalle=true se añaden (si existen):
+ *   "nombrePantalla": "GestionUsuarios",
+ *   "urlPantalla": "/admin/usuarios",
+ *   "nombreModulo": "Administración"
+ * Sin detalle estos campos son null y no se serializan.
  */
 @Getter
 @Setter
@@ -89,4 +95,19 @@ public class MenuResponseDTO {
      * Nota: En MenuRequestDTO es código numérico (1/0), aquí es descripción.
      */
     private String estado;
+
+    /**
+     * Nombre de la pantalla asociada (solo con ?detalle=true).
+     */
+    private String nombrePantalla;
+
+    /**
+     * URL de la pantalla asociada (solo con ?detalle=true).
+     */
+    private String urlPantalla;
+
+    /**
+     * Nombre del módulo (solo con ?detalle=true).
+     */
+    private String nombreModulo;
 }
@@ -0,0 +1,43 @@
+package security.framework.input.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO de Salida: ResumenImportacionResponseDTO
+ * 
+ * Respuesta HTTP de POST /catalogo/importar con el número de filas
+ * cargadas por sección.
+ * 
+ * Ejemplo JSON:
+ * {
+ *   "modulos": 12,
+ *   "pantallas": 340,
+ *   "menus": 512,
+ *   "perfiles": 40,
+ *   "asignaciones": 9800
+ * }
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumenImportacionResponseDTO {
+
+    /** Módulos insertados o actualizados */
+    private long modulos;
+
+    /** Pantallas insertadas o actualizadas */
+    private long pantallas;
+
+    /** Menús insertados o actualizados */
+    private long menus;
+
+    /** Perfiles insertados o actualizados */
+    private long perfiles;
+
+    /** Asignaciones menú-perfil procesadas */
+    private long asignaciones;
+}
@@ -0,0 +1,304 @@
+package security.framework.input.estatico;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import jakarta.json.bind.Jsonb;
+import org.jboss.logging.Logger;
+import security.aplication.port.input.ConsultaReactivaInputPort;
+import security.framework.config.CacheConfig;
+import security.framework.input.mapper.MenuJerarquicoMapper;
+import security.framework.output.cache.CacheInvalidable;
+import security.framework.output.cache.RegistroCaches;
+import security.framework.output.persistence.NotificadorCambios;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Componente de Infraestructura: GeneradorMenusEstaticos
+ * 
+ * Renderiza el árbol de menús de cada perfil a archivos en un directorio
+ * local, para que MenusEstaticosRoute los sirva con sendFile (el kernel
+ * copia los bytes; ni el heap ni el serializador JSON intervienen).
+ * 
+ * Archivos por perfil (security.cache.estatico.directorio):
+ * - {perfilId}.json: el mismo JSON que GET /menu-perfil/jerarquico/perfil/{id}
+ * - {perfilId}.json.gz: el mismo JSON precomprimido con gzip
+ * - {perfilId}.json.br: el mismo JSON precomprimido con brotli (calidad 11),
+ *   si la librería nativa de brotli4j carga en esta plataforma
+ * Se escriben en "&lt;archivo&gt;.tmp" y se renombran con ATOMIC_MOVE: un
+ * sendFile en curso conserva el archivo anterior hasta terminar.
+ * 
+ * Flujo:
+ * 1. La primera solicitud de un perfil sin archivos la atiende el
+ *    controlador y pide aquí la generación (en segundo plano)
+ * 2. Al terminar de escribir, el perfil queda publicado y la ruta lo sirve
+ * 3. Ante un cambio (CacheInvalidable, vía RegistroCaches) el perfil deja de
+ *    estar publicado y se vuelve a renderizar; mientras tanto responde el
+ *    controlador
+ * 
+ * Invalidación (igual que CacheMenusPerfil):
+ * - menu_perfil:{perfilId}, perfil:{perfilId}: vuelve a renderizar ese perfil
+ * - menu_perfil:*, menu, pantalla, modulo: vuelve a renderizar todos
+ * - Cada invalidación avanza una generación; un render con datos leídos
+ *   antes de una invalidación se escribe pero no se publica
+ * 
+ * Al arrancar no se publica nada: los archivos de una ejecución anterior
+ * pueden estar desactualizados y se sobrescriben al renderizar.
+ */
+@ApplicationScoped
+public class GeneradorMenusEstaticos implements CacheInvalidable {
+
+    private static final Logger LOG = Logger.getLogger(GeneradorMenusEstaticos.class);
+
+    private static final String EXTENSION_JSON = ".json";
+    private static final String EXTENSION_GZIP = ".json.gz";
+    private static final String EXTENSION_BROTLI = ".json.br";
+    private static final int CALIDAD_BROTLI = 11;
+
+    private final ConsultaReactivaInputPort consultaReactivaInputPort;
+    private final MenuJerarquicoMapper menuJerarquicoMapper;
+    private final Jsonb jsonb;
+    private final RegistroCaches registroCaches;
+    private final boolean habilitado;
+    private final Path directorio;
+
+    private final Set<Long> publicados = ConcurrentHashMap.newKeySet();
+    private final Set<Long> enCurso = ConcurrentHashMap.newKeySet();
+    private long generacion;
+
+    private volatile ExecutorService escritor;
+    private volatile boolean brotli;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param consultaReactivaInputPort Puerto de entrada no bloqueante de menús
+     * @param menuJerarquicoMapper Mapper a DTO de respuesta
+     * @param jsonb Serializador JSON-B (el mismo de los endpoints)
+     * @param registroCaches Registro donde se inscribe para recibir invalidaciones
+     * @param cacheConfig Configuración (security.cache.estatico)
+     */
+    public GeneradorMenusEstaticos(ConsultaReactivaInputPort consultaReactivaInputPort,
+                                   MenuJerarquicoMapper menuJerarquicoMapper,
+                                   Jsonb jsonb,
+                                   RegistroCaches registroCaches,
+                                   CacheConfig cacheConfig) {
+        this.consultaReactivaInputPort = consultaReactivaInputPort;
+        this.menuJerarquicoMapper = menuJerarquicoMapper;
+        this.jsonb = jsonb;
+        this.registroCaches = registroCaches;
+        this.habilitado = cacheConfig.estatico().enabled();
+        this.directorio = Path.of(cacheConfig.estatico().directorio());
+    }
+
+    /**
+     * Crea el directorio y se registra para recibir invalidaciones.
+     * 
+     * Corre después de ApplicationConfig, para que las cachés de las que lee
+     * el render ya estén invalidadas cuando se lo pide a este generador.
+     * 
+     * @param evento Evento de arranque de Quarkus
+     */
+    void alIniciar(@Observes @Priority(ObserverMethod.DEFAULT_PRIORITY + 10) StartupEvent evento) {
+        if (!habilitado) {
+            return;
+        }
+        try {
+            Files.createDirectories(directorio);
+        } catch (IOException e) {
+            LOG.warnf("Menús estáticos desactivados, no se pudo crear %s: %s", directorio, e.getMessage());
+            return;
+        }
+        brotli = Brotli4jLoader.isAvailable();
+        if (!brotli) {
+            LOG.warnf("brotli no disponible (%s); los menús estáticos solo tendrán gzip",
+                    Brotli4jLoader.getUnavailabilityCause().getMessage());
+        }
+        escritor = Executors.newSingleThreadExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "menus-estaticos");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        registroCaches.registrar(this);
+    }
+
+    /**
+     * Detiene el hilo de escritura.
+     * 
+     * @param evento Evento de apagado de Quarkus
+     */
+    void alDetener(@Observes ShutdownEvent evento) {
+        if (escritor != null) {
+            escritor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return true si security.cache.estatico.enabled=true y el directorio está disponible
+     */
+    public boolean isActivo() {
+        return escritor != null;
+    }
+
+    /**
+     * @param perfilId ID del perfil
+     * @return true si los archivos del perfil están escritos y vigentes
+     */
+    public boolean isPublicado(Long perfilId) {
+        return publicados.contains(perfilId);
+    }
+
+    /**
+     * @param perfilId ID del perfil
+     * @return Archivo JSON del perfil
+     */
+    public Path archivoJson(Long perfilId) {
+        return directorio.resolve(perfilId + EXTENSION_JSON);
+    }
+
+    /**
+     * @param perfilId ID del perfil
+     * @return Archivo JSON precomprimido con gzip del perfil
+     */
+    public Path archivoGzip(Long perfilId) {
+        return directorio.resolve(perfilId + EXTENSION_GZIP);
+    }
+
+    /**
+     * @param perfilId ID del perfil
+     * @return Archivo JSON precomprimido con brotli del perfil, o null sin brotli
+     */
+    public Path archivoBrotli(Long perfilId) {
+        return brotli ? directorio.resolve(perfilId + EXTENSION_BROTLI) : null;
+    }
+
+    /**
+     * Renderiza los archivos de un perfil en segundo plano; si ya hay un
+     * render en curso para ese perfil no hace nada.
+     * 
+     * @param perfilId ID del perfil
+     */
+    public void generar(Long perfilId) {
+        if (!isActivo() || !enCurso.add(perfilId)) {
+            return;
+        }
+        long generacionLeida = generacion();
+        // Se arma y suscribe en el hilo propio: quien lo pide puede estar
+        // dentro de una transacción, y su contexto no debe propagarse al render
+        escritor.execute(() -> Uni.createFrom()
+                .completionStage(() -> consultaReactivaInputPort.obtenerMenusJerarquicos(perfilId))
+                .map(menuJerarquicoMapper::toResponseDtoList)
+                .map(dtos -> jsonb.toJson(dtos).getBytes(StandardCharsets.UTF_8))
+                .emitOn(escritor)
+                .subscribe().with(
+                        json -> escribir(perfilId, json, generacionLeida),
+                        error -> {
+                            enCurso.remove(perfilId);
+                            LOG.debugf("No se pudo renderizar el perfil %d: %s", perfilId, error.getMessage());
+                        }));
+    }
+
+    @Override
+    public void alCambiar(String tipo, String id) {
+        if (NotificadorCambios.MENU_PERFIL.equals(tipo) || NotificadorCambios.PERFIL.equals(tipo)) {
+            Long perfilId;
+            try {
+                perfilId = Long.valueOf(id);
+            } catch (NumberFormatException e) {
+                invalidarTodo();
+                return;
+            }
+            boolean estaba;
+            synchronized (this) {
+                generacion++;
+                estaba = publicados.remove(perfilId);
+            }
+            if (estaba) {
+                generar(perfilId);
+            }
+        } else if (NotificadorCambios.MENU.equals(tipo)
+                || NotificadorCambios.PANTALLA.equals(tipo)
+                || NotificadorCambios.MODULO.equals(tipo)) {
+            invalidarTodo();
+        }
+    }
+
+    @Override
+    public void invalidarTodo() {
+        List<Long> anteriores;
+        synchronized (this) {
+            generacion++;
+            anteriores = List.copyOf(publicados);
+            publicados.clear();
+        }
+        anteriores.forEach(this::generar);
+    }
+
+    /**
+     * @return Perfiles publicados
+     */
+    public int getPublicados() {
+        return publicados.size();
+    }
+
+    private synchronized long generacion() {
+        return generacion;
+    }
+
+    private void escribir(Long perfilId, byte[] json, long generacionLeida) {
+        try {
+            escribirAtomico(archivoJson(perfilId), json);
+            escribirAtomico(archivoGzip(perfilId), gzip(json));
+            if (brotli) {
+                escribirAtomico(archivoBrotli(perfilId),
+                        Encoder.compress(json, new Encoder.Parameters().setQuality(CALIDAD_BROTLI)));
+            }
+            synchronized (this) {
+                if (generacion == generacionLeida) {
+                    publicados.add(perfilId);
+                }
+            }
+        } catch (IOException e) {
+            LOG.warnf("No se pudieron escribir los menús del perfil %d: %s", perfilId, e.getMessage());
+        } finally {
+            enCurso.remove(perfilId);
+        }
+    }
+
+    private static void escribirAtomico(Path archivo, byte[] contenido) throws IOException {
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        Files.write(temporal, contenido);
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static byte[] gzip(byte[] contenido) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream(Math.max(64, contenido.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(salida) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(contenido);
+        }
+        return salida.toByteArray();
+    }
+}
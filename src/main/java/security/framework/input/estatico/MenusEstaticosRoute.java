@@ -0,0 +1,145 @@
+package security.framework.input.estatico;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.ws.rs.core.MediaType;
+import security.framework.input.cbor.CborMessageBodyWriter;
+import security.framework.input.dto.MenuPlanoResponseDTO;
+import security.framework.output.cache.CacheRespuestasComprimidas;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Ruta HTTP: MenusEstaticosRoute
+ * 
+ * Sirve GET /menu-perfil/jerarquico/perfil/{perfilId} desde los archivos de
+ * GeneradorMenusEstaticos con sendFile, antes de que la solicitud llegue a
+ * MenuPerfilController. Con el perfil publicado no intervienen ni
+ * AlmacenPayloadsOffHeap ni CacheRespuestasComprimidas.
+ * 
+ * Flujo (en el event loop, sin bloquear):
+ * 0. Si el cliente prefiere otro formato (plano o CBOR, con las mismas
+ *    reglas de q-values que MenuPerfilController), la solicitud sigue al
+ *    controlador
+ * 1. Si el perfil no está publicado, pide su render y deja pasar la
+ *    solicitud al controlador (ctx.next())
+ * 2. Si el cliente acepta br y el archivo existe, envía {perfilId}.json.br;
+ *    si acepta gzip, {perfilId}.json.gz; con su Content-Encoding
+ * 3. Si no, envía {perfilId}.json
+ * 
+ * Las rutas registradas sobre el Router son relativas a quarkus.http.root-path.
+ */
+@ApplicationScoped
+public class MenusEstaticosRoute {
+
+    private static final String RUTA = "/menu-perfil/jerarquico/perfil/:perfilId";
+    private static final String VARY = "Accept, Accept-Encoding";
+
+    private final GeneradorMenusEstaticos generador;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param generador Generador de los archivos por perfil
+     */
+    public MenusEstaticosRoute(GeneradorMenusEstaticos generador) {
+        this.generador = generador;
+    }
+
+    /**
+     * Registra la ruta con prioridad sobre los endpoints REST.
+     * 
+     * @param router Router de la aplicación
+     */
+    void registrar(@Observes Router router) {
+        router.get(RUTA).order(-1).handler(this::servir);
+    }
+
+    private void servir(RoutingContext ctx) {
+        if (!generador.isActivo() || !prefiereJson(ctx.request().getHeader(HttpHeaders.ACCEPT))) {
+            ctx.next();
+            return;
+        }
+        Long perfilId;
+        try {
+            perfilId = Long.valueOf(ctx.pathParam("perfilId"));
+        } catch (NumberFormatException e) {
+            ctx.next();
+            return;
+        }
+        if (!generador.isPublicado(perfilId)) {
+            generador.generar(perfilId);
+            ctx.next();
+            return;
+        }
+        String aceptadas = ctx.request().getHeader(HttpHeaders.ACCEPT_ENCODING);
+        ctx.response()
+                .putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                .putHeader(HttpHeaders.VARY, VARY);
+        Path brotli = generador.archivoBrotli(perfilId);
+        if (CacheRespuestasComprimidas.acepta(aceptadas, CacheRespuestasComprimidas.BROTLI) && brotli != null) {
+            ctx.response()
+                    .putHeader(HttpHeaders.CONTENT_ENCODING, CacheRespuestasComprimidas.BROTLI)
+                    .sendFile(brotli.toString());
+        } else if (CacheRespuestasComprimidas.acepta(aceptadas, CacheRespuestasComprimidas.GZIP)) {
+            ctx.response()
+                    .putHeader(HttpHeaders.CONTENT_ENCODING, CacheRespuestasComprimidas.GZIP)
+                    .sendFile(generador.archivoGzip(perfilId).toString());
+        } else {
+            ctx.response().sendFile(generador.archivoJson(perfilId).toString());
+        }
+    }
+
+    /**
+     * JSON es la variante elegida: sin Accept, o con un q de JSON mayor que
+     * cero y no menor que el de plano y CBOR (ante igual preferencia gana
+     * JSON, como en MenuPerfilController).
+     */
+    static boolean prefiereJson(String aceptados) {
+        if (aceptados == null || aceptados.isBlank()) {
+            return true;
+        }
+        double json = peso(aceptados, MediaType.APPLICATION_JSON);
+        return json > 0
+                && json >= peso(aceptados, MenuPlanoResponseDTO.MEDIA_TYPE)
+                && json >= peso(aceptados, CborMessageBodyWriter.APPLICATION_CBOR);
+    }
+
+    /**
+     * q del rango de Accept más específico que cubre el tipo (tipo exacto,
+     * luego tipo/*, luego *&#47;*); 0 si ninguno lo cubre.
+     */
+    private static double peso(String aceptados, String tipo) {
+        String general = tipo.substring(0, tipo.indexOf('/')) + "/*";
+        int especificidad = -1;
+        double elegido = 0;
+        for (String parte : aceptados.split(",")) {
+            String[] elementos = parte.trim().toLowerCase(Locale.ROOT).split(";");
+            String rango = elementos[0].trim();
+            int nivel = rango.equals(tipo) ? 2 : rango.equals(general) ? 1 : rango.equals("*/*") ? 0 : -1;
+            if (nivel > especificidad) {
+                especificidad = nivel;
+                elegido = q(elementos);
+            }
+        }
+        return elegido;
+    }
+
+    private static double q(String[] elementos) {
+        for (int i = 1; i < elementos.length; i++) {
+            String parametro = elementos[i].trim();
+            if (parametro.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parametro.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
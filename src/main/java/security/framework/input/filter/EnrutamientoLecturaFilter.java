@@ -0,0 +1,61 @@
+package security.framework.input.filter;
+
+import jakarta.transaction.Transactional;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+import security.framework.config.ContextoLectura;
+
+import java.lang.reflect.Method;
+
+/**
+ * Filtro de Entrada: EnrutamientoLecturaFilter
+ * 
+ * Decide, por solicitud, si las lecturas van a la réplica o al primario.
+ * 
+ * Regla:
+ * - GET sin @Transactional (ni en el método ni en la clase) → réplica
+ * - Cualquier otro caso (POST, PUT, DELETE, GET transaccional) → primario
+ * - Cabecera X-Read-Your-Writes: true → primario siempre
+ * 
+ * La decisión es por solicitud y no por caso de uso: BuscarMenuPorIdUseCase
+ * invocado desde un GET lee de la réplica, pero el mismo caso de uso invocado
+ * desde CrearMenuUseCase (validación del menú padre en un POST) lee del primario.
+ * 
+ * Read-your-writes:
+ * La réplica es asíncrona; un cliente que acaba de escribir y necesita ver su
+ * cambio de inmediato envía X-Read-Your-Writes: true en la lectura siguiente.
+ */
+@Provider
+public class EnrutamientoLecturaFilter implements ContainerRequestFilter {
+
+    /** Cabecera para forzar la lectura desde el primario */
+    public static final String CABECERA_READ_YOUR_WRITES = "X-Read-Your-Writes";
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    private final ContextoLectura contextoLectura;
+
+    public EnrutamientoLecturaFilter(ContextoLectura contextoLectura) {
+        this.contextoLectura = contextoLectura;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request) {
+        if (!HttpMethod.GET.equals(request.getMethod())
+                || Boolean.parseBoolean(request.getHeaderString(CABECERA_READ_YOUR_WRITES))) {
+            return;
+        }
+        Method metodo = resourceInfo.getResourceMethod();
+        if (metodo == null
+                || metodo.isAnnotationPresent(Transactional.class)
+                || resourceInfo.getResourceClass().isAnnotationPresent(Transactional.class)) {
+            return;
+        }
+        contextoLectura.usarReplica();
+    }
+}
@@ -0,0 +1,148 @@
+package security.framework.input.filter;
+
+import io.netty.buffer.Unpooled;
+import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
+import io.vertx.core.buffer.impl.BufferImpl;
+import io.vertx.core.http.HttpServerResponse;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import security.framework.config.ContextoLectura;
+import security.framework.output.cache.CacheRespuestasComprimidas;
+import security.framework.output.cache.CacheRespuestasComprimidas.RespuestaComprimida;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * Filtro de Entrada: PrecompresionFilter
+ * 
+ * Sirve las respuestas de los endpoints @Precomprimible desde
+ * CacheRespuestasComprimidas, ya comprimidas, según Accept-Encoding.
+ * 
+ * Flujo (solo GET, de clientes que aceptan gzip):
+ * 1. Filtro de solicitud: si la respuesta está guardada, corta la solicitud
+ *    con la variante elegida (br si está lista y se acepta, si no gzip),
+ *    escrita desde memoria directa sin copiarla; el endpoint no se ejecuta
+ * 2. Si no, recuerda la clave y la generación de la caché en las
+ *    propiedades de la solicitud, y enruta sus lecturas al primario: la
+ *    respuesta se guardará para todos los clientes y una réplica retrasada
+ *    la dejaría obsoleta hasta la siguiente invalidación
+ * 3. Filtro de respuesta: si el estado no es 200 OK, olvida la clave
+ *    (los errores no se guardan)
+ * 4. Interceptor de escritura: captura el cuerpo que escribe el
+ *    MessageBodyWriter, lo comprime en gzip, lo guarda y envía la variante
+ *    gzip con Content-Encoding: gzip
+ * 
+ * Cuerpos por debajo de security.cache.comprimido.minimo se envían sin
+ * comprimir y no se guardan. Las respuestas llevan Vary: Accept,
+ * Accept-Encoding para los cachés intermedios.
+ * 
+ * Prioridad del filtro de solicitud USER + 10: corre después de
+ * EnrutamientoLecturaFilter (USER), que ya marcó la réplica para los GET.
+ */
+@Provider
+@Precomprimible
+public class PrecompresionFilter implements ContainerResponseFilter, WriterInterceptor {
+
+    private static final String PROPIEDAD_CLAVE = PrecompresionFilter.class.getName() + ".clave";
+    private static final String PROPIEDAD_GENERACION = PrecompresionFilter.class.getName() + ".generacion";
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final CacheRespuestasComprimidas cache;
+    private final ContextoLectura contextoLectura;
+    private final CurrentVertxRequest solicitudVertx;
+
+    public PrecompresionFilter(CacheRespuestasComprimidas cache, ContextoLectura contextoLectura,
+                               CurrentVertxRequest solicitudVertx) {
+        this.cache = cache;
+        this.contextoLectura = contextoLectura;
+        this.solicitudVertx = solicitudVertx;
+    }
+
+    /**
+     * Filtro de solicitud: responde desde la caché o prepara la captura.
+     * 
+     * @param request Solicitud en curso
+     * @return Respuesta guardada, o null para ejecutar el endpoint
+     */
+    @Precomprimible
+    @ServerRequestFilter(priority = Priorities.USER + 10)
+    public Response filtrar(ContainerRequestContext request) {
+        if (!cache.isHabilitado()
+                || !HttpMethod.GET.equals(request.getMethod())
+                || !CacheRespuestasComprimidas.acepta(request.getHeaderString(HttpHeaders.ACCEPT_ENCODING),
+                        CacheRespuestasComprimidas.GZIP)) {
+            return null;
+        }
+        String clave = clave(request.getUriInfo(), request.getHeaderString(HttpHeaders.ACCEPT));
+        Optional<RespuestaComprimida> guardada = cache.obtener(clave);
+        if (guardada.isPresent()) {
+            RespuestaComprimida respuesta = guardada.get();
+            String codificacion = respuesta.codificacion(request.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+            return Response.ok(BufferImpl.buffer(Unpooled.wrappedBuffer(respuesta.variante(codificacion))),
+                            respuesta.tipo())
+                    .header(HttpHeaders.CONTENT_ENCODING, codificacion)
+                    .header(HttpHeaders.VARY, VARY)
+                    .build();
+        }
+        contextoLectura.usarPrimario();
+        request.setProperty(PROPIEDAD_GENERACION, cache.generacion());
+        request.setProperty(PROPIEDAD_CLAVE, clave);
+        return null;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+            request.removeProperty(PROPIEDAD_CLAVE);
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext contexto) throws IOException {
+        String clave = (String) contexto.getProperty(PROPIEDAD_CLAVE);
+        if (clave == null) {
+            contexto.proceed();
+            return;
+        }
+        OutputStream destino = contexto.getOutputStream();
+        ByteArrayOutputStream cuerpo = new ByteArrayOutputStream();
+        contexto.setOutputStream(cuerpo);
+        contexto.proceed();
+        contexto.setOutputStream(destino);
+
+        byte[] identidad = cuerpo.toByteArray();
+        if (identidad.length < cache.getMinimo()) {
+            destino.write(identidad);
+            return;
+        }
+        long generacion = (Long) contexto.getProperty(PROPIEDAD_GENERACION);
+        byte[] gzip = cache.guardar(clave, contexto.getMediaType().toString(), identidad, generacion);
+        // Las cabeceras de contexto ya se copiaron a la respuesta en proceed();
+        // se cambian en la de Vert.x, que no se envía hasta el primer write
+        HttpServerResponse respuesta = solicitudVertx.getCurrent().response();
+        respuesta.headers().remove(HttpHeaders.CONTENT_LENGTH);
+        respuesta.putHeader(HttpHeaders.CONTENT_ENCODING, CacheRespuestasComprimidas.GZIP);
+        respuesta.putHeader(HttpHeaders.VARY, VARY);
+        destino.write(gzip);
+    }
+
+    private static String clave(UriInfo uriInfo, String aceptados) {
+        String query = uriInfo.getRequestUri().getRawQuery();
+        return uriInfo.getRequestUri().getRawPath()
+                + (query == null ? "" : "?" + query)
+                + "|" + (aceptados == null ? "" : aceptados);
+    }
+}
@@ -0,0 +1,23 @@
+package security.framework.input.filter;
+
+import jakarta.ws.rs.NameBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un endpoint GET cuya respuesta se guarda ya comprimida
+ * (PrecompresionFilter, CacheRespuestasComprimidas). En cualquier otro
+ * método el filtro no actúa.
+ * 
+ * Solo para respuestas completas y deterministas para la misma ruta, query
+ * y Accept: no para Multi ni StreamingOutput, que dejarían de enviarse en
+ * streaming, ni para respuestas que dependan del usuario autenticado.
+ */
+@NameBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Precomprimible {
+}
@@ -0,0 +1,23 @@
+package security.framework.input.filter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declara cuántas sentencias SQL puede ejecutar un endpoint por solicitud
+ * (PresupuestoSqlFilter). En la clase, aplica a todos sus métodos; en el
+ * método, tiene prioridad sobre la de la clase.
+ * 
+ * Sin esta anotación rige security.sql.sentencias-maximas.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PresupuestoSql {
+
+    /**
+     * @return Sentencias permitidas por solicitud
+     */
+    int sentencias();
+}
@@ -0,0 +1,152 @@
+package security.framework.input.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import org.jboss.logging.Logger;
+import security.framework.config.ContadorSql;
+import security.framework.config.SqlConfig;
+import security.framework.exceptions.ErrorResponseDTO;
+import security.framework.output.sql.ConteoSql;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Filtro de Entrada: PresupuestoSqlFilter
+ * 
+ * Al terminar cada solicitud, informa las sentencias SQL y filas del
+ * endpoint (ContadorSql) y controla su presupuesto.
+ * 
+ * Métricas (por endpoint, "Controller.metodo"):
+ * - security.sql.sentencias: sentencias por solicitud (histograma)
+ * - security.sql.filas: filas leídas o modificadas por solicitud (histograma)
+ * - security.sql.presupuesto.excedido: solicitudes por encima del presupuesto
+ * 
+ * Controles:
+ * - Presupuesto: @PresupuestoSql del método o la clase, o
+ *   security.sql.sentencias-maximas; excedido, avisa en el log o, con
+ *   security.sql.modo=fallar, responde 500 con las sentencias ejecutadas
+ * - N+1: una misma sentencia repetida más de security.sql.repeticiones-maximas
+ *   veces se avisa en el log con su texto
+ * - Con security.sql.cabeceras=true, X-Sql-Sentencias y X-Sql-Filas en la
+ *   respuesta (pruebas de integración)
+ * 
+ * Prioridad USER + 100: los filtros de respuesta corren de mayor a menor,
+ * así este reemplaza la respuesta antes de que PrecompresionFilter decida
+ * guardarla. Las sentencias que se ejecutan mientras se escribe el cuerpo
+ * (StreamingOutput) no llegan a contarse.
+ * 
+ * @ApplicationScoped: el filtro se crea en la primera solicitud y no al
+ * registrar los filtros (static init), cuando SqlConfig aún no existe.
+ */
+@Provider
+@ApplicationScoped
+@Priority(Priorities.USER + 100)
+public class PresupuestoSqlFilter implements ContainerResponseFilter {
+
+    private static final Logger LOG = Logger.getLogger(PresupuestoSqlFilter.class);
+
+    /** Cabecera con las sentencias de la solicitud */
+    public static final String CABECERA_SENTENCIAS = "X-Sql-Sentencias";
+    /** Cabecera con las filas de la solicitud */
+    public static final String CABECERA_FILAS = "X-Sql-Filas";
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    private final ContadorSql contadorSql;
+    private final SqlConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Metricas> metricas = new ConcurrentHashMap<>();
+
+    public PresupuestoSqlFilter(ContadorSql contadorSql, SqlConfig config, MeterRegistry meterRegistry) {
+        this.contadorSql = contadorSql;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        Method metodo = resourceInfo.getResourceMethod();
+        if (!config.enabled() || metodo == null) {
+            return;
+        }
+        ConteoSql conteo = contadorSql.conteo();
+        String endpoint = resourceInfo.getResourceClass().getSimpleName() + "." + metodo.getName();
+        Metricas medidas = metricas.computeIfAbsent(endpoint, this::registrar);
+        medidas.sentencias().record(conteo.sentencias());
+        medidas.filas().record(conteo.filas());
+
+        if (config.cabeceras()) {
+            response.getHeaders().putSingle(CABECERA_SENTENCIAS, conteo.sentencias());
+            response.getHeaders().putSingle(CABECERA_FILAS, conteo.filas());
+        }
+        if (config.repeticionesMaximas() > 0 && conteo.maximoRepeticiones() > config.repeticionesMaximas()) {
+            conteo.repeticiones().forEach((sql, veces) -> {
+                if (veces > config.repeticionesMaximas()) {
+                    LOG.warnf("Posible N+1 en %s: %d ejecuciones de %s", endpoint, veces, sql);
+                }
+            });
+        }
+
+        int presupuesto = presupuesto(metodo);
+        if (presupuesto <= 0 || conteo.sentencias() <= presupuesto) {
+            return;
+        }
+        medidas.excedido().increment();
+        String mensaje = endpoint + " ejecutó " + conteo.sentencias() + " sentencias SQL (presupuesto " + presupuesto + ")";
+        if (config.modo() == SqlConfig.Modo.LOG) {
+            LOG.warnf("%s:%n%s", mensaje, conteo.detalle());
+            return;
+        }
+        ErrorResponseDTO error = new ErrorResponseDTO(500, "SQL Budget Exceeded", mensaje,
+                request.getUriInfo().getPath(), List.of(conteo.detalle().split("\n")));
+        response.setStatus(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
+        response.setEntity(error, null, MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    private int presupuesto(Method metodo) {
+        PresupuestoSql anotacion = metodo.getAnnotation(PresupuestoSql.class);
+        if (anotacion == null) {
+            anotacion = resourceInfo.getResourceClass().getAnnotation(PresupuestoSql.class);
+        }
+        return anotacion != null ? anotacion.sentencias() : config.sentenciasMaximas();
+    }
+
+    private Metricas registrar(String endpoint) {
+        return new Metricas(
+                DistributionSummary.builder("security.sql.sentencias")
+                        .description("Sentencias SQL por solicitud")
+                        .baseUnit("sentencias")
+                        .tag("endpoint", endpoint)
+                        .serviceLevelObjectives(1, 2, 3, 5, 10, 20, 50)
+                        .register(meterRegistry),
+                DistributionSummary.builder("security.sql.filas")
+                        .description("Filas SQL leídas o modificadas por solicitud")
+                        .baseUnit("filas")
+                        .tag("endpoint", endpoint)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Counter.builder("security.sql.presupuesto.excedido")
+                        .description("Solicitudes por encima de su presupuesto de sentencias SQL")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry));
+    }
+
+    private record Metricas(DistributionSummary sentencias, DistributionSummary filas, Counter excedido) {
+    }
+}
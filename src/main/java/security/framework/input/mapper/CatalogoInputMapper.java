@@ -0,0 +1,19 @@
+package security.framework.input.mapper;
+
+import org.mapstruct.Mapper;
+import security.aplication.dto.ResumenImportacion;
+import security.framework.input.dto.ResumenImportacionResponseDTO;
+
+/**
+ * Mapper: CatalogoInputMapper
+ * 
+ * Convierte ResumenImportacion (aplicación) a ResumenImportacionResponseDTO (framework).
+ */
+@Mapper(componentModel = "cdi")
+public interface CatalogoInputMapper {
+
+    /**
+     * Convierte el resumen de importación a DTO de respuesta
+     */
+    ResumenImportacionResponseDTO toResponseDto(ResumenImportacion resumen);
+}
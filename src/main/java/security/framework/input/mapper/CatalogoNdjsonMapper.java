@@ -0,0 +1,225 @@
+package security.framework.input.mapper;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import security.aplication.dto.RegistroCatalogo;
+import security.aplication.dto.RegistroCatalogo.AsignacionRegistro;
+import security.aplication.dto.RegistroCatalogo.MenuRegistro;
+import security.aplication.dto.RegistroCatalogo.ModuloRegistro;
+import security.aplication.dto.RegistroCatalogo.PantallaRegistro;
+import security.aplication.dto.RegistroCatalogo.PerfilRegistro;
+import security.dominio.exceptions.SecurityValidationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Mapper: CatalogoNdjsonMapper
+ * 
+ * Convierte RegistroCatalogo (aplicación) ↔ líneas NDJSON (una fila por línea).
+ * 
+ * Responsabilidad: Formato de transporte de la exportación/importación de catálogo.
+ * No es un mapper MapStruct: trabaja fila a fila sobre Writer/InputStream
+ * para que la memoria no dependa del tamaño del catálogo.
+ * 
+ * Formato (campo "tipo" obligatorio, campos null se omiten):
+ * {"tipo":"modulo","id":1,"nombre":"Administración"}
+ * {"tipo":"pantalla","id":5,"codModulo":1,"nombre":"Usuarios","url":"/admin/usuarios",...}
+ * {"tipo":"menu","id":42,"nombre":"Usuarios","jerarquia":1,"orden":10,"codPantalla":5,"codModulo":1,"codMenuPadre":7,"icono":"...","estado":1}
+ * {"tipo":"perfil","id":3,"nombre":"ADMIN"}
+ * {"tipo":"asignacion","menuId":42,"perfilId":3}
+ * 
+ * Fechas en ISO-8601 (LocalDateTime).
+ */
+@ApplicationScoped
+public class CatalogoNdjsonMapper {
+
+    // =====================
+    // ESCRITURA
+    // =====================
+
+    /**
+     * Escribe un registro como una línea NDJSON.
+     * 
+     * @param registro Registro de catálogo
+     * @param writer Destino (no se hace flush)
+     * @throws IOException si falla la escritura
+     */
+    public void escribir(RegistroCatalogo registro, Writer writer) throws IOException {
+        JsonObjectBuilder json = Json.createObjectBuilder().add("tipo", registro.tipo());
+        if (registro instanceof ModuloRegistro m) {
+            agregar(json, "id", m.id());
+            agregar(json, "nombre", m.nombre());
+        } else if (registro instanceof PantallaRegistro p) {
+            agregar(json, "id", p.id());
+            agregar(json, "codModulo", p.codModulo());
+            agregar(json, "nombre", p.nombre());
+            agregar(json, "url", p.url());
+            agregar(json, "userC", p.userC());
+            agregar(json, "fechaC", p.fechaC());
+            agregar(json, "userMod", p.userMod());
+            agregar(json, "fechaMod", p.fechaMod());
+        } else if (registro instanceof MenuRegistro m) {
+            agregar(json, "id", m.id());
+            agregar(json, "nombre", m.nombre());
+            agregar(json, "jerarquia", m.jerarquia());
+            agregar(json, "orden", m.orden());
+            agregar(json, "codPantalla", m.codPantalla());
+            agregar(json, "codModulo", m.codModulo());
+            agregar(json, "codMenuPadre", m.codMenuPadre());
+            agregar(json, "icono", m.icono());
+            agregar(json, "estado", m.estado());
+        } else if (registro instanceof PerfilRegistro p) {
+            agregar(json, "id", p.id());
+            agregar(json, "nombre", p.nombre());
+        } else if (registro instanceof AsignacionRegistro a) {
+            agregar(json, "menuId", a.menuId());
+            agregar(json, "perfilId", a.perfilId());
+        }
+        writer.write(json.build().toString());
+        writer.write('\n');
+    }
+
+    private static void agregar(JsonObjectBuilder json, String campo, Object valor) {
+        if (valor == null) {
+            return;
+        }
+        if (valor instanceof Long l) {
+            json.add(campo, l);
+        } else if (valor instanceof BigInteger b) {
+            json.add(campo, b);
+        } else {
+            json.add(campo, valor.toString());
+        }
+    }
+
+    // =====================
+    // LECTURA
+    // =====================
+
+    /**
+     * Lee registros de una entrada NDJSON de forma perezosa.
+     * Las líneas en blanco se ignoran.
+     * 
+     * @param entrada Cuerpo NDJSON (UTF-8)
+     * @return Iterador que parsea una línea en cada next()
+     * @throws SecurityValidationException (al iterar) si una línea no es válida
+     */
+    public Iterator<RegistroCatalogo> leer(InputStream entrada) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        return new Iterator<>() {
+            private long numeroLinea;
+            private RegistroCatalogo siguiente;
+
+            @Override
+            public boolean hasNext() {
+                if (siguiente != null) {
+                    return true;
+                }
+                try {
+                    String linea;
+                    while ((linea = reader.readLine()) != null) {
+                        numeroLinea++;
+                        if (!linea.isBlank()) {
+                            siguiente = parsear(linea, numeroLinea);
+                            return true;
+                        }
+                    }
+                    return false;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public RegistroCatalogo next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                RegistroCatalogo actual = siguiente;
+                siguiente = null;
+                return actual;
+            }
+        };
+    }
+
+    private RegistroCatalogo parsear(String linea, long numeroLinea) {
+        try (JsonReader reader = Json.createReader(new StringReader(linea))) {
+            JsonObject json = reader.readObject();
+            String tipo = json.getString("tipo", null);
+            if (tipo == null) {
+                throw new SecurityValidationException("línea " + numeroLinea, "falta el campo 'tipo'");
+            }
+            return switch (tipo) {
+                case RegistroCatalogo.MODULO -> new ModuloRegistro(
+                        largo(json, "id"),
+                        texto(json, "nombre"));
+                case RegistroCatalogo.PANTALLA -> new PantallaRegistro(
+                        largo(json, "id"),
+                        entero(json, "codModulo"),
+                        texto(json, "nombre"),
+                        texto(json, "url"),
+                        texto(json, "userC"),
+                        fecha(json, "fechaC"),
+                        texto(json, "userMod"),
+                        fecha(json, "fechaMod"));
+                case RegistroCatalogo.MENU -> new MenuRegistro(
+                        largo(json, "id"),
+                        texto(json, "nombre"),
+                        entero(json, "jerarquia"),
+                        entero(json, "orden"),
+                        largo(json, "codPantalla"),
+                        largo(json, "codModulo"),
+                        largo(json, "codMenuPadre"),
+                        texto(json, "icono"),
+                        entero(json, "estado"));
+                case RegistroCatalogo.PERFIL -> new PerfilRegistro(
+                        largo(json, "id"),
+                        texto(json, "nombre"));
+                case RegistroCatalogo.ASIGNACION -> new AsignacionRegistro(
+                        largo(json, "menuId"),
+                        largo(json, "perfilId"));
+                default -> throw new SecurityValidationException("línea " + numeroLinea, "tipo desconocido '" + tipo + "'");
+            };
+        } catch (JsonException | ClassCastException | ArithmeticException | DateTimeParseException e) {
+            throw new SecurityValidationException("línea " + numeroLinea, e.getMessage());
+        }
+    }
+
+    private static boolean ausente(JsonObject json, String campo) {
+        return !json.containsKey(campo) || json.get(campo).getValueType() == JsonValue.ValueType.NULL;
+    }
+
+    private static Long largo(JsonObject json, String campo) {
+        return ausente(json, campo) ? null : ((JsonNumber) json.get(campo)).longValueExact();
+    }
+
+    private static BigInteger entero(JsonObject json, String campo) {
+        return ausente(json, campo) ? null : ((JsonNumber) json.get(campo)).bigIntegerValueExact();
+    }
+
+    private static String texto(JsonObject json, String campo) {
+        return ausente(json, campo) ? null : json.getString(campo);
+    }
+
+    private static LocalDateTime fecha(JsonObject json, String campo) {
+        return ausente(json, campo) ? null : LocalDateTime.parse(json.getString(campo));
+    }
+}
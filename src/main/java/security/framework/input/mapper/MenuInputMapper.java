@@ -1,5 +1,6 @@
 package security.framework.input.mapper;
 
+import security.aplication.dto.CampoMenu;
 import security.aplication.dto.FiltroMenu;
 import security.dominio.entidades.Menu;
 import security.dominio.vo.Estado;
@@ -10,6 +11,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
 import java.math.BigInteger;
+import java.util.Set;
 
 /**
  * Mapper de Entrada: MenuInputMapper
@@ -28,6 +30,8 @@ import java.math.BigInteger;
  * 1. toDomain(MenuRequestDTO): HTTP request → entidad dominio
  * 2. toResponseDto(Menu): entidad dominio → HTTP response
  * 3. toFiltro(MenuRequestDTO): HTTP request → FiltroMenu (búsqueda)
+ * 4. toResponseDto(Menu, Set&lt;CampoMenu&gt;): menú parcial → HTTP response
+ *    con solo los campos pedidos (fields=)
  * 4. Métodos auxiliares: conversión de IDs, Estados, relaciones
  */
 @Mapper(componentModel="cdi")
@@ -70,6 +74,7 @@ public interface MenuInputMapper {
      * - modulo → codModulo (solo ID)
      * - menuPadre → codMenuPadre (solo ID)
      * - estado → descripción legible (ej: "ACTIVO" en lugar de enum)
+     * - pantalla.nombre/url, modulo.nombre → campos de detalle (null si no se cargaron)
      * 
      * @param menu Menu entidad de dominio desde BD
      * @return MenuResponseDTO serializable a JSON para cliente HTTP
@@ -79,8 +84,44 @@ public interface MenuInputMapper {
     @Mapping(target = "codModulo", source = "modulo", qualifiedByName = "moduloToId")
     @Mapping(target = "codMenuPadre", source = "menuPadre", qualifiedByName = "menuToId")
     @Mapping(target = "estado", source = "estado", qualifiedByName = "estadoToDescripcion")
+    @Mapping(target = "nombrePantalla", source = "pantalla.nombre")
+    @Mapping(target = "urlPantalla", source = "pantalla.url")
+    @Mapping(target = "nombreModulo", source = "modulo.nombre")
     MenuResponseDTO toResponseDto(Menu menu);
 
+    /**
+     * Convierte un Menu parcial (proyección fields=) a MenuResponseDTO,
+     * copiando solo los campos pedidos.
+     * 
+     * Los campos no pedidos quedan en null y JSON-B no los serializa
+     * (a diferencia de toResponseDto, estado ausente no se vuelve "").
+     * 
+     * @param menu Menu con solo los campos pedidos cargados
+     * @param campos Campos pedidos
+     * @return MenuResponseDTO con solo esos campos
+     */
+    default MenuResponseDTO toResponseDto(Menu menu, Set<CampoMenu> campos) {
+        MenuResponseDTO dto = new MenuResponseDTO();
+        for (CampoMenu campo : campos) {
+            switch (campo) {
+                case ID -> dto.setId(menu.getMenuId().longValue());
+                case NOMBRE -> dto.setNombre(menu.getNombre());
+                case JERARQUIA -> dto.setJerarquia(menu.getJerarquia());
+                case ORDEN -> dto.setOrden(menu.getOrden());
+                case COD_PANTALLA -> dto.setCodPantalla(menu.getPantalla() != null && menu.getPantalla().getId() != null
+                        ? BigInteger.valueOf(menu.getPantalla().getId()) : null);
+                case COD_MODULO -> dto.setCodModulo(menu.getModulo() != null ? menu.getModulo().getId() : null);
+                case COD_MENU_PADRE -> dto.setCodMenuPadre(menuToId(menu.getMenuPadre()));
+                case ICONO -> dto.setIcono(menu.getIcono());
+                case ESTADO -> dto.setEstado(menu.getEstado() != null ? menu.getEstado().getDescripcion() : null);
+                case NOMBRE_PANTALLA -> dto.setNombrePantalla(menu.getPantalla() != null ? menu.getPantalla().getNombre() : null);
+                case URL_PANTALLA -> dto.setUrlPantalla(menu.getPantalla() != null ? menu.getPantalla().getUrl() : null);
+                case NOMBRE_MODULO -> dto.setNombreModulo(menu.getModulo() != null ? menu.getModulo().getNombre() : null);
+            }
+        }
+        return dto;
+    }
+
     /**
      * Convierte MenuRequestDTO a FiltroMenu (DTO de búsqueda).
      * Mapeo directo de campos comunes para búsquedas avanzadas.
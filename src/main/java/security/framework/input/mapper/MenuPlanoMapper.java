@@ -0,0 +1,79 @@
+package security.framework.input.mapper;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import security.aplication.dto.MenuJerarquico;
+import security.framework.input.dto.MenuPlanoResponseDTO;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Mapper: MenuPlanoMapper
+ * 
+ * Convierte el árbol de MenuJerarquico (aplicación) a MenuPlanoResponseDTO
+ * (arreglos paralelos en preorden).
+ * 
+ * No es un mapper MapStruct: aplana el árbol con un recorrido en profundidad
+ * iterativo (pila explícita), en tiempo lineal.
+ */
+@ApplicationScoped
+public class MenuPlanoMapper {
+
+    /**
+     * Aplana un árbol de menús.
+     * 
+     * @param raiz Menús raíz con sus hijos anidados y ordenados
+     * @return Arreglos paralelos en preorden
+     */
+    public MenuPlanoResponseDTO toPlano(List<MenuJerarquico> raiz) {
+        int total = contar(raiz);
+        long[] codigo = new long[total];
+        int[] padre = new int[total];
+        Integer[] orden = new Integer[total];
+        String[] label = new String[total];
+        String[] url = new String[total];
+
+        Deque<Pendiente> pila = new ArrayDeque<>();
+        apilar(pila, raiz, -1);
+        int i = 0;
+        while (!pila.isEmpty()) {
+            Pendiente pendiente = pila.pop();
+            MenuJerarquico nodo = pendiente.nodo();
+            codigo[i] = nodo.getCodigo();
+            padre[i] = pendiente.padre();
+            orden[i] = nodo.getOrden();
+            label[i] = nodo.getLabel();
+            url[i] = nodo.getRouterLink() == null || nodo.getRouterLink().isEmpty() ? null : nodo.getRouterLink().get(0);
+            apilar(pila, nodo.getItems(), i);
+            i++;
+        }
+        return new MenuPlanoResponseDTO(codigo, padre, orden, label, url);
+    }
+
+    private static int contar(List<MenuJerarquico> nodos) {
+        if (nodos == null) {
+            return 0;
+        }
+        int total = nodos.size();
+        for (MenuJerarquico nodo : nodos) {
+            total += contar(nodo.getItems());
+        }
+        return total;
+    }
+
+    /**
+     * Apila los hijos en orden inverso para sacarlos en su orden original.
+     */
+    private static void apilar(Deque<Pendiente> pila, List<MenuJerarquico> hijos, int padre) {
+        if (hijos == null) {
+            return;
+        }
+        for (int j = hijos.size() - 1; j >= 0; j--) {
+            pila.push(new Pendiente(hijos.get(j), padre));
+        }
+    }
+
+    private record Pendiente(MenuJerarquico nodo, int padre) {
+    }
+}
@@ -0,0 +1,218 @@
+package security.framework.output.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import security.framework.config.CacheConfig;
+import security.framework.output.persistence.NotificadorCambios;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caché de Infraestructura: AlmacenPayloadsOffHeap
+ * 
+ * Guarda el JSON ya renderizado del árbol de menús de cada perfil en
+ * ByteBuffers directos (memoria fuera del heap), para que decenas de miles
+ * de payloads de larga vida no engorden la generación vieja del GC.
+ * 
+ * Comportamiento:
+ * - Presupuesto en bytes (security.cache.payload.presupuesto) contado sobre
+ *   el tamaño de cada payload; al superarlo se desalojan las entradas usadas
+ *   hace más tiempo (LRU, LinkedHashMap en orden de acceso)
+ * - obtener() devuelve una vista de solo lectura del buffer, sin copiar:
+ *   MenuPerfilController la envuelve en un Buffer de Vert.x y Netty escribe
+ *   directamente desde la memoria directa al socket
+ * - La memoria de un payload desalojado se libera cuando el GC recoge su
+ *   ByteBuffer (objeto pequeño de generación joven); una respuesta en curso
+ *   mantiene vivo el buffer hasta terminar de escribirse
+ * 
+ * Invalidación (CacheInvalidable, vía RegistroCaches):
+ * - menu_perfil:{perfilId}, perfil:{perfilId}: descarta ese perfil
+ * - menu_perfil:*, menu, pantalla, modulo: descarta todo
+ * - Cada invalidación avanza una generación; guardar() descarta un payload
+ *   renderizado con datos leídos antes de una invalidación
+ * 
+ * Sincronización: un único monitor; las operaciones son O(1) y no copian
+ * bytes dentro de la sección crítica.
+ * 
+ * Métricas: security.payload.bytes, security.payload.entradas,
+ * security.payload.desalojos.
+ */
+@ApplicationScoped
+public class AlmacenPayloadsOffHeap implements CacheInvalidable {
+
+    private final boolean habilitado;
+    private final long presupuesto;
+    private final LinkedHashMap<Long, ByteBuffer> entradas = new LinkedHashMap<>(1024, 0.75f, true);
+
+    private long bytesUsados;
+    private long desalojos;
+    private long generacion;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param cacheConfig Configuración (security.cache.payload)
+     * @param registroCaches Registro donde se inscribe para recibir invalidaciones
+     * @param meterRegistry Registro de métricas Micrometer
+     */
+    @Inject
+    public AlmacenPayloadsOffHeap(CacheConfig cacheConfig, RegistroCaches registroCaches, MeterRegistry meterRegistry) {
+        this(cacheConfig.payload(), registroCaches, meterRegistry);
+    }
+
+    /**
+     * @param config Configuración (security.cache.payload)
+     * @param registroCaches Registro donde se inscribe para recibir invalidaciones
+     * @param meterRegistry Registro de métricas Micrometer
+     */
+    AlmacenPayloadsOffHeap(CacheConfig.Payload config, RegistroCaches registroCaches, MeterRegistry meterRegistry) {
+        this.habilitado = config.enabled();
+        this.presupuesto = config.presupuesto().asLongValue();
+        if (habilitado) {
+            registroCaches.registrar(this);
+            Gauge.builder("security.payload.bytes", this, AlmacenPayloadsOffHeap::getBytesUsados)
+                    .description("Bytes de memoria directa ocupados por payloads")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            Gauge.builder("security.payload.entradas", this, AlmacenPayloadsOffHeap::getEntradas)
+                    .description("Payloads almacenados")
+                    .register(meterRegistry);
+            FunctionCounter.builder("security.payload.desalojos", this, AlmacenPayloadsOffHeap::getDesalojos)
+                    .description("Payloads desalojados por presupuesto")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * @return true si security.cache.payload.enabled=true
+     */
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    /**
+     * Generación actual; se lee antes de consultar los datos a renderizar.
+     * 
+     * @return Generación de invalidaciones
+     */
+    public synchronized long generacion() {
+        return generacion;
+    }
+
+    /**
+     * Obtiene el payload de un perfil.
+     * 
+     * @param perfilId ID del perfil
+     * @return Optional con una vista de solo lectura (sin copia) del payload
+     */
+    public Optional<ByteBuffer> obtener(Long perfilId) {
+        if (!habilitado) {
+            return Optional.empty();
+        }
+        ByteBuffer payload;
+        synchronized (this) {
+            payload = entradas.get(perfilId);
+        }
+        return payload == null ? Optional.empty() : Optional.of(payload.asReadOnlyBuffer());
+    }
+
+    /**
+     * Copia el JSON renderizado a memoria directa y lo guarda si no hubo
+     * invalidaciones desde que se leyó la generación.
+     * 
+     * Solo reserva memoria directa si el payload se va a guardar: con el
+     * almacén deshabilitado, un payload mayor que el presupuesto o una
+     * invalidación en medio, se devuelve el propio arreglo envuelto.
+     * 
+     * @param perfilId ID del perfil
+     * @param json JSON renderizado (UTF-8)
+     * @param generacionLeida Generación leída antes de consultar los datos
+     * @return Vista de solo lectura del payload
+     */
+    public ByteBuffer guardar(Long perfilId, byte[] json, long generacionLeida) {
+        if (!habilitado || json.length > presupuesto || generacion() != generacionLeida) {
+            return ByteBuffer.wrap(json).asReadOnlyBuffer();
+        }
+        ByteBuffer directo = ByteBuffer.allocateDirect(json.length);
+        directo.put(json).flip();
+        synchronized (this) {
+            if (generacion != generacionLeida) {
+                return ByteBuffer.wrap(json).asReadOnlyBuffer();
+            }
+            ByteBuffer anterior = entradas.put(perfilId, directo);
+            if (anterior != null) {
+                bytesUsados -= anterior.capacity();
+            }
+            bytesUsados += directo.capacity();
+            desalojar();
+        }
+        return directo.asReadOnlyBuffer();
+    }
+
+    @Override
+    public void alCambiar(String tipo, String id) {
+        if (NotificadorCambios.MENU_PERFIL.equals(tipo) || NotificadorCambios.PERFIL.equals(tipo)) {
+            try {
+                quitar(Long.valueOf(id));
+            } catch (NumberFormatException e) {
+                invalidarTodo();
+            }
+        } else if (NotificadorCambios.MENU.equals(tipo)
+                || NotificadorCambios.PANTALLA.equals(tipo)
+                || NotificadorCambios.MODULO.equals(tipo)) {
+            invalidarTodo();
+        }
+    }
+
+    @Override
+    public synchronized void invalidarTodo() {
+        generacion++;
+        entradas.clear();
+        bytesUsados = 0;
+    }
+
+    /**
+     * @return Bytes de memoria directa ocupados
+     */
+    public synchronized long getBytesUsados() {
+        return bytesUsados;
+    }
+
+    /**
+     * @return Payloads almacenados
+     */
+    public synchronized int getEntradas() {
+        return entradas.size();
+    }
+
+    /**
+     * @return Payloads desalojados por presupuesto
+     */
+    public synchronized long getDesalojos() {
+        return desalojos;
+    }
+
+    private synchronized void quitar(Long perfilId) {
+        generacion++;
+        ByteBuffer anterior = entradas.remove(perfilId);
+        if (anterior != null) {
+            bytesUsados -= anterior.capacity();
+        }
+    }
+
+    private void desalojar() {
+        Iterator<Map.Entry<Long, ByteBuffer>> iterador = entradas.entrySet().iterator();
+        while (bytesUsados > presupuesto && iterador.hasNext()) {
+            bytesUsados -= iterador.next().getValue().capacity();
+            iterador.remove();
+            desalojos++;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package security.framework.output.cache;
+
+import security.aplication.dto.MenuPerfilView;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Formato de Archivo: ArchivoSnapshotMenus
+ * 
+ * Serializa el contenido de CacheMenusPerfil a un archivo binario compacto
+ * y lo lee mapeándolo en memoria (FileChannel.map), sin copiar el archivo
+ * completo al heap.
+ * 
+ * Estructura (big-endian):
+ * - Cabecera: int MAGICO, int FORMATO, long versión del catálogo,
+ *   long creado (epoch ms), int número de perfiles
+ * - Por perfil: long perfilId, int número de filas
+ * - Por fila: byte máscara de nulos y los campos no nulos de MenuPerfilView
+ *   (long idMenu, texto nombre, int jerarq, long menuPadre, int orden, texto url)
+ * - Texto: int longitud + bytes UTF-8
+ * - Cola: int MAGICO (un archivo truncado no pasa la validación)
+ * 
+ * Escritura atómica: se escribe en "&lt;archivo&gt;.tmp" y se renombra con
+ * ATOMIC_MOVE, así un lector nunca ve un archivo a medio escribir.
+ */
+public final class ArchivoSnapshotMenus {
+
+    private static final int MAGICO = 0x534D4E55;
+    private static final int FORMATO = 1;
+
+    private static final int NULO_ID_MENU = 1;
+    private static final int NULO_NOMBRE = 1 << 1;
+    private static final int NULO_JERARQ = 1 << 2;
+    private static final int NULO_MENU_PADRE = 1 << 3;
+    private static final int NULO_ORDEN = 1 << 4;
+    private static final int NULO_URL = 1 << 5;
+
+    /**
+     * Contenido de un snapshot.
+     * 
+     * @param version Versión del catálogo cuando se escribió
+     * @param creado Instante de escritura (epoch ms)
+     * @param menusPorPerfil Registros de vw_menu_perfil por perfil
+     */
+    public record Contenido(long version, long creado, Map<Long, List<MenuPerfilView>> menusPorPerfil) {
+    }
+
+    private ArchivoSnapshotMenus() {
+    }
+
+    /**
+     * Escribe el snapshot de forma atómica.
+     * 
+     * @param archivo Ruta del archivo
+     * @param contenido Contenido a escribir
+     * @throws IOException si falla la escritura
+     */
+    public static void escribir(Path archivo, Contenido contenido) throws IOException {
+        Path directorio = archivo.toAbsolutePath().getParent();
+        if (directorio != null) {
+            Files.createDirectories(directorio);
+        }
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporal)))) {
+            out.writeInt(MAGICO);
+            out.writeInt(FORMATO);
+            out.writeLong(contenido.version());
+            out.writeLong(contenido.creado());
+            out.writeInt(contenido.menusPorPerfil().size());
+            for (Map.Entry<Long, List<MenuPerfilView>> perfil : contenido.menusPorPerfil().entrySet()) {
+                out.writeLong(perfil.getKey());
+                out.writeInt(perfil.getValue().size());
+                for (MenuPerfilView fila : perfil.getValue()) {
+                    escribirFila(out, fila);
+                }
+            }
+            out.writeInt(MAGICO);
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Lee un snapshot mapeándolo en memoria.
+     * 
+     * @param archivo Ruta del archivo
+     * @return Contenido del snapshot
+     * @throws IOException si no se puede leer o el archivo no es válido
+     */
+    public static Contenido leer(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            if (buffer.getInt() != MAGICO || buffer.getInt() != FORMATO) {
+                throw new IOException("Snapshot con formato desconocido: " + archivo);
+            }
+            long version = buffer.getLong();
+            long creado = buffer.getLong();
+            int perfiles = buffer.getInt();
+            Map<Long, List<MenuPerfilView>> menusPorPerfil = new HashMap<>(perfiles * 4 / 3 + 1);
+            for (int i = 0; i < perfiles; i++) {
+                long perfilId = buffer.getLong();
+                int filas = buffer.getInt();
+                List<MenuPerfilView> registros = new ArrayList<>(filas);
+                for (int j = 0; j < filas; j++) {
+                    registros.add(leerFila(buffer, perfilId));
+                }
+                menusPorPerfil.put(perfilId, List.copyOf(registros));
+            }
+            if (buffer.getInt() != MAGICO) {
+                throw new IOException("Snapshot incompleto: " + archivo);
+            }
+            return new Contenido(version, creado, menusPorPerfil);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Snapshot truncado: " + archivo, e);
+        }
+    }
+
+    private static void escribirFila(DataOutputStream out, MenuPerfilView fila) throws IOException {
+        int nulos = (fila.getIdMenu() == null ? NULO_ID_MENU : 0)
+                | (fila.getNombre() == null ? NULO_NOMBRE : 0)
+                | (fila.getJerarq() == null ? NULO_JERARQ : 0)
+                | (fila.getMenuPadre() == null ? NULO_MENU_PADRE : 0)
+                | (fila.getOrden() == null ? NULO_ORDEN : 0)
+                | (fila.getUrl() == null ? NULO_URL : 0);
+        out.writeByte(nulos);
+        if (fila.getIdMenu() != null) {
+            out.writeLong(fila.getIdMenu());
+        }
+        if (fila.getNombre() != null) {
+            escribirTexto(out, fila.getNombre());
+        }
+        if (fila.getJerarq() != null) {
+            out.writeInt(fila.getJerarq());
+        }
+        if (fila.getMenuPadre() != null) {
+            out.writeLong(fila.getMenuPadre());
+        }
+        if (fila.getOrden() != null) {
+            out.writeInt(fila.getOrden());
+        }
+        if (fila.getUrl() != null) {
+            escribirTexto(out, fila.getUrl());
+        }
+    }
+
+    private static MenuPerfilView leerFila(ByteBuffer buffer, long perfilId) {
+        int nulos = buffer.get();
+        Long idMenu = (nulos & NULO_ID_MENU) == 0 ? buffer.getLong() : null;
+        String nombre = (nulos & NULO_NOMBRE) == 0 ? leerTexto(buffer) : null;
+        Integer jerarq = (nulos & NULO_JERARQ) == 0 ? buffer.getInt() : null;
+        Long menuPadre = (nulos & NULO_MENU_PADRE) == 0 ? buffer.getLong() : null;
+        Integer orden = (nulos & NULO_ORDEN) == 0 ? buffer.getInt() : null;
+        String url = (nulos & NULO_URL) == 0 ? leerTexto(buffer) : null;
+        return new MenuPerfilView(idMenu, perfilId, nombre, jerarq, menuPadre, orden, url);
+    }
+
+    private static void escribirTexto(DataOutputStream out, String texto) throws IOException {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String leerTexto(ByteBuffer buffer) {
+        int longitud = buffer.getInt();
+        byte[] bytes = new byte[longitud];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
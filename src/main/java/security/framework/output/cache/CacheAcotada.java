@@ -0,0 +1,32 @@
+package security.framework.output.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Contrato de Infraestructura: CacheAcotada
+ * 
+ * Caché en proceso con límite de tamaño (entradas o peso estimado en bytes)
+ * sobre Caffeine, que se puede observar y redimensionar en caliente.
+ * 
+ * Usos:
+ * - ApplicationConfig publica sus métricas (peso, desalojos, aciertos)
+ * - PresionMemoria reduce su máximo cuando el heap queda lleno tras un GC
+ *   y lo restaura cuando baja la presión (Policy.Eviction.setMaximum)
+ */
+public interface CacheAcotada {
+
+    /**
+     * @return Nombre de la caché (etiqueta cache de las métricas)
+     */
+    String getNombre();
+
+    /**
+     * @return Caché Caffeine subyacente (vista síncrona si es asíncrona)
+     */
+    Cache<?, ?> getCaffeine();
+
+    /**
+     * @return true si el máximo es un peso estimado en bytes y no un número de entradas
+     */
+    boolean isPonderada();
+}
@@ -0,0 +1,27 @@
+package security.framework.output.cache;
+
+/**
+ * Contrato de Infraestructura: CacheInvalidable
+ * 
+ * Caché en proceso que reacciona a cambios de datos notificados por
+ * RegistroCaches (escrituras locales o mensajes del canal entre nodos).
+ * 
+ * Tipos de cambio (NotificadorCambios):
+ * - menu, modulo, pantalla, perfil: id de la entidad
+ * - menu_perfil: id del perfil cuya asignación cambió
+ */
+public interface CacheInvalidable {
+
+    /**
+     * Descarta lo que dependa de la entidad modificada.
+     * 
+     * @param tipo Tipo de entidad modificada
+     * @param id ID de la entidad (texto)
+     */
+    void alCambiar(String tipo, String id);
+
+    /**
+     * Descarta todo el contenido.
+     */
+    void invalidarTodo();
+}
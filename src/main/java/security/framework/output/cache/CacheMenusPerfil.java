@@ -0,0 +1,231 @@
+package security.framework.output.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import security.aplication.dto.MenuPerfilView;
+import security.aplication.port.output.MenuPerfilViewReactiveRepository;
+import security.framework.config.CacheConfig;
+import security.framework.output.persistence.EnrutamientoLectura;
+import security.framework.output.persistence.NotificadorCambios;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Caché de Infraestructura: CacheMenusPerfil
+ * 
+ * Caché de los registros de vw_menu_perfil por perfil, de los que se
+ * construyen los árboles de menús. La comparten los decoradores
+ * MenuPerfilViewRepositoryCache (bloqueante) y
+ * MenuPerfilViewReactiveRepositoryCache (reactivo).
+ * 
+ * Línea de tiempo de una entrada (desde que se cargó):
+ * - [0, ttl - refresh-ahead): fresca, se sirve sin más
+ * - [ttl - refresh-ahead, ttl): fresca; la lectura lanza una recarga en
+ *   segundo plano (refresh-ahead: las entradas calientes se renuevan antes
+ *   de caducar y no pagan la latencia de la BD)
+ * - [ttl, ttl + grace): vieja; se sirve igual y la lectura lanza la recarga
+ *   (stale-while-revalidate)
+ * - desde ttl + grace: caducada; la lectura espera una carga nueva
+ * 
+ * Recargas:
+ * - Una sola recarga en curso por perfil (Caffeine refreshAfterWrite)
+ * - Si la recarga falla (BD lenta o caída), se conserva la entrada vieja y
+ *   la siguiente lectura lo vuelve a intentar: el login sigue respondiendo
+ *   durante el corte mientras la entrada no supere ttl + grace
+ * - Se cargan con el puerto reactivo: no ocupan hilos mientras esperan a la BD
+ * - Cargas y recargas leen siempre del primario (EnrutamientoLectura.enPrimario),
+ *   aunque la solicitud que las dispara lea de la réplica: una fila con
+ *   retraso de la réplica no se guarda para todos los clientes
+ * 
+ * Invalidación (CacheInvalidable, vía RegistroCaches):
+ * - menu_perfil:{perfilId}, perfil:{perfilId}: descarta ese perfil
+ * - menu_perfil:*, menu, pantalla, modulo: descarta todo (la vista une
+ *   menús y pantallas de cualquier perfil)
+ * 
+ * Límite (CacheAcotada):
+ * - Con maximum-weight, por peso estimado en bytes de los registros: un
+ *   perfil de 5.000 menús pesa lo que 250 perfiles de 20, y la admisión de
+ *   Caffeine (W-TinyLFU) no deja que una entrada grande y poco usada
+ *   desaloje muchas pequeñas y frecuentes
+ * - Sin maximum-weight, por número de perfiles (maximum-size)
+ * - PresionMemoria puede reducir el máximo cuando el heap está lleno
+ * 
+ * Snapshot local (SnapshotCacheMenus): contenido() se vuelca a disco y
+ * cargar() lo restaura al arrancar; recargarTodo() revalida en segundo plano
+ * todas las entradas sin dejar de servirlas.
+ * 
+ * Los registros se comparten entre solicitudes: son de solo lectura para
+ * ConstructorArbolMenus, que crea nodos nuevos y los interna (InternadorMenus).
+ */
+public class CacheMenusPerfil implements CacheInvalidable, CacheAcotada {
+
+    /** Nombre de la caché en métricas */
+    public static final String NOMBRE = "menu_perfil";
+
+    /** Cabecera de objeto + referencias de MenuPerfilView (compressed oops) */
+    private static final int PESO_FILA = 48;
+    /** Long/Integer en caja (idMenu, perfilId, jerarq, menuPadre, orden) */
+    private static final int PESO_NUMEROS = 5 * 16;
+    /** String + su byte[] sin contar el contenido */
+    private static final int PESO_TEXTO = 24 + 16;
+    /** Lista inmutable sin contar sus referencias */
+    private static final int PESO_LISTA = 32;
+
+
+    private final AsyncLoadingCache<Long, List<MenuPerfilView>> cache;
+    private final boolean ponderada;
+
+    /**
+     * @param config Tamaño o peso, ttl, refresh-ahead y grace
+     * @param cargador Puerto reactivo de vw_menu_perfil
+     * @param enrutamientoLectura Cargas y recargas siempre contra el primario
+     */
+    public CacheMenusPerfil(CacheConfig.Revalidable config, MenuPerfilViewReactiveRepository cargador,
+                            EnrutamientoLectura enrutamientoLectura) {
+        Duration recargarTras = config.ttl().minus(config.refreshAhead());
+        if (recargarTras.isNegative() || recargarTras.isZero()) {
+            recargarTras = config.ttl();
+        }
+        Caffeine<Object, Object> constructor = Caffeine.newBuilder().recordStats();
+        this.ponderada = config.maximumWeight().isPresent();
+        if (ponderada) {
+            constructor.maximumWeight(config.maximumWeight().get().asLongValue())
+                    .weigher((Long perfilId, List<MenuPerfilView> filas) -> pesar(filas));
+        } else {
+            constructor.maximumSize(config.maximumSize());
+        }
+        this.cache = constructor
+                .refreshAfterWrite(recargarTras)
+                .expireAfterWrite(config.ttl().plus(config.grace()))
+                .buildAsync((perfilId, executor) -> enrutamientoLectura
+                        .enPrimario(() -> cargador.findByPerfilId(perfilId))
+                        .toCompletableFuture());
+    }
+
+    /**
+     * Obtiene los registros de un perfil esperando de forma bloqueante.
+     * 
+     * @param perfilId ID del perfil
+     * @return Registros de vw_menu_perfil del perfil
+     */
+    public List<MenuPerfilView> obtener(Long perfilId) {
+        try {
+            return cache.get(perfilId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Obtiene los registros de un perfil sin bloquear.
+     * 
+     * Cada llamada recibe una copia del futuro de la caché, para que una
+     * cancelación no descarte la carga compartida.
+     * 
+     * @param perfilId ID del perfil
+     * @return Etapa con los registros de vw_menu_perfil del perfil
+     */
+    public CompletionStage<List<MenuPerfilView>> obtenerAsincrono(Long perfilId) {
+        return cache.get(perfilId).copy();
+    }
+
+    /**
+     * Copia de las entradas ya cargadas (excluye cargas en curso).
+     * 
+     * @return Registros por perfil
+     */
+    public Map<Long, List<MenuPerfilView>> contenido() {
+        return new HashMap<>(cache.synchronous().asMap());
+    }
+
+    /**
+     * Carga entradas (p. ej. desde un snapshot) como recién escritas.
+     * 
+     * @param menusPorPerfil Registros por perfil
+     */
+    public void cargar(Map<Long, List<MenuPerfilView>> menusPorPerfil) {
+        cache.synchronous().putAll(menusPorPerfil);
+    }
+
+    /**
+     * Recarga en segundo plano todas las entradas presentes; mientras tanto
+     * se siguen sirviendo las actuales.
+     * 
+     * @return Futuro que termina cuando todas las recargas terminan
+     */
+    public CompletableFuture<?> recargarTodo() {
+        return cache.synchronous().refreshAll(cache.synchronous().asMap().keySet());
+    }
+
+    @Override
+    public void alCambiar(String tipo, String id) {
+        if (NotificadorCambios.MENU_PERFIL.equals(tipo) || NotificadorCambios.PERFIL.equals(tipo)) {
+            try {
+                cache.synchronous().invalidate(Long.valueOf(id));
+            } catch (NumberFormatException e) {
+                invalidarTodo();
+            }
+        } else if (NotificadorCambios.MENU.equals(tipo)
+                || NotificadorCambios.PANTALLA.equals(tipo)
+                || NotificadorCambios.MODULO.equals(tipo)) {
+            invalidarTodo();
+        }
+    }
+
+    @Override
+    public void invalidarTodo() {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * @return Número aproximado de entradas
+     */
+    public long tamano() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    @Override
+    public String getNombre() {
+        return NOMBRE;
+    }
+
+    @Override
+    public Cache<?, ?> getCaffeine() {
+        return cache.synchronous();
+    }
+
+    @Override
+    public boolean isPonderada() {
+        return ponderada;
+    }
+
+    /**
+     * Estima los bytes de heap que ocupan los registros de un perfil.
+     * 
+     * @param filas Registros de vw_menu_perfil
+     * @return Peso estimado en bytes
+     */
+    static int pesar(List<MenuPerfilView> filas) {
+        long peso = PESO_LISTA + 4L * filas.size();
+        for (MenuPerfilView fila : filas) {
+            peso += PESO_FILA + PESO_NUMEROS
+                    + pesarTexto(fila.getNombre())
+                    + pesarTexto(fila.getUrl());
+        }
+        return (int) Math.min(peso, Integer.MAX_VALUE);
+    }
+
+    private static long pesarTexto(String texto) {
+        return texto == null ? 0 : PESO_TEXTO + texto.length();
+    }
+}
@@ -0,0 +1,197 @@
+package security.framework.output.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import security.framework.config.CacheConfig;
+
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Caché de Infraestructura: CachePorId
+ * 
+ * Caché acotada (Caffeine) de resultados findById de un puerto de salida,
+ * compartida por los decoradores *RepositoryCache.
+ * 
+ * Comportamiento:
+ * - Read-through: si la clave no está, se carga con el puerto decorado;
+ *   cargas concurrentes de la misma clave esperan a una sola consulta
+ * - Caché negativa: Optional.empty() también se guarda, con negative-ttl
+ * - Copias defensivas: los casos de uso mutan las entidades que reciben
+ *   (p. ej. Pantalla.actualizar), así que nunca se entrega la instancia cacheada
+ * - Invalidación: inmediata y, si hay transacción JTA activa, de nuevo al
+ *   terminarla (commit o rollback). La segunda invalidación descarta lo que
+ *   otra solicitud haya cargado entre la escritura y el commit.
+ * 
+ * - Cambios remotos (CanalInvalidacionCache): alCambiar(tipo, id) invalida
+ *   la clave cuando el tipo coincide con el nombre de la caché
+ * - Acotada por número de entradas (las entidades tienen tamaño parecido);
+ *   registra estadísticas para las métricas y PresionMemoria puede reducir
+ *   el máximo (CacheAcotada)
+ * - Réplica de lectura (EnrutamientoLectura): si la solicitud lee de la
+ *   réplica, un acierto se entrega pero un fallo se carga sin guardarse.
+ *   La réplica puede devolver la fila de antes de una escritura ya
+ *   invalidada, y guardada se serviría a todos los clientes hasta el ttl.
+ *   La sesión de Hibernate fija su datasource al abrirse, así que la carga
+ *   no puede forzarse al primario
+ * 
+ * @param <K> Tipo de la clave (ID)
+ * @param <V> Tipo de la entidad de dominio
+ */
+public class CachePorId<K, V> implements CacheInvalidable, CacheAcotada {
+
+    private final String nombre;
+    private final Cache<K, Optional<V>> cache;
+    private final Function<String, K> claveDesdeTexto;
+    private final UnaryOperator<V> copia;
+    private final BooleanSupplier lecturaReplica;
+    private final TransactionSynchronizationRegistry transacciones;
+
+    /**
+     * @param nombre Nombre del puerto; coincide con el tipo de cambio notificado
+     * @param config Tamaño y TTLs del puerto
+     * @param claveDesdeTexto Conversión del ID recibido en una notificación
+     * @param copia Copia defensiva de la entidad
+     * @param lecturaReplica true si la solicitud en curso lee de la réplica
+     * @param transacciones Registro JTA para invalidar al terminar la transacción
+     */
+    public CachePorId(String nombre, CacheConfig.Puerto config, Function<String, K> claveDesdeTexto,
+                      UnaryOperator<V> copia, BooleanSupplier lecturaReplica,
+                      TransactionSynchronizationRegistry transacciones) {
+        this.nombre = nombre;
+        this.claveDesdeTexto = claveDesdeTexto;
+        this.copia = copia;
+        this.lecturaReplica = lecturaReplica;
+        this.transacciones = transacciones;
+        long ttl = config.ttl().toNanos();
+        long ttlNegativo = config.negativeTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.maximumSize())
+                .recordStats()
+                .expireAfter(new Expiry<K, Optional<V>>() {
+                    @Override
+                    public long expireAfterCreate(K clave, Optional<V> valor, long ahora) {
+                        return valor.isPresent() ? ttl : ttlNegativo;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(K clave, Optional<V> valor, long ahora, long restante) {
+                        return expireAfterCreate(clave, valor, ahora);
+                    }
+
+                    @Override
+                    public long expireAfterRead(K clave, Optional<V> valor, long ahora, long restante) {
+                        return restante;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Obtiene la entidad de la caché o la carga con el puerto decorado.
+     * Lo cargado desde la réplica no se guarda.
+     * 
+     * @param clave ID de la entidad
+     * @param cargador Lectura en el puerto decorado
+     * @return Copia de la entidad, o vacío si no existe
+     */
+    public Optional<V> obtener(K clave, Function<K, Optional<V>> cargador) {
+        if (clave == null) {
+            return cargador.apply(null);
+        }
+        if (lecturaReplica.getAsBoolean()) {
+            Optional<V> guardado = cache.getIfPresent(clave);
+            return guardado != null ? guardado.map(copia) : cargador.apply(clave);
+        }
+        return cache.get(clave, cargador).map(copia);
+    }
+
+    /**
+     * Invalida una clave ahora y al terminar la transacción activa.
+     * 
+     * @param clave ID de la entidad modificada
+     */
+    public void invalidar(K clave) {
+        if (clave == null) {
+            return;
+        }
+        cache.invalidate(clave);
+        alTerminarTransaccion(() -> cache.invalidate(clave));
+    }
+
+    /**
+     * Invalida la clave si el cambio es de este tipo de entidad.
+     * 
+     * @param tipo Tipo de entidad modificada
+     * @param id ID de la entidad (texto)
+     */
+    @Override
+    public void alCambiar(String tipo, String id) {
+        if (nombre.equals(tipo)) {
+            try {
+                invalidar(claveDesdeTexto.apply(id));
+            } catch (NumberFormatException e) {
+                invalidarTodo();
+            }
+        }
+    }
+
+    /**
+     * Vacía la caché ahora y al terminar la transacción activa.
+     */
+    @Override
+    public void invalidarTodo() {
+        cache.invalidateAll();
+        alTerminarTransaccion(cache::invalidateAll);
+    }
+
+    /**
+     * @return Nombre del puerto
+     */
+    @Override
+    public String getNombre() {
+        return nombre;
+    }
+
+    @Override
+    public Cache<?, ?> getCaffeine() {
+        return cache;
+    }
+
+    @Override
+    public boolean isPonderada() {
+        return false;
+    }
+
+    /**
+     * @return Número aproximado de entradas
+     */
+    public long tamano() {
+        return cache.estimatedSize();
+    }
+
+    private void alTerminarTransaccion(Runnable accion) {
+        // Sin transacción o ya terminando (p. ej. desde el afterCompletion de
+        // NotificadorCambios): no hay nada que esperar ni donde registrarse
+        int estado = transacciones.getTransactionStatus();
+        if (estado != Status.STATUS_ACTIVE && estado != Status.STATUS_MARKED_ROLLBACK) {
+            return;
+        }
+        transacciones.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int estado) {
+                accion.run();
+            }
+        });
+    }
+}
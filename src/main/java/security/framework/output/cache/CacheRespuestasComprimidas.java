@@ -0,0 +1,314 @@
+package security.framework.output.cache;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.jboss.logging.Logger;
+import security.framework.config.CacheConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caché de Infraestructura: CacheRespuestasComprimidas
+ * 
+ * Guarda el cuerpo de las respuestas marcadas con @Precomprimible ya
+ * comprimido en gzip y brotli, para que la compresión ocurra una vez por
+ * cambio de contenido y no una vez por solicitud (PrecompresionFilter).
+ * Cubre los GET de árboles de menús por perfil y la lista de módulos.
+ * 
+ * Clave: ruta + query + Accept de la solicitud GET (el mismo recurso en
+ * JSON, CBOR o plano son entradas distintas).
+ * 
+ * Memoria: las variantes se copian a ByteBuffers directos (fuera del heap),
+ * para que miles de respuestas de larga vida no engorden la generación
+ * vieja del GC; solo se reserva memoria directa para lo que se guarda.
+ * variante() devuelve una vista de solo lectura que PrecompresionFilter
+ * envuelve en un Buffer de Vert.x sin copiarla. La memoria de una entrada
+ * desalojada se libera cuando el GC recoge su ByteBuffer.
+ * 
+ * Variantes:
+ * - gzip: se comprime al guardar, en el hilo de la respuesta (nivel por
+ *   defecto de Deflater, unos pocos milisegundos por cientos de KB)
+ * - br: se comprime después en un hilo propio con la calidad máxima de
+ *   brotli (11, lenta para hacerla en el event loop); hasta que termina,
+ *   los clientes que aceptan br reciben gzip
+ * brotli requiere la librería nativa de brotli4j (dependencia del
+ * proyecto, con los nativos de las plataformas soportadas); si no carga en
+ * esta plataforma, solo se guarda gzip.
+ * 
+ * Acotada por peso: bytes de memoria directa de las variantes
+ * (security.cache.comprimido.maximum-weight), con desalojo de Caffeine.
+ * No es una CacheAcotada: al estar fuera del heap, PresionMemoria no la
+ * reduce.
+ * 
+ * Invalidación (CacheInvalidable, vía RegistroCaches): cualquier cambio
+ * descarta todo. Una respuesta puede depender de varias entidades (el árbol
+ * de un perfil lee menús, pantallas y módulos) y las escrituras son raras
+ * frente a las lecturas. Cada invalidación avanza una generación; una
+ * respuesta renderizada antes de la invalidación no se guarda.
+ */
+@ApplicationScoped
+public class CacheRespuestasComprimidas implements CacheInvalidable {
+
+    private static final Logger LOG = Logger.getLogger(CacheRespuestasComprimidas.class);
+
+    /** Nombre de la caché en métricas */
+    public static final String NOMBRE = "respuestas_comprimidas";
+
+    /** Content-Encoding gzip */
+    public static final String GZIP = "gzip";
+
+    /** Content-Encoding brotli */
+    public static final String BROTLI = "br";
+
+    /** Clave, tipo de contenido y cabeceras de objeto, sin contar las variantes */
+    private static final int PESO_ENTRADA = 256;
+
+    private static final int CALIDAD_BROTLI = 11;
+
+    private final boolean habilitado;
+    private final long minimo;
+    private final RegistroCaches registroCaches;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, RespuestaComprimida> cache;
+
+    private long generacion;
+    private volatile ExecutorService compresor;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param cacheConfig Configuración (security.cache.comprimido)
+     * @param registroCaches Registro donde se inscribe para recibir invalidaciones
+     * @param meterRegistry Registro de métricas Micrometer
+     */
+    public CacheRespuestasComprimidas(CacheConfig cacheConfig, RegistroCaches registroCaches,
+                                      MeterRegistry meterRegistry) {
+        CacheConfig.Comprimido config = cacheConfig.comprimido();
+        this.habilitado = config.enabled();
+        this.minimo = config.minimo().asLongValue();
+        this.registroCaches = registroCaches;
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .recordStats()
+                .maximumWeight(config.maximumWeight().asLongValue())
+                .weigher((String clave, RespuestaComprimida respuesta) -> respuesta.peso())
+                .build();
+    }
+
+    /**
+     * Se registra para recibir invalidaciones y carga brotli.
+     * 
+     * Corre con la prioridad por defecto, antes de que PresionMemoria
+     * recorra las cachés acotadas registradas.
+     * 
+     * @param evento Evento de arranque de Quarkus
+     */
+    void alIniciar(@Observes StartupEvent evento) {
+        if (!habilitado) {
+            return;
+        }
+        if (Brotli4jLoader.isAvailable()) {
+            compresor = Executors.newSingleThreadExecutor(tarea -> {
+                Thread hilo = new Thread(tarea, "compresion-brotli");
+                hilo.setDaemon(true);
+                return hilo;
+            });
+        } else {
+            LOG.warnf("brotli no disponible (%s); solo se precomprime gzip",
+                    Brotli4jLoader.getUnavailabilityCause().getMessage());
+        }
+        registroCaches.registrar(this);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NOMBRE);
+    }
+
+    /**
+     * Detiene el hilo de compresión brotli.
+     * 
+     * @param evento Evento de apagado de Quarkus
+     */
+    void alDetener(@Observes ShutdownEvent evento) {
+        if (compresor != null) {
+            compresor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return true si security.cache.comprimido.enabled=true
+     */
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    /**
+     * @return Tamaño mínimo en bytes de un cuerpo para precomprimirlo
+     */
+    public long getMinimo() {
+        return minimo;
+    }
+
+    /**
+     * Generación actual; se lee antes de ejecutar el endpoint.
+     * 
+     * @return Generación de invalidaciones
+     */
+    public synchronized long generacion() {
+        return generacion;
+    }
+
+    /**
+     * Indica si un valor de Accept-Encoding admite una codificación
+     * (ignora las que llevan q=0).
+     * 
+     * @param aceptadas Cabecera Accept-Encoding (puede ser null)
+     * @param codificacion gzip o br
+     * @return true si el cliente la admite
+     */
+    public static boolean acepta(String aceptadas, String codificacion) {
+        if (aceptadas == null) {
+            return false;
+        }
+        for (String parte : aceptadas.split(",")) {
+            String[] elementos = parte.trim().toLowerCase(Locale.ROOT).split(";");
+            if (elementos[0].trim().equals(codificacion)) {
+                for (int i = 1; i < elementos.length; i++) {
+                    if (elementos[i].trim().matches("q=0(\\.0{0,3})?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param clave Ruta + query + Accept
+     * @return Optional con la respuesta comprimida guardada
+     */
+    public Optional<RespuestaComprimida> obtener(String clave) {
+        return Optional.ofNullable(cache.getIfPresent(clave));
+    }
+
+    /**
+     * Comprime un cuerpo en gzip y lo guarda si no hubo invalidaciones desde
+     * que se leyó la generación; la variante brotli se añade en segundo plano.
+     * 
+     * @param clave Ruta + query + Accept
+     * @param tipo Content-Type de la respuesta
+     * @param cuerpo Cuerpo sin comprimir
+     * @param generacionLeida Generación leída antes de ejecutar el endpoint
+     * @return Variante gzip, para responder la solicitud en curso
+     */
+    public byte[] guardar(String clave, String tipo, byte[] cuerpo, long generacionLeida) {
+        byte[] gzip = gzip(cuerpo);
+        if (generacion() != generacionLeida) {
+            return gzip;
+        }
+        RespuestaComprimida respuesta = new RespuestaComprimida(tipo, directo(gzip), null);
+        synchronized (this) {
+            if (generacion != generacionLeida) {
+                return gzip;
+            }
+            cache.put(clave, respuesta);
+        }
+        ExecutorService brotli = compresor;
+        if (brotli != null) {
+            brotli.execute(() -> agregarBrotli(clave, respuesta, cuerpo));
+        }
+        return gzip;
+    }
+
+    @Override
+    public void alCambiar(String tipo, String id) {
+        invalidarTodo();
+    }
+
+    @Override
+    public synchronized void invalidarTodo() {
+        generacion++;
+        cache.invalidateAll();
+    }
+
+    private void agregarBrotli(String clave, RespuestaComprimida base, byte[] cuerpo) {
+        byte[] comprimido;
+        try {
+            comprimido = Encoder.compress(cuerpo, new Encoder.Parameters().setQuality(CALIDAD_BROTLI));
+        } catch (IOException e) {
+            LOG.debugf("No se pudo comprimir con brotli %s: %s", clave, e.getMessage());
+            return;
+        }
+        if (cache.getIfPresent(clave) != base) {
+            return;
+        }
+        ByteBuffer brotli = directo(comprimido);
+        // Solo si la entrada sigue siendo la misma (sin invalidación ni reemplazo)
+        cache.asMap().computeIfPresent(clave, (k, actual) -> actual == base
+                ? new RespuestaComprimida(base.tipo(), base.gzip(), brotli)
+                : actual);
+    }
+
+    private static ByteBuffer directo(byte[] bytes) {
+        ByteBuffer directo = ByteBuffer.allocateDirect(bytes.length);
+        directo.put(bytes).flip();
+        return directo;
+    }
+
+    private static byte[] gzip(byte[] cuerpo) {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream(Math.max(64, cuerpo.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(salida)) {
+            gzip.write(cuerpo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return salida.toByteArray();
+    }
+
+    /**
+     * Cuerpo de una respuesta en sus variantes comprimidas, en memoria directa.
+     * 
+     * @param tipo Content-Type de la respuesta
+     * @param gzip Variante gzip
+     * @param brotli Variante brotli (null mientras se comprime o si no hay brotli)
+     */
+    public record RespuestaComprimida(String tipo, ByteBuffer gzip, ByteBuffer brotli) {
+
+        /**
+         * Elige la variante para un valor de Accept-Encoding: br si el
+         * cliente lo admite y ya está comprimida, si no gzip.
+         * 
+         * @param aceptadas Cabecera Accept-Encoding
+         * @return gzip o br
+         */
+        public String codificacion(String aceptadas) {
+            return brotli != null && acepta(aceptadas, BROTLI) ? BROTLI : GZIP;
+        }
+
+        /**
+         * @param codificacion gzip o br
+         * @return Vista de solo lectura (sin copia) de esa variante
+         */
+        public ByteBuffer variante(String codificacion) {
+            return (BROTLI.equals(codificacion) ? brotli : gzip).asReadOnlyBuffer();
+        }
+
+        private int peso() {
+            return PESO_ENTRADA + gzip.capacity() + (brotli == null ? 0 : brotli.capacity());
+        }
+    }
+}
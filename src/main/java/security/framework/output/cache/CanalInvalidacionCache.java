@@ -0,0 +1,137 @@
+package security.framework.output.cache;
+
+import io.quarkus.runtime.StartupEvent;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.pgclient.pubsub.PgSubscriber;
+import io.vertx.pgclient.PgConnectOptions;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import security.framework.config.CacheConfig;
+
+import java.time.Duration;
+
+/**
+ * Componente de Infraestructura: CanalInvalidacionCache
+ * 
+ * Mantiene coherentes las cachés en proceso de todos los nodos: escucha
+ * (LISTEN) el canal PostgreSQL donde NotificadorCambios publica cada
+ * escritura confirmada y reparte el cambio a RegistroCaches.
+ * 
+ * Flujo:
+ * Nodo A: adaptador escribe → pg_notify(canal, "menu:15") → COMMIT
+ * PostgreSQL → entrega "menu:15" a todos los nodos en LISTEN (incluido A)
+ * Nodo B: CanalInvalidacionCache → RegistroCaches.alCambiar("menu", "15")
+ * 
+ * Conexión:
+ * - Conexión dedicada al primario (quarkus.datasource.reactive.url), fuera
+ *   del pool: LISTEN necesita una sesión fija y la réplica no recibe NOTIFY
+ * - Conexión inicial: reintenta con espera exponencial hasta conectar, sin
+ *   bloquear el arranque
+ * - Caída de conexión: PgSubscriber reconecta con espera exponencial (tope
+ *   security.cache.canal.reintento-maximo) y vuelve a suscribirse
+ * 
+ * Huecos de conexión:
+ * Los NOTIFY emitidos mientras no hay conexión se pierden. Por eso, cada vez
+ * que el canal vuelve a quedar suscrito tras una reconexión se vacían todas
+ * las cachés: lo que se hubiera perdido se vuelve a leer de la BD. Mientras
+ * dura el hueco, el ttl de cada caché acota el dato obsoleto.
+ * 
+ * La primera suscripción no vacía nada: las cachés arrancan vacías o con un
+ * snapshot que SnapshotCacheMenus valida contra la versión del catálogo.
+ * 
+ * Con security.cache.canal.enabled=false no se abre la conexión.
+ */
+@ApplicationScoped
+public class CanalInvalidacionCache {
+
+    private static final Logger LOG = Logger.getLogger(CanalInvalidacionCache.class);
+
+    private static final Duration ESPERA_INICIAL = Duration.ofSeconds(1);
+
+    private final Vertx vertx;
+    private final RegistroCaches registroCaches;
+    private final CacheConfig.Canal canal;
+    private final String url;
+    private final String usuario;
+    private final String clave;
+
+    private PgSubscriber subscriber;
+    private volatile boolean suscritoAntes;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param vertx Instancia Vert.x de Quarkus
+     * @param registroCaches Cachés en proceso a invalidar
+     * @param cacheConfig Configuración del canal
+     * @param url URL reactiva del datasource primario
+     * @param usuario Usuario del datasource primario
+     * @param clave Contraseña del datasource primario
+     */
+    public CanalInvalidacionCache(Vertx vertx,
+                                  RegistroCaches registroCaches,
+                                  CacheConfig cacheConfig,
+                                  @ConfigProperty(name = "quarkus.datasource.reactive.url") String url,
+                                  @ConfigProperty(name = "quarkus.datasource.username") String usuario,
+                                  @ConfigProperty(name = "quarkus.datasource.password") String clave) {
+        this.vertx = vertx;
+        this.registroCaches = registroCaches;
+        this.canal = cacheConfig.canal();
+        this.url = url;
+        this.usuario = usuario;
+        this.clave = clave;
+    }
+
+    /**
+     * Abre la conexión LISTEN al arrancar la aplicación.
+     * 
+     * @param evento Evento de arranque de Quarkus
+     */
+    void alIniciar(@Observes StartupEvent evento) {
+        if (!canal.enabled()) {
+            return;
+        }
+        PgConnectOptions opciones = PgConnectOptions.fromUri(url)
+                .setUser(usuario)
+                .setPassword(clave);
+        long maximo = canal.reintentoMaximo().toMillis();
+        subscriber = PgSubscriber.subscriber(vertx, opciones)
+                .reconnectPolicy(intentos -> Math.min(ESPERA_INICIAL.toMillis() << Math.min(intentos, 16), maximo));
+        subscriber.channel(canal.nombre())
+                .subscribeHandler(this::alSuscribir)
+                .handler(registroCaches::aplicar);
+        subscriber.connect()
+                .onFailure().invoke(e -> LOG.warnf("Canal %s sin conexión, reintentando: %s", canal.nombre(), e.getMessage()))
+                .onFailure().retry().withBackOff(ESPERA_INICIAL, canal.reintentoMaximo()).indefinitely()
+                .subscribe().with(
+                        ignorado -> LOG.infof("Canal de invalidación %s conectado", canal.nombre()),
+                        e -> LOG.errorf(e, "Canal de invalidación %s detenido", canal.nombre()));
+    }
+
+    /**
+     * Cierra la conexión LISTEN.
+     */
+    @PreDestroy
+    void cerrar() {
+        if (subscriber != null) {
+            subscriber.closeAndForget();
+        }
+    }
+
+    /**
+     * Canal suscrito: tras una reconexión descarta lo que pudo cambiar
+     * mientras no había conexión.
+     */
+    private void alSuscribir() {
+        if (!suscritoAntes) {
+            suscritoAntes = true;
+            LOG.infof("Canal %s suscrito", canal.nombre());
+            return;
+        }
+        LOG.infof("Canal %s suscrito de nuevo, vaciando cachés", canal.nombre());
+        registroCaches.invalidarTodo();
+    }
+}
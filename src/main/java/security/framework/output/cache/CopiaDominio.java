@@ -0,0 +1,51 @@
+package security.framework.output.cache;
+
+import security.dominio.entidades.Menu;
+import security.dominio.entidades.Modulo;
+import security.dominio.entidades.Pantalla;
+import security.dominio.entidades.Perfil;
+
+/**
+ * Utilidad de Infraestructura: CopiaDominio
+ * 
+ * Copias profundas de las entidades de dominio que se guardan en caché.
+ * Las entidades de dominio son mutables; la caché entrega siempre copias
+ * para que un caso de uso no altere la instancia compartida.
+ */
+public final class CopiaDominio {
+
+    private CopiaDominio() {
+    }
+
+    public static Modulo copiar(Modulo modulo) {
+        if (modulo == null) {
+            return null;
+        }
+        return new Modulo(modulo.getId(), modulo.getNombre());
+    }
+
+    public static Perfil copiar(Perfil perfil) {
+        if (perfil == null) {
+            return null;
+        }
+        return new Perfil(perfil.getId(), perfil.getNombre());
+    }
+
+    public static Pantalla copiar(Pantalla pantalla) {
+        if (pantalla == null) {
+            return null;
+        }
+        return new Pantalla(pantalla.getId(), copiar(pantalla.getModulo()), pantalla.getNombre(),
+                pantalla.getUrl(), pantalla.getUserc(), pantalla.getFechaC(),
+                pantalla.getUsermod(), pantalla.getFechamod());
+    }
+
+    public static Menu copiar(Menu menu) {
+        if (menu == null) {
+            return null;
+        }
+        return new Menu(menu.getMenuId(), menu.getNombre(), menu.getJerarquia(), menu.getOrden(),
+                copiar(menu.getPantalla()), copiar(menu.getModulo()), copiar(menu.getMenuPadre()),
+                menu.getEstado(), menu.getIcono());
+    }
+}
@@ -0,0 +1,30 @@
+package security.framework.output.cache;
+
+import security.aplication.dto.MenuPerfilView;
+import security.aplication.port.output.MenuPerfilViewReactiveRepository;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Decorador de Caché: MenuPerfilViewReactiveRepositoryCache
+ * 
+ * Implementa MenuPerfilViewReactiveRepository sobre CacheMenusPerfil.
+ * 
+ * Patrón: Decorator (transparente para los casos de uso)
+ * 
+ * - findByPerfilId: stale-while-revalidate con CacheMenusPerfil, sin bloquear
+ */
+public class MenuPerfilViewReactiveRepositoryCache implements MenuPerfilViewReactiveRepository {
+
+    private final CacheMenusPerfil cache;
+
+    public MenuPerfilViewReactiveRepositoryCache(CacheMenusPerfil cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public CompletionStage<List<MenuPerfilView>> findByPerfilId(Long perfilId) {
+        return cache.obtenerAsincrono(perfilId);
+    }
+}
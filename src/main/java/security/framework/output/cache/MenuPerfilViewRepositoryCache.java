@@ -0,0 +1,30 @@
+package security.framework.output.cache;
+
+import security.aplication.dto.MenuPerfilView;
+import security.aplication.port.output.MenuPerfilViewRepository;
+
+import java.util.List;
+
+/**
+ * Decorador de Caché: MenuPerfilViewRepositoryCache
+ * 
+ * Implementa MenuPerfilViewRepository sobre CacheMenusPerfil.
+ * 
+ * Patrón: Decorator (transparente para los casos de uso)
+ * 
+ * - findByPerfilId: stale-while-revalidate con CacheMenusPerfil; las cargas
+ *   y recargas van por el puerto reactivo, el hilo llamante solo espera
+ */
+public class MenuPerfilViewRepositoryCache implements MenuPerfilViewRepository {
+
+    private final CacheMenusPerfil cache;
+
+    public MenuPerfilViewRepositoryCache(CacheMenusPerfil cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public List<MenuPerfilView> findByPerfilId(Long perfilId) {
+        return cache.obtener(perfilId);
+    }
+}
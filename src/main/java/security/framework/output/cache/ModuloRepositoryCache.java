@@ -0,0 +1,68 @@
+package security.framework.output.cache;
+
+import security.aplication.port.output.ModuloRepository;
+import security.dominio.entidades.Modulo;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decorador de Caché: ModuloRepositoryCache
+ * 
+ * Implementa ModuloRepository envolviendo otro ModuloRepository.
+ * 
+ * Patrón: Decorator (transparente para los casos de uso)
+ * 
+ * - findById: read-through con CachePorId (incluye caché negativa)
+ * - save / update / delete / deleteById: delegan e invalidan el ID
+ * - findAll: delega sin caché
+ */
+public class ModuloRepositoryCache implements ModuloRepository {
+
+    private final ModuloRepository delegado;
+    private final CachePorId<Long, Modulo> cache;
+
+    public ModuloRepositoryCache(ModuloRepository delegado, CachePorId<Long, Modulo> cache) {
+        this.delegado = delegado;
+        this.cache = cache;
+    }
+
+    @Override
+    public Modulo save(Modulo modulo) {
+        Modulo guardado = delegado.save(modulo);
+        if (guardado != null && guardado.getId() != null) {
+            cache.invalidar(guardado.getId().longValue());
+        }
+        return guardado;
+    }
+
+    @Override
+    public Optional<Modulo> findById(Long id) {
+        return cache.obtener(id, delegado::findById);
+    }
+
+    @Override
+    public List<Modulo> findAll() {
+        return delegado.findAll();
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean eliminado = delegado.deleteById(id);
+        cache.invalidar(id);
+        return eliminado;
+    }
+
+    @Override
+    public Modulo update(Long id, Modulo modulo) {
+        Modulo actualizado = delegado.update(id, modulo);
+        cache.invalidar(id);
+        return actualizado;
+    }
+
+    @Override
+    public void delete(Long id) {
+        delegado.delete(id);
+        cache.invalidar(id);
+    }
+}
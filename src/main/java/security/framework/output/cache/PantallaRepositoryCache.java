@@ -0,0 +1,55 @@
+package security.framework.output.cache;
+
+import security.aplication.port.output.PantallaRepository;
+import security.dominio.entidades.Pantalla;
+
+import java.util.Optional;
+
+/**
+ * Decorador de Caché: PantallaRepositoryCache
+ * 
+ * Implementa PantallaRepository envolviendo otro PantallaRepository.
+ * 
+ * Patrón: Decorator (transparente para los casos de uso)
+ * 
+ * - findById: read-through con CachePorId (incluye caché negativa)
+ * - save / update / deleteById: delegan e invalidan el ID
+ */
+public class PantallaRepositoryCache implements PantallaRepository {
+
+    private final PantallaRepository delegado;
+    private final CachePorId<Long, Pantalla> cache;
+
+    public PantallaRepositoryCache(PantallaRepository delegado, CachePorId<Long, Pantalla> cache) {
+        this.delegado = delegado;
+        this.cache = cache;
+    }
+
+    @Override
+    public Pantalla save(Pantalla pantalla) {
+        Pantalla guardada = delegado.save(pantalla);
+        if (guardada != null) {
+            cache.invalidar(guardada.getId());
+        }
+        return guardada;
+    }
+
+    @Override
+    public Optional<Pantalla> findById(Long id) {
+        return cache.obtener(id, delegado::findById);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean eliminada = delegado.deleteById(id);
+        cache.invalidar(id);
+        return eliminada;
+    }
+
+    @Override
+    public Pantalla update(Long id, Pantalla pantalla) {
+        Pantalla actualizada = delegado.update(id, pantalla);
+        cache.invalidar(id);
+        return actualizada;
+    }
+}
@@ -0,0 +1,56 @@
+package security.framework.output.cache;
+
+import security.aplication.port.output.PerfilRepository;
+import security.dominio.entidades.Perfil;
+
+import java.math.BigInteger;
+import java.util.Optional;
+
+/**
+ * Decorador de Caché: PerfilRepositoryCache
+ * 
+ * Implementa PerfilRepository envolviendo otro PerfilRepository.
+ * 
+ * Patrón: Decorator (transparente para los casos de uso)
+ * 
+ * - findById: read-through con CachePorId (incluye caché negativa)
+ * - save / update / deleteById: delegan e invalidan el ID
+ */
+public class PerfilRepositoryCache implements PerfilRepository {
+
+    private final PerfilRepository delegado;
+    private final CachePorId<BigInteger, Perfil> cache;
+
+    public PerfilRepositoryCache(PerfilRepository delegado, CachePorId<BigInteger, Perfil> cache) {
+        this.delegado = delegado;
+        this.cache = cache;
+    }
+
+    @Override
+    public Perfil save(Perfil perfil) {
+        Perfil guardado = delegado.save(perfil);
+        if (guardado != null) {
+            cache.invalidar(guardado.getId());
+        }
+        return guardado;
+    }
+
+    @Override
+    public Optional<Perfil> findById(BigInteger id) {
+        return cache.obtener(id, delegado::findById);
+    }
+
+    @Override
+    public Perfil update(BigInteger id, Perfil perfil) {
+        Perfil actualizado = delegado.update(id, perfil);
+        cache.invalidar(id);
+        return actualizado;
+    }
+
+    @Override
+    public boolean deleteById(BigInteger id) {
+        boolean eliminado = delegado.deleteById(id);
+        cache.invalidar(id);
+        return eliminado;
+    }
+}
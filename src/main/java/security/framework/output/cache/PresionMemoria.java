@@ -0,0 +1,214 @@
+package security.framework.output.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import org.jboss.logging.Logger;
+import security.framework.config.CacheConfig;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Componente de Infraestructura: PresionMemoria
+ * 
+ * Reduce el máximo de las cachés acotadas (CacheAcotada) cuando el heap
+ * sigue lleno después de un GC, y lo restaura cuando la presión baja.
+ * 
+ * Señal: umbral de uso tras colección (collection usage threshold) de la
+ * generación vieja del heap. La JVM avisa (MEMORY_COLLECTION_THRESHOLD_EXCEEDED)
+ * cuando, después de un GC, la ocupación supera security.cache.presion.umbral:
+ * la memoria viva no cabe, no es solo basura pendiente de recoger.
+ * 
+ * Flujo:
+ * 1. Al arrancar, fija el umbral en las pools de generación vieja y
+ *    recuerda el máximo configurado de cada caché acotada
+ * 2. Cada aviso multiplica la fracción por security.cache.presion.reduccion
+ *    (sin bajar de minimo) y aplica fracción × máximo a todas las cachés;
+ *    Caffeine desaloja de inmediato lo que sobra
+ * 3. Cada intervalo revisa la ocupación tras el último GC: si sigue por
+ *    encima del umbral vuelve a reducir (la JVM solo avisa al cruzarlo); si
+ *    está por debajo de umbral-restauracion, duplica la fracción (hasta 1)
+ * 
+ * Requiere un GC con pools de generación vieja que soporten el umbral
+ * (G1, Parallel, Serial, ZGC generacional); si no hay, solo avisa en el log.
+ * 
+ * Métricas: security.cache.presion.fraccion, security.cache.presion.reducciones.
+ */
+@ApplicationScoped
+public class PresionMemoria {
+
+    private static final Logger LOG = Logger.getLogger(PresionMemoria.class);
+
+    private final RegistroCaches registroCaches;
+    private final CacheConfig.Presion config;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<CacheAcotada, Long> maximos = new HashMap<>();
+    private final AtomicLong reducciones = new AtomicLong();
+    private List<MemoryPoolMXBean> pools = List.of();
+    private double fraccion = 1.0;
+
+    private NotificationEmitter emisor;
+    private NotificationListener escucha;
+    private ScheduledExecutorService programador;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param registroCaches Registro de cachés activas
+     * @param cacheConfig Configuración (security.cache.presion)
+     * @param meterRegistry Registro de métricas Micrometer
+     */
+    public PresionMemoria(RegistroCaches registroCaches, CacheConfig cacheConfig, MeterRegistry meterRegistry) {
+        this.registroCaches = registroCaches;
+        this.config = cacheConfig.presion();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Fija los umbrales y empieza a escuchar los avisos de la JVM.
+     * 
+     * @param evento Evento de arranque de Quarkus
+     */
+    void alIniciar(@Observes @Priority(ObserverMethod.DEFAULT_PRIORITY + 10) StartupEvent evento) {
+        if (!config.enabled()) {
+            return;
+        }
+        pools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .filter(MemoryPoolMXBean::isCollectionUsageThresholdSupported)
+                .filter(pool -> pool.getUsage().getMax() > 0)
+                .filter(pool -> pool.getName().contains("Old") || pool.getName().contains("Tenured"))
+                .toList();
+        if (pools.isEmpty()) {
+            LOG.warn("Sin pool de generación vieja con umbral tras GC; PresionMemoria inactivo");
+            return;
+        }
+        recordarMaximos();
+        pools.forEach(pool -> pool.setCollectionUsageThreshold((long) (pool.getUsage().getMax() * config.umbral())));
+        emisor = (NotificationEmitter) ManagementFactory.getMemoryMXBean();
+        escucha = (aviso, contexto) -> {
+            if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(aviso.getType())) {
+                reducir();
+            }
+        };
+        emisor.addNotificationListener(escucha, null, null);
+
+        programador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "presion-memoria");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        long intervalo = config.intervalo().toMillis();
+        programador.scheduleWithFixedDelay(() -> revisar(ocupacionTrasGc()), intervalo, intervalo,
+                TimeUnit.MILLISECONDS);
+
+        Gauge.builder("security.cache.presion.fraccion", this, PresionMemoria::getFraccion)
+                .description("Fracción del máximo configurado aplicada a las cachés")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.cache.presion.reducciones", reducciones, AtomicLong::get)
+                .description("Reducciones por heap lleno tras GC")
+                .register(meterRegistry);
+        LOG.infof("PresionMemoria activo sobre %s (umbral %.2f), %d cachés",
+                pools.stream().map(MemoryPoolMXBean::getName).toList(), config.umbral(), maximos.size());
+    }
+
+    /**
+     * Deja de escuchar los avisos de la JVM.
+     * 
+     * @param evento Evento de apagado de Quarkus
+     */
+    void alDetener(@Observes ShutdownEvent evento) {
+        if (programador != null) {
+            programador.shutdownNow();
+        }
+        if (emisor != null) {
+            try {
+                emisor.removeNotificationListener(escucha);
+            } catch (ListenerNotFoundException e) {
+                LOG.debug("Escucha de memoria ya retirada");
+            }
+        }
+    }
+
+    /**
+     * @return Fracción del máximo configurado aplicada ahora
+     */
+    public synchronized double getFraccion() {
+        return fraccion;
+    }
+
+    /**
+     * Recuerda el máximo configurado de cada caché acotada registrada.
+     */
+    synchronized void recordarMaximos() {
+        for (CacheInvalidable cache : registroCaches.getCaches()) {
+            if (cache instanceof CacheAcotada acotada) {
+                acotada.getCaffeine().policy().eviction()
+                        .ifPresent(desalojo -> maximos.put(acotada, desalojo.getMaximum()));
+            }
+        }
+    }
+
+    /**
+     * Aviso de heap lleno tras GC: reduce la fracción un paso.
+     */
+    synchronized void reducir() {
+        double nueva = Math.max(config.minimo(), fraccion * config.reduccion());
+        reducciones.incrementAndGet();
+        if (nueva == fraccion) {
+            return;
+        }
+        LOG.warnf("Heap lleno tras GC: cachés al %.0f%% de su máximo", nueva * 100);
+        aplicar(nueva);
+    }
+
+    /**
+     * Revisión periódica: reduce si la ocupación tras GC sigue por encima
+     * del umbral y restaura un paso si bajó de umbral-restauracion.
+     * 
+     * @param ocupacion Fracción del heap ocupada tras el último GC
+     */
+    synchronized void revisar(double ocupacion) {
+        if (ocupacion >= config.umbral()) {
+            reducir();
+        } else if (fraccion < 1.0 && ocupacion < config.umbralRestauracion()) {
+            double nueva = Math.min(1.0, fraccion * 2);
+            LOG.infof("Presión de heap resuelta: cachés al %.0f%% de su máximo", nueva * 100);
+            aplicar(nueva);
+        }
+    }
+
+    private double ocupacionTrasGc() {
+        return pools.stream()
+                .mapToDouble(pool -> pool.getCollectionUsage() == null ? 0
+                        : (double) pool.getCollectionUsage().getUsed() / pool.getUsage().getMax())
+                .max()
+                .orElse(0);
+    }
+
+    private void aplicar(double nueva) {
+        fraccion = nueva;
+        maximos.forEach((cache, maximo) -> cache.getCaffeine().policy().eviction()
+                .ifPresent(desalojo -> desalojo.setMaximum(Math.max(1, (long) (maximo * nueva)))));
+    }
+}
@@ -0,0 +1,88 @@
+package security.framework.output.cache;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import security.framework.output.persistence.NotificadorCambios;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registro de Infraestructura: RegistroCaches
+ * 
+ * Conoce todas las cachés en proceso activas y les reparte los cambios.
+ * 
+ * Origen de los cambios:
+ * - CanalInvalidacionCache: notificaciones LISTEN/NOTIFY de cualquier nodo
+ *   (incluido este), ya confirmadas (PostgreSQL entrega NOTIFY tras el commit)
+ * - NotificadorCambios: las escrituras de este nodo, al confirmar su
+ *   transacción, sin esperar el viaje de ida y vuelta del canal
+ * - Escrituras por fuera de los puertos (importación de catálogo)
+ * 
+ * ApplicationConfig registra cada CachePorId al crear su decorador.
+ */
+@ApplicationScoped
+public class RegistroCaches {
+
+    private final List<CacheInvalidable> caches = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registra una caché.
+     * 
+     * @param cache Caché en proceso
+     */
+    public void registrar(CacheInvalidable cache) {
+        caches.add(cache);
+    }
+
+    /**
+     * Reparte un cambio de entidad a todas las cachés.
+     * 
+     * @param tipo Tipo de entidad modificada
+     * @param id ID de la entidad (texto)
+     */
+    public void alCambiar(String tipo, String id) {
+        caches.forEach(cache -> cache.alCambiar(tipo, id));
+    }
+
+    /**
+     * Reparte un mensaje de NotificadorCambios: "tipo:id" o "*".
+     * 
+     * @param payload Mensaje recibido
+     */
+    public void aplicar(String payload) {
+        int separador = payload.indexOf(':');
+        if (NotificadorCambios.TODO.equals(payload) || separador < 0) {
+            invalidarTodo();
+            return;
+        }
+        alCambiar(payload.substring(0, separador), payload.substring(separador + 1));
+    }
+
+    /**
+     * Vacía todas las cachés.
+     */
+    public void invalidarTodo() {
+        caches.forEach(CacheInvalidable::invalidarTodo);
+    }
+
+    /**
+     * Busca una caché registrada por tipo.
+     * 
+     * @param tipo Clase de la caché
+     * @return Optional con la primera caché de ese tipo
+     */
+    public <T extends CacheInvalidable> Optional<T> buscar(Class<T> tipo) {
+        return caches.stream()
+                .filter(tipo::isInstance)
+                .map(tipo::cast)
+                .findFirst();
+    }
+
+    /**
+     * @return Cachés registradas
+     */
+    public List<CacheInvalidable> getCaches() {
+        return List.copyOf(caches);
+    }
+}
@@ -0,0 +1,158 @@
+package security.framework.output.cache;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import org.jboss.logging.Logger;
+import security.framework.config.CacheConfig;
+import security.framework.output.persistence.VersionCatalogoAdapter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Componente de Infraestructura: SnapshotCacheMenus
+ * 
+ * Persiste CacheMenusPerfil en un archivo local (ArchivoSnapshotMenus) para
+ * que un reinicio no tenga que recargar todos los perfiles desde PostgreSQL
+ * (p. ej. cuando se reinicia toda la flota a la vez).
+ * 
+ * Flujo:
+ * - Arranque: mapea el archivo, carga las entradas en la caché y empieza a
+ *   servirlas; en segundo plano compara la versión del snapshot con
+ *   kafka.catalogo_version (una fila) y, si difieren, recarga todas las
+ *   entradas sin dejar de servir las del snapshot (CacheMenusPerfil.recargarTodo)
+ * - Cada security.cache.snapshot.intervalo y al apagar: lee la versión del
+ *   catálogo y escribe el contenido de la caché
+ * 
+ * La versión se lee antes de volcar la caché: si una escritura confirma en
+ * medio, el snapshot queda con una versión anterior a su contenido y el
+ * siguiente arranque solo hace una recarga de más. Si no se puede leer la
+ * versión se escribe -1, que nunca coincide.
+ * 
+ * Requiere security.cache.menu-perfil.enabled=true; sin CacheMenusPerfil no
+ * hace nada. ApplicationConfig se inicia con @Startup para que la caché ya
+ * esté registrada cuando corre este observador.
+ */
+@ApplicationScoped
+public class SnapshotCacheMenus {
+
+    private static final Logger LOG = Logger.getLogger(SnapshotCacheMenus.class);
+
+    private static final long VERSION_DESCONOCIDA = -1L;
+
+    private final RegistroCaches registroCaches;
+    private final VersionCatalogoAdapter versionCatalogo;
+    private final CacheConfig.Snapshot config;
+    private final Path archivo;
+
+    private ScheduledExecutorService programador;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param registroCaches Registro donde está CacheMenusPerfil
+     * @param versionCatalogo Lectura de kafka.catalogo_version
+     * @param cacheConfig Configuración del snapshot
+     */
+    public SnapshotCacheMenus(RegistroCaches registroCaches, VersionCatalogoAdapter versionCatalogo,
+                              CacheConfig cacheConfig) {
+        this.registroCaches = registroCaches;
+        this.versionCatalogo = versionCatalogo;
+        this.config = cacheConfig.snapshot();
+        this.archivo = Path.of(config.archivo());
+    }
+
+    /**
+     * Carga el snapshot y programa la escritura periódica.
+     * 
+     * @param evento Evento de arranque de Quarkus
+     */
+    void alIniciar(@Observes @Priority(ObserverMethod.DEFAULT_PRIORITY + 10) StartupEvent evento) {
+        if (!config.enabled()) {
+            return;
+        }
+        Optional<CacheMenusPerfil> cache = registroCaches.buscar(CacheMenusPerfil.class);
+        if (cache.isEmpty()) {
+            LOG.warn("Snapshot de cachés activo sin security.cache.menu-perfil.enabled; se ignora");
+            return;
+        }
+        programador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "snapshot-cache");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        if (Files.isRegularFile(archivo)) {
+            restaurar(cache.get());
+        }
+        long intervalo = config.intervalo().toMillis();
+        programador.scheduleWithFixedDelay(() -> escribir(cache.get()), intervalo, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Escribe el snapshot al apagar.
+     * 
+     * @param evento Evento de apagado de Quarkus
+     */
+    void alDetener(@Observes ShutdownEvent evento) {
+        if (programador == null) {
+            return;
+        }
+        programador.shutdownNow();
+        registroCaches.buscar(CacheMenusPerfil.class).ifPresent(this::escribir);
+    }
+
+    private void restaurar(CacheMenusPerfil cache) {
+        ArchivoSnapshotMenus.Contenido contenido;
+        try {
+            contenido = ArchivoSnapshotMenus.leer(archivo);
+        } catch (IOException e) {
+            LOG.warnf("Snapshot %s descartado: %s", archivo, e.getMessage());
+            return;
+        }
+        cache.cargar(contenido.menusPorPerfil());
+        LOG.infof("Snapshot %s cargado: %d perfiles, versión %d",
+                archivo, contenido.menusPorPerfil().size(), contenido.version());
+        programador.execute(() -> conciliar(cache, contenido.version()));
+    }
+
+    private void conciliar(CacheMenusPerfil cache, long versionSnapshot) {
+        long versionActual;
+        try {
+            versionActual = versionCatalogo.obtenerVersion();
+        } catch (RuntimeException e) {
+            LOG.warnf("Sin versión del catálogo, se recarga el snapshot: %s", e.getMessage());
+            versionActual = VERSION_DESCONOCIDA;
+        }
+        if (versionActual != VERSION_DESCONOCIDA && versionActual == versionSnapshot) {
+            LOG.infof("Snapshot vigente (versión %d)", versionSnapshot);
+            return;
+        }
+        LOG.infof("Snapshot versión %d, catálogo versión %d: recargando en segundo plano",
+                versionSnapshot, versionActual);
+        cache.recargarTodo();
+    }
+
+    private void escribir(CacheMenusPerfil cache) {
+        long version;
+        try {
+            version = versionCatalogo.obtenerVersion();
+        } catch (RuntimeException e) {
+            version = VERSION_DESCONOCIDA;
+        }
+        try {
+            ArchivoSnapshotMenus.escribir(archivo,
+                    new ArchivoSnapshotMenus.Contenido(version, System.currentTimeMillis(), cache.contenido()));
+        } catch (IOException e) {
+            LOG.warnf("No se pudo escribir el snapshot %s: %s", archivo, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package security.framework.output.mapper;
+
+import io.vertx.mutiny.sqlclient.Row;
+import jakarta.enterprise.context.ApplicationScoped;
+import security.aplication.dto.CampoMenu;
+import security.aplication.dto.MenuPerfilView;
+import security.dominio.entidades.Menu;
+import security.dominio.entidades.Modulo;
+import security.dominio.entidades.Pantalla;
+import security.dominio.vo.Estado;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Set;
+
+/**
+ * Mapper de Salida: MenuRowMapper
+ * 
+ * Convierte filas del cliente reactivo PostgreSQL (Row) a dominio / DTOs
+ * de aplicación. Equivalente a MenuOutputMapper para el camino reactivo,
+ * donde no hay entidades JPA que MapStruct pueda recorrer.
+ * 
+ * Mismas reglas que MenuOutputMapper:
+ * - Pantalla, Modulo y MenuPadre como referencias parciales por ID
+ * - Con detalle: pantalla (nombre, url) y módulo (nombre) completos
+ * - Estado desde su código numérico
+ * 
+ * Columnas esperadas (alias de MenuReactiveRepositoryAdapter):
+ * id, nombre, jerarquia, orden, codpantalla, codmodulo, codmenupadre, icono, estado
+ * y, con detalle, pantalla_nombre, pantalla_url, modulo_nombre.
+ */
+@ApplicationScoped
+public class MenuRowMapper {
+
+    /**
+     * Reconstruye un Menu con referencias parciales.
+     * 
+     * @param row Fila de kafka.menus
+     * @return Menu de dominio
+     */
+    public Menu toDomain(Row row) {
+        Long codPantalla = row.getLong("codpantalla");
+        Long codModulo = row.getLong("codmodulo");
+        Long codMenuPadre = row.getLong("codmenupadre");
+        BigDecimal estado = row.getBigDecimal("estado");
+
+        Pantalla pantalla = null;
+        if (codPantalla != null) {
+            pantalla = new Pantalla();
+            pantalla.setId(codPantalla);
+        }
+        Modulo modulo = null;
+        if (codModulo != null) {
+            modulo = new Modulo();
+            modulo.setId(BigInteger.valueOf(codModulo));
+        }
+        Menu menuPadre = null;
+        if (codMenuPadre != null) {
+            menuPadre = new Menu();
+            menuPadre.setMenuId(BigInteger.valueOf(codMenuPadre));
+        }
+
+        return new Menu(
+                BigInteger.valueOf(row.getLong("id")),
+                row.getString("nombre"),
+                entero(row.getBigDecimal("jerarquia")),
+                entero(row.getBigDecimal("orden")),
+                pantalla,
+                modulo,
+                menuPadre,
+                estado != null ? Estado.fromCodigo(estado.intValue()) : null,
+                row.getString("icono"));
+    }
+
+    /**
+     * Reconstruye un Menu con pantalla y módulo enriquecidos (LEFT JOIN).
+     * 
+     * @param row Fila de kafka.menus con columnas de detalle
+     * @return Menu de dominio enriquecido
+     */
+    public Menu toDomainConDetalle(Row row) {
+        Menu menu = toDomain(row);
+        if (menu.getPantalla() != null) {
+            menu.getPantalla().setNombre(row.getString("pantalla_nombre"));
+            menu.getPantalla().setUrl(row.getString("pantalla_url"));
+        }
+        if (menu.getModulo() != null) {
+            menu.getModulo().setNombre(row.getString("modulo_nombre"));
+        }
+        return menu;
+    }
+
+    /**
+     * Reconstruye un Menu solo con los campos de una proyección; el resto
+     * queda en null. Pantalla y Modulo se crean solo si la fila trae algún
+     * valor suyo.
+     * 
+     * @param row Fila con las columnas de los campos pedidos
+     * @param campos Campos proyectados
+     * @return Menu parcial
+     */
+    public Menu toDomainParcial(Row row, Set<CampoMenu> campos) {
+        Menu menu = new Menu();
+        for (CampoMenu campo : campos) {
+            switch (campo) {
+                case ID -> menu.setMenuId(BigInteger.valueOf(row.getLong("id")));
+                case NOMBRE -> menu.setNombre(row.getString("nombre"));
+                case JERARQUIA -> menu.setJerarquia(entero(row.getBigDecimal("jerarquia")));
+                case ORDEN -> menu.setOrden(entero(row.getBigDecimal("orden")));
+                case COD_PANTALLA -> {
+                    Long codPantalla = row.getLong("codpantalla");
+                    if (codPantalla != null) {
+                        pantalla(menu).setId(codPantalla);
+                    }
+                }
+                case COD_MODULO -> {
+                    Long codModulo = row.getLong("codmodulo");
+                    if (codModulo != null) {
+                        modulo(menu).setId(BigInteger.valueOf(codModulo));
+                    }
+                }
+                case COD_MENU_PADRE -> {
+                    Long codMenuPadre = row.getLong("codmenupadre");
+                    if (codMenuPadre != null) {
+                        Menu menuPadre = new Menu();
+                        menuPadre.setMenuId(BigInteger.valueOf(codMenuPadre));
+                        menu.setMenuPadre(menuPadre);
+                    }
+                }
+                case ICONO -> menu.setIcono(row.getString("icono"));
+                case ESTADO -> {
+                    BigDecimal estado = row.getBigDecimal("estado");
+                    menu.setEstado(estado != null ? Estado.fromCodigo(estado.intValue()) : null);
+                }
+                case NOMBRE_PANTALLA -> {
+                    String nombre = row.getString("pantalla_nombre");
+                    if (nombre != null) {
+                        pantalla(menu).setNombre(nombre);
+                    }
+                }
+                case URL_PANTALLA -> {
+                    String url = row.getString("pantalla_url");
+                    if (url != null) {
+                        pantalla(menu).setUrl(url);
+                    }
+                }
+                case NOMBRE_MODULO -> {
+                    String nombre = row.getString("modulo_nombre");
+                    if (nombre != null) {
+                        modulo(menu).setNombre(nombre);
+                    }
+                }
+            }
+        }
+        return menu;
+    }
+
+    /**
+     * Convierte una fila de vw_menu_perfil al DTO de aplicación.
+     * 
+     * @param row Fila de la vista
+     * @return MenuPerfilView
+     */
+    public MenuPerfilView toMenuPerfilView(Row row) {
+        return new MenuPerfilView(
+                row.getLong("id_menu"),
+                row.getLong("id_perfil"),
+                row.getString("nombre"),
+                row.getInteger("jerarq"),
+                row.getLong("menu_padre"),
+                row.getInteger("orden"),
+                row.getString("url"));
+    }
+
+    private static Pantalla pantalla(Menu menu) {
+        if (menu.getPantalla() == null) {
+            menu.setPantalla(new Pantalla());
+        }
+        return menu.getPantalla();
+    }
+
+    private static Modulo modulo(Menu menu) {
+        if (menu.getModulo() == null) {
+            menu.setModulo(new Modulo());
+        }
+        return menu.getModulo();
+    }
+
+    private static BigInteger entero(BigDecimal valor) {
+        return valor != null ? valor.toBigInteger() : null;
+    }
+}
@@ -0,0 +1,78 @@
+package security.framework.output.metricas;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import security.aplication.port.output.InstrumentacionPort;
+
+import java.util.function.Supplier;
+
+/**
+ * Adaptador de Salida: InstrumentacionAdapter
+ * 
+ * Implementa InstrumentacionPort con Micrometer (métricas) y OpenTelemetry
+ * (trazas).
+ * 
+ * Patrón: Adapter (Hexagonal Architecture)
+ * 
+ * Métricas (histogramas con buckets para Prometheus, /q/metrics):
+ * - security.menus.arbol.nodos: nodos por árbol de perfil construido
+ * - security.menus.arbol.profundidad: niveles por árbol de perfil construido
+ * 
+ * Se registra un valor por construcción, no por solicitud: las solicitudes
+ * coalescidas o servidas desde caché no repiten la observación.
+ * 
+ * Trazas: tramo() abre un span hijo del activo; nodos y profundidad se
+ * copian también como atributos (security.nodos, security.profundidad) del
+ * span activo, el de la construcción del árbol.
+ */
+public class InstrumentacionAdapter implements InstrumentacionPort {
+
+    private final DistributionSummary nodos;
+    private final DistributionSummary profundidad;
+    private final Tracer tracer;
+
+    /**
+     * @param meterRegistry Registro de métricas Micrometer
+     * @param tracer Tracer de OpenTelemetry
+     */
+    public InstrumentacionAdapter(MeterRegistry meterRegistry, Tracer tracer) {
+        this.nodos = DistributionSummary.builder("security.menus.arbol.nodos")
+                .description("Nodos por árbol de menús de perfil")
+                .baseUnit("nodos")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.profundidad = DistributionSummary.builder("security.menus.arbol.profundidad")
+                .description("Niveles por árbol de menús de perfil")
+                .baseUnit("niveles")
+                .serviceLevelObjectives(1, 2, 3, 4, 5, 6, 8, 10)
+                .register(meterRegistry);
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void arbolMenusConstruido(int nodos, int profundidad) {
+        this.nodos.record(nodos);
+        this.profundidad.record(profundidad);
+        Span.current()
+                .setAttribute("security.nodos", nodos)
+                .setAttribute("security.profundidad", profundidad);
+    }
+
+    @Override
+    public <T> T tramo(String nombre, Supplier<T> paso) {
+        Span span = tracer.spanBuilder(nombre).startSpan();
+        try (Scope alcance = span.makeCurrent()) {
+            return paso.get();
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package security.framework.output.persistence;
+
+import io.agroal.api.AgroalDataSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import security.aplication.dto.RegistroCatalogo;
+import security.aplication.dto.RegistroCatalogo.AsignacionRegistro;
+import security.aplication.dto.RegistroCatalogo.MenuRegistro;
+import security.aplication.dto.RegistroCatalogo.ModuloRegistro;
+import security.aplication.dto.RegistroCatalogo.PantallaRegistro;
+import security.aplication.dto.RegistroCatalogo.PerfilRegistro;
+import security.aplication.dto.ResumenImportacion;
+import security.aplication.port.output.CatalogoRepository;
+import security.framework.exceptions.InternalServerException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Adaptador de Repositorio: CatalogoRepositoryAdapter
+ * 
+ * Implementa el puerto de salida CatalogoRepository con JDBC directo sobre
+ * el datasource de Agroal. No usa Hibernate: la exportación/importación
+ * masiva no necesita contexto de persistencia y así la memoria no crece
+ * con el número de filas.
+ * 
+ * Patrón: Adapter (Hexagonal Architecture)
+ * 
+ * Exportación:
+ * - Conexión propia en modo autocommit=false, solo lectura y REPEATABLE READ:
+ *   las cinco consultas ven la misma instantánea de BD.
+ * - setFetchSize(n) con autocommit=false hace que el driver PostgreSQL use
+ *   un cursor de servidor y traiga las filas de n en n.
+ * 
+ * Importación:
+ * - Usa la conexión de la transacción JTA activa (@Transactional en el
+ *   controlador): un fallo deshace la importación completa.
+ * - INSERT ... ON CONFLICT (id) DO UPDATE por lotes JDBC (addBatch/executeBatch);
+ *   con reWriteBatchedInserts=true en el datasource el driver envía cada lote
+ *   como un INSERT multi-VALUES en lugar de una sentencia por fila.
+ * - Se descarga el lote al cambiar de sección y cada security.catalogo.batch-size filas.
+ * - Al terminar se ajustan las secuencias IDENTITY al máximo ID cargado.
+ * - Como escribe por fuera de los puertos, publica "*" (NotificadorCambios):
+ *   las cachés de puerto de este nodo (RegistroCaches) se vacían tras el
+ *   commit y el resto de nodos hace lo mismo al recibir la notificación.
+ * 
+ * Configuración:
+ * - security.catalogo.fetch-size (por defecto 500)
+ * - security.catalogo.batch-size (por defecto 500)
+ */
+@ApplicationScoped
+public class CatalogoRepositoryAdapter implements CatalogoRepository {
+
+    private static final String SQL_MODULOS =
+            "SELECT id, nombre FROM kafka.modulos ORDER BY id";
+    private static final String SQL_PANTALLAS =
+            "SELECT id, codmodulo, nombre, url, userc, fechac, usermod, fechamod FROM kafka.pantallas ORDER BY id";
+    private static final String SQL_MENUS =
+            "SELECT id, nombre, jerarquia, orden, codpantalla, codmodulo, codmenupadre, icono, estado FROM kafka.menus ORDER BY id";
+    private static final String SQL_PERFILES =
+            "SELECT id, nombre FROM kafka.perfiles ORDER BY id";
+    private static final String SQL_ASIGNACIONES =
+            "SELECT menu_id, perfil_id FROM kafka.menu_perfil ORDER BY perfil_id, menu_id";
+
+    /** Sentencias de carga por tipo de registro */
+    private static final Map<String, String> SQL_IMPORTACION = Map.of(
+            RegistroCatalogo.MODULO,
+            "INSERT INTO kafka.modulos (id, nombre) VALUES (?, ?) "
+                    + "ON CONFLICT (id) DO UPDATE SET nombre = EXCLUDED.nombre",
+            RegistroCatalogo.PANTALLA,
+            "INSERT INTO kafka.pantallas (id, codmodulo, nombre, url, userc, fechac, usermod, fechamod) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+                    + "ON CONFLICT (id) DO UPDATE SET codmodulo = EXCLUDED.codmodulo, nombre = EXCLUDED.nombre, "
+                    + "url = EXCLUDED.url, userc = EXCLUDED.userc, fechac = EXCLUDED.fechac, "
+                    + "usermod = EXCLUDED.usermod, fechamod = EXCLUDED.fechamod",
+            RegistroCatalogo.MENU,
+            "INSERT INTO kafka.menus (id, nombre, jerarquia, orden, codpantalla, codmodulo, codmenupadre, icono, estado) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) "
+                    + "ON CONFLICT (id) DO UPDATE SET nombre = EXCLUDED.nombre, jerarquia = EXCLUDED.jerarquia, "
+                    + "orden = EXCLUDED.orden, codpantalla = EXCLUDED.codpantalla, codmodulo = EXCLUDED.codmodulo, "
+                    + "codmenupadre = EXCLUDED.codmenupadre, icono = EXCLUDED.icono, estado = EXCLUDED.estado",
+            RegistroCatalogo.PERFIL,
+            "INSERT INTO kafka.perfiles (id, nombre) VALUES (?, ?) "
+                    + "ON CONFLICT (id) DO UPDATE SET nombre = EXCLUDED.nombre",
+            RegistroCatalogo.ASIGNACION,
+            "INSERT INTO kafka.menu_perfil (menu_id, perfil_id) VALUES (?, ?) "
+                    + "ON CONFLICT DO NOTHING"
+    );
+
+    /** Tablas con ID IDENTITY cuya secuencia se ajusta tras importar */
+    private static final String[] TABLAS_IDENTITY = {
+            "kafka.modulos", "kafka.pantallas", "kafka.menus", "kafka.perfiles"
+    };
+
+    private final AgroalDataSource dataSource;
+    private final NotificadorCambios notificadorCambios;
+    private final int fetchSize;
+    private final int batchSize;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param dataSource Datasource por defecto (Agroal)
+     * @param notificadorCambios Notificador de la invalidación total al resto de nodos
+     * @param fetchSize Filas por viaje del cursor de servidor en la exportación
+     * @param batchSize Filas por lote JDBC en la importación
+     */
+    public CatalogoRepositoryAdapter(AgroalDataSource dataSource,
+                                     NotificadorCambios notificadorCambios,
+                                     @ConfigProperty(name = "security.catalogo.fetch-size", defaultValue = "500") int fetchSize,
+                                     @ConfigProperty(name = "security.catalogo.batch-size", defaultValue = "500") int batchSize) {
+        this.dataSource = dataSource;
+        this.notificadorCambios = notificadorCambios;
+        this.fetchSize = fetchSize;
+        this.batchSize = batchSize;
+    }
+
+    // =====================
+    // EXPORTACIÓN
+    // =====================
+
+    /**
+     * Recorre el catálogo con cursores de servidor.
+     * 
+     * Flujo:
+     * 1. Abre conexión propia (autocommit=false, read-only, REPEATABLE READ)
+     * 2. Ejecuta una consulta por sección con fetchSize acotado
+     * 3. Convierte cada fila a RegistroCatalogo y la entrega al consumidor
+     * 4. Cierra la transacción de lectura
+     * 
+     * @param destino Consumidor invocado por cada fila
+     */
+    @Override
+    public void exportar(Consumer<RegistroCatalogo> destino) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean transaccionPropia = connection.getAutoCommit();
+            if (transaccionPropia) {
+                connection.setAutoCommit(false);
+                connection.setReadOnly(true);
+                connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            }
+            try {
+                recorrer(connection, SQL_MODULOS, destino, rs -> new ModuloRegistro(
+                        rs.getLong("id"),
+                        rs.getString("nombre")));
+                recorrer(connection, SQL_PANTALLAS, destino, rs -> new PantallaRegistro(
+                        rs.getLong("id"),
+                        entero(rs.getBigDecimal("codmodulo")),
+                        rs.getString("nombre"),
+                        rs.getString("url"),
+                        rs.getString("userc"),
+                        rs.getObject("fechac", LocalDateTime.class),
+                        rs.getString("usermod"),
+                        rs.getObject("fechamod", LocalDateTime.class)));
+                recorrer(connection, SQL_MENUS, destino, rs -> new MenuRegistro(
+                        rs.getLong("id"),
+                        rs.getString("nombre"),
+                        entero(rs.getBigDecimal("jerarquia")),
+                        entero(rs.getBigDecimal("orden")),
+                        rs.getObject("codpantalla", Long.class),
+                        rs.getObject("codmodulo", Long.class),
+                        rs.getObject("codmenupadre", Long.class),
+                        rs.getString("icono"),
+                        entero(rs.getBigDecimal("estado"))));
+                recorrer(connection, SQL_PERFILES, destino, rs -> new PerfilRegistro(
+                        rs.getLong("id"),
+                        rs.getString("nombre")));
+                recorrer(connection, SQL_ASIGNACIONES, destino, rs -> new AsignacionRegistro(
+                        rs.getLong("menu_id"),
+                        rs.getLong("perfil_id")));
+                if (transaccionPropia) {
+                    connection.commit();
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (transaccionPropia) {
+                    connection.rollback();
+                }
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new InternalServerException("Error exportando catálogo", e);
+        }
+    }
+
+    /**
+     * Ejecuta una consulta con cursor de servidor y entrega cada fila convertida.
+     */
+    private void recorrer(Connection connection, String sql, Consumer<RegistroCatalogo> destino,
+                          LectorFila lector) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            ps.setFetchSize(fetchSize);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    destino.accept(lector.leer(rs));
+                }
+            }
+        }
+    }
+
+    /**
+     * Conversión de una fila JDBC a RegistroCatalogo.
+     */
+    @FunctionalInterface
+    private interface LectorFila {
+        RegistroCatalogo leer(ResultSet rs) throws SQLException;
+    }
+
+    // =====================
+    // IMPORTACIÓN
+    // =====================
+
+    /**
+     * Carga los registros por lotes en la transacción activa.
+     * 
+     * Flujo:
+     * 1. Obtiene la conexión enlistada en la transacción JTA
+     * 2. Por cada registro: si cambia la sección, ejecuta el lote pendiente
+     *    y prepara la sentencia de la nueva sección
+     * 3. Añade el registro al lote; ejecuta el lote cada batchSize filas
+     * 4. Ejecuta el último lote y ajusta las secuencias IDENTITY
+     * 
+     * @param registros Registros ordenados por dependencias
+     * @return Conteo de filas por sección
+     */
+    @Override
+    public ResumenImportacion importar(Iterator<RegistroCatalogo> registros) {
+        Map<String, Long> conteo = new HashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            String tipoActual = null;
+            PreparedStatement ps = null;
+            int enLote = 0;
+            try {
+                while (registros.hasNext()) {
+                    RegistroCatalogo registro = registros.next();
+                    if (!registro.tipo().equals(tipoActual)) {
+                        if (ps != null) {
+                            ps.executeBatch();
+                            ps.close();
+                        }
+                        tipoActual = registro.tipo();
+                        ps = connection.prepareStatement(SQL_IMPORTACION.get(tipoActual));
+                        enLote = 0;
+                    }
+                    vincular(ps, registro);
+                    ps.addBatch();
+                    conteo.merge(tipoActual, 1L, Long::sum);
+                    if (++enLote == batchSize) {
+                        ps.executeBatch();
+                        enLote = 0;
+                    }
+                }
+                if (ps != null) {
+                    ps.executeBatch();
+                }
+            } finally {
+                if (ps != null) {
+                    ps.close();
+                }
+            }
+            ajustarSecuencias(connection);
+        } catch (SQLException e) {
+            throw new InternalServerException("Error importando catálogo", e);
+        }
+        notificadorCambios.notificarTodo();
+        return new ResumenImportacion(
+                conteo.getOrDefault(RegistroCatalogo.MODULO, 0L),
+                conteo.getOrDefault(RegistroCatalogo.PANTALLA, 0L),
+                conteo.getOrDefault(RegistroCatalogo.MENU, 0L),
+                conteo.getOrDefault(RegistroCatalogo.PERFIL, 0L),
+                conteo.getOrDefault(RegistroCatalogo.ASIGNACION, 0L));
+    }
+
+    /**
+     * Asigna los parámetros de la sentencia según el tipo de registro.
+     */
+    private void vincular(PreparedStatement ps, RegistroCatalogo registro) throws SQLException {
+        if (registro instanceof ModuloRegistro m) {
+            setLong(ps, 1, m.id());
+            ps.setString(2, m.nombre());
+        } else if (registro instanceof PantallaRegistro p) {
+            setLong(ps, 1, p.id());
+            setNumero(ps, 2, p.codModulo());
+            ps.setString(3, p.nombre());
+            ps.setString(4, p.url());
+            ps.setString(5, p.userC());
+            ps.setObject(6, p.fechaC(), Types.TIMESTAMP);
+            ps.setString(7, p.userMod());
+            ps.setObject(8, p.fechaMod(), Types.TIMESTAMP);
+        } else if (registro instanceof MenuRegistro m) {
+            setLong(ps, 1, m.id());
+            ps.setString(2, m.nombre());
+            setNumero(ps, 3, m.jerarquia());
+            setNumero(ps, 4, m.orden());
+            setLong(ps, 5, m.codPantalla());
+            setLong(ps, 6, m.codModulo());
+            setLong(ps, 7, m.codMenuPadre());
+            ps.setString(8, m.icono());
+            setNumero(ps, 9, m.estado());
+        } else if (registro instanceof PerfilRegistro p) {
+            setLong(ps, 1, p.id());
+            ps.setString(2, p.nombre());
+        } else if (registro instanceof AsignacionRegistro a) {
+            setLong(ps, 1, a.menuId());
+            setLong(ps, 2, a.perfilId());
+        }
+    }
+
+    /**
+     * Lleva cada secuencia IDENTITY al máximo ID presente, para que los
+     * siguientes INSERT sin ID no colisionen con los importados.
+     */
+    private void ajustarSecuencias(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            for (String tabla : TABLAS_IDENTITY) {
+                st.execute("SELECT setval(pg_get_serial_sequence('" + tabla + "', 'id'), "
+                        + "GREATEST((SELECT max(id) FROM " + tabla + "), 1))");
+            }
+        }
+    }
+
+    private static void setLong(PreparedStatement ps, int indice, Long valor) throws SQLException {
+        if (valor == null) {
+            ps.setNull(indice, Types.BIGINT);
+        } else {
+            ps.setLong(indice, valor);
+        }
+    }
+
+    private static void setNumero(PreparedStatement ps, int indice, BigInteger valor) throws SQLException {
+        if (valor == null) {
+            ps.setNull(indice, Types.NUMERIC);
+        } else {
+            ps.setBigDecimal(indice, new BigDecimal(valor));
+        }
+    }
+
+    private static BigInteger entero(BigDecimal valor) {
+        return valor != null ? valor.toBigInteger() : null;
+    }
+}
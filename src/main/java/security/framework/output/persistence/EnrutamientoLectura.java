@@ -0,0 +1,116 @@
+package security.framework.output.persistence;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.arc.Arc;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.vertx.mutiny.sqlclient.Pool;
+import jakarta.enterprise.context.ApplicationScoped;
+import security.framework.config.ContextoLectura;
+
+import java.util.function.Supplier;
+
+/**
+ * Componente de Infraestructura: EnrutamientoLectura
+ * 
+ * Entrega a los adaptadores de salida el datasource (JDBC) o pool (reactivo)
+ * que corresponde a la solicitud en curso: réplica o primario.
+ * 
+ * Datasources:
+ * - Primario: datasource por defecto (escrituras y lecturas con read-your-writes)
+ * - Réplica: datasource "replica" (quarkus.datasource.replica.*), con pool propio
+ * 
+ * Sin contexto de solicitud activo (arranque, tareas en segundo plano)
+ * se usa siempre el primario.
+ * 
+ * Cachés compartidas: se cargan dentro de enPrimario(). Una lectura de la
+ * réplica puede llegar con retraso respecto de una escritura ya invalidada
+ * y, guardada en la caché, se serviría a todos los clientes hasta el ttl.
+ * 
+ * Usado por:
+ * - LecturaReplicaTenantResolver y LecturaReplicaConnectionResolver
+ *   (Hibernate ORM, multitenancy DATABASE)
+ * - Adaptadores reactivos (Menu/MenuPerfilView/Modulo ReactiveRepositoryAdapter)
+ * - MatrizPermisosRepositoryAdapter (JDBC directo)
+ */
+@ApplicationScoped
+public class EnrutamientoLectura {
+
+    /** Nombre del datasource de réplica */
+    public static final String REPLICA = "replica";
+
+    /** Lecturas del hilo forzadas al primario (enPrimario) */
+    private static final ThreadLocal<Boolean> PRIMARIO = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final ContextoLectura contextoLectura;
+    private final AgroalDataSource dataSourcePrimario;
+    private final AgroalDataSource dataSourceReplica;
+    private final Pool poolPrimario;
+    private final Pool poolReplica;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param contextoLectura Decisión de la solicitud en curso (proxy request-scoped)
+     * @param dataSourcePrimario Datasource JDBC por defecto
+     * @param dataSourceReplica Datasource JDBC de réplica
+     * @param poolPrimario Pool reactivo por defecto
+     * @param poolReplica Pool reactivo de réplica
+     */
+    public EnrutamientoLectura(ContextoLectura contextoLectura,
+                               AgroalDataSource dataSourcePrimario,
+                               @DataSource(REPLICA) AgroalDataSource dataSourceReplica,
+                               Pool poolPrimario,
+                               @ReactiveDataSource(REPLICA) Pool poolReplica) {
+        this.contextoLectura = contextoLectura;
+        this.dataSourcePrimario = dataSourcePrimario;
+        this.dataSourceReplica = dataSourceReplica;
+        this.poolPrimario = poolPrimario;
+        this.poolReplica = poolReplica;
+    }
+
+    /**
+     * @return true si la solicitud en curso debe leer de la réplica
+     */
+    public boolean usarReplica() {
+        return !PRIMARIO.get() && Arc.container().requestContext().isActive() && contextoLectura.isReplica();
+    }
+
+    /**
+     * Ejecuta una lectura contra el primario aunque la solicitud lea de la
+     * réplica.
+     * 
+     * Cubre lo que se resuelve en el propio hilo durante la llamada: el pool
+     * reactivo que eligen los adaptadores al lanzar la consulta. La sesión de
+     * Hibernate fija su tenant al abrirse, así que una sesión ya abierta
+     * sobre la réplica no cambia.
+     * 
+     * @param lectura Lectura a ejecutar
+     * @return Resultado de la lectura
+     */
+    public <T> T enPrimario(Supplier<T> lectura) {
+        if (PRIMARIO.get()) {
+            return lectura.get();
+        }
+        PRIMARIO.set(Boolean.TRUE);
+        try {
+            return lectura.get();
+        } finally {
+            PRIMARIO.remove();
+        }
+    }
+
+    /**
+     * @return Datasource JDBC para lecturas de la solicitud en curso
+     */
+    public AgroalDataSource dataSource() {
+        return usarReplica() ? dataSourceReplica : dataSourcePrimario;
+    }
+
+    /**
+     * @return Pool reactivo para lecturas de la solicitud en curso
+     */
+    public Pool pool() {
+        return usarReplica() ? poolReplica : poolPrimario;
+    }
+}
@@ -0,0 +1,45 @@
+package security.framework.output.persistence;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import io.quarkus.hibernate.orm.runtime.customized.QuarkusConnectionProvider;
+import io.quarkus.hibernate.orm.runtime.tenant.TenantConnectionResolver;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+/**
+ * Resolver de Hibernate ORM: LecturaReplicaConnectionResolver
+ * 
+ * Entrega las conexiones de cada tenant de LecturaReplicaTenantResolver:
+ * "replica" usa el datasource de réplica y cualquier otro el primario.
+ * 
+ * El resolver por defecto de Quarkus busca el datasource con el
+ * calificador @DataSource(tenant), que el datasource por defecto no
+ * tiene: sin este resolver, toda sesión sobre el primario falla con
+ * "No instance of datasource found ... tenant '<default>'".
+ */
+@PersistenceUnitExtension
+@ApplicationScoped
+public class LecturaReplicaConnectionResolver implements TenantConnectionResolver {
+
+    private final ConnectionProvider primario;
+    private final ConnectionProvider replica;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param dataSourcePrimario Datasource JDBC por defecto
+     * @param dataSourceReplica Datasource JDBC de réplica
+     */
+    public LecturaReplicaConnectionResolver(AgroalDataSource dataSourcePrimario,
+                                            @DataSource(EnrutamientoLectura.REPLICA) AgroalDataSource dataSourceReplica) {
+        this.primario = new QuarkusConnectionProvider(dataSourcePrimario);
+        this.replica = new QuarkusConnectionProvider(dataSourceReplica);
+    }
+
+    @Override
+    public ConnectionProvider resolve(String tenantId) {
+        return EnrutamientoLectura.REPLICA.equals(tenantId) ? replica : primario;
+    }
+}
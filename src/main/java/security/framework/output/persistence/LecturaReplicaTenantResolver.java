@@ -0,0 +1,41 @@
+package security.framework.output.persistence;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import io.quarkus.hibernate.orm.runtime.tenant.TenantResolver;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Resolver de Hibernate ORM: LecturaReplicaTenantResolver
+ * 
+ * Enruta la sesión de Hibernate al datasource primario o a la réplica usando
+ * multitenancy por base de datos (quarkus.hibernate-orm.multitenant=DATABASE):
+ * el identificador de tenant es el nombre del datasource.
+ * 
+ * Hibernate resuelve el tenant al abrir la sesión, es decir, en el primer
+ * acceso a un Panache repository dentro de la solicitud; para entonces
+ * EnrutamientoLecturaFilter ya ha tomado la decisión.
+ * 
+ * Las entidades y repositorios Panache no cambian: un único persistence unit
+ * sirve ambos datasources.
+ */
+@PersistenceUnitExtension
+@ApplicationScoped
+public class LecturaReplicaTenantResolver implements TenantResolver {
+
+    private final EnrutamientoLectura enrutamientoLectura;
+
+    public LecturaReplicaTenantResolver(EnrutamientoLectura enrutamientoLectura) {
+        this.enrutamientoLectura = enrutamientoLectura;
+    }
+
+    @Override
+    public String getDefaultTenantId() {
+        return DataSourceUtil.DEFAULT_DATASOURCE_NAME;
+    }
+
+    @Override
+    public String resolveTenantId() {
+        return enrutamientoLectura.usarReplica() ? EnrutamientoLectura.REPLICA : getDefaultTenantId();
+    }
+}
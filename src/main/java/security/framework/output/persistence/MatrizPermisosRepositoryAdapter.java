@@ -0,0 +1,142 @@
+package security.framework.output.persistence;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import security.aplication.dto.AccesoMenuPerfil;
+import security.aplication.dto.MenuMatriz;
+import security.aplication.port.output.MatrizPermisosRepository;
+import security.framework.exceptions.InternalServerException;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Adaptador de Repositorio: MatrizPermisosRepositoryAdapter
+ * 
+ * Implementa el puerto de salida MatrizPermisosRepository con JDBC directo
+ * sobre el datasource de Agroal, igual que CatalogoRepositoryAdapter.
+ * Al ser una lectura masiva de auditoría, va a la réplica cuando la solicitud
+ * lo permite (EnrutamientoLectura).
+ * 
+ * Patrón: Adapter (Hexagonal Architecture)
+ * 
+ * Recorrido de accesos:
+ * - Una sola consulta sobre menu_perfil ordenada por (perfil_id, menu_id),
+ *   con JOIN a perfiles (nombre) y a menus (filtro por módulo).
+ * - El orden coincide con ix_menu_perfil_perfil (perfil_id, menu_id),
+ *   por lo que PostgreSQL no necesita ordenar.
+ * - autocommit=false + setFetchSize(n): cursor de servidor, n filas por viaje.
+ * 
+ * Configuración:
+ * - security.reporte.fetch-size (por defecto 1000)
+ */
+@ApplicationScoped
+public class MatrizPermisosRepositoryAdapter implements MatrizPermisosRepository {
+
+    private static final String SQL_MENUS =
+            "SELECT id, nombre FROM kafka.menus";
+    private static final String SQL_ACCESOS =
+            "SELECT mp.perfil_id, p.nombre AS perfil, mp.menu_id "
+                    + "FROM kafka.menu_perfil mp "
+                    + "JOIN kafka.perfiles p ON p.id = mp.perfil_id "
+                    + "JOIN kafka.menus m ON m.id = mp.menu_id";
+    private static final String FILTRO_MODULO = " WHERE m.codmodulo = ?";
+    private static final String FILTRO_MODULO_MENUS = " WHERE codmodulo = ?";
+
+    private final EnrutamientoLectura enrutamientoLectura;
+    private final int fetchSize;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param enrutamientoLectura Selección de datasource (primario o réplica) por solicitud
+     * @param fetchSize Filas por viaje del cursor de servidor
+     */
+    public MatrizPermisosRepositoryAdapter(EnrutamientoLectura enrutamientoLectura,
+                                           @ConfigProperty(name = "security.reporte.fetch-size", defaultValue = "1000") int fetchSize) {
+        this.enrutamientoLectura = enrutamientoLectura;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Lista los menús (columnas de la matriz) ordenados por ID.
+     * 
+     * @param codModulo Módulo a filtrar (null = todos)
+     * @return Menús del módulo
+     */
+    @Override
+    public List<MenuMatriz> buscarMenus(BigInteger codModulo) {
+        String sql = SQL_MENUS + (codModulo != null ? FILTRO_MODULO_MENUS : "") + " ORDER BY id";
+        List<MenuMatriz> menus = new ArrayList<>();
+        try (Connection connection = enrutamientoLectura.dataSource().getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            if (codModulo != null) {
+                ps.setLong(1, codModulo.longValueExact());
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    menus.add(new MenuMatriz(rs.getLong("id"), rs.getString("nombre")));
+                }
+            }
+        } catch (SQLException e) {
+            throw new InternalServerException("Error consultando menús de la matriz de permisos", e);
+        }
+        return menus;
+    }
+
+    /**
+     * Recorre las asignaciones con cursor de servidor.
+     * 
+     * Flujo:
+     * 1. Abre conexión propia (autocommit=false, read-only)
+     * 2. Ejecuta la consulta ordenada con fetchSize acotado
+     * 3. Entrega cada fila al consumidor
+     * 4. Cierra la transacción de lectura
+     * 
+     * @param codModulo Módulo a filtrar (null = todos)
+     * @param destino Consumidor invocado por cada asignación
+     */
+    @Override
+    public void recorrerAccesos(BigInteger codModulo, Consumer<AccesoMenuPerfil> destino) {
+        String sql = SQL_ACCESOS + (codModulo != null ? FILTRO_MODULO : "")
+                + " ORDER BY mp.perfil_id, mp.menu_id";
+        try (Connection connection = enrutamientoLectura.dataSource().getConnection()) {
+            boolean transaccionPropia = connection.getAutoCommit();
+            if (transaccionPropia) {
+                connection.setAutoCommit(false);
+                connection.setReadOnly(true);
+            }
+            try (PreparedStatement ps = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                ps.setFetchSize(fetchSize);
+                if (codModulo != null) {
+                    ps.setLong(1, codModulo.longValueExact());
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        destino.accept(new AccesoMenuPerfil(
+                                rs.getLong("perfil_id"),
+                                rs.getString("perfil"),
+                                rs.getLong("menu_id")));
+                    }
+                }
+                if (transaccionPropia) {
+                    connection.commit();
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (transaccionPropia) {
+                    connection.rollback();
+                }
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new InternalServerException("Error recorriendo la matriz de permisos", e);
+        }
+    }
+}
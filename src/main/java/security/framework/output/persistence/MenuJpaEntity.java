@@ -29,6 +29,11 @@ import java.math.BigInteger;
  * - @Id: Campo clave primaria
  * - @GeneratedValue: ID auto-incrementado por BD
  * 
+ * Referencias:
+ * codPantalla, codModulo y codMenuPadre son Long, mismo tipo que la PK
+ * referenciada. La lectura con pantalla y módulo (?detalle=true) la hace
+ * el cliente reactivo con un JOIN (MenuReactiveRepositoryAdapter).
+ * 
  * Lombok:
  * - @Getter, @Setter: Genera getters/setters automáticamente
  * - @NoArgsConstructor: Constructor sin argumentos
@@ -68,17 +73,17 @@ public class MenuJpaEntity {
     /**
      * ID de pantalla/página asociada al menú
      */
-    private BigInteger codPantalla;
+    private Long codPantalla;
     
     /**
      * ID del módulo funcional que contiene este menú
      */
-    private BigInteger codModulo;
+    private Long codModulo;
     
     /**
      * ID del menú padre (para menús anidados)
      */
-    private BigInteger codMenuPadre;
+    private Long codMenuPadre;
     
     /**
      * Código o clase de ícono para representación visual
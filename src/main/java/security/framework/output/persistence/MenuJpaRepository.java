@@ -75,7 +75,7 @@ public class MenuJpaRepository implements PanacheRepository<MenuJpaEntity> {
         if (filtro.codModulo() != null) {
             query.append(whereAdded ? " and " : "");
             query.append("codModulo = :codModulo");
-            params.put("codModulo", filtro.codModulo());
+            params.put("codModulo", filtro.codModulo().longValue());
             whereAdded = true;
         }
 
@@ -90,7 +90,6 @@ public class MenuJpaRepository implements PanacheRepository<MenuJpaEntity> {
         if (query.isEmpty()) {
             return listAll();
         }
-        System.out.println(query.toString());
 
         return find(query.toString(), params).list();
     }
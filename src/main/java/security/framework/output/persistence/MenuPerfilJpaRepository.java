@@ -45,4 +45,19 @@ public class MenuPerfilJpaRepository implements PanacheRepositoryBase<MenuPerfil
     public void deleteByMenuId(Long menuId) {
         delete("id.menuId", menuId);
     }
+    
+    /**
+     * IDs de perfil ordenados por cantidad de menús asignados (mayor primero)
+     * 
+     * @param limite Máximo de perfiles; 0 o negativo para todos
+     */
+    public java.util.List<Long> findPerfilIdsPorCantidadMenus(int limite) {
+        jakarta.persistence.TypedQuery<Long> query = getEntityManager().createQuery(
+                "select m.id.perfilId from MenuPerfilJpaEntity m group by m.id.perfilId order by count(m) desc",
+                Long.class);
+        if (limite > 0) {
+            query.setMaxResults(limite);
+        }
+        return query.getResultList();
+    }
 }
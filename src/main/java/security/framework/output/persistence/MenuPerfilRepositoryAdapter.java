@@ -14,6 +14,9 @@ import java.util.List;
  * Adaptador de Salida: MenuPerfilRepositoryAdapter
  * 
  * Implementa MenuPerfilRepository usando JPA/Panache.
+ * 
+ * Cada escritura publica "menu_perfil:{perfilId}" (NotificadorCambios); el
+ * borrado por menú no conoce los perfiles afectados y publica "menu_perfil:*".
  */
 @ApplicationScoped
 public class MenuPerfilRepositoryAdapter implements MenuPerfilRepository {
@@ -24,11 +27,15 @@ public class MenuPerfilRepositoryAdapter implements MenuPerfilRepository {
     @Inject
     MenuPerfilJpaMapper mapper;
     
+    @Inject
+    NotificadorCambios notificadorCambios;
+    
     @Override
     @Transactional
     public MenuPerfil save(MenuPerfil menuPerfil) {
         MenuPerfilJpaEntity entity = mapper.toJpaEntity(menuPerfil);
         jpaRepository.persist(entity);
+        notificadorCambios.notificar(NotificadorCambios.MENU_PERFIL, menuPerfil.getPerfilId());
         return mapper.toDomain(entity);
     }
     
@@ -48,17 +55,27 @@ public class MenuPerfilRepositoryAdapter implements MenuPerfilRepository {
     @Transactional
     public void delete(BigInteger menuId, BigInteger perfilId) {
         jpaRepository.deleteByMenuIdAndPerfilId(menuId.longValue(), perfilId.longValue());
+        notificadorCambios.notificar(NotificadorCambios.MENU_PERFIL, perfilId);
     }
     
     @Override
     @Transactional
     public void deleteByPerfilId(BigInteger perfilId) {
         jpaRepository.deleteByPerfilId(perfilId.longValue());
+        notificadorCambios.notificar(NotificadorCambios.MENU_PERFIL, perfilId);
     }
     
     @Override
     @Transactional
     public void deleteByMenuId(BigInteger menuId) {
         jpaRepository.deleteByMenuId(menuId.longValue());
+        notificadorCambios.notificarTipo(NotificadorCambios.MENU_PERFIL);
+    }
+    
+    @Override
+    public List<BigInteger> findPerfilIdsPorCantidadMenus(int limite) {
+        return jpaRepository.findPerfilIdsPorCantidadMenus(limite).stream()
+                .map(BigInteger::valueOf)
+                .toList();
     }
 }
@@ -0,0 +1,61 @@
+package security.framework.output.persistence;
+
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import security.aplication.dto.MenuPerfilView;
+import security.aplication.port.output.MenuPerfilViewReactiveRepository;
+import security.framework.output.mapper.MenuRowMapper;
+import security.framework.output.sql.SqlReactivoMedido;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Adaptador de Salida: MenuPerfilViewReactiveRepositoryAdapter
+ * 
+ * Implementa MenuPerfilViewReactiveRepository con el cliente reactivo
+ * PostgreSQL (Vert.x). La consulta se envía sin ocupar un hilo: el
+ * resultado se entrega en el event loop.
+ * 
+ * Patrón: Adapter (Hexagonal Architecture)
+ * 
+ * Las lecturas van a la réplica o al primario según EnrutamientoLectura.
+ */
+@ApplicationScoped
+public class MenuPerfilViewReactiveRepositoryAdapter implements MenuPerfilViewReactiveRepository {
+
+    private static final String SQL_POR_PERFIL =
+            "SELECT id_menu, id_perfil, nombre, jerarq, menu_padre, orden, url "
+                    + "FROM kafka.vw_menu_perfil WHERE id_perfil = $1";
+
+    private final EnrutamientoLectura enrutamientoLectura;
+    private final MenuRowMapper menuRowMapper;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param enrutamientoLectura Selección de pool (primario o réplica) por solicitud
+     * @param menuRowMapper Conversión Row → MenuPerfilView
+     */
+    public MenuPerfilViewReactiveRepositoryAdapter(EnrutamientoLectura enrutamientoLectura, MenuRowMapper menuRowMapper) {
+        this.enrutamientoLectura = enrutamientoLectura;
+        this.menuRowMapper = menuRowMapper;
+    }
+
+    @Override
+    public CompletionStage<List<MenuPerfilView>> findByPerfilId(Long perfilId) {
+        Tuple parametros = Tuple.of(perfilId);
+        return SqlReactivoMedido.medir(SQL_POR_PERFIL, parametros, () -> enrutamientoLectura.pool().preparedQuery(SQL_POR_PERFIL)
+                        .execute(parametros))
+                .map(filas -> {
+                    List<MenuPerfilView> registros = new ArrayList<>(filas.size());
+                    for (Row fila : filas) {
+                        registros.add(menuRowMapper.toMenuPerfilView(fila));
+                    }
+                    return registros;
+                })
+                .subscribeAsCompletionStage();
+    }
+}
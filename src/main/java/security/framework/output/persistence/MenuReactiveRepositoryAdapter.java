@@ -0,0 +1,165 @@
+package security.framework.output.persistence;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import security.aplication.dto.CampoMenu;
+import security.aplication.dto.FiltroMenu;
+import security.aplication.port.output.MenuReactiveRepository;
+import security.dominio.entidades.Menu;
+import security.framework.output.mapper.MenuRowMapper;
+import security.framework.output.sql.SqlReactivoMedido;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de Salida: MenuReactiveRepositoryAdapter
+ * 
+ * Implementa MenuReactiveRepository con el cliente reactivo PostgreSQL.
+ * 
+ * Patrón: Adapter (Hexagonal Architecture)
+ * 
+ * Las lecturas van a la réplica o al primario según EnrutamientoLectura.
+ * 
+ * Uni / Multi quedan en este adaptador: las consultas por PK se entregan
+ * como CompletionStage (suscritas al invocarse) y las búsquedas como el
+ * Multi, que ya es un Flow.Publisher.
+ * 
+ * Equivalencias con MenuJpaRepository:
+ * - findById → SELECT por PK
+ * - findByIdConDetalle / ...ConDetalle → LEFT JOIN pantallas y modulos
+ * - buscarMenuPorFiltros → mismos filtros opcionales (nombre, codModulo, estado)
+ * 
+ * Proyección (buscarMenuPorFiltros con campos): el SELECT lista solo las
+ * columnas de los CampoMenu pedidos, con los mismos alias que COLUMNAS y
+ * SQL_DETALLE; el JOIN se añade solo si algún campo es de detalle. Los
+ * nombres de columna salen de PROYECCION, nunca del parámetro fields.
+ */
+@ApplicationScoped
+public class MenuReactiveRepositoryAdapter implements MenuReactiveRepository {
+
+    private static final String COLUMNAS =
+            "m.id, m.nombre, m.jerarquia, m.orden, m.codpantalla, m.codmodulo, m.codmenupadre, m.icono, m.estado";
+    private static final String SQL_BASE =
+            "SELECT " + COLUMNAS + " FROM kafka.menus m";
+    private static final String SQL_DETALLE =
+            "SELECT " + COLUMNAS + ", p.nombre AS pantalla_nombre, p.url AS pantalla_url, mo.nombre AS modulo_nombre "
+                    + "FROM kafka.menus m "
+                    + "LEFT JOIN kafka.pantallas p ON p.id = m.codpantalla "
+                    + "LEFT JOIN kafka.modulos mo ON mo.id = m.codmodulo";
+    private static final String POR_ID = " WHERE m.id = $1";
+    private static final String FROM_DETALLE = " FROM kafka.menus m "
+            + "LEFT JOIN kafka.pantallas p ON p.id = m.codpantalla "
+            + "LEFT JOIN kafka.modulos mo ON mo.id = m.codmodulo";
+
+    /** Columna (con alias) de cada campo proyectable */
+    private static final Map<CampoMenu, String> PROYECCION = new EnumMap<>(Map.ofEntries(
+            Map.entry(CampoMenu.ID, "m.id"),
+            Map.entry(CampoMenu.NOMBRE, "m.nombre"),
+            Map.entry(CampoMenu.JERARQUIA, "m.jerarquia"),
+            Map.entry(CampoMenu.ORDEN, "m.orden"),
+            Map.entry(CampoMenu.COD_PANTALLA, "m.codpantalla"),
+            Map.entry(CampoMenu.COD_MODULO, "m.codmodulo"),
+            Map.entry(CampoMenu.COD_MENU_PADRE, "m.codmenupadre"),
+            Map.entry(CampoMenu.ICONO, "m.icono"),
+            Map.entry(CampoMenu.ESTADO, "m.estado"),
+            Map.entry(CampoMenu.NOMBRE_PANTALLA, "p.nombre AS pantalla_nombre"),
+            Map.entry(CampoMenu.URL_PANTALLA, "p.url AS pantalla_url"),
+            Map.entry(CampoMenu.NOMBRE_MODULO, "mo.nombre AS modulo_nombre")));
+
+    private final EnrutamientoLectura enrutamientoLectura;
+    private final MenuRowMapper menuRowMapper;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param enrutamientoLectura Selección de pool (primario o réplica) por solicitud
+     * @param menuRowMapper Conversión Row → Menu
+     */
+    public MenuReactiveRepositoryAdapter(EnrutamientoLectura enrutamientoLectura, MenuRowMapper menuRowMapper) {
+        this.enrutamientoLectura = enrutamientoLectura;
+        this.menuRowMapper = menuRowMapper;
+    }
+
+    @Override
+    public CompletionStage<Optional<Menu>> findById(Long id) {
+        return unico(SQL_BASE + POR_ID, id, menuRowMapper::toDomain).subscribeAsCompletionStage();
+    }
+
+    @Override
+    public CompletionStage<Optional<Menu>> findByIdConDetalle(Long id) {
+        return unico(SQL_DETALLE + POR_ID, id, menuRowMapper::toDomainConDetalle).subscribeAsCompletionStage();
+    }
+
+    @Override
+    public Flow.Publisher<Menu> buscarMenuPorFiltros(FiltroMenu filtro) {
+        return porFiltros(SQL_BASE, filtro, menuRowMapper::toDomain);
+    }
+
+    @Override
+    public Flow.Publisher<Menu> buscarMenuPorFiltrosConDetalle(FiltroMenu filtro) {
+        return porFiltros(SQL_DETALLE, filtro, menuRowMapper::toDomainConDetalle);
+    }
+
+    @Override
+    public Flow.Publisher<Menu> buscarMenuPorFiltros(FiltroMenu filtro, Set<CampoMenu> campos) {
+        String select = "SELECT " + campos.stream().map(PROYECCION::get).collect(Collectors.joining(", "))
+                + (CampoMenu.requiereDetalle(campos) ? FROM_DETALLE : " FROM kafka.menus m");
+        return porFiltros(select, filtro, fila -> menuRowMapper.toDomainParcial(fila, campos));
+    }
+
+    /**
+     * Ejecuta una consulta por PK y convierte la fila, si existe.
+     */
+    private Uni<Optional<Menu>> unico(String sql, Long id, Function<Row, Menu> conversion) {
+        Tuple parametros = Tuple.of(id);
+        return SqlReactivoMedido.medir(sql, parametros, () -> enrutamientoLectura.pool().preparedQuery(sql)
+                        .execute(parametros))
+                .map(filas -> {
+                    RowIterator<Row> it = filas.iterator();
+                    return it.hasNext() ? Optional.of(conversion.apply(it.next())) : Optional.empty();
+                });
+    }
+
+    /**
+     * Construye la cláusula WHERE dinámica (parámetros posicionales $n)
+     * y emite cada fila convertida.
+     */
+    private Multi<Menu> porFiltros(String select, FiltroMenu filtro, Function<Row, Menu> conversion) {
+        StringBuilder sql = new StringBuilder(select);
+        Tuple parametros = Tuple.tuple();
+
+        if (filtro.nombre() != null) {
+            parametros.addString("%" + filtro.nombre().toLowerCase() + "%");
+            sql.append(parametros.size() == 1 ? " WHERE " : " AND ")
+                    .append("lower(m.nombre) LIKE $").append(parametros.size());
+        }
+        if (filtro.codModulo() != null) {
+            parametros.addLong(filtro.codModulo().longValue());
+            sql.append(parametros.size() == 1 ? " WHERE " : " AND ")
+                    .append("m.codmodulo = $").append(parametros.size());
+        }
+        if (filtro.estado() != null) {
+            parametros.addBigDecimal(new BigDecimal(filtro.estado()));
+            sql.append(parametros.size() == 1 ? " WHERE " : " AND ")
+                    .append("m.estado = $").append(parametros.size());
+        }
+
+        String texto = sql.toString();
+        return SqlReactivoMedido.medir(texto, parametros, () -> enrutamientoLectura.pool().preparedQuery(texto)
+                        .execute(parametros))
+                .onItem().transformToMulti(filas -> Multi.createFrom().iterable(filas))
+                .map(conversion);
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Optional;
  * - @ApplicationScoped: Singleton inyectado en CDI
  * - MenuJpaRepository: Repositorio Panache para acceso a BD
  * - MenuOutputMapper: Convierte entre JPA ↔ Dominio
+ * - NotificadorCambios: Publica cada escritura en el canal de invalidación de cachés
  * 
  * Operaciones:
  * - save(Menu): CREATE - Persiste menú nuevo
@@ -42,16 +43,22 @@ public class MenuRepositoryAdapter implements MenuRepository {
     /** Mapper para conversiones entre JPA ↔ Dominio */
     private final MenuOutputMapper menuOutputMapper;
 
+    /** Publica escrituras para invalidar cachés en todos los nodos */
+    private final NotificadorCambios notificadorCambios;
+
     /**
      * Constructor con inyección de dependencias.
      * CDI automáticamente inyecta menJpaRepository y menuOutputMapper.
      * 
      * @param menuJpaRepository Repositorio JPA de Quarkus Panache
      * @param menuOutputMapper Mapper para transformaciones
+     * @param notificadorCambios Notificador de escrituras (NOTIFY)
      */
-    public MenuRepositoryAdapter(MenuJpaRepository menuJpaRepository, MenuOutputMapper menuOutputMapper) {
+    public MenuRepositoryAdapter(MenuJpaRepository menuJpaRepository, MenuOutputMapper menuOutputMapper,
+                                 NotificadorCambios notificadorCambios) {
         this.menuJpaRepository = menuJpaRepository;
         this.menuOutputMapper = menuOutputMapper;
+        this.notificadorCambios = notificadorCambios;
     }
 
     /**
@@ -69,7 +76,9 @@ public class MenuRepositoryAdapter implements MenuRepository {
     public Menu save(Menu menu) {
       MenuJpaEntity menuJpaEntity = menuOutputMapper.toJpaEntity(menu);
       menuJpaRepository.persist(menuJpaEntity);
-      return menuOutputMapper.toDomain(menuJpaEntity);
+      Menu guardado = menuOutputMapper.toDomain(menuJpaEntity);
+      notificadorCambios.notificar(NotificadorCambios.MENU, guardado.getMenuId());
+      return guardado;
     }
 
     /**
@@ -105,6 +114,7 @@ public class MenuRepositoryAdapter implements MenuRepository {
         return menuJpaRepository.findByIdOptional(id)
                 .map(entity -> {
                     menuJpaRepository.delete(entity);
+                    notificadorCambios.notificar(NotificadorCambios.MENU, id);
                     return true;
                 })
                 .orElse(false);
@@ -140,6 +150,7 @@ public class MenuRepositoryAdapter implements MenuRepository {
         
         // 4. Persistir cambios (JPA hace merge automáticamente)
         menuJpaRepository.persist(entity);
+        notificadorCambios.notificar(NotificadorCambios.MENU, id);
         
         // 5. Convertir a dominio y retornar
         return menuOutputMapper.toDomain(entity);
@@ -158,6 +169,7 @@ public class MenuRepositoryAdapter implements MenuRepository {
        boolean resp = menuJpaRepository.findByIdOptional(id)
                .map(entity-> {
                    menuJpaRepository.delete(entity);
+                   notificadorCambios.notificar(NotificadorCambios.MENU, id);
                    return true;
                })
                .orElse(false);
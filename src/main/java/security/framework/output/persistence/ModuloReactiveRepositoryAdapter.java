@@ -0,0 +1,44 @@
+package security.framework.output.persistence;
+
+import io.smallrye.mutiny.Multi;
+import jakarta.enterprise.context.ApplicationScoped;
+import security.aplication.port.output.ModuloReactiveRepository;
+import security.dominio.entidades.Modulo;
+import security.framework.output.sql.SqlReactivoMedido;
+
+import java.math.BigInteger;
+import java.util.concurrent.Flow;
+
+/**
+ * Adaptador de Salida: ModuloReactiveRepositoryAdapter
+ * 
+ * Implementa ModuloReactiveRepository con el cliente reactivo PostgreSQL.
+ * 
+ * Patrón: Adapter (Hexagonal Architecture)
+ * 
+ * Las lecturas van a la réplica o al primario según EnrutamientoLectura.
+ */
+@ApplicationScoped
+public class ModuloReactiveRepositoryAdapter implements ModuloReactiveRepository {
+
+    private static final String SQL_TODOS = "SELECT id, nombre FROM kafka.modulos ORDER BY id";
+
+    private final EnrutamientoLectura enrutamientoLectura;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param enrutamientoLectura Selección de pool (primario o réplica) por solicitud
+     */
+    public ModuloReactiveRepositoryAdapter(EnrutamientoLectura enrutamientoLectura) {
+        this.enrutamientoLectura = enrutamientoLectura;
+    }
+
+    @Override
+    public Flow.Publisher<Modulo> findAll() {
+        return SqlReactivoMedido.medir(SQL_TODOS, () -> enrutamientoLectura.pool().query(SQL_TODOS)
+                        .execute())
+                .onItem().transformToMulti(filas -> Multi.createFrom().iterable(filas))
+                .map(fila -> new Modulo(BigInteger.valueOf(fila.getLong("id")), fila.getString("nombre")));
+    }
+}
@@ -43,16 +43,22 @@ public class ModuloRepositoryAdapter implements ModuloRepository {
     /** Mapper para conversiones entre JPA ↔ Dominio */
     private final ModuloOutputMapper moduloOutputMapper;
 
+    /** Publica escrituras para invalidar cachés en todos los nodos */
+    private final NotificadorCambios notificadorCambios;
+
     /**
      * Constructor con inyección de dependencias.
      * CDI automáticamente inyecta moduloJpaRepository y moduloOutputMapper.
      * 
      * @param moduloJpaRepository Repositorio JPA de Quarkus Panache
      * @param moduloOutputMapper Mapper para transformaciones
+     * @param notificadorCambios Notificador de escrituras (NOTIFY)
      */
-    public ModuloRepositoryAdapter(ModuloJpaRepository moduloJpaRepository, ModuloOutputMapper moduloOutputMapper) {
+    public ModuloRepositoryAdapter(ModuloJpaRepository moduloJpaRepository, ModuloOutputMapper moduloOutputMapper,
+                                   NotificadorCambios notificadorCambios) {
         this.moduloJpaRepository = moduloJpaRepository;
         this.moduloOutputMapper=moduloOutputMapper;
+        this.notificadorCambios = notificadorCambios;
     }
 
     /**
@@ -70,7 +76,9 @@ public class ModuloRepositoryAdapter implements ModuloRepository {
     public Modulo save(Modulo modulo) {
        ModuloJpaEntity moduloJpaEntity = moduloOutputMapper.toJpaEntity(modulo);
         moduloJpaRepository.persist(moduloJpaEntity);
-        return moduloOutputMapper.toDomain(moduloJpaEntity);
+        Modulo guardado = moduloOutputMapper.toDomain(moduloJpaEntity);
+        notificadorCambios.notificar(NotificadorCambios.MODULO, guardado.getId());
+        return guardado;
     }
 
     /**
@@ -128,6 +136,7 @@ public class ModuloRepositoryAdapter implements ModuloRepository {
         if (entity != null) {
             moduloOutputMapper.applyToEntity(modulo, entity);
             moduloJpaRepository.persist(entity);
+            notificadorCambios.notificar(NotificadorCambios.MODULO, id);
             return moduloOutputMapper.toDomain(entity);
         }
         return null;
@@ -140,6 +149,8 @@ public class ModuloRepositoryAdapter implements ModuloRepository {
      */
     @Override
     public void delete(Long id) {
-        moduloJpaRepository.deleteById(id);
+        if (moduloJpaRepository.deleteById(id)) {
+            notificadorCambios.notificar(NotificadorCambios.MODULO, id);
+        }
     }
 }
@@ -0,0 +1,138 @@
+package security.framework.output.persistence;
+
+import io.agroal.api.AgroalDataSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import security.framework.config.CacheConfig;
+import security.framework.exceptions.InternalServerException;
+import security.framework.output.cache.RegistroCaches;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Componente de Infraestructura: NotificadorCambios
+ * 
+ * Publica en el canal PostgreSQL (NOTIFY) cada escritura hecha por los
+ * adaptadores de repositorio, para que todos los nodos invaliden sus cachés
+ * en proceso (CanalInvalidacionCache).
+ * 
+ * Responsabilidad: Emitir "tipo:id" en la misma transacción que la escritura
+ * 
+ * Entrega:
+ * - pg_notify se ejecuta con la conexión del datasource por defecto, que
+ *   Agroal enlista en la transacción JTA activa
+ * - PostgreSQL solo entrega el mensaje cuando la transacción confirma; si
+ *   hace rollback, el mensaje se descarta. Así ningún nodo invalida por una
+ *   escritura que no llegó a existir ni antes de que sea visible
+ * - Mensajes idénticos dentro de una misma transacción se entregan una vez
+ * 
+ * Formato del payload:
+ * - "menu:15", "perfil:3", ...: cambio de una entidad (tipos en las constantes)
+ * - "menu_perfil:*": cambio de varias entidades de un tipo sin ID concreto
+ * - "*": cambio masivo, los nodos vacían todas las cachés
+ * 
+ * Además aplica el cambio a las cachés de este nodo (RegistroCaches) en
+ * cuanto la transacción confirma, sin esperar su propio NOTIFY; así también
+ * funciona con security.cache.canal.enabled=false, que solo omite el NOTIFY.
+ */
+@ApplicationScoped
+public class NotificadorCambios {
+
+    public static final String MENU = "menu";
+    public static final String MODULO = "modulo";
+    public static final String PANTALLA = "pantalla";
+    public static final String PERFIL = "perfil";
+    /** Asignación menú ↔ perfil; el id es el del perfil */
+    public static final String MENU_PERFIL = "menu_perfil";
+    /** Payload de invalidación total */
+    public static final String TODO = "*";
+
+    private static final String SQL_NOTIFY = "SELECT pg_notify(?, ?)";
+
+    private final AgroalDataSource dataSource;
+    private final CacheConfig.Canal canal;
+    private final RegistroCaches registroCaches;
+    private final TransactionSynchronizationRegistry transacciones;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param dataSource Datasource por defecto (primario)
+     * @param cacheConfig Configuración del canal
+     * @param registroCaches Cachés en proceso de este nodo
+     * @param transacciones Registro JTA (aplicación local tras el commit)
+     */
+    public NotificadorCambios(AgroalDataSource dataSource, CacheConfig cacheConfig,
+                              RegistroCaches registroCaches, TransactionSynchronizationRegistry transacciones) {
+        this.dataSource = dataSource;
+        this.canal = cacheConfig.canal();
+        this.registroCaches = registroCaches;
+        this.transacciones = transacciones;
+    }
+
+    /**
+     * Notifica el cambio de una entidad.
+     * 
+     * @param tipo Tipo de entidad (constantes de esta clase)
+     * @param id ID de la entidad
+     */
+    public void notificar(String tipo, Object id) {
+        if (id != null) {
+            enviar(tipo + ":" + id);
+        }
+    }
+
+    /**
+     * Notifica el cambio de varias entidades de un tipo sin ID concreto.
+     * 
+     * @param tipo Tipo de entidad (constantes de esta clase)
+     */
+    public void notificarTipo(String tipo) {
+        enviar(tipo + ":" + TODO);
+    }
+
+    /**
+     * Notifica un cambio masivo (invalidación total).
+     */
+    public void notificarTodo() {
+        enviar(TODO);
+    }
+
+    private void enviar(String payload) {
+        aplicarLocalAlConfirmar(payload);
+        if (!canal.enabled()) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(SQL_NOTIFY)) {
+            ps.setString(1, canal.nombre());
+            ps.setString(2, payload);
+            ps.execute();
+        } catch (SQLException e) {
+            throw new InternalServerException("Error notificando cambio " + payload, e);
+        }
+    }
+
+    private void aplicarLocalAlConfirmar(String payload) {
+        if (transacciones.getTransactionStatus() == Status.STATUS_NO_TRANSACTION) {
+            registroCaches.aplicar(payload);
+            return;
+        }
+        transacciones.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int estado) {
+                if (estado == Status.STATUS_COMMITTED) {
+                    registroCaches.aplicar(payload);
+                }
+            }
+        });
+    }
+}
@@ -45,18 +45,22 @@ public class PantallaRepositoryAdapter implements PantallaRepository {
 
     private final PantallaJpaRepository pantallaJpaRepository;
     private final PantallaOutputMapper pantallaOutputMapper;
+    private final NotificadorCambios notificadorCambios;
 
     /**
      * Constructor con inyección de dependencias.
      * 
      * @param pantallaJpaRepository Repositorio JPA/Panache de pantallas
      * @param pantallaOutputMapper Mapper para conversiones Pantalla ↔ PantallaJpaEntity
+     * @param notificadorCambios Notificador de escrituras para invalidar cachés (NOTIFY)
      */
     @Inject
     public PantallaRepositoryAdapter(PantallaJpaRepository pantallaJpaRepository, 
-                                     PantallaOutputMapper pantallaOutputMapper) {
+                                     PantallaOutputMapper pantallaOutputMapper,
+                                     NotificadorCambios notificadorCambios) {
         this.pantallaJpaRepository = pantallaJpaRepository;
         this.pantallaOutputMapper = pantallaOutputMapper;
+        this.notificadorCambios = notificadorCambios;
     }
 
     /**
@@ -80,7 +84,9 @@ public class PantallaRepositoryAdapter implements PantallaRepository {
         pantallaJpaRepository.persist(jpaEntity);
         
         // 3. Convertir JPA a dominio (incluye ID asignado)
-        return pantallaOutputMapper.toDomain(jpaEntity);
+        Pantalla guardada = pantallaOutputMapper.toDomain(jpaEntity);
+        notificadorCambios.notificar(NotificadorCambios.PANTALLA, guardada.getId());
+        return guardada;
     }
 
     /**
@@ -120,6 +126,7 @@ public class PantallaRepositoryAdapter implements PantallaRepository {
         PantallaJpaEntity jpaEntity = pantallaJpaRepository.findById(id);
         if (jpaEntity != null) {
             pantallaJpaRepository.delete(jpaEntity);
+            notificadorCambios.notificar(NotificadorCambios.PANTALLA, id);
             return true;
         }
         return false;
@@ -153,6 +160,7 @@ public class PantallaRepositoryAdapter implements PantallaRepository {
             
             // 3. Guardar (merge en transacción)
             pantallaJpaRepository.persist(jpaEntity);
+            notificadorCambios.notificar(NotificadorCambios.PANTALLA, id);
             
             // 4. Convertir a dominio y retornar
             return pantallaOutputMapper.toDomain(jpaEntity);
@@ -42,18 +42,22 @@ public class PerfilRepositoryAdapter implements PerfilRepository {
 
     private final PerfilJpaRepository perfilJpaRepository;
     private final PerfilOutputMapper perfilOutputMapper;
+    private final NotificadorCambios notificadorCambios;
 
     /**
      * Constructor con inyección de dependencias.
      * 
      * @param perfilJpaRepository Repositorio JPA/Panache de perfiles
      * @param perfilOutputMapper Mapper para conversiones Perfil ↔ PerfilJpaEntity
+     * @param notificadorCambios Notificador de escrituras para invalidar cachés (NOTIFY)
      */
     @Inject
     public PerfilRepositoryAdapter(PerfilJpaRepository perfilJpaRepository, 
-                                   PerfilOutputMapper perfilOutputMapper) {
+                                   PerfilOutputMapper perfilOutputMapper,
+                                   NotificadorCambios notificadorCambios) {
         this.perfilJpaRepository = perfilJpaRepository;
         this.perfilOutputMapper = perfilOutputMapper;
+        this.notificadorCambios = notificadorCambios;
     }
 
     /**
@@ -77,7 +81,9 @@ public class PerfilRepositoryAdapter implements PerfilRepository {
         perfilJpaRepository.persist(jpaEntity);
         
         // 3. Convertir JPA a dominio (incluye ID asignado)
-        return perfilOutputMapper.toDomain(jpaEntity);
+        Perfil guardado = perfilOutputMapper.toDomain(jpaEntity);
+        notificadorCambios.notificar(NotificadorCambios.PERFIL, guardado.getId());
+        return guardado;
     }
 
     /**
@@ -117,6 +123,7 @@ public class PerfilRepositoryAdapter implements PerfilRepository {
         PerfilJpaEntity jpaEntity = perfilJpaRepository.findById(id);
         if (jpaEntity != null) {
             perfilJpaRepository.delete(jpaEntity);
+            notificadorCambios.notificar(NotificadorCambios.PERFIL, id);
             return true;
         }
         return false;
@@ -145,6 +152,7 @@ public class PerfilRepositoryAdapter implements PerfilRepository {
         
         // 3. Persistir cambios (JPA hace merge automáticamente)
         perfilJpaRepository.persist(jpaEntity);
+        notificadorCambios.notificar(NotificadorCambios.PERFIL, id);
         
         // 4. Convertir a dominio y retornar
         return perfilOutputMapper.toDomain(jpaEntity);
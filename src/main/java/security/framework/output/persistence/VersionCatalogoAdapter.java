@@ -0,0 +1,53 @@
+package security.framework.output.persistence;
+
+import io.agroal.api.AgroalDataSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import security.framework.exceptions.InternalServerException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Adaptador de Infraestructura: VersionCatalogoAdapter
+ * 
+ * Lee la versión del catálogo (kafka.catalogo_version, migración V4), que
+ * los triggers incrementan en cada escritura de modulos, pantallas, menus,
+ * perfiles y menu_perfil.
+ * 
+ * Lee siempre del primario: una réplica retrasada daría una versión vieja
+ * y haría pasar por vigente un snapshot desactualizado.
+ */
+@ApplicationScoped
+public class VersionCatalogoAdapter {
+
+    private static final String SQL_VERSION = "SELECT version FROM kafka.catalogo_version WHERE id = 1";
+
+    private final AgroalDataSource dataSource;
+
+    /**
+     * Constructor con inyección de dependencias.
+     * 
+     * @param dataSource Datasource por defecto (primario)
+     */
+    public VersionCatalogoAdapter(AgroalDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Obtiene la versión actual del catálogo.
+     * 
+     * @return Versión confirmada del catálogo
+     * @throws InternalServerException si la consulta falla
+     */
+    public long obtenerVersion() {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(SQL_VERSION);
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0L;
+        } catch (SQLException e) {
+            throw new InternalServerException("Error leyendo la versión del catálogo", e);
+        }
+    }
+}
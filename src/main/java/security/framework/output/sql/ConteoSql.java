@@ -0,0 +1,66 @@
+package security.framework.output.sql;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Resultado: ConteoSql
+ * 
+ * Sentencias, filas y tiempo de base de datos de una solicitud (ContadorSql)
+ * o de un bloque medido con RegistroSql.medir().
+ * 
+ * API de aserción para pruebas: afirmarSentencias() y afirmarRepeticiones()
+ * lanzan AssertionError con el detalle de las sentencias ejecutadas, así una
+ * regresión de viajes a la base de datos falla la prueba que la introduce.
+ * 
+ * Ejemplo:
+ * RegistroSql.medir(() -> menuInputPort.crear(menu)).afirmarSentencias(4);
+ * 
+ * @param sentencias Viajes a la base de datos
+ * @param filas Filas leídas o modificadas
+ * @param nanos Tiempo total de ejecución en nanosegundos
+ * @param repeticiones Ejecuciones por texto SQL
+ */
+public record ConteoSql(int sentencias, long filas, long nanos, Map<String, Integer> repeticiones) {
+
+    /**
+     * @return Mayor número de ejecuciones de un mismo texto SQL
+     */
+    public int maximoRepeticiones() {
+        return repeticiones.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    /**
+     * @param maximo Sentencias permitidas
+     * @return Este conteo, para encadenar
+     * @throws AssertionError si se ejecutaron más
+     */
+    public ConteoSql afirmarSentencias(int maximo) {
+        if (sentencias > maximo) {
+            throw new AssertionError("Se esperaban como máximo " + maximo + " sentencias y se ejecutaron "
+                    + sentencias + ":\n" + detalle());
+        }
+        return this;
+    }
+
+    /**
+     * @param maximo Ejecuciones permitidas de un mismo texto SQL
+     * @return Este conteo, para encadenar
+     * @throws AssertionError si alguna sentencia se repitió más (posible N+1)
+     */
+    public ConteoSql afirmarRepeticiones(int maximo) {
+        if (maximoRepeticiones() > maximo) {
+            throw new AssertionError("Sentencias repetidas más de " + maximo + " veces (posible N+1):\n" + detalle());
+        }
+        return this;
+    }
+
+    /**
+     * @return Una línea por texto SQL: "veces × sql"
+     */
+    public String detalle() {
+        return repeticiones.entrySet().stream()
+                .map(e -> e.getValue() + " × " + e.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,61 @@
+package security.framework.output.sql;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * Driver JDBC: DriverMedido
+ * 
+ * Envuelve el driver de PostgreSQL y entrega conexiones medidas (JdbcMedido).
+ * Se configura como driver de cada datasource JDBC:
+ * quarkus.datasource.jdbc.driver=security.framework.output.sql.DriverMedido
+ * 
+ * Acepta las mismas URL (jdbc:postgresql:...) que el driver real, así
+ * la URL del datasource no cambia. No se registra en DriverManager: solo lo
+ * usa Agroal, que lo instancia por nombre de clase.
+ */
+public class DriverMedido implements Driver {
+
+    private final Driver destino = new org.postgresql.Driver();
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        Connection conexion = destino.connect(url, info);
+        return conexion == null ? null : JdbcMedido.conexion(conexion);
+    }
+
+    @Override
+    public boolean acceptsURL(String url) throws SQLException {
+        return destino.acceptsURL(url);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) throws SQLException {
+        return destino.getPropertyInfo(url, info);
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return destino.getMajorVersion();
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return destino.getMinorVersion();
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return destino.jdbcCompliant();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return destino.getParentLogger();
+    }
+}
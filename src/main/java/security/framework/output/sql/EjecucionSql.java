@@ -0,0 +1,62 @@
+package security.framework.output.sql;
+
+import security.framework.config.ContadorSql;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Medición: EjecucionSql
+ * 
+ * Una ejecución de sentencia en curso, con los destinos que la registran:
+ * el ContadorSql de la solicitud y el PerfiladorSql, cualquiera de los dos
+ * puede faltar. La crea RegistroSql.ejecucion() antes de ejecutar.
+ * 
+ * Las filas de un ResultSet se suman con fila() a medida que se leen, aunque
+ * la ejecución ya haya terminado.
+ */
+public final class EjecucionSql {
+
+    private final String sql;
+    private final ContadorSql contador;
+    private final PerfiladorSql perfilador;
+    private final EstadisticaSql estadistica;
+
+    EjecucionSql(String sql, ContadorSql contador, PerfiladorSql perfilador) {
+        this.sql = sql;
+        this.contador = contador;
+        this.perfilador = perfilador;
+        this.estadistica = perfilador == null ? null : perfilador.estadistica(sql);
+    }
+
+    /**
+     * Registra el fin de la ejecución.
+     * 
+     * @param duracion Tiempo de ejecución en nanosegundos
+     * @param filas Filas devueltas o modificadas conocidas al terminar
+     * @param parametros Valores enlazados (se resuelven solo si la sentencia es lenta)
+     */
+    public void terminar(long duracion, long filas, Supplier<List<Object>> parametros) {
+        if (contador != null) {
+            contador.sentencia(sql, duracion);
+            contador.filas(filas);
+        }
+        if (estadistica != null) {
+            estadistica.ejecucion(duracion);
+            estadistica.filas(filas);
+            perfilador.siLenta(sql, duracion, parametros);
+        }
+    }
+
+    /**
+     * Suma una fila leída después de terminar (ResultSet.next()).
+     */
+    public void fila() {
+        if (contador != null) {
+            contador.filas(1);
+        }
+        if (estadistica != null) {
+            estadistica.filas(1);
+        }
+    }
+}
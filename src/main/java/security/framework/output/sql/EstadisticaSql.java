@@ -0,0 +1,65 @@
+package security.framework.output.sql;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumulador: EstadisticaSql
+ * 
+ * Ejecuciones, tiempo total, tiempo máximo y filas de una huella SQL
+ * (PerfiladorSql). Contadores sin bloqueo: se actualizan desde cualquier
+ * hilo en cada ejecución.
+ */
+public final class EstadisticaSql {
+
+    private final String huella;
+    private final LongAdder ejecuciones = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+    private final LongAdder filas = new LongAdder();
+
+    EstadisticaSql(String huella) {
+        this.huella = huella;
+    }
+
+    void ejecucion(long duracion) {
+        ejecuciones.increment();
+        nanos.add(duracion);
+        maximo.accumulate(duracion);
+    }
+
+    void filas(long cantidad) {
+        filas.add(cantidad);
+    }
+
+    long nanos() {
+        return nanos.sum();
+    }
+
+    /**
+     * @return Copia de los valores acumulados
+     */
+    public Resumen resumen() {
+        long total = ejecuciones.sum();
+        long tiempo = nanos.sum();
+        return new Resumen(huella, total,
+                TimeUnit.NANOSECONDS.toMicros(tiempo) / 1000.0,
+                TimeUnit.NANOSECONDS.toMicros(maximo.get()) / 1000.0,
+                total == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(tiempo / total) / 1000.0,
+                filas.sum());
+    }
+
+    /**
+     * Valores de una huella en un instante.
+     * 
+     * @param huella Texto SQL normalizado (HuellaSql)
+     * @param ejecuciones Veces ejecutada
+     * @param totalMs Tiempo total en milisegundos
+     * @param maximoMs Ejecución más lenta en milisegundos
+     * @param medioMs Tiempo medio por ejecución en milisegundos
+     * @param filas Filas leídas o modificadas en total
+     */
+    public record Resumen(String huella, long ejecuciones, double totalMs, double maximoMs, double medioMs, long filas) {
+    }
+}
@@ -0,0 +1,43 @@
+package security.framework.output.sql;
+
+import java.util.regex.Pattern;
+
+/**
+ * Normalización: HuellaSql
+ * 
+ * Reduce un texto SQL a su huella: la misma sentencia con distintos valores
+ * da la misma huella, así se acumulan juntas en PerfiladorSql.
+ * 
+ * Reglas, en orden:
+ * 1. Literales de texto ('...') → ?
+ * 2. Parámetros posicionales del cliente reactivo ($1, $2...) → ?
+ * 3. Literales numéricos sueltos → ? (no toca alias como m1_0)
+ * 4. Listas IN (?, ?, ...) de cualquier largo → (?...)
+ * 5. Espacios, tabuladores y saltos de línea seguidos → un espacio
+ */
+public final class HuellaSql {
+
+    private static final Pattern TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern POSICIONAL = Pattern.compile("\\$\\d+");
+    private static final Pattern NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern LISTA = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+
+    private HuellaSql() {
+    }
+
+    /**
+     * @param sql Texto SQL tal como se ejecutó
+     * @return Huella normalizada
+     */
+    public static String de(String sql) {
+        if (sql == null) {
+            return "?";
+        }
+        String huella = TEXTO.matcher(sql).replaceAll("?");
+        huella = POSICIONAL.matcher(huella).replaceAll("?");
+        huella = NUMERO.matcher(huella).replaceAll("?");
+        huella = LISTA.matcher(huella).replaceAll("(?...)");
+        return ESPACIOS.matcher(huella).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,159 @@
+package security.framework.output.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decorador JDBC: JdbcMedido
+ * 
+ * Proxies de Connection, Statement y ResultSet que registran cada ejecución
+ * en RegistroSql (ContadorSql de la solicitud y PerfiladorSql), sin tocar
+ * Hibernate ni los adaptadores JDBC directos.
+ * 
+ * Qué cuenta:
+ * - execute / executeQuery / executeUpdate / executeLargeUpdate: una sentencia
+ * - executeBatch / executeLargeBatch: una sentencia (un viaje), filas = suma
+ *   de las actualizadas
+ * - ResultSet.next() verdadero: una fila leída
+ * 
+ * La medición se abre al ejecutar: las filas de un ResultSet se suman a la
+ * sentencia que lo abrió aunque se lean después.
+ * 
+ * Con perfilador activo, los set*(índice, valor) de un PreparedStatement se
+ * conservan hasta la ejecución para el log de sentencias lentas.
+ * 
+ * Cualquier otro método (unwrap incluido) se delega tal cual.
+ */
+final class JdbcMedido implements InvocationHandler {
+
+    private final Object destino;
+    private final Object padre;
+    private final String sql;
+    private final EjecucionSql ejecucion;
+    private final List<Object> parametros = new ArrayList<>();
+    private EjecucionSql ultima;
+
+    private JdbcMedido(Object destino, Object padre, String sql, EjecucionSql ejecucion) {
+        this.destino = destino;
+        this.padre = padre;
+        this.sql = sql;
+        this.ejecucion = ejecucion;
+    }
+
+    /**
+     * @param conexion Conexión del driver real
+     * @return Conexión medida
+     */
+    static Connection conexion(Connection conexion) {
+        return envolver(Connection.class, conexion, null, null, null);
+    }
+
+    private static <T> T envolver(Class<T> interfaz, T destino, Object padre, String sql, EjecucionSql ejecucion) {
+        return interfaz.cast(Proxy.newProxyInstance(JdbcMedido.class.getClassLoader(), new Class<?>[]{interfaz},
+                new JdbcMedido(destino, padre, sql, ejecucion)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method metodo, Object[] argumentos) throws Throwable {
+        String nombre = metodo.getName();
+        if (metodo.getDeclaringClass() == Object.class) {
+            return switch (nombre) {
+                case "equals" -> proxy == argumentos[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> invocar(metodo, argumentos);
+            };
+        }
+        if (destino instanceof Connection) {
+            return enConexion(proxy, metodo, argumentos, nombre);
+        }
+        if (destino instanceof Statement) {
+            return enSentencia(proxy, metodo, argumentos, nombre);
+        }
+        Object resultado = invocar(metodo, argumentos);
+        if (ejecucion != null && "next".equals(nombre) && Boolean.TRUE.equals(resultado)) {
+            ejecucion.fila();
+        }
+        if ("getStatement".equals(nombre)) {
+            return padre;
+        }
+        return resultado;
+    }
+
+    private Object enConexion(Object proxy, Method metodo, Object[] argumentos, String nombre) throws Throwable {
+        Object resultado = invocar(metodo, argumentos);
+        return switch (nombre) {
+            case "createStatement" -> envolver(Statement.class, (Statement) resultado, proxy, null, null);
+            case "prepareStatement" -> envolver(PreparedStatement.class, (PreparedStatement) resultado, proxy,
+                    (String) argumentos[0], null);
+            case "prepareCall" -> envolver(CallableStatement.class, (CallableStatement) resultado, proxy,
+                    (String) argumentos[0], null);
+            default -> resultado;
+        };
+    }
+
+    private Object enSentencia(Object proxy, Method metodo, Object[] argumentos, String nombre) throws Throwable {
+        if ("getConnection".equals(nombre)) {
+            return padre;
+        }
+        if (!nombre.startsWith("execute")) {
+            Object resultado = invocar(metodo, argumentos);
+            if (nombre.startsWith("set") && sql != null && RegistroSql.perfilando()
+                    && argumentos != null && argumentos.length >= 2 && argumentos[0] instanceof Integer indice) {
+                enlazar(indice, argumentos[1]);
+            } else if ("clearParameters".equals(nombre)) {
+                parametros.clear();
+            } else if ("getResultSet".equals(nombre) && ultima != null && resultado != null) {
+                return envolver(ResultSet.class, (ResultSet) resultado, proxy, null, ultima);
+            }
+            return resultado;
+        }
+        String texto = argumentos != null && argumentos.length > 0 && argumentos[0] instanceof String s ? s : sql;
+        EjecucionSql actual = RegistroSql.ejecucion(texto);
+        ultima = actual;
+        long inicio = System.nanoTime();
+        Object resultado = invocar(metodo, argumentos);
+        if (actual == null) {
+            return resultado;
+        }
+        long filas = 0;
+        if (resultado instanceof int[] actualizadas) {
+            for (int n : actualizadas) {
+                filas += Math.max(n, 0);
+            }
+        } else if (resultado instanceof long[] actualizadas) {
+            for (long n : actualizadas) {
+                filas += Math.max(n, 0);
+            }
+        } else if (resultado instanceof Number actualizadas) {
+            filas = Math.max(actualizadas.longValue(), 0);
+        }
+        actual.terminar(System.nanoTime() - inicio, filas, () -> new ArrayList<>(parametros));
+        return resultado instanceof ResultSet conjunto
+                ? envolver(ResultSet.class, conjunto, proxy, null, actual)
+                : resultado;
+    }
+
+    private void enlazar(int indice, Object valor) {
+        while (parametros.size() < indice) {
+            parametros.add(null);
+        }
+        parametros.set(indice - 1, valor);
+    }
+
+    private Object invocar(Method metodo, Object[] argumentos) throws Throwable {
+        try {
+            return metodo.invoke(destino, argumentos);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
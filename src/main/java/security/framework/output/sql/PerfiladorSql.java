@@ -0,0 +1,142 @@
+package security.framework.output.sql;
+
+import io.quarkus.runtime.Startup;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+import security.framework.config.SqlConfig;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Componente de Infraestructura: PerfiladorSql
+ * 
+ * Perfil de todas las sentencias que ejecuta el servicio (JDBC y reactivas),
+ * agrupadas por huella (HuellaSql): ejecuciones, tiempo total, máximo y
+ * filas. Reemplaza al log DEBUG de org.hibernate.SQL, que escribía cada
+ * sentencia.
+ * 
+ * Responsabilidad:
+ * - Acumular por huella (EstadisticaSql), sin bloqueo en el camino caliente
+ * - Entregar las top-N por tiempo total (GET /perfil-sql)
+ * - Registrar en el log, con sus parámetros, las ejecuciones por encima de
+ *   security.sql.perfil.lenta
+ * 
+ * Memoria acotada:
+ * - Como mucho security.sql.perfil.maximo-huellas huellas; las demás se
+ *   suman en "(otras)"
+ * - La huella de cada texto SQL se recuerda para no normalizarlo en cada
+ *   ejecución, con el mismo límite
+ * 
+ * Reinicio atómico: ambos mapas viven en una Tabla que reiniciar()
+ * reemplaza de una vez; una ejecución en curso termina de sumar en la tabla
+ * descartada y nunca ve un porTexto vacío que apunte a huellas viejas.
+ * 
+ * @Startup: se registra en RegistroSql al arrancar, antes de la primera
+ * sentencia (el driver JDBC no es un bean CDI).
+ */
+@Startup
+@ApplicationScoped
+public class PerfiladorSql {
+
+    private static final Logger LOG = Logger.getLogger(PerfiladorSql.class);
+    private static final String OTRAS = "(otras)";
+    private static final int MAXIMO_PARAMETRO = 100;
+
+    private final int maximoHuellas;
+    private final long lentaNanos;
+    private final AtomicReference<Tabla> tabla = new AtomicReference<>(new Tabla());
+
+    public PerfiladorSql(SqlConfig config) {
+        this.maximoHuellas = config.perfil().maximoHuellas();
+        this.lentaNanos = config.perfil().lenta().toNanos();
+        if (config.perfil().enabled()) {
+            RegistroSql.perfilador(this);
+        }
+    }
+
+    /**
+     * @param sql Texto SQL tal como se ejecuta
+     * @return Acumulador de su huella
+     */
+    EstadisticaSql estadistica(String sql) {
+        String texto = sql == null ? "?" : sql;
+        Tabla actual = tabla.get();
+        Map<String, EstadisticaSql> porHuella = actual.porHuella();
+        Map<String, EstadisticaSql> porTexto = actual.porTexto();
+        EstadisticaSql estadistica = porTexto.get(texto);
+        if (estadistica != null) {
+            return estadistica;
+        }
+        String huella = HuellaSql.de(texto);
+        estadistica = porHuella.size() < maximoHuellas || porHuella.containsKey(huella)
+                ? porHuella.computeIfAbsent(huella, EstadisticaSql::new)
+                : porHuella.computeIfAbsent(OTRAS, EstadisticaSql::new);
+        if (porTexto.size() < maximoHuellas) {
+            porTexto.put(texto, estadistica);
+        }
+        return estadistica;
+    }
+
+    /**
+     * Registra la ejecución en el log si supera el umbral de lentitud.
+     * 
+     * @param sql Texto SQL
+     * @param duracion Tiempo de ejecución en nanosegundos
+     * @param parametros Valores enlazados (se resuelven solo si es lenta)
+     */
+    void siLenta(String sql, long duracion, Supplier<List<Object>> parametros) {
+        if (duracion < lentaNanos) {
+            return;
+        }
+        LOG.warnf("Sentencia SQL lenta (%d ms): %s; parámetros %s",
+                duracion / 1_000_000, sql, recortar(parametros.get()));
+    }
+
+    /**
+     * @param n Cuántas huellas
+     * @return Las n huellas con más tiempo total, de mayor a menor
+     */
+    public List<EstadisticaSql.Resumen> top(int n) {
+        return tabla.get().porHuella().values().stream()
+                .sorted(Comparator.comparingLong(EstadisticaSql::nanos).reversed())
+                .limit(n)
+                .map(EstadisticaSql::resumen)
+                .toList();
+    }
+
+    /**
+     * @return Huellas distintas acumuladas
+     */
+    public int huellas() {
+        return tabla.get().porHuella().size();
+    }
+
+    /**
+     * Descarta lo acumulado (p. ej. antes de medir una prueba de carga).
+     */
+    public void reiniciar() {
+        tabla.set(new Tabla());
+    }
+
+    private static List<String> recortar(List<Object> parametros) {
+        return parametros.stream()
+                .map(String::valueOf)
+                .map(p -> p.length() > MAXIMO_PARAMETRO ? p.substring(0, MAXIMO_PARAMETRO) + "…" : p)
+                .toList();
+    }
+
+    /**
+     * Acumuladores por huella y huella recordada por texto SQL.
+     */
+    private record Tabla(Map<String, EstadisticaSql> porHuella, Map<String, EstadisticaSql> porTexto) {
+
+        Tabla() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+}
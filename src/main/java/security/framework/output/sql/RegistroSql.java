@@ -0,0 +1,97 @@
+package security.framework.output.sql;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import security.framework.config.ContadorSql;
+
+/**
+ * Componente de Infraestructura: RegistroSql
+ * 
+ * Punto de entrada estático de las sentencias medidas: el driver JDBC lo
+ * instancia Agroal, no CDI, así que JdbcMedido y SqlReactivoMedido
+ * obtienen aquí el contador que corresponde a la sentencia y el
+ * PerfiladorSql (que se registra al arrancar).
+ * 
+ * Contador:
+ * 1. El de RegistroSql.medir() en curso en este hilo (pruebas, tareas)
+ * 2. Si no, el ContadorSql de la solicitud HTTP, si hay contexto de
+ *    solicitud activo
+ * 3. Si no (arranque, recargas en segundo plano), ninguno: la sentencia no
+ *    se atribuye a nadie
+ */
+public final class RegistroSql {
+
+    private static final ThreadLocal<ContadorSql> MEDICION = new ThreadLocal<>();
+
+    private static volatile PerfiladorSql perfilador;
+
+    private RegistroSql() {
+    }
+
+    /**
+     * @param activo Perfilador que acumula todas las sentencias
+     */
+    static void perfilador(PerfiladorSql activo) {
+        perfilador = activo;
+    }
+
+    /**
+     * @return true si hay perfilador (los parámetros enlazados se conservan
+     *         para el log de sentencias lentas)
+     */
+    static boolean perfilando() {
+        return perfilador != null;
+    }
+
+    /**
+     * Abre la medición de una sentencia que se va a ejecutar.
+     * 
+     * @param sql Texto SQL
+     * @return Medición, o null si no hay ni contador ni perfilador
+     */
+    public static EjecucionSql ejecucion(String sql) {
+        ContadorSql contador = actual();
+        PerfiladorSql activo = perfilador;
+        return contador == null && activo == null ? null : new EjecucionSql(sql, contador, activo);
+    }
+
+    /**
+     * @return Contador de la sentencia que se va a ejecutar, o null
+     */
+    public static ContadorSql actual() {
+        ContadorSql medicion = MEDICION.get();
+        if (medicion != null) {
+            return medicion;
+        }
+        ArcContainer contenedor = Arc.container();
+        if (contenedor == null || !contenedor.requestContext().isActive()) {
+            return null;
+        }
+        return contenedor.instance(ContadorSql.class).get();
+    }
+
+    /**
+     * Ejecuta un bloque y cuenta sus sentencias (API de pruebas).
+     * 
+     * Solo cuenta lo que se ejecuta en este hilo; las consultas reactivas
+     * deben esperarse dentro del bloque (await()).
+     * 
+     * @param bloque Trabajo a medir
+     * @return Sentencias, filas y tiempo del bloque
+     */
+    public static ConteoSql medir(Runnable bloque) {
+        ContadorSql anterior = MEDICION.get();
+        ContadorSql contador = new ContadorSql();
+        MEDICION.set(contador);
+        try {
+            bloque.run();
+        } finally {
+            if (anterior == null) {
+                MEDICION.remove();
+            } else {
+                MEDICION.set(anterior);
+            }
+        }
+        return contador.conteo();
+    }
+}
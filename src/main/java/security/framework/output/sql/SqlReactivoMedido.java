@@ -0,0 +1,64 @@
+package security.framework.output.sql;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decorador Reactivo: SqlReactivoMedido
+ * 
+ * Equivalente de JdbcMedido para el cliente reactivo PostgreSQL, que no pasa
+ * por el driver JDBC: registra la consulta y sus filas en RegistroSql
+ * (ContadorSql de la solicitud y PerfiladorSql).
+ * 
+ * La medición y el inicio se toman al suscribirse (en el contexto de la
+ * solicitud); la sentencia y las filas se registran al llegar el RowSet.
+ * 
+ * Uso en los adaptadores reactivos:
+ * SqlReactivoMedido.medir(SQL, parametros, () -> pool.preparedQuery(SQL).execute(parametros))
+ */
+public final class SqlReactivoMedido {
+
+    private SqlReactivoMedido() {
+    }
+
+    /**
+     * @param sql Texto SQL de la consulta
+     * @param consulta Crea el Uni de la consulta (se invoca al suscribirse)
+     * @return Mismo resultado que la consulta, medido
+     */
+    public static Uni<RowSet<Row>> medir(String sql, Supplier<Uni<RowSet<Row>>> consulta) {
+        return medir(sql, null, consulta);
+    }
+
+    /**
+     * @param sql Texto SQL de la consulta
+     * @param parametros Valores de $1, $2... (para el log de sentencias lentas)
+     * @param consulta Crea el Uni de la consulta (se invoca al suscribirse)
+     * @return Mismo resultado que la consulta, medido
+     */
+    public static Uni<RowSet<Row>> medir(String sql, Tuple parametros, Supplier<Uni<RowSet<Row>>> consulta) {
+        return Uni.createFrom().deferred(() -> {
+            EjecucionSql ejecucion = RegistroSql.ejecucion(sql);
+            if (ejecucion == null) {
+                return consulta.get();
+            }
+            long inicio = System.nanoTime();
+            return consulta.get().invoke(filas ->
+                    ejecucion.terminar(System.nanoTime() - inicio, filas.rowCount(), () -> valores(parametros)));
+        });
+    }
+
+    private static List<Object> valores(Tuple parametros) {
+        List<Object> valores = new ArrayList<>();
+        for (int i = 0; parametros != null && i < parametros.size(); i++) {
+            valores.add(parametros.getValue(i));
+        }
+        return valores;
+    }
+}
@@ -0,0 +1,85 @@
+package security.framework.output.trazas;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.jboss.logging.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+/**
+ * Exportador de Trazas: ExportadorTrazasArchivo
+ * 
+ * Escribe cada span terminado como una línea JSON (SpanJson) al final de un
+ * archivo, para inspeccionar trazas sin colector (jq, grep por traceId).
+ * 
+ * Lo invoca el BatchSpanProcessor de TrazasLocales desde su propio hilo, por
+ * lotes: la escritura no ocurre en el hilo de la solicitud. Cada lote se
+ * vacía a disco al terminar.
+ */
+public class ExportadorTrazasArchivo implements SpanExporter {
+
+    private static final Logger LOG = Logger.getLogger(ExportadorTrazasArchivo.class);
+
+    private final Path archivo;
+    private final BufferedWriter escritor;
+
+    /**
+     * @param archivo Archivo de destino; se crea (y sus directorios) si no existe
+     */
+    public ExportadorTrazasArchivo(Path archivo) {
+        this.archivo = archivo;
+        try {
+            Path directorio = archivo.toAbsolutePath().getParent();
+            if (directorio != null) {
+                Files.createDirectories(directorio);
+            }
+            this.escritor = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el archivo de trazas " + archivo, e);
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                escritor.write(SpanJson.aJson(span).toString());
+                escritor.newLine();
+            }
+            escritor.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            LOG.warnf(e, "No se pudieron escribir %d spans en %s", spans.size(), archivo);
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            escritor.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            escritor.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+}
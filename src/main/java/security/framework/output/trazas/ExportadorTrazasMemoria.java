@@ -0,0 +1,75 @@
+package security.framework.output.trazas;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Typed;
+import security.framework.config.TrazasConfig;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Exportador de Trazas: ExportadorTrazasMemoria
+ * 
+ * Conserva los últimos security.trazas.capacidad spans terminados en un
+ * búfer circular; GET /trazas los consulta. Al llenarse se descartan los
+ * más antiguos.
+ * 
+ * Solo recibe spans con security.trazas.exportador=memoria (TrazasLocales);
+ * con otro exportador queda vacío. @Typed: el bean solo se expone con su
+ * clase, no como SpanExporter, para que el SDK no lo registre por su cuenta.
+ */
+@ApplicationScoped
+@Typed(ExportadorTrazasMemoria.class)
+public class ExportadorTrazasMemoria implements SpanExporter {
+
+    private final int capacidad;
+    private final Deque<SpanData> recientes = new ArrayDeque<>();
+
+    public ExportadorTrazasMemoria(TrazasConfig config) {
+        this.capacidad = Math.max(1, config.capacidad());
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        for (SpanData span : spans) {
+            if (recientes.size() == capacidad) {
+                recientes.removeFirst();
+            }
+            recientes.addLast(span);
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Spans conservados, del más antiguo al más reciente.
+     * 
+     * @param traceId Traza a filtrar; null para todas
+     * @return Copia de los spans
+     */
+    public synchronized List<SpanData> recientes(String traceId) {
+        List<SpanData> resultado = new ArrayList<>();
+        for (SpanData span : recientes) {
+            if (traceId == null || traceId.equals(span.getTraceId())) {
+                resultado.add(span);
+            }
+        }
+        return resultado;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        recientes.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -0,0 +1,43 @@
+package security.framework.output.trazas;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+/**
+ * Formato de Trazas: SpanJson
+ * 
+ * Representación JSON de un span terminado, común al exportador a archivo
+ * y a GET /trazas:
+ * {"traceId":"..","spanId":"..","parentSpanId":"..","nombre":"..",
+ *  "tipo":"SERVER","inicio":epoch µs,"duracionMicros":..,"estado":"OK|ERROR|UNSET",
+ *  "atributos":{"security.perfilId":"42",..}}
+ * 
+ * parentSpanId es "0000000000000000" en la raíz de una traza.
+ */
+public final class SpanJson {
+
+    private SpanJson() {
+    }
+
+    /**
+     * @param span Span terminado
+     * @return Objeto JSON del span
+     */
+    public static JsonObject aJson(SpanData span) {
+        JsonObjectBuilder atributos = Json.createObjectBuilder();
+        span.getAttributes().forEach((clave, valor) -> atributos.add(clave.getKey(), String.valueOf(valor)));
+        return Json.createObjectBuilder()
+                .add("traceId", span.getTraceId())
+                .add("spanId", span.getSpanId())
+                .add("parentSpanId", span.getParentSpanId())
+                .add("nombre", span.getName())
+                .add("tipo", span.getKind().name())
+                .add("inicio", span.getStartEpochNanos() / 1_000)
+                .add("duracionMicros", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000)
+                .add("estado", span.getStatus().getStatusCode().name())
+                .add("atributos", atributos)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package security.framework.output.trazas;
+
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import org.jboss.logging.Logger;
+import security.framework.config.TrazasConfig;
+
+import java.nio.file.Path;
+
+/**
+ * Componente de Infraestructura: TrazasLocales
+ * 
+ * Responsabilidad: Enchufar el exportador local elegido en
+ * security.trazas.exportador al SDK de OpenTelemetry de Quarkus, que añade
+ * los SpanProcessor del contenedor CDI junto al de OTLP.
+ * 
+ * Exportadores:
+ * - ninguno: procesador vacío (solo OTLP)
+ * - archivo: ExportadorTrazasArchivo detrás de un BatchSpanProcessor
+ *   (escritura por lotes en su propio hilo)
+ * - memoria: ExportadorTrazasMemoria detrás de un SimpleSpanProcessor
+ *   (guardar en el búfer es barato; GET /trazas ve el span al terminar)
+ * 
+ * Patrón: Factory / Producer
+ */
+@ApplicationScoped
+public class TrazasLocales {
+
+    private static final Logger LOG = Logger.getLogger(TrazasLocales.class);
+
+    private final TrazasConfig config;
+    private final ExportadorTrazasMemoria memoria;
+
+    public TrazasLocales(TrazasConfig config, ExportadorTrazasMemoria memoria) {
+        this.config = config;
+        this.memoria = memoria;
+    }
+
+    /**
+     * @return Procesador del exportador local configurado
+     */
+    @Produces
+    @ApplicationScoped
+    public SpanProcessor procesadorLocal() {
+        return switch (config.exportador()) {
+            case ARCHIVO -> {
+                LOG.infof("Trazas locales en %s", config.archivo());
+                yield BatchSpanProcessor.builder(new ExportadorTrazasArchivo(Path.of(config.archivo()))).build();
+            }
+            case MEMORIA -> {
+                LOG.infof("Trazas locales en memoria (últimos %d spans, GET /trazas)", config.capacidad());
+                yield SimpleSpanProcessor.create(memoria);
+            }
+            case NINGUNO -> SpanProcessor.composite();
+        };
+    }
+}
@@ -0,0 +1,50 @@
+-- Migración: V1_1__esquema_hibernate
+--
+-- Alinea con V1 las bases creadas por la versión anterior, cuando Hibernate
+-- generaba el esquema (drop-and-create). Flyway las adopta como versión 1
+-- (quarkus.flyway.baseline-on-migrate, baseline-version=1) y esta migración
+-- corrige lo que el DDL de Hibernate dejó distinto:
+-- - vw_menu_perfil era una tabla (MenuPerfilViewEntity) y V3 la crea como vista
+-- - codpantalla, codmodulo y codmenupadre eran NUMERIC(38,0)
+-- - menu_perfil no tenía FK
+--
+-- En una base nueva (creada por V1) no cambia nada.
+
+-- La tabla solo contenía lo que se cargó a mano con vw_menu_perfil.sql;
+-- la vista de V3 la reemplaza con los datos de menus y menu_perfil.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM pg_class c
+               JOIN pg_namespace n ON n.oid = c.relnamespace
+               WHERE n.nspname = 'kafka' AND c.relname = 'vw_menu_perfil' AND c.relkind = 'r') THEN
+        DROP TABLE kafka.vw_menu_perfil;
+    END IF;
+END $$;
+
+-- Mismo tipo que la PK referenciada (V1). Sobre columnas BIGINT no reescribe la tabla.
+ALTER TABLE kafka.menus
+    ALTER COLUMN codpantalla TYPE BIGINT,
+    ALTER COLUMN codmodulo TYPE BIGINT,
+    ALTER COLUMN codmenupadre TYPE BIGINT;
+
+-- FK de V1 con sus nombres por defecto. NOT VALID: se aplican a las filas
+-- nuevas sin fallar por asignaciones huérfanas que ya existan; se validan
+-- después con ALTER TABLE kafka.menu_perfil VALIDATE CONSTRAINT ...
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'kafka.menu_perfil'::regclass AND contype = 'f'
+                     AND conname = 'menu_perfil_menu_id_fkey') THEN
+        ALTER TABLE kafka.menu_perfil
+            ADD CONSTRAINT menu_perfil_menu_id_fkey FOREIGN KEY (menu_id)
+            REFERENCES kafka.menus (id) ON DELETE CASCADE NOT VALID;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'kafka.menu_perfil'::regclass AND contype = 'f'
+                     AND conname = 'menu_perfil_perfil_id_fkey') THEN
+        ALTER TABLE kafka.menu_perfil
+            ADD CONSTRAINT menu_perfil_perfil_id_fkey FOREIGN KEY (perfil_id)
+            REFERENCES kafka.perfiles (id) ON DELETE CASCADE NOT VALID;
+    END IF;
+END $$;
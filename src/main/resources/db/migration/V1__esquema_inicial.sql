@@ -0,0 +1,62 @@
+-- Migración: V1__esquema_inicial
+--
+-- Esquema base del módulo de seguridad (schema "kafka").
+-- Sustituye a quarkus.hibernate-orm.database.generation=drop-and-create:
+-- a partir de esta versión el esquema lo gestiona Flyway y Hibernate no
+-- genera DDL.
+--
+-- Los nombres y tipos de columna reproducen el mapeo de las entidades JPA:
+-- - IDs: BIGINT GENERATED BY DEFAULT AS IDENTITY (GenerationType.IDENTITY)
+-- - Campos BigInteger: NUMERIC(38,0)
+-- - Referencias de menús (codpantalla, codmodulo, codmenupadre): BIGINT,
+--   mismo tipo que la PK referenciada para que los JOIN usen índices.
+
+CREATE SCHEMA IF NOT EXISTS kafka;
+
+-- Módulos funcionales
+CREATE TABLE IF NOT EXISTS kafka.modulos (
+    id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nombre  VARCHAR(255)
+);
+
+-- Pantallas (UI) asociadas a un módulo
+CREATE TABLE IF NOT EXISTS kafka.pantallas (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    codmodulo  NUMERIC(38,0),
+    nombre     VARCHAR(255),
+    url        VARCHAR(255),
+    userc      VARCHAR(255),
+    fechac     TIMESTAMP(6),
+    usermod    VARCHAR(255),
+    fechamod   TIMESTAMP(6)
+);
+
+-- Menús jerárquicos
+-- La integridad de codpantalla/codmodulo/codmenupadre la verifican los
+-- casos de uso (CrearMenuUseCase, ActualizarMenuUseCase) antes de persistir.
+CREATE TABLE IF NOT EXISTS kafka.menus (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nombre        VARCHAR(255),
+    jerarquia     NUMERIC(38,0),
+    orden         NUMERIC(38,0),
+    codpantalla   BIGINT,
+    codmodulo     BIGINT,
+    codmenupadre  BIGINT,
+    icono         VARCHAR(255),
+    estado        NUMERIC(38,0)
+);
+
+-- Perfiles de usuario
+CREATE TABLE IF NOT EXISTS kafka.perfiles (
+    id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nombre  VARCHAR(255)
+);
+
+-- Asignación menú ↔ perfil (N:M)
+-- Las FK borran en cascada para que eliminar un menú o un perfil
+-- no deje asignaciones huérfanas.
+CREATE TABLE IF NOT EXISTS kafka.menu_perfil (
+    menu_id    BIGINT NOT NULL REFERENCES kafka.menus (id) ON DELETE CASCADE,
+    perfil_id  BIGINT NOT NULL REFERENCES kafka.perfiles (id) ON DELETE CASCADE,
+    PRIMARY KEY (menu_id, perfil_id)
+);
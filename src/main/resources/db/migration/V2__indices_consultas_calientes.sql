@@ -0,0 +1,34 @@
+-- Migración: V2__indices_consultas_calientes
+--
+-- Índices secundarios para las consultas más frecuentes.
+-- La verificación de planes está en scripts/verificacion/plan_consultas_calientes.sql
+
+-- Menús de un perfil (MenuPerfilJpaRepository.findByPerfilId, vw_menu_perfil).
+-- La PK (menu_id, perfil_id) no sirve para buscar por perfil_id; este índice
+-- incluye menu_id para resolver la asignación sin visitar la tabla.
+CREATE INDEX IF NOT EXISTS ix_menu_perfil_perfil
+    ON kafka.menu_perfil (perfil_id, menu_id);
+
+-- Hijos de un menú en orden de visualización (construcción de árbol)
+CREATE INDEX IF NOT EXISTS ix_menus_padre_orden
+    ON kafka.menus (codmenupadre, orden);
+
+-- Filtro por módulo (MenuJpaRepository.buscarMenusPorFiltros)
+CREATE INDEX IF NOT EXISTS ix_menus_modulo
+    ON kafka.menus (codmodulo);
+
+-- Filtro por estado (MenuJpaRepository.buscarMenusPorFiltros)
+CREATE INDEX IF NOT EXISTS ix_menus_estado
+    ON kafka.menus (estado);
+
+-- Búsqueda de pantalla por url
+CREATE INDEX IF NOT EXISTS ix_pantallas_url
+    ON kafka.pantallas (url);
+
+-- Menús activos (estado = 1): índice parcial usado por vw_menu_perfil.
+-- Solo contiene filas activas e incluye las columnas que proyecta la vista,
+-- lo que permite Index Only Scan al unir por id.
+CREATE INDEX IF NOT EXISTS ix_menus_activos
+    ON kafka.menus (id)
+    INCLUDE (nombre, jerarquia, codmenupadre, orden, codpantalla)
+    WHERE estado = 1;
@@ -1,11 +1,15 @@
+-- Migración: V3__vista_menu_perfil
+--
 -- Vista: VW_MENU_PERFIL
 -- 
 -- Combina información de menús, perfiles y pantallas
 -- para obtener datos completos de menús asignados a perfiles
+-- (mapeada por MenuPerfilViewEntity).
+--
+-- El filtro m.estado = 1 coincide con el predicado del índice parcial
+-- ix_menus_activos (V2).
 
-DROP VIEW IF EXISTS kafka.vw_menu_perfil;
-
-CREATE VIEW kafka.vw_menu_perfil AS
+CREATE OR REPLACE VIEW kafka.vw_menu_perfil AS
 SELECT 
     m.id AS id_menu,
     mp.perfil_id AS id_perfil,
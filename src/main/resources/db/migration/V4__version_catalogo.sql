@@ -0,0 +1,49 @@
+-- Migración: V4__version_catalogo
+--
+-- Versión monotónica del catálogo de menús: cualquier escritura en las tablas
+-- que alimentan vw_menu_perfil la incrementa en la misma transacción.
+--
+-- La usa SnapshotCacheMenus para decidir, con una sola lectura de una fila,
+-- si el snapshot local de cachés sigue vigente al arrancar.
+--
+-- Los triggers son por sentencia (no por fila): una importación masiva
+-- incrementa la versión una vez por sentencia, no por registro. La fila
+-- única serializa las transacciones que escriben en el catálogo, que son
+-- poco frecuentes.
+
+CREATE TABLE IF NOT EXISTS kafka.catalogo_version (
+    id       SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    version  BIGINT NOT NULL
+);
+
+INSERT INTO kafka.catalogo_version (id, version)
+VALUES (1, 1)
+ON CONFLICT (id) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION kafka.incrementar_version_catalogo()
+RETURNS trigger AS $$
+BEGIN
+    UPDATE kafka.catalogo_version SET version = version + 1 WHERE id = 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tg_version_modulos
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON kafka.modulos
+    FOR EACH STATEMENT EXECUTE FUNCTION kafka.incrementar_version_catalogo();
+
+CREATE TRIGGER tg_version_pantallas
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON kafka.pantallas
+    FOR EACH STATEMENT EXECUTE FUNCTION kafka.incrementar_version_catalogo();
+
+CREATE TRIGGER tg_version_menus
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON kafka.menus
+    FOR EACH STATEMENT EXECUTE FUNCTION kafka.incrementar_version_catalogo();
+
+CREATE TRIGGER tg_version_perfiles
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON kafka.perfiles
+    FOR EACH STATEMENT EXECUTE FUNCTION kafka.incrementar_version_catalogo();
+
+CREATE TRIGGER tg_version_menu_perfil
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON kafka.menu_perfil
+    FOR EACH STATEMENT EXECUTE FUNCTION kafka.incrementar_version_catalogo();
@@ -0,0 +1,157 @@
+package security.aplication.usecase;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de CoalescedorSolicitudes: un cálculo por clave mientras está en
+ * curso, errores compartidos y cancelación aislada por solicitud.
+ */
+class CoalescedorSolicitudesTest {
+
+    @Test
+    void solicitudesConcurrentesCompartenUnSoloCalculo() throws Exception {
+        CoalescedorSolicitudes<Long, String> coalescedor = new CoalescedorSolicitudes<>();
+        CompletableFuture<String> calculo = new CompletableFuture<>();
+        AtomicInteger lanzados = new AtomicInteger();
+
+        CompletionStage<String> lider = coalescedor.ejecutarAsincrono(1L, () -> {
+            lanzados.incrementAndGet();
+            return calculo;
+        });
+        CompletionStage<String> coalescida = coalescedor.ejecutarAsincrono(1L, () -> {
+            lanzados.incrementAndGet();
+            return CompletableFuture.completedFuture("otro");
+        });
+        assertEquals(1, coalescedor.getEnCurso());
+        calculo.complete("arbol");
+
+        assertEquals("arbol", lider.toCompletableFuture().get());
+        assertSame(lider.toCompletableFuture().get(), coalescida.toCompletableFuture().get());
+        assertEquals(1, lanzados.get());
+        assertEquals(1, coalescedor.getEjecutadas());
+        assertEquals(1, coalescedor.getCoalescidas());
+        assertEquals(0, coalescedor.getEnCurso());
+    }
+
+    @Test
+    void muchosHilosALaVezLanzanUnSoloCalculo() throws Exception {
+        int hilos = 32;
+        CoalescedorSolicitudes<Long, String> coalescedor = new CoalescedorSolicitudes<>();
+        CompletableFuture<String> calculo = new CompletableFuture<>();
+        AtomicInteger lanzados = new AtomicInteger();
+        CountDownLatch salida = new CountDownLatch(1);
+        CountDownLatch llegadas = new CountDownLatch(hilos);
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        try {
+            List<Future<CompletionStage<String>>> solicitudes = new ArrayList<>();
+            for (int i = 0; i < hilos; i++) {
+                solicitudes.add(ejecutor.submit(() -> {
+                    salida.await();
+                    CompletionStage<String> etapa = coalescedor.ejecutarAsincrono(1L, () -> {
+                        lanzados.incrementAndGet();
+                        return calculo;
+                    });
+                    llegadas.countDown();
+                    return etapa;
+                }));
+            }
+            salida.countDown();
+            assertTrue(llegadas.await(10, TimeUnit.SECONDS));
+            calculo.complete("arbol");
+
+            for (Future<CompletionStage<String>> solicitud : solicitudes) {
+                assertEquals("arbol", solicitud.get().toCompletableFuture().get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            ejecutor.shutdownNow();
+        }
+        assertEquals(1, lanzados.get());
+        assertEquals(1, coalescedor.getEjecutadas());
+        assertEquals(hilos - 1, coalescedor.getCoalescidas());
+        assertEquals(0, coalescedor.getEnCurso());
+    }
+
+    @Test
+    void terminadoElCalculoLaSiguienteSolicitudVuelveACalcular() throws Exception {
+        CoalescedorSolicitudes<Long, Integer> coalescedor = new CoalescedorSolicitudes<>();
+        AtomicInteger lanzados = new AtomicInteger();
+
+        coalescedor.ejecutarAsincrono(1L, () -> CompletableFuture.completedFuture(lanzados.incrementAndGet()));
+        int segundo = coalescedor.ejecutarAsincrono(1L,
+                () -> CompletableFuture.completedFuture(lanzados.incrementAndGet())).toCompletableFuture().get();
+
+        assertEquals(2, segundo);
+        assertEquals(2, coalescedor.getEjecutadas());
+        assertEquals(0, coalescedor.getCoalescidas());
+    }
+
+    @Test
+    void claveDistintaNoSeCoalesce() {
+        CoalescedorSolicitudes<Long, String> coalescedor = new CoalescedorSolicitudes<>();
+
+        coalescedor.ejecutarAsincrono(1L, CompletableFuture::new);
+        coalescedor.ejecutarAsincrono(2L, CompletableFuture::new);
+
+        assertEquals(2, coalescedor.getEnCurso());
+        assertEquals(0, coalescedor.getCoalescidas());
+    }
+
+    @Test
+    void elErrorDelCalculoLlegaATodasSinEnvolver() {
+        CoalescedorSolicitudes<Long, String> coalescedor = new CoalescedorSolicitudes<>();
+        CompletableFuture<String> calculo = new CompletableFuture<>();
+
+        CompletionStage<String> lider = coalescedor.ejecutarAsincrono(1L, () -> calculo);
+        CompletionStage<String> coalescida = coalescedor.ejecutarAsincrono(1L, CompletableFuture::new);
+        calculo.completeExceptionally(new IllegalStateException("sin conexión"));
+
+        ExecutionException falla = assertThrows(ExecutionException.class, () -> coalescida.toCompletableFuture().get());
+        assertTrue(falla.getCause() instanceof IllegalStateException);
+        assertThrows(ExecutionException.class, () -> lider.toCompletableFuture().get());
+        assertEquals(0, coalescedor.getEnCurso());
+    }
+
+    @Test
+    void unaExcepcionAlLanzarElCalculoNoDejaLaClaveOcupada() {
+        CoalescedorSolicitudes<Long, String> coalescedor = new CoalescedorSolicitudes<>();
+
+        CompletionStage<String> etapa = coalescedor.ejecutarAsincrono(1L, () -> {
+            throw new IllegalArgumentException("perfil inválido");
+        });
+
+        assertTrue(etapa.toCompletableFuture().isCompletedExceptionally());
+        assertEquals(0, coalescedor.getEnCurso());
+    }
+
+    @Test
+    void cancelarUnaSolicitudNoCancelaElCalculoCompartido() throws Exception {
+        CoalescedorSolicitudes<Long, String> coalescedor = new CoalescedorSolicitudes<>();
+        CompletableFuture<String> calculo = new CompletableFuture<>();
+
+        CompletionStage<String> lider = coalescedor.ejecutarAsincrono(1L, () -> calculo);
+        CompletionStage<String> coalescida = coalescedor.ejecutarAsincrono(1L, CompletableFuture::new);
+        lider.toCompletableFuture().cancel(true);
+        calculo.complete("arbol");
+
+        assertFalse(calculo.isCancelled());
+        assertEquals("arbol", coalescida.toCompletableFuture().get());
+    }
+}
@@ -0,0 +1,125 @@
+package security.aplication.usecase;
+
+import org.junit.jupiter.api.Test;
+import security.aplication.dto.MenuJerarquico;
+import security.aplication.dto.MenuPerfilView;
+import security.aplication.port.output.InstrumentacionPort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de InternadorMenus: subárboles idénticos compartidos entre
+ * árboles, distintos separados y resultado inmutable; y, a través de
+ * ConstructorArbolMenus, árboles de dos perfiles que comparten carpetas
+ * solo cuando el internado está activo.
+ */
+class InternadorMenusTest {
+
+    private static final InstrumentacionPort SIN_INSTRUMENTACION = new InstrumentacionPort() {
+        @Override
+        public void arbolMenusConstruido(int nodos, int profundidad) {
+        }
+
+        @Override
+        public <T> T tramo(String nombre, Supplier<T> paso) {
+            return paso.get();
+        }
+    };
+
+    private static MenuJerarquico hoja(long codigo, String label) {
+        return new MenuJerarquico(codigo, label, new ArrayList<>(List.of("/" + label)), (int) codigo, "pi pi-fw", null);
+    }
+
+    private static MenuJerarquico carpeta(long codigo, String label, MenuJerarquico... hijos) {
+        return new MenuJerarquico(codigo, label, null, (int) codigo, "pi pi-fw pi-folder", new ArrayList<>(List.of(hijos)));
+    }
+
+    /** Carpeta "Reportes" con dos hojas, construida desde cero en cada llamada */
+    private static MenuJerarquico reportes() {
+        return carpeta(10, "Reportes", hoja(11, "ventas"), hoja(12, "compras"));
+    }
+
+    @Test
+    void subarbolesIdenticosDeDistintosPerfilesSonLaMismaInstancia() {
+        InternadorMenus internador = new InternadorMenus();
+
+        List<MenuJerarquico> perfilA = internador.internar(List.of(reportes(), hoja(20, "inicio")));
+        List<MenuJerarquico> perfilB = internador.internar(List.of(hoja(30, "ayuda"), reportes()));
+
+        assertSame(perfilA.get(0), perfilB.get(1));
+        assertSame(perfilA.get(0).getItems().get(0), perfilB.get(1).getItems().get(0));
+        assertSame(perfilA.get(0).getItems().get(0).getLabel(), perfilB.get(1).getItems().get(0).getLabel());
+        assertEquals(5, internador.getCreados());
+        assertEquals(3, internador.getCompartidos());
+    }
+
+    @Test
+    void unHijoDistintoSeparaLaCarpetaPeroComparteLasHojasIguales() {
+        InternadorMenus internador = new InternadorMenus();
+
+        MenuJerarquico completa = internador.internar(List.of(reportes())).get(0);
+        MenuJerarquico parcial = internador.internar(List.of(carpeta(10, "Reportes", hoja(11, "ventas")))).get(0);
+
+        assertNotSame(completa, parcial);
+        assertSame(completa.getItems().get(0), parcial.getItems().get(0));
+        assertEquals(1, parcial.getItems().size());
+    }
+
+    @Test
+    void hojaSinHijosYConListaVaciaSonDistintas() {
+        InternadorMenus internador = new InternadorMenus();
+
+        MenuJerarquico sinHijos = internador.internar(List.of(hoja(1, "a"))).get(0);
+        MenuJerarquico vacia = internador.internar(List.of(
+                new MenuJerarquico(1L, "a", List.of("/a"), 1, "pi pi-fw", List.of()))).get(0);
+
+        assertNotSame(sinHijos, vacia);
+    }
+
+    @Test
+    void elArbolInternadoEsInmutableYNoDependeDelOriginal() {
+        InternadorMenus internador = new InternadorMenus();
+        MenuJerarquico original = reportes();
+
+        MenuJerarquico internado = internador.internar(List.of(original)).get(0);
+        original.getItems().clear();
+
+        assertEquals(2, internado.getItems().size());
+        assertThrows(UnsupportedOperationException.class, () -> internado.getItems().clear());
+        assertThrows(UnsupportedOperationException.class, () -> internado.getItems().get(0).getRouterLink().add("/x"));
+    }
+
+    /** Filas de vw_menu_perfil: carpeta "Reportes" con dos pantallas y una pantalla propia del perfil */
+    private static List<MenuPerfilView> filasPerfil(long perfil, long propia) {
+        return List.of(
+                new MenuPerfilView(10L, perfil, "Reportes", 1, null, 1, null),
+                new MenuPerfilView(11L, perfil, "Ventas", 2, 10L, 1, "/ventas"),
+                new MenuPerfilView(12L, perfil, "Compras", 2, 10L, 2, "/compras"),
+                new MenuPerfilView(propia, perfil, "Propia " + perfil, 1, null, 2, "/propia/" + perfil));
+    }
+
+    @Test
+    void elConstructorCompartePorPerfilSoloConInternado() {
+        ConstructorArbolMenus conInternado = new ConstructorArbolMenus(new InternadorMenus(), SIN_INSTRUMENTACION);
+        ConstructorArbolMenus sinInternado = new ConstructorArbolMenus(null, SIN_INSTRUMENTACION);
+
+        List<MenuJerarquico> perfilA = conInternado.construir(filasPerfil(1L, 20L));
+        List<MenuJerarquico> perfilB = conInternado.construir(filasPerfil(2L, 30L));
+        List<MenuJerarquico> copiaA = sinInternado.construir(filasPerfil(1L, 20L));
+        List<MenuJerarquico> copiaB = sinInternado.construir(filasPerfil(2L, 30L));
+
+        assertSame(perfilA.get(0), perfilB.get(0));
+        assertNotSame(perfilA.get(1), perfilB.get(1));
+        assertNotSame(copiaA.get(0), copiaB.get(0));
+        assertEquals(copiaA.get(0).getItems().size(), perfilA.get(0).getItems().size());
+        assertEquals("10-Reportes", perfilA.get(0).getLabel());
+        assertEquals(List.of("/ventas"), perfilA.get(0).getItems().get(0).getRouterLink());
+    }
+}
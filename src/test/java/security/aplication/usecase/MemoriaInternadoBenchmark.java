@@ -0,0 +1,119 @@
+package security.aplication.usecase;
+
+import security.aplication.dto.MenuJerarquico;
+import security.aplication.dto.MenuPerfilView;
+import security.aplication.port.output.InstrumentacionPort;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Medición de memoria de InternadorMenus: heap retenido por los árboles de
+ * N perfiles, todos vivos a la vez, con y sin internado.
+ *
+ * Catálogo sintético:
+ * - 60 carpetas raíz, cada una con 2 subcarpetas de 15 pantallas
+ * - cada perfil ve 12 carpetas al azar (semilla fija)
+ * - uno de cada diez perfiles tiene oculta una pantalla de una de ellas
+ *
+ * Los árboles se construyen con ConstructorArbolMenus a partir de registros
+ * de vw_menu_perfil, como en la lectura real. El heap se mide tras varios GC
+ * completos, antes y después de construir, con los árboles aún referenciados.
+ *
+ * No es una prueba (no la ejecuta surefire). Un modo por JVM, para que el
+ * heap de una medición no contamine la otra:
+ *
+ * ./mvnw test-compile
+ * java -Xmx2g -cp target/classes:target/test-classes \
+ *      security.aplication.usecase.MemoriaInternadoBenchmark 10000 sin
+ * java -Xmx2g -cp target/classes:target/test-classes \
+ *      security.aplication.usecase.MemoriaInternadoBenchmark 10000 con
+ */
+public class MemoriaInternadoBenchmark {
+
+    private static final int CARPETAS = 60;
+    private static final int SUBCARPETAS = 2;
+    private static final int PANTALLAS = 15;
+    private static final int CARPETAS_POR_PERFIL = 12;
+
+    /** Sin métricas ni trazas */
+    private static final InstrumentacionPort SIN_INSTRUMENTACION = new InstrumentacionPort() {
+        @Override
+        public void arbolMenusConstruido(int nodos, int profundidad) {
+        }
+
+        @Override
+        public <T> T tramo(String nombre, Supplier<T> paso) {
+            return paso.get();
+        }
+    };
+
+    public static void main(String[] args) {
+        int perfiles = Integer.parseInt(args[0]);
+        boolean internar = "con".equals(args[1]);
+        InternadorMenus internador = internar ? new InternadorMenus() : null;
+        ConstructorArbolMenus constructor = new ConstructorArbolMenus(internador, SIN_INSTRUMENTACION);
+        Random azar = new Random(42);
+
+        long antes = heapTrasGc();
+        List<List<MenuJerarquico>> arboles = new ArrayList<>(perfiles);
+        long nodos = 0;
+        for (long perfil = 1; perfil <= perfiles; perfil++) {
+            List<MenuJerarquico> arbol = constructor.construir(registros(perfil, azar));
+            nodos += contarNodos(arbol);
+            arboles.add(arbol);
+        }
+        long despues = heapTrasGc();
+
+        System.out.printf("perfiles=%d internado=%s nodos=%d retenido=%.1f MB%s%n",
+                arboles.size(), internar ? "si" : "no", nodos, (despues - antes) / (1024.0 * 1024.0),
+                internar ? " canonicos=" + internador.getCanonicos() : "");
+    }
+
+    /**
+     * Registros de vw_menu_perfil de un perfil: sus carpetas, subcarpetas y
+     * pantallas, con una pantalla oculta en uno de cada diez perfiles.
+     */
+    private static List<MenuPerfilView> registros(long perfil, Random azar) {
+        List<MenuPerfilView> registros = new ArrayList<>();
+        boolean ocultarUna = perfil % 10 == 0;
+        for (int carpeta : azar.ints(0, CARPETAS).distinct().limit(CARPETAS_POR_PERFIL).toArray()) {
+            long idCarpeta = 1000L * (carpeta + 1);
+            registros.add(new MenuPerfilView(idCarpeta, perfil, "Carpeta " + carpeta, 0, null, carpeta, null));
+            for (int sub = 0; sub < SUBCARPETAS; sub++) {
+                long idSub = idCarpeta + 100L * (sub + 1);
+                registros.add(new MenuPerfilView(idSub, perfil, "Grupo " + sub, 1, idCarpeta, sub, null));
+                for (int pantalla = 0; pantalla < PANTALLAS; pantalla++) {
+                    if (ocultarUna && sub == 0 && pantalla == 0) {
+                        ocultarUna = false;
+                        continue;
+                    }
+                    long idPantalla = idSub + pantalla + 1;
+                    registros.add(new MenuPerfilView(idPantalla, perfil, "Pantalla " + pantalla, 2, idSub, pantalla,
+                            "/pantalla/" + idPantalla));
+                }
+            }
+        }
+        return registros;
+    }
+
+    private static int contarNodos(List<MenuJerarquico> lista) {
+        int nodos = 0;
+        for (MenuJerarquico m : lista) {
+            nodos += 1 + (m.getItems() == null ? 0 : contarNodos(m.getItems()));
+        }
+        return nodos;
+    }
+
+    private static long heapTrasGc() {
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return memoria.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,172 @@
+package security.framework.input.cbor;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.core.MediaType;
+import org.jboss.resteasy.reactive.common.util.QuarkusMultivaluedHashMap;
+import org.junit.jupiter.api.Test;
+import security.aplication.dto.MenuJerarquico;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas de EscritorCbor contra los ejemplos del apéndice A de RFC 8949,
+ * y de CborMessageBodyWriter: un árbol de menús en CBOR tiene los mismos
+ * campos, en el mismo orden, que en JSON.
+ */
+class EscritorCborTest {
+
+    @FunctionalInterface
+    private interface Escritura {
+        void escribir(EscritorCbor cbor) throws IOException;
+    }
+
+    private static String hex(Escritura escritura) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        EscritorCbor cbor = new EscritorCbor(salida);
+        escritura.escribir(cbor);
+        cbor.flush();
+        return HexFormat.of().formatHex(salida.toByteArray());
+    }
+
+    @Test
+    void enterosEnLaMenorCantidadDeBytes() throws IOException {
+        assertEquals("00", hex(c -> c.entero(0)));
+        assertEquals("17", hex(c -> c.entero(23)));
+        assertEquals("1818", hex(c -> c.entero(24)));
+        assertEquals("1864", hex(c -> c.entero(100)));
+        assertEquals("1903e8", hex(c -> c.entero(1000)));
+        assertEquals("1a000f4240", hex(c -> c.entero(1_000_000)));
+        assertEquals("1b000000e8d4a51000", hex(c -> c.entero(1_000_000_000_000L)));
+        assertEquals("1b7fffffffffffffff", hex(c -> c.entero(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void enterosNegativos() throws IOException {
+        assertEquals("20", hex(c -> c.entero(-1)));
+        assertEquals("29", hex(c -> c.entero(-10)));
+        assertEquals("3863", hex(c -> c.entero(-100)));
+        assertEquals("3903e7", hex(c -> c.entero(-1000)));
+        assertEquals("3b7fffffffffffffff", hex(c -> c.entero(Long.MIN_VALUE)));
+    }
+
+    @Test
+    void bignumFueraDelRangoDeLong() throws IOException {
+        assertEquals("1a000f4240", hex(c -> c.entero(BigInteger.valueOf(1_000_000))));
+        assertEquals("c249010000000000000000", hex(c -> c.entero(new BigInteger("18446744073709551616"))));
+        assertEquals("c349010000000000000000", hex(c -> c.entero(new BigInteger("-18446744073709551617"))));
+    }
+
+    @Test
+    void decimalesExactosYDobles() throws IOException {
+        assertEquals("c48221196ab3", hex(c -> c.decimal(new BigDecimal("273.15"))));
+        assertEquals("1864", hex(c -> c.decimal(new BigDecimal("100"))));
+        assertEquals("fb3ff199999999999a", hex(c -> c.decimal(1.1)));
+    }
+
+    @Test
+    void textosUtf8YValoresSimples() throws IOException {
+        assertEquals("60", hex(c -> c.texto("")));
+        assertEquals("6161", hex(c -> c.texto("a")));
+        assertEquals("62c3bc", hex(c -> c.texto("ü")));
+        assertEquals("f4f5f6", hex(c -> {
+            c.booleano(false);
+            c.booleano(true);
+            c.nulo();
+        }));
+    }
+
+    @Test
+    void arreglosYMapas() throws IOException {
+        assertEquals("80", hex(c -> c.inicioArreglo(0)));
+        assertEquals("83010203", hex(c -> {
+            c.inicioArreglo(3);
+            c.entero(1);
+            c.entero(2);
+            c.entero(3);
+        }));
+        assertEquals("a1616101", hex(c -> {
+            c.inicioMapa(1);
+            c.texto("a");
+            c.entero(1);
+        }));
+        assertEquals("9f018202039f0405ffff", hex(c -> {
+            c.inicioArregloIndefinido();
+            c.entero(1);
+            c.inicioArreglo(2);
+            c.entero(2);
+            c.entero(3);
+            c.inicioArregloIndefinido();
+            c.entero(4);
+            c.entero(5);
+            c.fin();
+            c.fin();
+        }));
+        assertEquals("bf616101616202ff", hex(c -> {
+            c.inicioMapaIndefinido();
+            c.texto("a");
+            c.entero(1);
+            c.texto("b");
+            c.entero(2);
+            c.fin();
+        }));
+    }
+
+    @Test
+    void elArbolEnCborTieneLaFormaDelJson() throws Exception {
+        MenuJerarquico hoja = new MenuJerarquico(11L, "11-Ventas", List.of("/ventas"), 1, "pi pi-fw pi-desktop", null);
+        MenuJerarquico carpeta = new MenuJerarquico(10L, "10-Reportes", null, 1, "pi pi-fw pi-folder", List.of(hoja));
+        List<MenuJerarquico> arbol = List.of(carpeta);
+
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            assertEquals("[{\"codigo\":10,\"icon\":\"pi pi-fw pi-folder\",\"items\":[{\"codigo\":11,"
+                    + "\"icon\":\"pi pi-fw pi-desktop\",\"label\":\"11-Ventas\",\"orden\":1,"
+                    + "\"routerLink\":[\"/ventas\"]}],\"label\":\"10-Reportes\",\"orden\":1}]",
+                    jsonb.toJson(arbol));
+            new CborMessageBodyWriter(jsonb).writeTo(arbol, List.class, List.class, new Annotation[0],
+                    MediaType.valueOf(CborMessageBodyWriter.APPLICATION_CBOR), new QuarkusMultivaluedHashMap<>(), salida);
+        }
+
+        String esperado = hex(c -> {
+            c.inicioArregloIndefinido();
+            c.inicioMapaIndefinido();
+            c.texto("codigo");
+            c.entero(10);
+            c.texto("icon");
+            c.texto("pi pi-fw pi-folder");
+            c.texto("items");
+            c.inicioArregloIndefinido();
+            c.inicioMapaIndefinido();
+            c.texto("codigo");
+            c.entero(11);
+            c.texto("icon");
+            c.texto("pi pi-fw pi-desktop");
+            c.texto("label");
+            c.texto("11-Ventas");
+            c.texto("orden");
+            c.entero(1);
+            c.texto("routerLink");
+            c.inicioArregloIndefinido();
+            c.texto("/ventas");
+            c.fin();
+            c.fin();
+            c.fin();
+            c.texto("label");
+            c.texto("10-Reportes");
+            c.texto("orden");
+            c.entero(1);
+            c.fin();
+            c.fin();
+        });
+        assertEquals(esperado, HexFormat.of().formatHex(salida.toByteArray()));
+    }
+}
@@ -0,0 +1,107 @@
+package security.framework.input.cbor;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.core.MediaType;
+import org.jboss.resteasy.reactive.common.util.QuarkusMultivaluedHashMap;
+import security.framework.input.dto.MenuJerarquicoResponseDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Medición de serialización del árbol de menús de un perfil: JSON-B
+ * (Yasson, como la respuesta application/json) frente a
+ * CborMessageBodyWriter (application/cbor), sobre los mismos DTO.
+ *
+ * Árbol sintético del tamaño de un perfil real:
+ * - 12 carpetas raíz, cada una con 2 subcarpetas de 15 pantallas (372 nodos)
+ *
+ * Por formato: bytes del documento y tiempo medio por árbol, tras un
+ * calentamiento que deja compilado el camino caliente. Cada ronda escribe
+ * en un buffer reutilizado, así no se mide la copia de la respuesta.
+ *
+ * No es una prueba (no la ejecuta surefire):
+ *
+ * ./mvnw test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) \
+ *      security.framework.input.cbor.SerializacionArbolBenchmark 20000
+ */
+public class SerializacionArbolBenchmark {
+
+    private static final int CARPETAS = 12;
+    private static final int SUBCARPETAS = 2;
+    private static final int PANTALLAS = 15;
+
+    private static final Annotation[] SIN_ANOTACIONES = new Annotation[0];
+    private static final MediaType CBOR = MediaType.valueOf(CborMessageBodyWriter.APPLICATION_CBOR);
+
+    /** Escritura de un árbol en un stream */
+    @FunctionalInterface
+    private interface Formato {
+        void escribir(List<MenuJerarquicoResponseDTO> arbol, OutputStream destino) throws IOException;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rondas = Integer.parseInt(args[0]);
+        List<MenuJerarquicoResponseDTO> arbol = arbol();
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            CborMessageBodyWriter cbor = new CborMessageBodyWriter(jsonb);
+            Formato json = (a, destino) -> jsonb.toJson(a, List.class, destino);
+            Formato binario = (a, destino) -> cbor.writeTo(a, List.class, List.class, SIN_ANOTACIONES, CBOR,
+                    new QuarkusMultivaluedHashMap<>(), destino);
+
+            medir("json", json, arbol, rondas);
+            medir("cbor", binario, arbol, rondas);
+            medir("json", json, arbol, rondas);
+            medir("cbor", binario, arbol, rondas);
+        }
+    }
+
+    /**
+     * Calienta con las mismas rondas y luego mide; imprime tamaño,
+     * microsegundos por árbol y árboles por segundo.
+     */
+    private static void medir(String nombre, Formato formato, List<MenuJerarquicoResponseDTO> arbol, int rondas)
+            throws IOException {
+        ByteArrayOutputStream destino = new ByteArrayOutputStream(64 * 1024);
+        for (int i = 0; i < rondas; i++) {
+            destino.reset();
+            formato.escribir(arbol, destino);
+        }
+        long inicio = System.nanoTime();
+        for (int i = 0; i < rondas; i++) {
+            destino.reset();
+            formato.escribir(arbol, destino);
+        }
+        double nanosPorArbol = (System.nanoTime() - inicio) / (double) rondas;
+        System.out.printf("formato=%s bytes=%d us/arbol=%.1f arboles/s=%.0f%n",
+                nombre, destino.size(), nanosPorArbol / 1_000, 1_000_000_000 / nanosPorArbol);
+    }
+
+    private static List<MenuJerarquicoResponseDTO> arbol() {
+        List<MenuJerarquicoResponseDTO> raiz = new ArrayList<>();
+        for (int carpeta = 0; carpeta < CARPETAS; carpeta++) {
+            long idCarpeta = 1000L * (carpeta + 1);
+            List<MenuJerarquicoResponseDTO> grupos = new ArrayList<>();
+            for (int sub = 0; sub < SUBCARPETAS; sub++) {
+                long idSub = idCarpeta + 100L * (sub + 1);
+                List<MenuJerarquicoResponseDTO> pantallas = new ArrayList<>();
+                for (int pantalla = 0; pantalla < PANTALLAS; pantalla++) {
+                    long idPantalla = idSub + pantalla + 1;
+                    pantallas.add(new MenuJerarquicoResponseDTO(idPantalla, idPantalla + "-Pantalla " + pantalla,
+                            List.of("/pantalla/" + idPantalla), pantalla, "pi pi-fw pi-desktop", null));
+                }
+                grupos.add(new MenuJerarquicoResponseDTO(idSub, idSub + "-Grupo " + sub, null, sub,
+                        "pi pi-fw pi-folder", pantallas));
+            }
+            raiz.add(new MenuJerarquicoResponseDTO(idCarpeta, idCarpeta + "-Carpeta " + carpeta, null, carpeta,
+                    "pi pi-fw pi-folder", grupos));
+        }
+        return raiz;
+    }
+}
@@ -0,0 +1,117 @@
+package security.framework.input.controller;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import security.framework.input.filter.PresupuestoSqlFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static security.framework.input.controller.CatalogoPrueba.asignacion;
+import static security.framework.input.controller.CatalogoPrueba.carpeta;
+import static security.framework.input.controller.CatalogoPrueba.importar;
+import static security.framework.input.controller.CatalogoPrueba.menu;
+import static security.framework.input.controller.CatalogoPrueba.perfil;
+
+/**
+ * Pruebas de la importación del catálogo contra PostgreSQL: hijos antes que
+ * padres, invalidación de las cachés solo tras el commit y lotes reescritos
+ * por el driver (reWriteBatchedInserts).
+ */
+@QuarkusTest
+class CatalogoControllerTest {
+
+    private static final String ARBOL = "/menu-perfil/jerarquico/perfil/{perfilId}";
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Test
+    void importarAceptaHijosAntesQueSusPadres() {
+        importar(menu(900_102L, "Ventas", 900_101L, 1),
+                carpeta(900_101L, "Reportes", 1),
+                perfil(900_101L),
+                asignacion(900_101L, 900_101L),
+                asignacion(900_102L, 900_101L));
+
+        given().accept("application/json")
+                .when().get(ARBOL, 900_101L)
+                .then().statusCode(200)
+                .body("label", contains("900101-Reportes"))
+                .body("[0].items.label", contains("900102-Ventas"));
+    }
+
+    @Test
+    void importarInvalidaElArbolEnCache() {
+        given().when().delete("/menu-perfil/menu/{menuId}/perfil/{perfilId}", 900_302L, 900_301L);
+        importar(menu(900_301L, "Inicio", null, 1),
+                perfil(900_301L),
+                asignacion(900_301L, 900_301L));
+        given().accept("application/json").when().get(ARBOL, 900_301L)
+                .then().statusCode(200).body("$", hasSize(1));
+
+        importar(menu(900_302L, "Nuevo", null, 2),
+                asignacion(900_302L, 900_301L));
+
+        given().accept("application/json")
+                .when().get(ARBOL, 900_301L)
+                .then().statusCode(200)
+                .body("label", contains("900301-Inicio", "900302-Nuevo"));
+    }
+
+    @Test
+    void unaImportacionDeshechaNoVaciaLasCaches() {
+        importar(menu(900_311L, "Inicio", null, 1),
+                perfil(900_311L),
+                asignacion(900_311L, 900_311L));
+        given().accept("application/json").when().get(ARBOL, 900_311L)
+                .then().statusCode(200).body("$", hasSize(1));
+
+        // La asignación apunta a un menú inexistente: la clave foránea deshace todo
+        given().contentType(CatalogoController.APPLICATION_NDJSON)
+                .body((asignacion(999_999_999L, 900_311L) + "\n").getBytes(StandardCharsets.UTF_8))
+                .when().post("/catalogo/importar")
+                .then().statusCode(500);
+
+        given().accept("application/json").when().get(ARBOL, 900_311L)
+                .then().statusCode(200)
+                .header(PresupuestoSqlFilter.CABECERA_SENTENCIAS, equalTo("0"))
+                .body("$", hasSize(1));
+    }
+
+    @Test
+    void elDriverReescribeLosLotesDeLaImportacion() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO kafka.perfiles (id, nombre) VALUES (?, ?) "
+                            + "ON CONFLICT (id) DO UPDATE SET nombre = EXCLUDED.nombre")) {
+                for (long id = 900_321L; id <= 900_324L; id++) {
+                    ps.setLong(1, id);
+                    ps.setString(2, "Perfil prueba " + id);
+                    ps.addBatch();
+                }
+                // Reescrito en un solo INSERT multi-VALUES no informa filas por sentencia
+                // (el driver agrupa en potencias de dos: 4 filas, un solo INSERT)
+                int[] resultado = ps.executeBatch();
+                int[] sinInformacion = new int[resultado.length];
+                Arrays.fill(sinInformacion, Statement.SUCCESS_NO_INFO);
+                assertArrayEquals(sinInformacion, resultado);
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+}
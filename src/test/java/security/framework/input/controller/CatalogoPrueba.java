@@ -0,0 +1,72 @@
+package security.framework.input.controller;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Datos de prueba: CatalogoPrueba
+ * 
+ * Carga registros del catálogo con POST /catalogo/importar, así cada prueba
+ * prepara sus datos por la misma vía que un entorno real. Los IDs están por
+ * encima de 900000 para no chocar con datos cargados a mano en la base de
+ * pruebas; la importación inserta o actualiza, así que repetirla no falla.
+ */
+public final class CatalogoPrueba {
+
+    public static final long MODULO = 900_001L;
+    public static final long PANTALLA = 900_001L;
+
+    private CatalogoPrueba() {
+    }
+
+    /**
+     * Módulo y pantalla de prueba más los registros indicados.
+     * 
+     * @param lineas Registros NDJSON (menús, perfiles, asignaciones)
+     */
+    public static void importar(String... lineas) {
+        StringBuilder cuerpo = new StringBuilder()
+                .append("{\"tipo\":\"modulo\",\"id\":").append(MODULO).append(",\"nombre\":\"Modulo prueba\"}\n")
+                .append("{\"tipo\":\"pantalla\",\"id\":").append(PANTALLA).append(",\"codModulo\":").append(MODULO)
+                .append(",\"nombre\":\"Pantalla prueba\",\"url\":\"/prueba\"}\n");
+        for (String linea : lineas) {
+            cuerpo.append(linea).append('\n');
+        }
+        given().contentType(CatalogoController.APPLICATION_NDJSON)
+                .body(cuerpo.toString().getBytes(StandardCharsets.UTF_8))
+                .when().post("/catalogo/importar")
+                .then().statusCode(200);
+    }
+
+    /**
+     * @return Registro NDJSON de un menú activo con la pantalla de prueba
+     */
+    public static String menu(long id, String nombre, Long padre, int orden) {
+        return "{\"tipo\":\"menu\",\"id\":" + id + ",\"nombre\":\"" + nombre + "\",\"jerarquia\":" + (padre == null ? 0 : 1)
+                + ",\"orden\":" + orden + ",\"codPantalla\":" + PANTALLA + ",\"codModulo\":" + MODULO
+                + (padre == null ? "" : ",\"codMenuPadre\":" + padre) + ",\"icono\":\"pi pi-fw pi-folder\",\"estado\":1}";
+    }
+
+    /**
+     * @return Registro NDJSON de una carpeta raíz (menú sin pantalla)
+     */
+    public static String carpeta(long id, String nombre, int orden) {
+        return "{\"tipo\":\"menu\",\"id\":" + id + ",\"nombre\":\"" + nombre + "\",\"jerarquia\":0,\"orden\":" + orden
+                + ",\"codModulo\":" + MODULO + ",\"icono\":\"pi pi-fw pi-folder\",\"estado\":1}";
+    }
+
+    /**
+     * @return Registro NDJSON de un perfil
+     */
+    public static String perfil(long id) {
+        return "{\"tipo\":\"perfil\",\"id\":" + id + ",\"nombre\":\"Perfil prueba " + id + "\"}";
+    }
+
+    /**
+     * @return Registro NDJSON de una asignación menú → perfil
+     */
+    public static String asignacion(long menuId, long perfilId) {
+        return "{\"tipo\":\"asignacion\",\"menuId\":" + menuId + ",\"perfilId\":" + perfilId + "}";
+    }
+}
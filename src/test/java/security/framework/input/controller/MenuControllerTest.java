@@ -0,0 +1,102 @@
+package security.framework.input.controller;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import security.framework.input.filter.PresupuestoSqlFilter;
+
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static security.framework.input.controller.CatalogoPrueba.importar;
+import static security.framework.input.controller.CatalogoPrueba.menu;
+
+/**
+ * Pruebas de MenuController contra PostgreSQL: ?detalle=true completa
+ * pantalla y módulo con un único JOIN (sin una llamada por menú a /pantalla
+ * o /modulo), y ?fields= devuelve solo los campos pedidos (un campo fuera
+ * de la lista blanca es HTTP 400).
+ */
+@QuarkusTest
+class MenuControllerTest {
+
+    @Test
+    void detallePorIdEnUnaSentencia() {
+        importar(menu(900_501L, "Detalle", null, 1));
+
+        given().accept("application/json")
+                .when().get("/menu/idmenu/{idmenu}?detalle=true", 900_501L)
+                .then().statusCode(200)
+                .header(PresupuestoSqlFilter.CABECERA_SENTENCIAS, equalTo("1"))
+                .body("nombrePantalla", equalTo("Pantalla prueba"))
+                .body("urlPantalla", equalTo("/prueba"))
+                .body("nombreModulo", equalTo("Modulo prueba"));
+        given().accept("application/json")
+                .when().get("/menu/idmenu/{idmenu}", 900_501L)
+                .then().statusCode(200)
+                .body("nombre", equalTo("Detalle"))
+                .body("nombrePantalla", nullValue());
+    }
+
+    @Test
+    void busquedaConDetalleEnUnaSentencia() {
+        importar(menu(900_511L, "Detallado uno", null, 1),
+                menu(900_512L, "Detallado dos", null, 2),
+                menu(900_513L, "Detallado tres", null, 3));
+
+        given().accept("application/json")
+                .contentType("application/json").body("{\"nombre\":\"Detallado\"}")
+                .when().post("/menu/buscar?detalle=true")
+                .then().statusCode(200)
+                .header(PresupuestoSqlFilter.CABECERA_SENTENCIAS, equalTo("1"))
+                .body("$", hasSize(3))
+                .body("urlPantalla", everyItem(equalTo("/prueba")))
+                .body("nombreModulo", everyItem(equalTo("Modulo prueba")));
+    }
+
+    @Test
+    void fieldsDevuelveSoloLosCamposPedidos() {
+        importar(menu(900_521L, "Proyectado uno", null, 1),
+                menu(900_522L, "Proyectado dos", null, 2));
+
+        given().accept("application/json")
+                .contentType("application/json").body("{\"nombre\":\"Proyectado\"}")
+                .when().post("/menu/buscar?fields=id,nombre")
+                .then().statusCode(200)
+                .header(PresupuestoSqlFilter.CABECERA_SENTENCIAS, equalTo("1"))
+                .body("$", hasSize(2))
+                .body("$", everyItem(aMapWithSize(2)))
+                .body("id", equalTo(List.of(900_521, 900_522)))
+                .body("nombre", equalTo(List.of("Proyectado uno", "Proyectado dos")));
+    }
+
+    @Test
+    void fieldsConCamposDeDetalleUneEnLaMismaSentencia() {
+        importar(menu(900_531L, "Con pantalla", null, 1));
+
+        given().accept("application/json")
+                .contentType("application/json").body("{\"nombre\":\"Con pantalla\"}")
+                .when().post("/menu/buscar?fields=id,urlPantalla")
+                .then().statusCode(200)
+                .header(PresupuestoSqlFilter.CABECERA_SENTENCIAS, equalTo("1"))
+                .body("$", hasSize(1))
+                .body("[0]", aMapWithSize(2))
+                .body("[0].urlPantalla", equalTo("/prueba"))
+                .body("[0].nombre", nullValue());
+    }
+
+    @Test
+    void fieldsConUnCampoDesconocidoEs400() {
+        given().accept("application/json")
+                .contentType("application/json").body("{}")
+                .when().post("/menu/buscar?fields=id,clave")
+                .then().statusCode(400)
+                .header(PresupuestoSqlFilter.CABECERA_SENTENCIAS, equalTo("0"))
+                .body("message", containsString("Campo no soportado: clave"));
+    }
+}
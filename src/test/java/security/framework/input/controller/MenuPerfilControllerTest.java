@@ -0,0 +1,78 @@
+package security.framework.input.controller;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import security.framework.input.dto.MenuPlanoResponseDTO;
+import security.framework.input.filter.PresupuestoSqlFilter;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static security.framework.input.controller.CatalogoPrueba.asignacion;
+import static security.framework.input.controller.CatalogoPrueba.importar;
+import static security.framework.input.controller.CatalogoPrueba.menu;
+import static security.framework.input.controller.CatalogoPrueba.perfil;
+
+/**
+ * Pruebas del árbol de menús por perfil contra PostgreSQL: viajes a la base
+ * de datos (X-Sql-Sentencias; con security.sql.modo=fallar un presupuesto
+ * excedido ya responde 500) y negociación del formato.
+ */
+@QuarkusTest
+class MenuPerfilControllerTest {
+
+    private static final String ARBOL = "/menu-perfil/jerarquico/perfil/{perfilId}";
+
+    private static ExtractableResponse<Response> arbol(long perfilId) {
+        return given().accept("application/json")
+                .when().get(ARBOL, perfilId)
+                .then().statusCode(200)
+                .extract();
+    }
+
+    private static int sentencias(ExtractableResponse<Response> respuesta) {
+        return Integer.parseInt(respuesta.header(PresupuestoSqlFilter.CABECERA_SENTENCIAS));
+    }
+
+    @Test
+    void arbolFrioEnUnaSentenciaYCalienteSinNinguna() {
+        importar(menu(900_201L, "Inicio", null, 1),
+                menu(900_202L, "Ayuda", null, 2),
+                perfil(900_201L),
+                asignacion(900_201L, 900_201L),
+                asignacion(900_202L, 900_201L));
+
+        ExtractableResponse<Response> frio = arbol(900_201L);
+        ExtractableResponse<Response> caliente = arbol(900_201L);
+
+        assertTrue(sentencias(frio) <= 1, "árbol frío: " + sentencias(frio) + " sentencias");
+        assertEquals(0, sentencias(caliente));
+        assertEquals(frio.asString(), caliente.asString());
+    }
+
+    @Test
+    void formatoSegunAcceptConQValues() {
+        importar(menu(900_401L, "Inicio", null, 1),
+                perfil(900_401L),
+                asignacion(900_401L, 900_401L));
+
+        given().header("Accept", "application/cbor;q=0.1, application/json")
+                .when().get(ARBOL, 900_401L)
+                .then().statusCode(200).contentType(startsWith("application/json"));
+        given().header("Accept", "application/json;q=0.5, " + MenuPlanoResponseDTO.MEDIA_TYPE)
+                .when().get(ARBOL, 900_401L)
+                .then().statusCode(200).contentType(startsWith(MenuPlanoResponseDTO.MEDIA_TYPE))
+                .body("label", contains("900401-Inicio"));
+        given().header("Accept", "application/cbor;q=0, */*")
+                .when().get(ARBOL, 900_401L)
+                .then().statusCode(200).contentType(startsWith("application/json"));
+        given().header("Accept", "application/cbor")
+                .when().get(ARBOL, 900_401L)
+                .then().statusCode(200).contentType(equalTo("application/cbor"));
+    }
+}
@@ -0,0 +1,92 @@
+package security.framework.input.controller;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import security.framework.input.filter.EnrutamientoLecturaFilter;
+import security.framework.input.filter.PresupuestoSqlFilter;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static security.framework.input.controller.CatalogoPrueba.MODULO;
+import static security.framework.input.controller.CatalogoPrueba.importar;
+
+/**
+ * Pruebas de la caché de lectura de pantallas (PantallaRepositoryCache)
+ * contra PostgreSQL: lo leído del primario se guarda y las lecturas
+ * siguientes no van a la base de datos; lo leído de la réplica no se
+ * guarda; una actualización se ve en la lectura siguiente.
+ */
+@QuarkusTest
+class PantallaControllerTest {
+
+    private static String pantalla(long id, String nombre) {
+        return "{\"tipo\":\"pantalla\",\"id\":" + id + ",\"codModulo\":" + MODULO
+                + ",\"nombre\":\"" + nombre + "\",\"url\":\"/" + id + "\"}";
+    }
+
+    private static ExtractableResponse<Response> leer(long id, boolean primario) {
+        return given().header(EnrutamientoLecturaFilter.CABECERA_READ_YOUR_WRITES, String.valueOf(primario))
+                .when().get("/pantalla/{id}", id)
+                .then().statusCode(200)
+                .extract();
+    }
+
+    /**
+     * Carga desde el primario y lee de la réplica hasta que esa lectura no
+     * va a la base de datos: el NOTIFY de la importación llega también a
+     * este nodo y puede vaciar la caché después de la carga.
+     */
+    private static ExtractableResponse<Response> lecturaCacheada(long id) {
+        for (int intento = 0; intento < 50; intento++) {
+            leer(id, true);
+            ExtractableResponse<Response> respuesta = leer(id, false);
+            if ("0".equals(respuesta.header(PresupuestoSqlFilter.CABECERA_SENTENCIAS))) {
+                return respuesta;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return fail("la pantalla " + id + " no quedó en caché");
+    }
+
+    @Test
+    void loLeidoDelPrimarioSeSirveDesdeLaCache() {
+        importar(pantalla(900_601L, "Cacheada"));
+
+        assertEquals("Cacheada", lecturaCacheada(900_601L).path("nombre"));
+    }
+
+    @Test
+    void loLeidoDeLaReplicaNoSeGuarda() {
+        importar(pantalla(900_621L, "Replica"));
+
+        leer(900_621L, false);
+        ExtractableResponse<Response> segunda = leer(900_621L, false);
+
+        assertEquals("1", segunda.header(PresupuestoSqlFilter.CABECERA_SENTENCIAS));
+        assertEquals("Replica", segunda.path("nombre"));
+    }
+
+    @Test
+    void unaActualizacionSeVeEnLaLecturaSiguiente() {
+        importar(pantalla(900_611L, "Antes"));
+        assertEquals("Antes", lecturaCacheada(900_611L).path("nombre"));
+
+        given().contentType("application/json")
+                .body("{\"nombre\":\"Despues\",\"url\":\"/despues\",\"codModulo\":" + MODULO + "}")
+                .when().put("/pantalla/{id}", 900_611L)
+                .then().statusCode(200);
+
+        given().when().get("/pantalla/{id}", 900_611L)
+                .then().statusCode(200)
+                .body("nombre", equalTo("Despues"))
+                .body("url", equalTo("/despues"));
+    }
+}
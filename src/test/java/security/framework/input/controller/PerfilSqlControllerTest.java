@@ -0,0 +1,84 @@
+package security.framework.input.controller;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static security.framework.input.controller.CatalogoPrueba.importar;
+import static security.framework.input.controller.CatalogoPrueba.menu;
+
+/**
+ * Pruebas de PerfilSqlController con el endpoint abierto
+ * (security.sql.perfil.endpoint=true): tras DELETE el perfil empieza de
+ * cero, las ejecuciones de una misma sentencia se suman en una huella y
+ * GET /perfil-sql?top= devuelve las n huellas con más tiempo total, de
+ * mayor a menor.
+ */
+@QuarkusTest
+@TestProfile(PerfilSqlControllerTest.ConEndpoint.class)
+class PerfilSqlControllerTest {
+
+    /** Publica GET y DELETE /perfil-sql */
+    public static class ConEndpoint implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("security.sql.perfil.endpoint", "true");
+        }
+    }
+
+    private static void buscar(String nombre) {
+        given().contentType("application/json").body("{\"nombre\":\"" + nombre + "\"}")
+                .when().post("/menu/buscar")
+                .then().statusCode(200);
+    }
+
+    private static JsonPath perfil(String consulta) {
+        return given().when().get("/perfil-sql" + consulta)
+                .then().statusCode(200)
+                .extract().jsonPath();
+    }
+
+    @Test
+    void lasEjecucionesSeSumanPorHuellaYElTopVaDeMayorAMenor() {
+        importar(menu(900_901L, "Perfilado", null, 1));
+        given().when().delete("/perfil-sql").then().statusCode(204);
+
+        buscar("Perfilado");
+        buscar("Otro");
+        buscar("Ninguno");
+        given().when().get("/menu/idmenu/{idmenu}", 900_901L).then().statusCode(200);
+
+        JsonPath todo = perfil("?top=100");
+        List<Map<String, Object>> top = todo.getList("top");
+        Map<String, Object> busqueda = top.stream()
+                .filter(huella -> huella.get("huella").toString().endsWith("WHERE lower(m.nombre) LIKE ?"))
+                .findFirst().orElseThrow();
+        assertEquals(3, busqueda.get("ejecuciones"));
+        assertEquals(1, busqueda.get("filas"));
+        assertEquals(top.size(), todo.getInt("huellas"));
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(todo.getDouble("top[" + (i - 1) + "].totalMs") >= todo.getDouble("top[" + i + "].totalMs"));
+        }
+
+        given().when().get("/perfil-sql?top=1")
+                .then().statusCode(200)
+                .body("top", hasSize(1))
+                .body("top[0].huella", equalTo(top.get(0).get("huella")));
+
+        given().when().delete("/perfil-sql").then().statusCode(204);
+        given().when().get("/perfil-sql")
+                .then().statusCode(200)
+                .body("huellas", equalTo(0))
+                .body("top", hasSize(0));
+    }
+}
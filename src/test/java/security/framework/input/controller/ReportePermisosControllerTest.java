@@ -0,0 +1,89 @@
+package security.framework.input.controller;
+
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.junit.jupiter.api.Test;
+import security.aplication.dto.FilaMatrizPermisos;
+import security.aplication.dto.MenuMatriz;
+import security.dominio.exceptions.SecurityValidationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la serialización de la matriz de permisos, sin base de datos:
+ * el puerto de entrada es un doble que entrega columnas y filas fijas. La
+ * consulta no se lanza hasta que se escribe el cuerpo (streaming).
+ */
+class ReportePermisosControllerTest {
+
+    private static final List<MenuMatriz> MENUS = List.of(
+            new MenuMatriz(1L, "Inicio"),
+            new MenuMatriz(2L, "Reportes, ventas"),
+            new MenuMatriz(3L, "Menú \"nuevo\""),
+            new MenuMatriz(4L, "Línea\nsalto"));
+
+    private static final List<FilaMatrizPermisos> FILAS = List.of(
+            new FilaMatrizPermisos(10L, "ADMIN", List.of(1L, 3L)),
+            new FilaMatrizPermisos(11L, "Consulta, solo lectura", List.of(2L, 99L)),
+            new FilaMatrizPermisos(12L, null, List.of(4L)));
+
+    private final ReportePermisosController controller = new ReportePermisosController((modulo, columnas, filas) -> {
+        columnas.accept(MENUS);
+        FILAS.forEach(filas);
+    });
+
+    private static String cuerpo(Response respuesta) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        ((StreamingOutput) respuesta.getEntity()).write(salida);
+        return salida.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void csvEscapaCeldasSegunRfc4180() throws IOException {
+        String csv = cuerpo(controller.matrizPermisos(null, "csv"));
+
+        assertEquals("perfil_id,perfil,1 - Inicio,\"2 - Reportes, ventas\",\"3 - Menú \"\"nuevo\"\"\",\"4 - Línea\nsalto\"\r\n"
+                + "10,ADMIN,X,,X,\r\n"
+                + "11,\"Consulta, solo lectura\",,X,,\r\n"
+                + "12,,,,,X\r\n", csv);
+    }
+
+    @Test
+    void ndjsonUnaLineaPorPerfil() throws IOException {
+        String ndjson = cuerpo(controller.matrizPermisos(null, "ndjson"));
+
+        assertEquals("{\"perfilId\":10,\"perfil\":\"ADMIN\",\"menus\":[1,3]}\n"
+                + "{\"perfilId\":11,\"perfil\":\"Consulta, solo lectura\",\"menus\":[2,99]}\n"
+                + "{\"perfilId\":12,\"perfil\":\"\",\"menus\":[4]}\n", ndjson);
+    }
+
+    @Test
+    void laConsultaSeEjecutaAlEscribirLaRespuesta() throws IOException {
+        List<BigInteger> consultas = new ArrayList<>();
+        ReportePermisosController porModulo = new ReportePermisosController((modulo, columnas, filas) -> {
+            consultas.add(modulo);
+            columnas.accept(MENUS);
+        });
+
+        Response respuesta = porModulo.matrizPermisos(BigInteger.valueOf(7), "csv");
+
+        assertTrue(consultas.isEmpty());
+        assertEquals("attachment; filename=\"matriz-permisos-7.csv\"", respuesta.getHeaderString("Content-Disposition"));
+        assertTrue(cuerpo(respuesta).startsWith("perfil_id,perfil,1 - Inicio,"));
+        assertEquals(List.of(BigInteger.valueOf(7)), consultas);
+    }
+
+    @Test
+    void formatoDesconocidoEsErrorDeValidacion() {
+        assertThrows(SecurityValidationException.class, () -> controller.matrizPermisos(null, "xlsx"));
+    }
+}
@@ -0,0 +1,118 @@
+package security.framework.input.controller;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import security.framework.output.trazas.ExportadorTrazasMemoria;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static security.framework.input.controller.CatalogoPrueba.asignacion;
+import static security.framework.input.controller.CatalogoPrueba.carpeta;
+import static security.framework.input.controller.CatalogoPrueba.importar;
+import static security.framework.input.controller.CatalogoPrueba.menu;
+import static security.framework.input.controller.CatalogoPrueba.perfil;
+
+/**
+ * Pruebas de las trazas con el exportador en memoria (sin colector): un
+ * árbol de menús sin caché deja en una sola traza el span HTTP, el puerto
+ * de entrada, el de salida, la construcción del árbol, la serialización y
+ * la consulta a vw_menu_perfil (del cliente reactivo, que cuelga del span
+ * HTTP); GET /trazas los devuelve por traceId.
+ */
+@QuarkusTest
+@TestProfile(TrazasControllerTest.EnMemoria.class)
+class TrazasControllerTest {
+
+    private static final long PERFIL = 900_801L;
+
+    /** SDK activo, sin OTLP y con el exportador en memoria */
+    public static class EnMemoria implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.otel.sdk.disabled", "false",
+                    "quarkus.otel.traces.exporter", "none",
+                    "security.trazas.exportador", "memoria");
+        }
+    }
+
+    @Inject
+    ExportadorTrazasMemoria exportador;
+
+    /** El span HTTP termina después de escribir la respuesta: se espera a que llegue */
+    private SpanData spanHttp() throws InterruptedException {
+        for (int intento = 0; intento < 50; intento++) {
+            Optional<SpanData> servidor = exportador.recientes(null).stream()
+                    .filter(span -> span.getKind() == SpanKind.SERVER)
+                    .filter(span -> Long.valueOf(PERFIL).equals(span.getAttributes().get(AttributeKey.longKey("security.perfilId"))))
+                    .findFirst();
+            if (servidor.isPresent()) {
+                return servidor.get();
+            }
+            Thread.sleep(100);
+        }
+        return fail("no se exportó el span HTTP");
+    }
+
+    private static SpanData span(List<SpanData> traza, String nombre) {
+        return traza.stream().filter(span -> span.getName().equals(nombre)).findFirst()
+                .orElseGet(() -> fail("falta el span " + nombre));
+    }
+
+    private static String atributo(SpanData span, String clave) {
+        return String.valueOf(span.getAttributes().get(AttributeKey.stringKey(clave)));
+    }
+
+    private static long atributoLong(SpanData span, String clave) {
+        return span.getAttributes().get(AttributeKey.longKey(clave));
+    }
+
+    @Test
+    void elArbolDejaUnaTrazaDeLaPeticionALaConsulta() throws Exception {
+        importar(carpeta(900_801L, "Trazas", 1), menu(900_802L, "Hoja", 900_801L, 1),
+                perfil(PERFIL), asignacion(900_801L, PERFIL), asignacion(900_802L, PERFIL));
+
+        given().accept("application/json")
+                .when().get("/menu-perfil/jerarquico/perfil/{perfilId}", PERFIL)
+                .then().statusCode(200);
+
+        SpanData http = spanHttp();
+        List<SpanData> traza = exportador.recientes(http.getTraceId());
+        SpanData entrada = span(traza, "ConsultaReactivaInputPort.obtenerMenusJerarquicos");
+        SpanData salida = span(traza, "MenuPerfilViewReactiveRepository.findByPerfilId");
+        SpanData construir = span(traza, "ConstructorArbolMenus.construir");
+        SpanData serializar = span(traza, "MenuPerfilController.serializar");
+
+        assertEquals(http.getSpanId(), entrada.getParentSpanId());
+        assertEquals("entrada", atributo(entrada, "security.capa"));
+        assertEquals(entrada.getSpanId(), salida.getParentSpanId());
+        assertEquals("salida", atributo(salida, "security.capa"));
+        assertEquals(PERFIL, atributoLong(salida, "security.perfilId"));
+        assertEquals(2, atributoLong(salida, "security.filas"));
+        assertEquals(2, atributoLong(construir, "security.nodos"));
+        assertEquals(http.getSpanId(), serializar.getParentSpanId());
+        assertTrue(atributoLong(serializar, "security.bytes") > 0);
+
+        SpanData consulta = traza.stream().filter(span -> span.getKind() == SpanKind.CLIENT).findFirst()
+                .orElseGet(() -> fail("falta el span de la consulta"));
+        assertTrue(atributo(consulta, "db.statement").contains("vw_menu_perfil"));
+
+        given().when().get("/trazas?traceId={traceId}", http.getTraceId())
+                .then().statusCode(200)
+                .body("nombre", hasItems("ConsultaReactivaInputPort.obtenerMenusJerarquicos",
+                        "MenuPerfilViewReactiveRepository.findByPerfilId",
+                        "ConstructorArbolMenus.construir", "MenuPerfilController.serializar"));
+    }
+}
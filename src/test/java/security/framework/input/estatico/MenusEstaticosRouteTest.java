@@ -0,0 +1,143 @@
+package security.framework.input.estatico;
+
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import security.framework.input.filter.PresupuestoSqlFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.config.DecoderConfig.decoderConfig;
+import static io.restassured.config.RestAssuredConfig.config;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static security.framework.input.controller.CatalogoPrueba.asignacion;
+import static security.framework.input.controller.CatalogoPrueba.importar;
+import static security.framework.input.controller.CatalogoPrueba.menu;
+import static security.framework.input.controller.CatalogoPrueba.perfil;
+
+/**
+ * Pruebas de MenusEstaticosRoute y GeneradorMenusEstaticos: el primer GET lo
+ * atiende el controlador y publica los archivos; los siguientes salen por
+ * sendFile (sin X-Sql-Sentencias) en br, gzip o sin comprimir; un cambio
+ * vuelve a renderizar el perfil.
+ */
+@QuarkusTest
+@TestProfile(MenusEstaticosRouteTest.ConEstaticos.class)
+class MenusEstaticosRouteTest {
+
+    private static final String ARBOL = "/menu-perfil/jerarquico/perfil/{perfilId}";
+    private static final String DIRECTORIO = "target/menus-estaticos";
+
+    /** Activa los archivos estáticos en un directorio propio */
+    public static class ConEstaticos implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("security.cache.estatico.enabled", "true",
+                    "security.cache.estatico.directorio", DIRECTORIO);
+        }
+    }
+
+    private static ExtractableResponse<Response> arbol(long perfilId, String codificaciones) {
+        return given().config(config().decoderConfig(decoderConfig().noContentDecoders()))
+                .accept("application/json").header("Accept-Encoding", codificaciones)
+                .when().get(ARBOL, perfilId)
+                .then().statusCode(200)
+                .extract();
+    }
+
+    /** Repite el GET hasta que lo sirve la ruta (el render es en segundo plano) */
+    private static ExtractableResponse<Response> arbolPublicado(long perfilId, String codificaciones) {
+        for (int intento = 0; intento < 50; intento++) {
+            ExtractableResponse<Response> respuesta = arbol(perfilId, codificaciones);
+            if (respuesta.header(PresupuestoSqlFilter.CABECERA_SENTENCIAS) == null) {
+                return respuesta;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return fail("el perfil " + perfilId + " no se publicó");
+    }
+
+    @Test
+    void sirveElArchivoDelPerfilEnCadaCodificacion() throws IOException {
+        importar(menu(900_901L, "Inicio", null, 1),
+                perfil(900_901L),
+                asignacion(900_901L, 900_901L));
+        ExtractableResponse<Response> controlador = arbol(900_901L, "identity");
+        assertNotNull(controlador.header(PresupuestoSqlFilter.CABECERA_SENTENCIAS));
+
+        ExtractableResponse<Response> plano = arbolPublicado(900_901L, "identity");
+        ExtractableResponse<Response> brotli = arbol(900_901L, "gzip, br");
+        ExtractableResponse<Response> gzip = arbol(900_901L, "gzip, br;q=0");
+
+        assertEquals(controlador.asString(), plano.asString());
+        assertNull(plano.header("Content-Encoding"));
+        assertEquals("br", brotli.header("Content-Encoding"));
+        assertEquals(plano.asString(), new String(Decoder.decompress(brotli.asByteArray()).getDecompressedData(),
+                StandardCharsets.UTF_8));
+        assertEquals("gzip", gzip.header("Content-Encoding"));
+        assertEquals("Accept, Accept-Encoding", gzip.header("Vary"));
+        assertTrue(Files.exists(Path.of(DIRECTORIO, "900901.json.gz")));
+    }
+
+    @Test
+    void otrosFormatosSiguenAlControlador() {
+        importar(menu(900_911L, "Inicio", null, 1),
+                perfil(900_911L),
+                asignacion(900_911L, 900_911L));
+        arbolPublicado(900_911L, "identity");
+
+        given().header("Accept", "application/json;q=0.5, application/cbor")
+                .when().get(ARBOL, 900_911L)
+                .then().statusCode(200).contentType(equalTo("application/cbor"));
+    }
+
+    @Test
+    void unCambioVuelveARenderizarElPerfil() {
+        given().when().delete("/menu-perfil/menu/{menuId}/perfil/{perfilId}", 900_922L, 900_921L);
+        importar(menu(900_921L, "Inicio", null, 1),
+                perfil(900_921L),
+                asignacion(900_921L, 900_921L));
+        arbolPublicado(900_921L, "identity");
+
+        importar(menu(900_922L, "Nuevo", null, 2),
+                asignacion(900_922L, 900_921L));
+
+        given().accept("application/json").header("Accept-Encoding", "identity")
+                .when().get(ARBOL, 900_921L)
+                .then().statusCode(200)
+                .body("label", contains("900921-Inicio", "900922-Nuevo"));
+        ExtractableResponse<Response> publicado = arbolPublicado(900_921L, "identity");
+        assertTrue(publicado.asString().contains("900922-Nuevo"));
+    }
+
+    @Test
+    void jsonSoloCuandoEsLaVarianteElegida() {
+        assertTrue(MenusEstaticosRoute.prefiereJson(null));
+        assertTrue(MenusEstaticosRoute.prefiereJson("*/*"));
+        assertTrue(MenusEstaticosRoute.prefiereJson("application/cbor;q=0.1, application/json"));
+        assertTrue(MenusEstaticosRoute.prefiereJson("application/cbor;q=0, */*"));
+        assertFalse(MenusEstaticosRoute.prefiereJson("application/cbor"));
+        assertFalse(MenusEstaticosRoute.prefiereJson("application/json;q=0.5, application/vnd.security.menu-plano+json"));
+        assertFalse(MenusEstaticosRoute.prefiereJson("application/json;q=0, */*"));
+    }
+}
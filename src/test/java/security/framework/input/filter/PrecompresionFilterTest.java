@@ -0,0 +1,88 @@
+package security.framework.input.filter;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static security.framework.input.controller.CatalogoPrueba.asignacion;
+import static security.framework.input.controller.CatalogoPrueba.importar;
+import static security.framework.input.controller.CatalogoPrueba.menu;
+import static security.framework.input.controller.CatalogoPrueba.perfil;
+
+/**
+ * Pruebas de PrecompresionFilter: un GET @Precomprimible se responde en gzip
+ * desde CacheRespuestasComprimidas, un POST nunca se guarda, y los GET y
+ * POST de listas siguen negociando CBOR.
+ */
+@QuarkusTest
+class PrecompresionFilterTest {
+
+    private static final String ARBOL = "/menu-perfil/jerarquico/perfil/{perfilId}";
+
+    /** Perfil con 20 menús: el árbol supera security.cache.comprimido.minimo (1K) */
+    private static void importarPerfilGrande(long perfilId) {
+        List<String> lineas = new ArrayList<>();
+        lineas.add(perfil(perfilId));
+        for (int i = 1; i <= 20; i++) {
+            long menuId = perfilId + i;
+            lineas.add(menu(menuId, "Precomprimido " + i, null, i));
+            lineas.add(asignacion(menuId, perfilId));
+        }
+        importar(lineas.toArray(String[]::new));
+    }
+
+    private static ExtractableResponse<Response> arbolGzip(long perfilId) {
+        return given().accept("application/json").header("Accept-Encoding", "gzip")
+                .when().get(ARBOL, perfilId)
+                .then().statusCode(200)
+                .header("Content-Encoding", equalTo("gzip"))
+                .header("Vary", equalTo("Accept, Accept-Encoding"))
+                .extract();
+    }
+
+    @Test
+    void getSeRespondeEnGzipYLaSegundaVezDesdeLaCache() {
+        importarPerfilGrande(900_700L);
+
+        ExtractableResponse<Response> primera = arbolGzip(900_700L);
+        ExtractableResponse<Response> segunda = arbolGzip(900_700L);
+
+        assertEquals(primera.asString(), segunda.asString());
+        assertEquals(20, segunda.jsonPath().getList("$").size());
+    }
+
+    @Test
+    void postDeBusquedaNoSeGuardaComprimido() {
+        importarPerfilGrande(900_800L);
+
+        given().accept("application/json").header("Accept-Encoding", "gzip")
+                .contentType("application/json").body("{\"nombre\":\"Precomprimido\"}")
+                .when().post("/menu/buscar")
+                .then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body("$", hasSize(greaterThanOrEqualTo(20)));
+    }
+
+    @Test
+    void listasNegocianCbor() {
+        importar();
+
+        given().accept("application/cbor")
+                .when().get("/modulo")
+                .then().statusCode(200).contentType(equalTo("application/cbor"));
+        given().accept("application/cbor")
+                .contentType("application/json").body("{}")
+                .when().post("/menu/buscar")
+                .then().statusCode(200).contentType(equalTo("application/cbor"));
+    }
+}
@@ -0,0 +1,115 @@
+package security.framework.output.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.runtime.configuration.MemorySize;
+import org.junit.jupiter.api.Test;
+import security.framework.config.CacheConfig;
+import security.framework.output.persistence.NotificadorCambios;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de AlmacenPayloadsOffHeap: memoria directa, desalojo LRU por
+ * presupuesto, invalidación por perfil y payloads de una generación vieja.
+ */
+class AlmacenPayloadsOffHeapTest {
+
+    private static AlmacenPayloadsOffHeap almacen(boolean habilitado, long presupuesto) {
+        CacheConfig.Payload config = new CacheConfig.Payload() {
+            @Override
+            public boolean enabled() {
+                return habilitado;
+            }
+
+            @Override
+            public MemorySize presupuesto() {
+                return new MemorySize(BigInteger.valueOf(presupuesto));
+            }
+        };
+        return new AlmacenPayloadsOffHeap(config, new RegistroCaches(), new SimpleMeterRegistry());
+    }
+
+    private static byte[] json(int bytes) {
+        return "x".repeat(bytes).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String texto(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void guardaEnMemoriaDirectaYDevuelveVistasDeSoloLectura() {
+        AlmacenPayloadsOffHeap almacen = almacen(true, 1024);
+
+        ByteBuffer respuesta = almacen.guardar(1L, "[{\"codigo\":1}]".getBytes(StandardCharsets.UTF_8), almacen.generacion());
+        ByteBuffer guardado = almacen.obtener(1L).orElseThrow();
+
+        assertTrue(respuesta.isDirect());
+        assertTrue(guardado.isDirect());
+        assertTrue(guardado.isReadOnly());
+        assertEquals("[{\"codigo\":1}]", texto(guardado));
+        assertEquals(14, almacen.getBytesUsados());
+    }
+
+    @Test
+    void alSuperarElPresupuestoDesalojaElMenosUsado() {
+        AlmacenPayloadsOffHeap almacen = almacen(true, 250);
+        almacen.guardar(1L, json(100), almacen.generacion());
+        almacen.guardar(2L, json(100), almacen.generacion());
+        almacen.obtener(1L);
+
+        almacen.guardar(3L, json(100), almacen.generacion());
+
+        assertTrue(almacen.obtener(1L).isPresent());
+        assertFalse(almacen.obtener(2L).isPresent());
+        assertTrue(almacen.obtener(3L).isPresent());
+        assertEquals(200, almacen.getBytesUsados());
+        assertEquals(1, almacen.getDesalojos());
+    }
+
+    @Test
+    void unCambioDeAsignacionesSoloDescartaEsePerfil() {
+        AlmacenPayloadsOffHeap almacen = almacen(true, 1024);
+        almacen.guardar(1L, json(10), almacen.generacion());
+        almacen.guardar(2L, json(10), almacen.generacion());
+
+        almacen.alCambiar(NotificadorCambios.MENU_PERFIL, "1");
+
+        assertFalse(almacen.obtener(1L).isPresent());
+        assertTrue(almacen.obtener(2L).isPresent());
+
+        almacen.alCambiar(NotificadorCambios.MENU, "7");
+        assertEquals(0, almacen.getEntradas());
+        assertEquals(0, almacen.getBytesUsados());
+    }
+
+    @Test
+    void noGuardaUnPayloadRenderizadoAntesDeUnaInvalidacion() {
+        AlmacenPayloadsOffHeap almacen = almacen(true, 1024);
+        long generacion = almacen.generacion();
+
+        almacen.alCambiar(NotificadorCambios.PANTALLA, "3");
+        ByteBuffer respuesta = almacen.guardar(1L, json(10), generacion);
+
+        assertFalse(respuesta.isDirect());
+        assertFalse(almacen.obtener(1L).isPresent());
+    }
+
+    @Test
+    void deshabilitadoNoReservaMemoriaDirecta() {
+        AlmacenPayloadsOffHeap almacen = almacen(false, 1024);
+
+        ByteBuffer respuesta = almacen.guardar(1L, json(10), almacen.generacion());
+
+        assertFalse(respuesta.isDirect());
+        assertFalse(almacen.obtener(1L).isPresent());
+    }
+}
@@ -0,0 +1,155 @@
+package security.framework.output.cache;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import org.junit.jupiter.api.Test;
+import security.aplication.dto.MenuPerfilView;
+import security.framework.config.CacheConfig;
+import security.framework.output.persistence.EnrutamientoLectura;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Pruebas de CacheMenusPerfil con tiempos reales cortos (ttl 1s,
+ * refresh-ahead 500ms, grace 2s): refresh-ahead, stale-while-revalidate
+ * con la BD lenta, recarga fallida que conserva la entrada y caducidad
+ * pasado el grace.
+ */
+class CacheMenusPerfilTest {
+
+    private static final Duration TTL = Duration.ofMillis(1000);
+    private static final Duration REFRESH_AHEAD = Duration.ofMillis(500);
+    private static final Duration GRACE = Duration.ofMillis(2000);
+
+    private final AtomicInteger cargas = new AtomicInteger();
+    private volatile Supplier<CompletionStage<List<MenuPerfilView>>> respuesta;
+
+    private final CacheMenusPerfil cache = new CacheMenusPerfil(new CacheConfig.Revalidable() {
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public long maximumSize() {
+            return 100;
+        }
+
+        @Override
+        public Optional<MemorySize> maximumWeight() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Duration ttl() {
+            return TTL;
+        }
+
+        @Override
+        public Duration refreshAhead() {
+            return REFRESH_AHEAD;
+        }
+
+        @Override
+        public Duration grace() {
+            return GRACE;
+        }
+    }, perfilId -> {
+        cargas.incrementAndGet();
+        return respuesta.get();
+    }, new EnrutamientoLectura(null, null, null, null, null));
+
+    private static List<MenuPerfilView> filas(String nombre) {
+        return List.of(new MenuPerfilView(1L, 1L, nombre, 0, null, 1, null));
+    }
+
+    private static Supplier<CompletionStage<List<MenuPerfilView>>> devuelve(String nombre) {
+        return () -> CompletableFuture.completedFuture(filas(nombre));
+    }
+
+    private static String nombre(CompletionStage<List<MenuPerfilView>> etapa) {
+        return etapa.toCompletableFuture().join().get(0).getNombre();
+    }
+
+    private void cargarVersion1() {
+        respuesta = devuelve("v1");
+        assertEquals("v1", nombre(cache.obtenerAsincrono(1L)));
+    }
+
+    private void esperarVersion(String esperada) throws InterruptedException {
+        for (int intento = 0; intento < 50; intento++) {
+            if (esperada.equals(nombre(cache.obtenerAsincrono(1L)))) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("no se sirvió " + esperada);
+    }
+
+    @Test
+    void antesDeCaducarLaLecturaRenuevaEnSegundoPlano() throws Exception {
+        cargarVersion1();
+        Thread.sleep(REFRESH_AHEAD.toMillis() + 100);
+        CompletableFuture<List<MenuPerfilView>> recarga = new CompletableFuture<>();
+        respuesta = () -> recarga;
+
+        assertEquals("v1", nombre(cache.obtenerAsincrono(1L)));
+        assertEquals(2, cargas.get());
+        recarga.complete(filas("v2"));
+        esperarVersion("v2");
+        assertEquals(2, cargas.get());
+    }
+
+    @Test
+    void viejaSeSirveSinEsperarALaBaseDeDatosLenta() throws Exception {
+        cargarVersion1();
+        Thread.sleep(TTL.toMillis() + 100);
+        CompletableFuture<List<MenuPerfilView>> lenta = new CompletableFuture<>();
+        respuesta = () -> lenta;
+
+        CompletionStage<List<MenuPerfilView>> vieja = cache.obtenerAsincrono(1L);
+        cache.obtenerAsincrono(1L);
+
+        assertTrue(vieja.toCompletableFuture().isDone());
+        assertEquals("v1", nombre(vieja));
+        assertEquals(2, cargas.get());
+        lenta.complete(filas("v2"));
+        esperarVersion("v2");
+    }
+
+    @Test
+    void unaRecargaFallidaConservaLaEntradaYSeReintenta() throws Exception {
+        cargarVersion1();
+        Thread.sleep(TTL.toMillis() + 100);
+        respuesta = () -> CompletableFuture.failedFuture(new IllegalStateException("BD caída"));
+
+        assertEquals("v1", nombre(cache.obtenerAsincrono(1L)));
+        assertEquals("v1", nombre(cache.obtenerAsincrono(1L)));
+
+        assertEquals(3, cargas.get());
+    }
+
+    @Test
+    void pasadoElGraceLaLecturaEsperaUnaCargaNueva() throws Exception {
+        cargarVersion1();
+        Thread.sleep(TTL.plus(GRACE).toMillis() + 100);
+        CompletableFuture<List<MenuPerfilView>> lenta = new CompletableFuture<>();
+        respuesta = () -> lenta;
+
+        CompletionStage<List<MenuPerfilView>> lectura = cache.obtenerAsincrono(1L);
+
+        assertFalse(lectura.toCompletableFuture().isDone());
+        lenta.complete(filas("v2"));
+        assertEquals("v2", nombre(lectura));
+    }
+}
@@ -0,0 +1,114 @@
+package security.framework.output.cache;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import security.framework.config.CacheConfig;
+import security.framework.output.persistence.NotificadorCambios;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Pruebas de CanalInvalidacionCache contra PostgreSQL: un NOTIFY emitido
+ * por otro nodo llega a las cachés de este, y tras perder la conexión LISTEN
+ * el canal se vuelve a suscribir y vacía todas las cachés.
+ */
+@QuarkusTest
+class CanalInvalidacionCacheTest {
+
+    private static final long ESPERA_SEGUNDOS = 15;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    RegistroCaches registroCaches;
+
+    @Inject
+    CacheConfig cacheConfig;
+
+    /** Caché que solo anota lo que recibe ("tipo:id" o "*") */
+    private final BlockingQueue<String> recibidos = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void registrar() {
+        registroCaches.registrar(new CacheInvalidable() {
+            @Override
+            public void alCambiar(String tipo, String id) {
+                recibidos.add(tipo + ":" + id);
+            }
+
+            @Override
+            public void invalidarTodo() {
+                recibidos.add(NotificadorCambios.TODO);
+            }
+        });
+    }
+
+    /** NOTIFY por una conexión propia, como lo haría otro nodo */
+    private void notificar(String payload) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            ps.setString(1, cacheConfig.canal().nombre());
+            ps.setString(2, payload);
+            ps.execute();
+        }
+    }
+
+    private void esperar(String esperado) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(ESPERA_SEGUNDOS);
+        while (System.nanoTime() < limite) {
+            String recibido = recibidos.poll(100, TimeUnit.MILLISECONDS);
+            if (esperado.equals(recibido)) {
+                return;
+            }
+        }
+        fail("no llegó " + esperado);
+    }
+
+    @Test
+    void unNotifyDeOtroNodoLlegaALasCaches() throws Exception {
+        notificar(NotificadorCambios.PANTALLA + ":900701");
+
+        esperar(NotificadorCambios.PANTALLA + ":900701");
+    }
+
+    @Test
+    void alReconectarVaciaLasCachesYSigueEscuchando() throws Exception {
+        esperarSuscripcion();
+        recibidos.clear();
+
+        int terminadas;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(
+                     "SELECT count(pg_terminate_backend(pid)) FROM pg_stat_activity "
+                             + "WHERE datname = current_database() AND pid <> pg_backend_pid() "
+                             + "AND query ILIKE 'LISTEN%'");
+             ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            terminadas = rs.getInt(1);
+        }
+        assertTrue(terminadas >= 1, "no había conexión LISTEN");
+
+        esperar(NotificadorCambios.TODO);
+        notificar(NotificadorCambios.PANTALLA + ":900702");
+        esperar(NotificadorCambios.PANTALLA + ":900702");
+    }
+
+    /** Al arrancar la suscripción es asíncrona: un NOTIFY recibido la confirma */
+    private void esperarSuscripcion() throws Exception {
+        notificar(NotificadorCambios.PANTALLA + ":900700");
+        esperar(NotificadorCambios.PANTALLA + ":900700");
+    }
+}
@@ -0,0 +1,191 @@
+package security.framework.output.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.runtime.configuration.MemorySize;
+import org.junit.jupiter.api.Test;
+import security.framework.config.CacheConfig;
+import security.framework.output.persistence.EnrutamientoLectura;
+
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Pruebas de PresionMemoria sin llenar el heap: se invocan directamente el
+ * aviso de la JVM (reducir) y la revisión periódica con una ocupación dada.
+ * Umbral 0.85, reducción 0.5, mínimo 0.1 y restauración por debajo de 0.6.
+ */
+class PresionMemoriaTest {
+
+    private static final long MAXIMO = 100;
+    private static final long PESO_MAXIMO = 1_000_000;
+
+    private final RegistroCaches registroCaches = new RegistroCaches();
+    private final CachePorId<Long, String> porId = new CachePorId<>("pantalla", puerto(), Long::valueOf,
+            UnaryOperator.identity(), () -> false, null);
+    private final CacheMenusPerfil ponderada = new CacheMenusPerfil(revalidable(),
+            perfilId -> CompletableFuture.completedFuture(List.of()), new EnrutamientoLectura(null, null, null, null, null));
+    private final PresionMemoria presion;
+
+    PresionMemoriaTest() {
+        registroCaches.registrar(porId);
+        registroCaches.registrar(ponderada);
+        presion = new PresionMemoria(registroCaches, configuracion(), new SimpleMeterRegistry());
+        presion.recordarMaximos();
+    }
+
+    private static long maximo(CacheAcotada cache) {
+        return cache.getCaffeine().policy().eviction().orElseThrow().getMaximum();
+    }
+
+    @Test
+    void cadaAvisoReduceLasCachesYDesalojaLoQueSobra() {
+        for (long id = 1; id <= MAXIMO; id++) {
+            porId.obtener(id, clave -> Optional.of("pantalla " + clave));
+        }
+
+        presion.reducir();
+        porId.getCaffeine().cleanUp();
+
+        assertEquals(0.5, presion.getFraccion());
+        assertEquals(MAXIMO / 2, maximo(porId));
+        assertEquals(PESO_MAXIMO / 2, maximo(ponderada));
+        assertTrue(porId.tamano() <= MAXIMO / 2, "entradas: " + porId.tamano());
+    }
+
+    @Test
+    void noBajaDelMinimo() {
+        for (int i = 0; i < 10; i++) {
+            presion.reducir();
+        }
+
+        assertEquals(0.1, presion.getFraccion());
+        assertEquals(MAXIMO / 10, maximo(porId));
+    }
+
+    @Test
+    void laRevisionReduceConElHeapLlenoYRestauraAlBajar() {
+        presion.revisar(0.9);
+        presion.revisar(0.9);
+        assertEquals(0.25, presion.getFraccion());
+
+        presion.revisar(0.7);
+        assertEquals(0.25, presion.getFraccion());
+
+        presion.revisar(0.3);
+        assertEquals(0.5, presion.getFraccion());
+        presion.revisar(0.3);
+        presion.revisar(0.3);
+        assertEquals(1.0, presion.getFraccion());
+        assertEquals(MAXIMO, maximo(porId));
+        assertEquals(PESO_MAXIMO, maximo(ponderada));
+    }
+
+    /** Solo presion() de CacheConfig; el resto no se usa */
+    private static CacheConfig configuracion() {
+        CacheConfig.Presion config = new CacheConfig.Presion() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public double umbral() {
+                return 0.85;
+            }
+
+            @Override
+            public double reduccion() {
+                return 0.5;
+            }
+
+            @Override
+            public double minimo() {
+                return 0.1;
+            }
+
+            @Override
+            public double umbralRestauracion() {
+                return 0.6;
+            }
+
+            @Override
+            public Duration intervalo() {
+                return Duration.ofSeconds(30);
+            }
+        };
+        return (CacheConfig) Proxy.newProxyInstance(CacheConfig.class.getClassLoader(),
+                new Class<?>[]{CacheConfig.class}, (proxy, metodo, argumentos) -> {
+                    if (metodo.getName().equals("presion")) {
+                        return config;
+                    }
+                    return fail("CacheConfig." + metodo.getName() + " no esperado");
+                });
+    }
+
+    private static CacheConfig.Puerto puerto() {
+        return new CacheConfig.Puerto() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public long maximumSize() {
+                return MAXIMO;
+            }
+
+            @Override
+            public Duration ttl() {
+                return Duration.ofMinutes(5);
+            }
+
+            @Override
+            public Duration negativeTtl() {
+                return Duration.ofSeconds(30);
+            }
+        };
+    }
+
+    private static CacheConfig.Revalidable revalidable() {
+        return new CacheConfig.Revalidable() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public long maximumSize() {
+                return MAXIMO;
+            }
+
+            @Override
+            public Optional<MemorySize> maximumWeight() {
+                return Optional.of(new MemorySize(BigInteger.valueOf(PESO_MAXIMO)));
+            }
+
+            @Override
+            public Duration ttl() {
+                return Duration.ofMinutes(5);
+            }
+
+            @Override
+            public Duration refreshAhead() {
+                return Duration.ofMinutes(1);
+            }
+
+            @Override
+            public Duration grace() {
+                return Duration.ofMinutes(30);
+            }
+        };
+    }
+}
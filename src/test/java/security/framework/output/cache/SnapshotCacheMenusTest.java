@@ -0,0 +1,188 @@
+package security.framework.output.cache;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import security.aplication.dto.MenuPerfilView;
+import security.framework.config.CacheConfig;
+import security.framework.exceptions.InternalServerException;
+import security.framework.output.persistence.EnrutamientoLectura;
+import security.framework.output.persistence.VersionCatalogoAdapter;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Pruebas de SnapshotCacheMenus sin base de datos: el snapshot se sirve al
+ * arrancar; con la misma versión del catálogo no se recarga nada, y con otra
+ * versión (o sin poder leerla) se recargan todas las entradas en segundo
+ * plano sin dejar de servir las del snapshot.
+ */
+class SnapshotCacheMenusTest {
+
+    private static final long PERFIL = 1L;
+
+    @TempDir
+    Path directorio;
+
+    private final AtomicInteger cargas = new AtomicInteger();
+    private final CompletableFuture<List<MenuPerfilView>> recarga = new CompletableFuture<>();
+    private final CountDownLatch versionLeida = new CountDownLatch(1);
+    private final RegistroCaches registroCaches = new RegistroCaches();
+    private CacheMenusPerfil cache;
+    private SnapshotCacheMenus snapshot;
+
+    @AfterEach
+    void detener() {
+        if (snapshot != null) {
+            snapshot.alDetener(null);
+        }
+    }
+
+    private static List<MenuPerfilView> filas(String nombre) {
+        return List.of(new MenuPerfilView(10L, PERFIL, nombre, 0, null, 1, null));
+    }
+
+    private String servido() {
+        return cache.obtener(PERFIL).get(0).getNombre();
+    }
+
+    /**
+     * Escribe un snapshot de la versión indicada y arranca con el catálogo
+     * en la versión actual (null: la lectura de la versión falla).
+     */
+    private void arrancar(long versionSnapshot, Long versionActual) throws Exception {
+        Path archivo = directorio.resolve("menus-perfil.snap");
+        ArchivoSnapshotMenus.escribir(archivo,
+                new ArchivoSnapshotMenus.Contenido(versionSnapshot, 0L, Map.of(PERFIL, filas("snapshot"))));
+        cache = new CacheMenusPerfil(revalidable(), perfilId -> {
+            cargas.incrementAndGet();
+            return recarga;
+        }, new EnrutamientoLectura(null, null, null, null, null));
+        registroCaches.registrar(cache);
+        VersionCatalogoAdapter version = new VersionCatalogoAdapter(null) {
+            @Override
+            public long obtenerVersion() {
+                versionLeida.countDown();
+                if (versionActual == null) {
+                    throw new InternalServerException("sin conexión");
+                }
+                return versionActual;
+            }
+        };
+        snapshot = new SnapshotCacheMenus(registroCaches, version, configuracion(archivo));
+        snapshot.alIniciar(null);
+        assertTrue(versionLeida.await(5, TimeUnit.SECONDS));
+    }
+
+    private void esperarCargas(int esperadas) throws InterruptedException {
+        for (int intento = 0; intento < 50 && cargas.get() < esperadas; intento++) {
+            Thread.sleep(20);
+        }
+        assertEquals(esperadas, cargas.get());
+    }
+
+    @Test
+    void mismaVersionSirveElSnapshotSinRecargar() throws Exception {
+        arrancar(7L, 7L);
+        Thread.sleep(200);
+
+        assertEquals("snapshot", servido());
+        assertEquals(0, cargas.get());
+    }
+
+    @Test
+    void otraVersionRecargaSinDejarDeServirElSnapshot() throws Exception {
+        arrancar(7L, 8L);
+        esperarCargas(1);
+
+        assertEquals("snapshot", servido());
+        recarga.complete(filas("bd"));
+        for (int intento = 0; intento < 50 && !"bd".equals(servido()); intento++) {
+            Thread.sleep(20);
+        }
+        assertEquals("bd", servido());
+    }
+
+    @Test
+    void sinVersionDelCatalogoTambienRecarga() throws Exception {
+        arrancar(7L, null);
+
+        esperarCargas(1);
+        assertEquals("snapshot", servido());
+    }
+
+    /** Solo snapshot() de CacheConfig; el resto no se usa */
+    private static CacheConfig configuracion(Path archivo) {
+        CacheConfig.Snapshot config = new CacheConfig.Snapshot() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public String archivo() {
+                return archivo.toString();
+            }
+
+            @Override
+            public Duration intervalo() {
+                return Duration.ofHours(1);
+            }
+        };
+        return (CacheConfig) Proxy.newProxyInstance(CacheConfig.class.getClassLoader(),
+                new Class<?>[]{CacheConfig.class}, (proxy, metodo, argumentos) -> {
+                    if (metodo.getName().equals("snapshot")) {
+                        return config;
+                    }
+                    return fail("CacheConfig." + metodo.getName() + " no esperado");
+                });
+    }
+
+    private static CacheConfig.Revalidable revalidable() {
+        return new CacheConfig.Revalidable() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public long maximumSize() {
+                return 100;
+            }
+
+            @Override
+            public Optional<MemorySize> maximumWeight() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Duration ttl() {
+                return Duration.ofMinutes(5);
+            }
+
+            @Override
+            public Duration refreshAhead() {
+                return Duration.ofMinutes(1);
+            }
+
+            @Override
+            public Duration grace() {
+                return Duration.ofMinutes(30);
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package security.framework.output.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas de HuellaSql: cada regla de normalización y que distintos valores
+ * de la misma sentencia den la misma huella.
+ */
+class HuellaSqlTest {
+
+    @Test
+    void reemplazaLiteralesDeTextoConComillasEscapadas() {
+        assertEquals("select * from kafka.perfiles where nombre = ?",
+                HuellaSql.de("select * from kafka.perfiles where nombre = 'O''Brien'"));
+    }
+
+    @Test
+    void reemplazaParametrosPosicionalesDelClienteReactivo() {
+        assertEquals("select id from kafka.menus where codmodulo = ? and estado = ?",
+                HuellaSql.de("select id from kafka.menus where codmodulo = $1 and estado = $2"));
+    }
+
+    @Test
+    void reemplazaNumerosSinTocarAlias() {
+        assertEquals("select m1_0.id from kafka.menus m1_0 where m1_0.id = ? limit ?",
+                HuellaSql.de("select m1_0.id from kafka.menus m1_0 where m1_0.id = 42 limit 10.5"));
+    }
+
+    @Test
+    void colapsaListasInDeCualquierLargo() {
+        String dos = HuellaSql.de("delete from kafka.menu_perfil where menu_id in (1, 2)");
+        String cinco = HuellaSql.de("delete from kafka.menu_perfil where menu_id in ($1,$2,$3,$4,$5)");
+        assertEquals("delete from kafka.menu_perfil where menu_id in (?...)", dos);
+        assertEquals(dos, cinco);
+    }
+
+    @Test
+    void colapsaEspaciosYSaltosDeLinea() {
+        assertEquals("select id from kafka.modulos where id = ?",
+                HuellaSql.de("  select id\n\tfrom   kafka.modulos\r\n where id = 7  "));
+    }
+
+    @Test
+    void sqlNuloEsUnaHuellaFija() {
+        assertEquals("?", HuellaSql.de(null));
+    }
+}
@@ -0,0 +1,99 @@
+package security.framework.output.sql;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import security.aplication.dto.FiltroMenu;
+import security.aplication.port.input.MenuInputPort;
+import security.aplication.port.input.MenuPerfilInputPort;
+import security.framework.input.filter.PresupuestoSqlFilter;
+
+import java.math.BigInteger;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static security.framework.input.controller.CatalogoPrueba.MODULO;
+import static security.framework.input.controller.CatalogoPrueba.PANTALLA;
+import static security.framework.input.controller.CatalogoPrueba.asignacion;
+import static security.framework.input.controller.CatalogoPrueba.carpeta;
+import static security.framework.input.controller.CatalogoPrueba.importar;
+import static security.framework.input.controller.CatalogoPrueba.menu;
+import static security.framework.input.controller.CatalogoPrueba.perfil;
+
+/**
+ * Viajes a la base de datos de los casos de uso calientes, fijados con
+ * RegistroSql.medir(): una consulta o escritura de más hace fallar la prueba
+ * con el detalle de las sentencias ejecutadas.
+ */
+@QuarkusTest
+class RegistroSqlTest {
+
+    @Inject
+    MenuInputPort menuInputPort;
+
+    @Inject
+    MenuPerfilInputPort menuPerfilInputPort;
+
+    @Test
+    void busquedaDeMenusPorFiltrosEnUnaSentencia() {
+        importar(menu(900_501L, "Buscar", null, 1));
+
+        RegistroSql.medir(() -> menuInputPort.buscarPorFiltros(
+                        new FiltroMenu(null, BigInteger.valueOf(MODULO), null, null)))
+                .afirmarSentencias(1);
+    }
+
+    @Test
+    void arbolDeMenusEnUnaSentenciaYLuegoDesdeLaCache() {
+        importar(carpeta(900_601L, "Inicio", 1),
+                menu(900_602L, "Hijo", 900_601L, 1),
+                perfil(900_601L),
+                asignacion(900_601L, 900_601L),
+                asignacion(900_602L, 900_601L));
+
+        RegistroSql.medir(() -> menuPerfilInputPort.obtenerMenusJerarquicos(900_601L)).afirmarSentencias(1);
+        RegistroSql.medir(() -> menuPerfilInputPort.obtenerMenusJerarquicos(900_601L)).afirmarSentencias(0);
+    }
+
+    @Test
+    void asignarYRemoverSinLeerAntesDeEscribir() {
+        importar(menu(900_701L, "Asignable", null, 1), perfil(900_701L));
+        BigInteger menuId = BigInteger.valueOf(900_701L);
+        BigInteger perfilId = BigInteger.valueOf(900_701L);
+
+        // Escritura y su NOTIFY de invalidación (CanalInvalidacionCache)
+        RegistroSql.medir(() -> QuarkusTransaction.requiringNew().run(() -> menuPerfilInputPort.asignar(menuId, perfilId)))
+                .afirmarSentencias(2)
+                .afirmarRepeticiones(1);
+        RegistroSql.medir(() -> QuarkusTransaction.requiringNew().run(() -> menuPerfilInputPort.remover(menuId, perfilId)))
+                .afirmarSentencias(2);
+    }
+
+    @Test
+    void crearMenuDentroDelPresupuesto() {
+        importar(menu(900_801L, "Padre", null, 1));
+
+        String sentencias = given().contentType("application/json")
+                .body(Map.of("nombre", "Creado", "jerarquia", 1, "orden", 1, "codPantalla", PANTALLA,
+                        "codModulo", MODULO, "codMenuPadre", 900_801L, "icono", "pi pi-fw", "estado", 1))
+                .when().post("/menu")
+                .then().statusCode(201)
+                .extract().header(PresupuestoSqlFilter.CABECERA_SENTENCIAS);
+
+        // Pantalla, módulo y menú padre, INSERT y NOTIFY de invalidación
+        assertTrue(Integer.parseInt(sentencias) <= 5, sentencias + " sentencias");
+    }
+
+    @Test
+    void afirmarSentenciasFallaConElDetalle() {
+        AssertionError error = assertThrows(AssertionError.class, () -> RegistroSql.medir(
+                        () -> menuInputPort.buscarPorFiltros(new FiltroMenu(null, BigInteger.valueOf(MODULO), null, null)))
+                .afirmarSentencias(0));
+
+        assertTrue(error.getMessage().contains("kafka.menus"), error.getMessage());
+    }
+}